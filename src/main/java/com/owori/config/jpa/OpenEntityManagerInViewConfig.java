@@ -0,0 +1,33 @@
+package com.owori.config.jpa;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 요청이 끝날 때까지 EntityManager 를 열어 두는 설정, spring.jpa.open-in-view 대신 직접 등록한다
+ * 스트림 연결은 수십 분씩 열려 있으므로 제외해서 연결마다 DB 커넥션을 붙잡지 않게 한다
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+    private static final String[] LONG_LIVED_PATHS = {"/families/stream"};
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // JPA 없이 띄우는 웹 계층 테스트
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) return;
+
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(factory);
+        registry.addWebRequestInterceptor(interceptor).excludePathPatterns(LONG_LIVED_PATHS);
+    }
+}
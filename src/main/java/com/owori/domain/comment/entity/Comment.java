@@ -1,10 +1,12 @@
 package com.owori.domain.comment.entity;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.story.entity.Story;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
@@ -21,8 +23,8 @@ import java.util.UUID;
 public class Comment implements Auditable {
 
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -30,6 +32,11 @@ public class Comment implements Auditable {
     @JoinColumn(nullable = false)
     private Member member;
 
+    // 작성 당시 작성자의 가족, 가족 단위 조회를 작성자 조인 없이 처리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Family family;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     private Story story;
@@ -50,6 +57,7 @@ public class Comment implements Auditable {
     @Builder
     public Comment(Member member, Story story, Comment parent, String content) {
         this.member = member;
+        this.family = member.getFamily();
         this.story = story;
         this.parent = parent;
         this.content = content;
@@ -1,9 +1,24 @@
 package com.owori.domain.comment.repository;
 
 import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CommentRepository extends JpaRepository<Comment, UUID>, CommentRepositoryCustom {
+    @Query("select c from Comment c left join fetch c.member left join fetch c.story where c.id in :ids")
+    List<Comment> findAllByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query("select c.id from Comment c where c.member = :member")
+    List<UUID> findAllIdsByMember(@Param("member") Member member);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.family = :family where c.member = :member")
+    int updateFamilyByMember(@Param("member") Member member, @Param("family") Family family);
 }
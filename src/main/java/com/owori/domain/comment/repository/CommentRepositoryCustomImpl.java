@@ -19,7 +19,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
         return queryFactory.selectFrom(comment)
                 .where(
                         comment.story.eq(story)
-                                .and(comment.member.family.eq(family))
+                                .and(comment.family.eq(family))
                 )
                 .orderBy(comment.parent.id.asc().nullsFirst(),
                         comment.baseTime.createdAt.asc())
@@ -5,11 +5,16 @@ import com.owori.domain.comment.dto.request.UpdateCommentRequest;
 import com.owori.domain.comment.dto.response.CommentIdResponse;
 import com.owori.domain.comment.dto.response.CommentResponse;
 import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.comment.event.CommentAdded;
 import com.owori.domain.comment.mapper.CommentMapper;
 import com.owori.domain.comment.repository.CommentRepository;
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.service.AuthService;
 import com.owori.domain.story.entity.Story;
+import com.owori.global.event.DomainEventPublisher;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.exception.NoAuthorityException;
 import com.owori.global.service.EntityLoader;
@@ -17,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,13 +34,19 @@ public class CommentService implements EntityLoader<Comment, UUID> {
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final AuthService authService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FamilyChangeRecorder familyChangeRecorder;
 
+    @Transactional
     public CommentIdResponse addComment(Story story, AddCommentRequest request) {
         Member member = authService.getLoginUser();
         Comment parentComment = Optional.ofNullable(request.getParentCommentId())
                 .map(this::loadEntity).orElse(null);
 
         Comment comment = commentRepository.save(commentMapper.toEntity(member, story, parentComment, request.getContent()));
+        Family family = comment.getFamily();
+        domainEventPublisher.publish(new CommentAdded(comment.getId(), story.getId(), family == null ? null : family.getId(), member.getId(), LocalDateTime.now()));
+        familyChangeRecorder.record(family, FamilyChangeType.COMMENT_CREATED, comment.getId());
 
         return new CommentIdResponse(comment.getId());
     }
@@ -48,6 +60,7 @@ public class CommentService implements EntityLoader<Comment, UUID> {
 
         Story story = comment.getStory();
         story.removeComment(comment);
+        familyChangeRecorder.record(comment.getFamily(), FamilyChangeType.COMMENT_DELETED, comment.getId());
     }
 
     @Transactional
@@ -57,6 +70,7 @@ public class CommentService implements EntityLoader<Comment, UUID> {
             throw new NoAuthorityException();
         }
         comment.updateContent(request.getComment());
+        familyChangeRecorder.record(comment.getFamily(), FamilyChangeType.COMMENT_UPDATED, comment.getId());
 
         return new CommentIdResponse(comment.getId());
     }
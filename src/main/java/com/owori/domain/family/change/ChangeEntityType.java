@@ -0,0 +1,12 @@
+package com.owori.domain.family.change;
+
+/**
+ * 변경 기록의 대상 종류, 동기화 응답에서 목록을 나누는 기준
+ */
+public enum ChangeEntityType {
+    STORY,
+    COMMENT,
+    SAYING,
+    SCHEDULE,
+    MEMBER
+}
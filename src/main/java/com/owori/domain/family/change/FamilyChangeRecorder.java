@@ -0,0 +1,47 @@
+package com.owori.domain.family.change;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.sync.entity.ChangeLog;
+import com.owori.domain.sync.repository.ChangeLogRepository;
+import com.owori.global.cache.FamilyCacheSweeper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+/**
+ * 변경을 일으킨 요청의 트랜잭션 안에서 가족 변경 순번을 올리고 변경 기록을 남긴다
+ * 가족 스트림은 서버마다 이 기록을 순번 순서로 읽어서 보낸다
+ * 순번을 올리는 update 가 가족 행을 커밋까지 잠그므로, 같은 가족의 변경은 순번 순서대로 커밋되고 순번에 빈틈이 없다
+ * 가족이 없는 회원의 변경은 알릴 대상이 없으므로 건너뛴다
+ * 이 서버의 가족 캐시는 커밋 이후 변경을 직접 반영하므로 올린 순번도 함께 알려서 다시 불러오지 않게 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyChangeRecorder {
+    private final FamilyRepository familyRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final FamilyCacheSweeper familyCacheSweeper;
+
+    public void record(final Family family, final FamilyChangeType type, final UUID entityId) {
+        recordAll(family, type, List.of(entityId));
+    }
+
+    /**
+     * 같은 종류의 변경 여러 개를 순번을 한 번에 올려서 기록
+     */
+    public void recordAll(final Family family, final FamilyChangeType type, final List<UUID> entityIds) {
+        if (family == null || family.getId() == null || entityIds.isEmpty()) return;
+        UUID familyId = family.getId();
+        familyRepository.increaseActivityVersion(familyId, entityIds.size());
+        long last = familyRepository.findActivityVersion(familyId).orElseThrow();
+        long first = last - entityIds.size() + 1;
+        changeLogRepository.saveAll(LongStream.range(0, entityIds.size())
+                .mapToObj(i -> new ChangeLog(familyId, first + i, type, entityIds.get((int) i)))
+                .toList());
+        familyCacheSweeper.advance(familyId, first - 1, last);
+    }
+}
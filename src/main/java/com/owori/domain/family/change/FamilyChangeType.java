@@ -0,0 +1,32 @@
+package com.owori.domain.family.change;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가족 구성원에게 알릴 변경 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FamilyChangeType {
+    STORY_CREATED(ChangeEntityType.STORY, false),
+    STORY_UPDATED(ChangeEntityType.STORY, false),
+    STORY_DELETED(ChangeEntityType.STORY, true),
+    COMMENT_CREATED(ChangeEntityType.COMMENT, false),
+    COMMENT_UPDATED(ChangeEntityType.COMMENT, false),
+    COMMENT_DELETED(ChangeEntityType.COMMENT, true),
+    // 대상은 좋아요가 눌린 이야기
+    HEART_TOGGLED(ChangeEntityType.STORY, false),
+    SAYING_CREATED(ChangeEntityType.SAYING, false),
+    SAYING_UPDATED(ChangeEntityType.SAYING, false),
+    SAYING_DELETED(ChangeEntityType.SAYING, true),
+    SCHEDULE_CREATED(ChangeEntityType.SCHEDULE, false),
+    SCHEDULE_UPDATED(ChangeEntityType.SCHEDULE, false),
+    SCHEDULE_DELETED(ChangeEntityType.SCHEDULE, true),
+    MEMBER_JOINED(ChangeEntityType.MEMBER, false),
+    MEMBER_UPDATED(ChangeEntityType.MEMBER, false),
+    MEMBER_LEFT(ChangeEntityType.MEMBER, true);
+
+    private final ChangeEntityType entityType;
+    private final boolean deleted;
+}
@@ -0,0 +1,9 @@
+package com.owori.domain.family.change;
+
+import java.util.UUID;
+
+/**
+ * 가족과 그 가족의 마지막 변경 순번
+ */
+public record FamilyVersion(UUID familyId, long version) {
+}
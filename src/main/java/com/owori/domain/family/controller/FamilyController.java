@@ -7,9 +7,11 @@ import com.owori.domain.family.service.FamilyService;
 import com.owori.global.dto.ImageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
 
@@ -74,4 +76,16 @@ public class FamilyController {
     public ResponseEntity<InviteCodeResponse> generateInviteCode() {
         return ResponseEntity.ok(familyService.generateInviteCode());
     }
+
+    /**
+     * 가족 변경 스트림 컨트롤러입니다.
+     * 가족 구성원의 이야기, 댓글, 좋아요, 서로에게 한마디, 일정 변경과 가입을 text/event-stream 으로 보냅니다.
+     * @param lastEventId 다시 연결할 때 마지막으로 받은 이벤트 id 입니다. 처음 연결이면 보내지 않습니다.
+     * @return 변경 종류, 대상 id, 가족 변경 순번을 가지는 이벤트 스트림입니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamFamilyChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        // 앞단 프록시가 응답을 모아 두지 않도록 버퍼링 해제
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(familyService.subscribeStream(lastEventId));
+    }
 }
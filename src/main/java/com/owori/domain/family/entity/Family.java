@@ -1,9 +1,11 @@
 package com.owori.domain.family.entity;
 
+import com.owori.domain.member.entity.Color;
 import com.owori.domain.member.entity.Member;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
@@ -18,8 +20,8 @@ import java.util.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Family implements Auditable {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -35,6 +37,11 @@ public class Family implements Auditable {
     @ElementCollection
     private List<String> images = new ArrayList<>();
 
+    // 가족에게 알린 변경의 마지막 순번, 실시간 스트림의 이벤트 id 이자 동기화 기준
+    // 엔티티 저장이 오래된 값으로 덮어쓰지 않도록 순번은 FamilyRepository 의 update 로만 올린다
+    @Column(nullable = false, updatable = false)
+    private long activityVersion;
+
     @Setter
     @Embedded
     @Column(nullable = false)
@@ -56,6 +63,14 @@ public class Family implements Auditable {
         member.organizeFamily(this);
     }
 
+    /**
+     * 구성원 목록 캐시에서 받은 기존 구성원 색상으로 멤버 추가, 색상을 정하려고 구성원 엔티티를 불러오지 않는다
+     */
+    public void addMember(Member member, List<Color> memberColors) {
+        this.members.add(member);
+        member.organizeFamily(this, memberColors);
+    }
+
     public void updateGroupName(String familyGroupName) {
         this.familyGroupName = familyGroupName;
     }
@@ -0,0 +1,69 @@
+package com.owori.domain.family.invite;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용 중인 초대 코드를 담는 블룸 필터
+ * 없다고 답하면 확실히 없는 코드라서 DB 조회 없이 후보를 걸러낼 수 있고, 있다고 답하면 다른 코드를 다시 만든다
+ * 비트 설정은 CAS 로 처리해서 잠금 없이 여러 요청이 동시에 추가할 수 있다
+ */
+public class InviteCodeFilter {
+    private static final int HASH_COUNT = 4;
+
+    private final AtomicLongArray words;
+    private final int bitSize;
+
+    public InviteCodeFilter(final int bitSize) {
+        this.bitSize = bitSize;
+        this.words = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    public static InviteCodeFilter of(final int bitSize, final Collection<String> codes) {
+        InviteCodeFilter filter = new InviteCodeFilter(bitSize);
+        codes.forEach(filter::add);
+        return filter;
+    }
+
+    public boolean mightContain(final String code) {
+        long hash = hash(code);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = index(hash, i);
+            if ((words.get(bit / Long.SIZE) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    public void add(final String code) {
+        long hash = hash(code);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = index(hash, i);
+            long mask = 1L << bit;
+            int word = bit / Long.SIZE;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) break;
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    // 64비트 해시의 상위, 하위 32비트로 이중 해싱
+    private int index(final long hash, final int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return Math.floorMod(combined, bitSize);
+    }
+
+    private static long hash(final String code) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < code.length(); i++) {
+            hash ^= code.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // FNV-1a 결과의 하위 비트를 고르게 섞기
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
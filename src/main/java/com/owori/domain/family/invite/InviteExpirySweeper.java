@@ -0,0 +1,23 @@
+package com.owori.domain.family.invite;
+
+import com.owori.domain.family.service.InviteCodeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유효 시간이 지난 초대를 주기적으로 지워서 코드 유니크 제약과 필터가 사용 중인 코드만 담도록 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteExpirySweeper {
+    private final InviteCodeService inviteCodeService;
+
+    @Scheduled(fixedDelayString = "${app.invite.purge-interval:600000}")
+    public void purgeExpiredInvites() {
+        int purged = inviteCodeService.purgeExpired();
+        if (purged > 0) log.info("만료된 초대 {}건 삭제", purged);
+    }
+}
@@ -1,7 +1,10 @@
 package com.owori.domain.family.repository;
 
+import com.owori.domain.family.change.FamilyVersion;
 import com.owori.domain.family.entity.Family;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,5 +12,11 @@ public interface FamilyRepository {
     Optional<Family> findById(UUID id);
     Optional<Family> findByInviteCode(String code);
     Family save(Family family);
-    boolean existsByInviteCode(String code);
+
+    // 가족 변경 순번을 amount 만큼 올리고 올린 순번 조회, 같은 트랜잭션에서 호출해야 한다
+    void increaseActivityVersion(UUID familyId, int amount);
+    Optional<Long> findActivityVersion(UUID familyId);
+
+    // 여러 가족의 변경 순번을 한 번에 조회
+    List<FamilyVersion> findActivityVersions(Collection<UUID> familyIds);
 }
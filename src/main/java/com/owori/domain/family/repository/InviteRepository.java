@@ -0,0 +1,15 @@
+package com.owori.domain.family.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface InviteRepository {
+    // 삭제 처리된 초대도 코드 유니크 제약을 차지하므로 함께 확인
+    long countAllByCode(String code);
+
+    // 아직 지워지지 않은 모든 초대 코드 넘겨주기
+    List<String> findAllCodes();
+
+    // 만료 시각 이전에 만든 초대를 최대 batchSize 건 지우고 지운 건수 넘겨주기
+    int deleteAllCreatedBefore(LocalDateTime expiredBefore, int batchSize);
+}
@@ -1,8 +1,28 @@
 package com.owori.domain.family.repository;
 
+import com.owori.domain.family.change.FamilyVersion;
 import com.owori.domain.family.entity.Family;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface JpaFamilyRepository extends JpaRepository<Family, UUID>, FamilyRepository {}
+public interface JpaFamilyRepository extends JpaRepository<Family, UUID>, FamilyRepository {
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update family set activity_version = activity_version + :amount where id = :familyId", nativeQuery = true)
+    void increaseActivityVersion(@Param("familyId") UUID familyId, @Param("amount") int amount);
+
+    @Override
+    @Query("select f.activityVersion from Family f where f.id = :familyId")
+    Optional<Long> findActivityVersion(@Param("familyId") UUID familyId);
+
+    @Override
+    @Query("select new com.owori.domain.family.change.FamilyVersion(f.id, f.activityVersion) from Family f where f.id in :familyIds")
+    List<FamilyVersion> findActivityVersions(@Param("familyIds") Collection<UUID> familyIds);
+}
@@ -0,0 +1,28 @@
+package com.owori.domain.family.repository;
+
+import com.owori.domain.family.entity.Invite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaInviteRepository extends JpaRepository<Invite, UUID>, InviteRepository {
+    @Override
+    @Query(value = "select count(*) from invite where code = :code", nativeQuery = true)
+    long countAllByCode(@Param("code") String code);
+
+    @Override
+    @Query(value = "select code from invite", nativeQuery = true)
+    List<String> findAllCodes();
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = "delete from invite where created_at < :expiredBefore limit :batchSize", nativeQuery = true)
+    int deleteAllCreatedBefore(@Param("expiredBefore") LocalDateTime expiredBefore, @Param("batchSize") int batchSize);
+}
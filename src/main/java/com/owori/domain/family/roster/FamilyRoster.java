@@ -0,0 +1,51 @@
+package com.owori.domain.family.roster;
+
+import com.owori.domain.member.entity.Color;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 가족 구성원 목록, 불변 객체이고 변경은 바뀐 구성원만 교체한 새 객체로 한다
+ */
+@Getter
+@AllArgsConstructor
+public class FamilyRoster {
+    private final UUID familyId;
+    private final List<RosterMember> members;
+
+    public int size() {
+        return members.size();
+    }
+
+    public List<UUID> getMemberIds() {
+        return members.stream().map(RosterMember::getMemberId).toList();
+    }
+
+    public boolean contains(UUID memberId) {
+        return members.stream().anyMatch(member -> member.getMemberId().equals(memberId));
+    }
+
+    public List<Color> getColors() {
+        return members.stream().map(RosterMember::getColor).filter(Objects::nonNull).toList();
+    }
+
+    public List<Color> getColorsExcept(UUID memberId) {
+        return members.stream()
+                .filter(member -> !member.getMemberId().equals(memberId))
+                .map(RosterMember::getColor)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public FamilyRoster with(RosterMember rosterMember) {
+        List<RosterMember> replaced = new ArrayList<>(members);
+        replaced.removeIf(member -> member.getMemberId().equals(rosterMember.getMemberId()));
+        replaced.add(rosterMember);
+        return new FamilyRoster(familyId, List.copyOf(replaced));
+    }
+}
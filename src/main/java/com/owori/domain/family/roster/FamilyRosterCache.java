@@ -0,0 +1,51 @@
+package com.owori.domain.family.roster;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.repository.MemberRepository;
+import com.owori.global.cache.FamilyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 가족별 구성원 목록을 보관하는 메모리 캐시
+ * 처음 조회할 때 구성원 요약을 한 번에 불러오고, 프로필과 감정 뱃지 변경은 커밋 이후에 구성원만 교체한다
+ * 가입과 탈퇴는 구성원 수가 바뀌므로 가족 목록을 비우고 다음 조회 때 다시 불러온다
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyRosterCache extends FamilyCache<FamilyRoster> {
+    private final MemberRepository memberRepository;
+
+    @Value("${app.family.roster.max-families:10000}")
+    private int maxFamilies;
+
+    public FamilyRoster find(final Family family) {
+        UUID familyId = family.getId();
+        // 아직 저장되지 않은 가족은 캐시하지 않고 메모리의 구성원으로 만든다
+        if (familyId == null) return new FamilyRoster(null, family.getMembers().stream().map(this::toRosterMember).toList());
+        return find(familyId, () -> new FamilyRoster(familyId, List.copyOf(memberRepository.findRosterByFamily(family))));
+    }
+
+    /**
+     * 닉네임, 색상, 프로필 사진, 감정 뱃지가 바뀐 구성원 교체
+     */
+    public void refresh(final Member member) {
+        if (member.getFamily() == null) return;
+        UUID familyId = member.getFamily().getId();
+        RosterMember rosterMember = toRosterMember(member);
+        afterCommit(() -> update(familyId, roster -> roster.with(rosterMember)));
+    }
+
+    @Override
+    protected long capacity() {
+        return maxFamilies;
+    }
+
+    private RosterMember toRosterMember(final Member member) {
+        return new RosterMember(member.getId(), member.getNickname(), member.getColor(), member.getProfileImage(), member.getEmotionalBadge());
+    }
+}
@@ -0,0 +1,21 @@
+package com.owori.domain.family.roster;
+
+import com.owori.domain.member.entity.Color;
+import com.owori.domain.member.entity.EmotionalBadge;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 가족 구성원 목록에서 쓰는 회원 요약, 회원 엔티티를 만들지 않고 조회 컬럼만 담는다
+ */
+@Getter
+@AllArgsConstructor
+public class RosterMember {
+    private final UUID memberId;
+    private final String nickname;
+    private final Color color;
+    private final String profileImage;
+    private final EmotionalBadge emotionalBadge;
+}
@@ -1,26 +1,40 @@
 package com.owori.domain.family.service;
 
+import com.owori.domain.comment.repository.CommentRepository;
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
 import com.owori.domain.family.dto.request.AddMemberRequest;
 import com.owori.domain.family.dto.request.FamilyRequest;
 import com.owori.domain.family.dto.response.InviteCodeResponse;
 import com.owori.domain.family.entity.Family;
 import com.owori.domain.family.entity.Invite;
-import com.owori.domain.family.exception.InviteCodeDuplicateException;
 import com.owori.domain.family.exception.InviteCodeExistException;
 import com.owori.domain.family.mapper.FamilyMapper;
 import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.family.roster.FamilyRosterCache;
+import com.owori.domain.family.stream.FamilyStreamHub;
+import com.owori.domain.heart.repository.HeartRepository;
+import com.owori.domain.keyword.suggest.FamilySuggestionCache;
 import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.home.FamilyHomeCache;
 import com.owori.domain.member.service.AuthService;
+import com.owori.domain.saying.repository.SayingRepository;
+import com.owori.domain.schedule.cache.FamilyScheduleCache;
+import com.owori.domain.schedule.repository.ScheduleRepository;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.domain.sync.repository.ChangeLogRepository;
 import com.owori.global.dto.ImageResponse;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.service.EntityLoader;
 import com.owori.utils.S3ImageComponent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -30,41 +44,110 @@ public class FamilyService implements EntityLoader<Family, UUID> {
     private final FamilyMapper familyMapper;
     private final AuthService authService;
     private final S3ImageComponent s3ImageComponent;
+    private final FamilyScheduleCache familyScheduleCache;
+    private final FamilyHomeCache familyHomeCache;
+    private final InviteCodeService inviteCodeService;
+    private final FamilyRosterCache familyRosterCache;
+    private final FamilySuggestionCache familySuggestionCache;
+    private final StoryRepository storyRepository;
+    private final CommentRepository commentRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SayingRepository sayingRepository;
+    private final HeartRepository heartRepository;
+    private final FamilyChangeRecorder familyChangeRecorder;
+    private final FamilyStreamHub familyStreamHub;
+    private final ChangeLogRepository changeLogRepository;
 
+    @Transactional
     public InviteCodeResponse saveFamily(final FamilyRequest familyRequest) {
         Member member = authService.getLoginUser();
-        String code = generateRandomInviteCode();
-        familyRepository.save(familyMapper.toEntity(familyRequest, member, code));
+        Family previous = member.getFamily();
+        String code = inviteCodeService.issueCode();
+        Family family = familyRepository.save(familyMapper.toEntity(familyRequest, member, code));
+        moveContents(member, previous, family);
 
         return new InviteCodeResponse(code);
     }
 
-    private void validateCode(final String code) {
-        if (familyRepository.existsByInviteCode(code)) {
-            throw new InviteCodeDuplicateException();
-        }
-    }
-
-    private String generateRandomInviteCode() {
-        String code = UUID.randomUUID().toString().replace("-", "").substring(0, 10);
-        validateCode(code);
-        return code;
-    }
-
+    @Transactional
     public void addMember(final AddMemberRequest addMemberRequest) {
-        familyRepository.findByInviteCode(addMemberRequest.getInviteCode().strip())
+        String inviteCode = addMemberRequest.getInviteCode().strip();
+        // 이전 형식(소문자 16진수)으로 발급된 코드는 그대로 조회
+        familyRepository.findByInviteCode(inviteCodeService.normalize(inviteCode))
+                .or(() -> familyRepository.findByInviteCode(inviteCode))
                 .ifPresent(family -> {
                     Invite invite = family.getInvite();
                     if (!isValidCode(invite)) {
                         invite.delete();
                         return;
                     }
-                    family.addMember(authService.getLoginUser());
+                    Member member = authService.getLoginUser();
+                    Family previous = member.getFamily();
+                    family.addMember(member, familyRosterCache.find(family).getColorsExcept(member.getId()));
+                    moveContents(member, previous, family);
+                    familyRosterCache.evict(family);
+                    familyScheduleCache.evict(family);
+                    familyHomeCache.evict(family);
+                    familySuggestionCache.evict(family);
+                    familyChangeRecorder.record(family, FamilyChangeType.MEMBER_JOINED, member.getId());
                 });
     }
 
+    /**
+     * 구성원이 작성한 글, 댓글, 일정, 서로에게 한마디와 누른 좋아요를 새 가족으로 옮기기
+     * 가족 단위 조회는 작성 당시 저장한 가족으로 하므로 가족이 바뀌면 함께 바꿔야 한다
+     * 옮긴 대상은 이전 가족의 변경 기록에는 지운 것으로, 새 가족의 변경 기록에는 새로 생긴 것으로 남긴다
+     */
+    private void moveContents(final Member member, final Family previous, final Family family) {
+        List<UUID> storyIds = storyRepository.findAllIdsByMember(member);
+        List<UUID> commentIds = commentRepository.findAllIdsByMember(member);
+        List<UUID> scheduleIds = scheduleRepository.findAllIdsByMember(member);
+        List<UUID> sayingIds = sayingRepository.findAllIdsByMember(member);
+
+        storyRepository.updateFamilyByMember(member, family);
+        commentRepository.updateFamilyByMember(member, family);
+        scheduleRepository.updateFamilyByMember(member, family);
+        sayingRepository.updateFamilyByMember(member, family);
+        heartRepository.updateFamilyByMember(member, family);
+
+        if (previous != null && previous.getId().equals(family.getId())) return;
+        familyChangeRecorder.recordAll(previous, FamilyChangeType.STORY_DELETED, storyIds);
+        familyChangeRecorder.recordAll(previous, FamilyChangeType.COMMENT_DELETED, commentIds);
+        familyChangeRecorder.recordAll(previous, FamilyChangeType.SCHEDULE_DELETED, scheduleIds);
+        familyChangeRecorder.recordAll(previous, FamilyChangeType.SAYING_DELETED, sayingIds);
+        familyChangeRecorder.recordAll(family, FamilyChangeType.STORY_CREATED, storyIds);
+        familyChangeRecorder.recordAll(family, FamilyChangeType.COMMENT_CREATED, commentIds);
+        familyChangeRecorder.recordAll(family, FamilyChangeType.SCHEDULE_CREATED, scheduleIds);
+        familyChangeRecorder.recordAll(family, FamilyChangeType.SAYING_CREATED, sayingIds);
+    }
+
+    /**
+     * 로그인한 회원의 가족 변경 스트림 연결
+     * DB 조회는 이 트랜잭션 안에서 끝내고, 연결이 열려 있는 동안에는 커넥션을 잡지 않는다
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeStream(final Long lastEventId) {
+        Family family = authService.getLoginUser().getFamily();
+        if (family == null) throw new EntityNotFoundException();
+        long version = familyRepository.findActivityVersion(family.getId()).orElseThrow(EntityNotFoundException::new);
+        boolean replayable = lastEventId != null && isReplayable(family.getId(), lastEventId, version);
+        return familyStreamHub.subscribe(family.getId(), version, lastEventId, replayable);
+    }
+
+    /**
+     * 마지막으로 받은 순번 바로 다음 변경부터 변경 기록에 남아 있으면 FamilyStreamTailer 가 이어서 보낼 수 있다
+     */
+    private boolean isReplayable(final UUID familyId, final long lastEventId, final long version) {
+        if (lastEventId >= version) return lastEventId == version;
+        return changeLogRepository.findAllByFamilyIdAndVersionGreaterThanOrderByVersionAsc(familyId, lastEventId, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .map(changeLog -> changeLog.getVersion() == lastEventId + 1)
+                .orElse(false);
+    }
+
     private boolean isValidCode(final Invite invite) {
-        return invite.getBaseTime().getCreatedAt().plusMinutes(30L).isAfter(LocalDateTime.now());
+        return inviteCodeService.isValid(invite);
     }
 
     @Override
@@ -77,12 +160,18 @@ public class FamilyService implements EntityLoader<Family, UUID> {
     public void updateGroupName(final FamilyRequest groupNameRequest) {
         Family family = authService.getLoginUser().getFamily();
         family.updateGroupName(groupNameRequest.getFamilyGroupName());
+        familyHomeCache.refreshFamily(family);
     }
 
+    /**
+     * 가족 사진을 올리고 가족 사진 목록에 추가, 홈 화면 캐시는 사진 목록이 커밋된 뒤에 교체된다
+     */
+    @Transactional
     public ImageResponse saveFamilyImage(final MultipartFile multipartFile) {
         Family family = authService.getLoginUser().getFamily();
         String imageUrl = uploadImage(multipartFile);
         family.addImage(imageUrl);
+        familyHomeCache.refreshFamily(family);
         return new ImageResponse(imageUrl);
     }
 
@@ -95,7 +184,7 @@ public class FamilyService implements EntityLoader<Family, UUID> {
         Family family = authService.getLoginUser().getFamily();
         validateInviteCodeNotExists(family.getInvite());
 
-        String code = generateRandomInviteCode();
+        String code = inviteCodeService.issueCode();
         family.organizeInvite(code);
         return new InviteCodeResponse(code);
     }
@@ -104,6 +193,7 @@ public class FamilyService implements EntityLoader<Family, UUID> {
         if (isValidCode(invite)) {
             throw new InviteCodeExistException();
         }
-        invite.delete();
+        // 만료된 초대는 정리 작업에서 이미 지워졌을 수 있음
+        if (invite != null) invite.delete();
     }
 }
@@ -0,0 +1,129 @@
+package com.owori.domain.family.service;
+
+import com.owori.domain.family.entity.Invite;
+import com.owori.domain.family.exception.InviteCodeDuplicateException;
+import com.owori.domain.family.invite.InviteCodeFilter;
+import com.owori.domain.family.repository.InviteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 초대 코드 발급과 만료된 초대 정리를 담당
+ * 코드는 헷갈리는 문자(I, L, O, U)를 뺀 base32 문자 10자리(50비트)를 SecureRandom 으로 만들고,
+ * 사용 중인 코드 필터와 DB 확인을 거쳐 겹치면 내부에서 다시 만든다
+ */
+@Service
+@RequiredArgsConstructor
+public class InviteCodeService {
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int CODE_LENGTH = 10;
+
+    private final InviteRepository inviteRepository;
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${app.invite.valid-minutes:30}")
+    private long validMinutes;
+
+    @Value("${app.invite.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.invite.filter-bits:1048576}")
+    private int filterBits;
+
+    @Value("${app.invite.purge-batch-size:500}")
+    private int purgeBatchSize;
+
+    private volatile InviteCodeFilter liveCodes;
+    // 필터를 다시 만드는 동안 발급한 코드도 새 필터에 담기 위한 필터
+    private volatile InviteCodeFilter rebuilding;
+
+    public String issueCode() {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            String code = randomCode();
+            // 필터에 없으면 확실히 없는 코드, 있다고 하면 DB 까지 가지 않고 다시 만든다
+            if (liveCodes().mightContain(code)) continue;
+            // 다른 서버가 발급한 코드는 필터에 없으므로 DB 에서 최종 확인
+            if (inviteRepository.countAllByCode(code) > 0) {
+                remember(code);
+                continue;
+            }
+            remember(code);
+            return code;
+        }
+        throw new InviteCodeDuplicateException();
+    }
+
+    /**
+     * 입력한 코드를 발급 형식으로 맞추기, 소문자와 헷갈리는 문자(O, I, L)와 구분용 '-' 를 허용
+     */
+    public String normalize(final String code) {
+        return code.strip()
+                .replace("-", "")
+                .toUpperCase(Locale.ROOT)
+                .replace('O', '0')
+                .replace('I', '1')
+                .replace('L', '1');
+    }
+
+    public boolean isValid(final Invite invite) {
+        return invite != null && invite.getBaseTime().getCreatedAt().plusMinutes(validMinutes).isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * 유효 시간이 지난 초대를 묶음 단위로 지우고, 남은 코드로 필터를 다시 만든다
+     *
+     * @return 지운 초대 수
+     */
+    public int purgeExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(validMinutes);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = inviteRepository.deleteAllCreatedBefore(expiredBefore, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (purged > 0) rebuildFilter();
+        return purged;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildFilter() {
+        // 새 필터를 먼저 열어 두어야 DB 조회 이후 발급된 코드가 빠지지 않는다
+        InviteCodeFilter next = new InviteCodeFilter(filterBits);
+        rebuilding = next;
+        inviteRepository.findAllCodes().forEach(next::add);
+        liveCodes = next;
+        rebuilding = null;
+    }
+
+    private void remember(final String code) {
+        liveCodes().add(code);
+        InviteCodeFilter next = rebuilding;
+        if (next != null) next.add(code);
+    }
+
+    private InviteCodeFilter liveCodes() {
+        InviteCodeFilter filter = liveCodes;
+        if (filter == null) {
+            filter = new InviteCodeFilter(filterBits);
+            liveCodes = filter;
+        }
+        return filter;
+    }
+
+    private String randomCode() {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(code);
+    }
+}
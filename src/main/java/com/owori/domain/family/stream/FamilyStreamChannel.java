@@ -0,0 +1,85 @@
+package com.owori.domain.family.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+
+/**
+ * 한 가족의 연결 목록과 최근 변경 기록
+ * 다시 연결한 클라이언트에게 놓친 변경을 보내려고 최근 변경을 replaySize 개까지 남긴다
+ */
+class FamilyStreamChannel {
+    private final int replaySize;
+    private final Set<FamilyStreamSubscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final Deque<FamilyStreamEvent> recent = new ArrayDeque<>();
+    // 이 순번 이하의 변경은 기록에 없으므로 이어 받을 수 없다
+    private long floor;
+
+    FamilyStreamChannel(final long floor, final int replaySize) {
+        this.floor = floor;
+        this.replaySize = replaySize;
+    }
+
+    /**
+     * 연결을 추가하고 lastVersion 이후의 변경을 대기열에 넣는다
+     *
+     * @return 기록이 부족해서 이어 받을 수 없으면 false
+     */
+    synchronized boolean join(final FamilyStreamSubscriber subscriber, final long lastVersion, final Function<FamilyStreamEvent, SseEventBuilder> toSseEvent) {
+        subscribers.add(subscriber);
+        if (lastVersion < floor) return false;
+        for (FamilyStreamEvent event : recent) {
+            if (event.version() > lastVersion) subscriber.offer(event, toSseEvent.apply(event));
+        }
+        return true;
+    }
+
+    /**
+     * @return 남은 연결이 없으면 true
+     */
+    synchronized boolean leave(final FamilyStreamSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        return subscribers.isEmpty();
+    }
+
+    /**
+     * 마지막 순번 바로 다음 변경만 기록하고, 이미 반영했거나 사이가 빈 변경은 버린다
+     */
+    synchronized Set<FamilyStreamSubscriber> append(final FamilyStreamEvent event) {
+        if (event.version() != getLatestVersion() + 1) return Set.of();
+        recent.addLast(event);
+        while (recent.size() > replaySize) floor = recent.removeFirst().version();
+        return subscribers;
+    }
+
+    /**
+     * 이어 받을 수 없는 변경이 생겼을 때 기록을 비우고 version 부터 다시 시작
+     */
+    synchronized Set<FamilyStreamSubscriber> reset(final long version) {
+        recent.clear();
+        floor = version;
+        return subscribers;
+    }
+
+    /**
+     * 메모리 기록보다 오래된 순번부터 이어 받아야 할 때 기록을 비우고 version 부터 다시 쌓는다
+     * 이미 받은 연결은 받은 순번 이하의 변경을 다시 넣지 않으므로 FamilyStreamTailer 가 다시 보내도 겹치지 않는다
+     */
+    synchronized void rewind(final long version) {
+        if (version >= floor) return;
+        recent.clear();
+        floor = version;
+    }
+
+    synchronized long getLatestVersion() {
+        return recent.isEmpty() ? floor : recent.getLast().version();
+    }
+
+    Set<FamilyStreamSubscriber> getSubscribers() {
+        return subscribers;
+    }
+}
@@ -0,0 +1,11 @@
+package com.owori.domain.family.stream;
+
+import com.owori.domain.family.change.FamilyChangeType;
+
+import java.util.UUID;
+
+/**
+ * 스트림으로 보내는 변경 알림, 클라이언트는 type 에 해당하는 목록만 다시 불러온다
+ */
+public record FamilyStreamEvent(long version, FamilyChangeType type, UUID entityId) {
+}
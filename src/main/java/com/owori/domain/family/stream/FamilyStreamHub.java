@@ -0,0 +1,184 @@
+package com.owori.domain.family.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가족별로 연결된 클라이언트에게 변경을 나눠 보내는 허브
+ * 연결은 서블릿 비동기 요청이라 연결마다 스레드를 잡지 않고, 전송은 몇 개의 전송 스레드가 대기열이 찬 연결만 골라서 처리한다
+ * 변경은 서버마다 FamilyStreamTailer 가 변경 기록을 읽어서 넘기므로, 서버가 여러 대여도 각 서버가 자기에게 연결된 가족에게 보낸다
+ */
+@Slf4j
+@Component
+public class FamilyStreamHub {
+    private static final String CHANGE = "change";
+    private static final String READY = "ready";
+    private static final String RESET = "reset";
+
+    @Value("${app.family.stream.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    // 연결 하나에 쌓아 둘 수 있는 이벤트 수
+    @Value("${app.family.stream.buffer-size:64}")
+    private int bufferSize;
+
+    // 가족별로 다시 보내 줄 수 있는 최근 변경 수
+    @Value("${app.family.stream.replay-size:256}")
+    private int replaySize;
+
+    @Value("${app.family.stream.sender-threads:2}")
+    private int senderThreads;
+
+    private final Map<UUID, FamilyStreamChannel> channels = new ConcurrentHashMap<>();
+    private ExecutorService sender;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "family-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가족 스트림 연결
+     * 놓친 변경이 변경 기록에 남아 있으면 채널을 그 순번부터 다시 시작해서 FamilyStreamTailer 가 이어 보내게 하고,
+     * 기록이 지워져서 이어 받을 수 없을 때만 목록을 다시 불러오게 한다
+     *
+     * @param currentVersion 연결 시점에 DB 에 저장된 가족 변경 순번
+     * @param lastEventId    다시 연결할 때 마지막으로 받은 변경 순번, 처음 연결이면 null
+     * @param replayable     lastEventId 다음 변경부터 변경 기록에 남아 있는지 여부
+     */
+    public SseEmitter subscribe(final UUID familyId, final long currentVersion, final Long lastEventId, final boolean replayable) {
+        long lastVersion = lastEventId == null ? currentVersion : lastEventId;
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        FamilyStreamSubscriber subscriber = new FamilyStreamSubscriber(emitter, bufferSize, lastVersion);
+        emitter.onCompletion(() -> leave(familyId, subscriber));
+        emitter.onTimeout(() -> leave(familyId, subscriber));
+        emitter.onError(e -> leave(familyId, subscriber));
+
+        if (lastEventId == null) subscriber.offer(SseEmitter.event().id(String.valueOf(lastVersion)).name(READY).data(""));
+        boolean rewind = lastEventId != null && replayable;
+        AtomicBoolean resumed = new AtomicBoolean();
+        channels.compute(familyId, (id, channel) -> {
+            FamilyStreamChannel target = channel == null ? new FamilyStreamChannel(rewind ? lastVersion : currentVersion, replaySize) : channel;
+            if (rewind) target.rewind(lastVersion);
+            resumed.set(target.join(subscriber, lastVersion, this::toSseEvent));
+            return target;
+        });
+        if (!resumed.get()) {
+            // 놓친 변경을 다 보낼 수 없으므로 클라이언트가 목록을 다시 불러오게 한다
+            subscriber.offer(SseEmitter.event().id(String.valueOf(currentVersion)).name(RESET).data(""));
+        }
+        schedule(familyId, subscriber);
+        return emitter;
+    }
+
+    public void publish(final UUID familyId, final FamilyStreamEvent event) {
+        FamilyStreamChannel channel = channels.get(familyId);
+        // 연결된 구성원이 없으면 기록하지 않고, 나중에 연결하면 DB 의 순번부터 시작
+        if (channel == null) return;
+        for (FamilyStreamSubscriber subscriber : channel.append(event)) {
+            // 이벤트 빌더는 보낼 때 내용을 덧붙이므로 연결마다 따로 만든다
+            if (subscriber.offer(event, toSseEvent(event))) schedule(familyId, subscriber);
+            else overflow(familyId, subscriber);
+        }
+    }
+
+    /**
+     * 변경 기록이 지워져서 이어 보낼 수 없으면 연결된 클라이언트가 목록을 다시 불러오게 한다
+     */
+    public void reset(final UUID familyId, final long version) {
+        FamilyStreamChannel channel = channels.get(familyId);
+        if (channel == null) return;
+        for (FamilyStreamSubscriber subscriber : channel.reset(version)) {
+            send(familyId, subscriber, SseEmitter.event().id(String.valueOf(version)).name(RESET).data(""));
+        }
+    }
+
+    /**
+     * 이 서버에 연결된 가족별 마지막으로 보낸 변경 순번
+     */
+    public Map<UUID, Long> getLatestVersions() {
+        Map<UUID, Long> latestVersions = new HashMap<>();
+        channels.forEach((familyId, channel) -> latestVersions.put(familyId, channel.getLatestVersion()));
+        return latestVersions;
+    }
+
+    // 프록시와 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석을 보낸다
+    @Scheduled(fixedDelayString = "${app.family.stream.heartbeat-interval:20000}")
+    public void heartbeat() {
+        channels.forEach((familyId, channel) -> channel.getSubscribers()
+                .forEach(subscriber -> send(familyId, subscriber, SseEmitter.event().comment("ping"))));
+    }
+
+    private void send(final UUID familyId, final FamilyStreamSubscriber subscriber, final SseEmitter.SseEventBuilder event) {
+        if (subscriber.offer(event)) schedule(familyId, subscriber);
+        else overflow(familyId, subscriber);
+    }
+
+    // 대기열이 가득 찬 느린 연결은 끊고, 다시 연결할 때 Last-Event-ID 로 이어 받게 한다
+    private void overflow(final UUID familyId, final FamilyStreamSubscriber subscriber) {
+        log.debug("가족 스트림 대기열 초과로 연결 종료 {}", familyId);
+        close(familyId, subscriber);
+    }
+
+    private void schedule(final UUID familyId, final FamilyStreamSubscriber subscriber) {
+        if (!subscriber.markScheduled()) return;
+        try {
+            sender.execute(() -> flush(familyId, subscriber));
+        } catch (RejectedExecutionException e) {
+            close(familyId, subscriber);
+        }
+    }
+
+    private void flush(final UUID familyId, final FamilyStreamSubscriber subscriber) {
+        try {
+            if (subscriber.flush()) sender.execute(() -> flush(familyId, subscriber));
+        } catch (IOException | IllegalStateException | RejectedExecutionException e) {
+            // 클라이언트가 먼저 끊은 연결
+            close(familyId, subscriber);
+        }
+    }
+
+    private void close(final UUID familyId, final FamilyStreamSubscriber subscriber) {
+        if (subscriber.isClosed()) return;
+        subscriber.close();
+        leave(familyId, subscriber);
+        subscriber.getEmitter().complete();
+    }
+
+    private void leave(final UUID familyId, final FamilyStreamSubscriber subscriber) {
+        subscriber.close();
+        channels.computeIfPresent(familyId, (id, channel) -> channel.leave(subscriber) ? null : channel);
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(final FamilyStreamEvent event) {
+        return SseEmitter.event().id(String.valueOf(event.version())).name(CHANGE).data(event);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        channels.values().forEach(channel -> channel.getSubscribers().forEach(subscriber -> subscriber.getEmitter().complete()));
+        channels.clear();
+    }
+}
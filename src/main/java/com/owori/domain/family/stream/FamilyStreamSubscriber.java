@@ -0,0 +1,87 @@
+package com.owori.domain.family.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연결 하나의 보낼 이벤트 대기열
+ * 발행하는 쪽은 대기열에 넣기만 하고 전송은 허브의 전송 스레드가 맡아서, 느린 연결이 발행을 막지 않는다
+ * 대기열이 가득 차면 연결을 끊고, 클라이언트는 Last-Event-ID 로 다시 연결해서 이어 받는다
+ */
+class FamilyStreamSubscriber {
+    private final SseEmitter emitter;
+    private final int bufferSize;
+    private final Queue<SseEventBuilder> queue = new ArrayDeque<>();
+    // 전송 스레드에 이미 맡겼는지 여부, 이벤트마다 작업을 만들지 않는다
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+    // 대기열에 넣은 마지막 변경 순번, 다시 보내기와 실시간 전송이 겹쳐도 같은 변경을 두 번 넣지 않는다
+    private long lastVersion;
+
+    FamilyStreamSubscriber(final SseEmitter emitter, final int bufferSize, final long lastVersion) {
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+        this.lastVersion = lastVersion;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return 대기열이 가득 차서 넣지 못했으면 false
+     */
+    synchronized boolean offer(final SseEventBuilder event) {
+        if (closed) return true;
+        if (queue.size() >= bufferSize) return false;
+        queue.add(event);
+        return true;
+    }
+
+    synchronized boolean offer(final FamilyStreamEvent event, final SseEventBuilder sseEvent) {
+        if (event.version() <= lastVersion) return true;
+        if (!offer(sseEvent)) return false;
+        lastVersion = event.version();
+        return true;
+    }
+
+    boolean markScheduled() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * 쌓인 이벤트를 모두 보낸다, 보내는 도중 들어온 이벤트가 있으면 다시 맡겨야 하므로 true
+     */
+    boolean flush() throws IOException {
+        SseEventBuilder event;
+        while ((event = poll()) != null) {
+            emitter.send(event);
+        }
+        scheduled.set(false);
+        return hasPending() && markScheduled();
+    }
+
+    void close() {
+        closed = true;
+        synchronized (this) {
+            queue.clear();
+        }
+    }
+
+    private synchronized SseEventBuilder poll() {
+        return closed ? null : queue.poll();
+    }
+
+    private synchronized boolean hasPending() {
+        return !closed && !queue.isEmpty();
+    }
+}
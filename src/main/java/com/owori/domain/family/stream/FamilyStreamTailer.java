@@ -0,0 +1,60 @@
+package com.owori.domain.family.stream;
+
+import com.owori.domain.family.change.FamilyVersion;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.sync.entity.ChangeLog;
+import com.owori.domain.sync.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이 서버에 연결된 가족의 변경 기록을 순번 순서로 읽어서 가족 스트림으로 보낸다
+ * 서버마다 따로 읽으므로 어느 서버에서 일어난 변경이든 모든 서버의 연결에 전달된다
+ * 가족 변경 순번을 먼저 한 번에 읽고, 순번이 앞선 가족만 변경 기록을 읽는다
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyStreamTailer {
+    private static final int FAMILY_CHUNK_SIZE = 500;
+
+    private final FamilyStreamHub familyStreamHub;
+    private final FamilyRepository familyRepository;
+    private final ChangeLogRepository changeLogRepository;
+
+    // 가족 하나에서 한 번에 읽을 변경 기록 수, 남은 기록은 다음 주기에 이어 읽는다
+    @Value("${app.family.stream.tail-size:256}")
+    private int tailSize;
+
+    @Scheduled(fixedDelayString = "${app.family.stream.poll-interval:1000}")
+    public void tail() {
+        Map<UUID, Long> latestVersions = familyStreamHub.getLatestVersions();
+        List<UUID> familyIds = new ArrayList<>(latestVersions.keySet());
+        for (int from = 0; from < familyIds.size(); from += FAMILY_CHUNK_SIZE) {
+            List<UUID> chunk = familyIds.subList(from, Math.min(from + FAMILY_CHUNK_SIZE, familyIds.size()));
+            for (FamilyVersion family : familyRepository.findActivityVersions(chunk)) {
+                long latest = latestVersions.get(family.familyId());
+                if (family.version() > latest) tail(family.familyId(), latest);
+            }
+        }
+    }
+
+    private void tail(final UUID familyId, final long latest) {
+        List<ChangeLog> changeLogs = changeLogRepository.findAllByFamilyIdAndVersionGreaterThanOrderByVersionAsc(familyId, latest, PageRequest.of(0, tailSize));
+        if (changeLogs.isEmpty()) return;
+        if (changeLogs.get(0).getVersion() != latest + 1) {
+            // 보관 기간이 지나 지워진 구간은 보낼 수 없음
+            familyStreamHub.reset(familyId, changeLogs.get(changeLogs.size() - 1).getVersion());
+            return;
+        }
+        changeLogs.forEach(changeLog -> familyStreamHub.publish(familyId,
+                new FamilyStreamEvent(changeLog.getVersion(), changeLog.getChangeType(), changeLog.getEntityId())));
+    }
+}
@@ -0,0 +1,33 @@
+package com.owori.domain.feed.controller;
+
+import com.owori.domain.feed.dto.response.FeedResponse;
+import com.owori.domain.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/feed")
+public class FeedController {
+    private final FeedService feedService;
+
+    /**
+     * 가족 활동 피드를 조회하는 컨트롤러입니다.
+     * 이야기, 댓글, 좋아요, 서로에게 한마디, 일정 추가, 가족 참여를 최신순으로 합쳐서 조회합니다.
+     * @param pageable 조회할 개수입니다.
+     * @param cursor 이전 페이지의 next_cursor 입니다. 첫 페이지는 비워둡니다.
+     * @return 활동 목록과 다음 페이지 커서, 다음 페이지 여부를 반환합니다.
+     */
+    @GetMapping
+    public ResponseEntity<FeedResponse> findFeed(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(feedService.findFeed(pageable, cursor));
+    }
+}
@@ -0,0 +1,23 @@
+package com.owori.domain.feed.dto.response;
+
+import com.owori.domain.feed.source.FeedType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FeedItemResponse {
+    private FeedType type;
+    // 활동 대상의 id, 가족 참여는 참여한 구성원의 id
+    private UUID id;
+    private UUID memberId;
+    private UUID storyId;
+    // 이야기와 일정은 제목, 댓글과 서로에게 한마디는 내용, 좋아요는 이야기 제목, 가족 참여는 닉네임
+    private String content;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,15 @@
+package com.owori.domain.feed.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class FeedResponse {
+    private List<FeedItemResponse> items;
+    // 다음 페이지를 요청할 때 그대로 보내는 커서
+    private String nextCursor;
+    private Boolean hasNext;
+}
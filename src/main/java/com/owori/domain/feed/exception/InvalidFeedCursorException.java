@@ -0,0 +1,9 @@
+package com.owori.domain.feed.exception;
+
+public class InvalidFeedCursorException extends IllegalArgumentException {
+    private static final String MESSAGE = "피드 커서 형식이 올바르지 않습니다.";
+
+    public InvalidFeedCursorException() {
+        super(MESSAGE);
+    }
+}
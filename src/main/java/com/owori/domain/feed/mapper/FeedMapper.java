@@ -0,0 +1,28 @@
+package com.owori.domain.feed.mapper;
+
+import com.owori.domain.feed.dto.response.FeedItemResponse;
+import com.owori.domain.feed.dto.response.FeedResponse;
+import com.owori.domain.feed.source.FeedCursor;
+import com.owori.domain.feed.source.FeedRow;
+import com.owori.domain.feed.source.FeedType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class FeedMapper {
+    public FeedItemResponse toItemResponse(FeedType type, FeedRow row) {
+        return FeedItemResponse.builder()
+                .type(type)
+                .id(row.getId())
+                .memberId(row.getMemberId())
+                .storyId(row.getStoryId())
+                .content(row.getContent())
+                .occurredAt(row.getOccurredAt())
+                .build();
+    }
+
+    public FeedResponse toResponse(List<FeedItemResponse> items, FeedCursor nextCursor, boolean hasNext) {
+        return new FeedResponse(items, nextCursor.encode(), hasNext);
+    }
+}
@@ -0,0 +1,15 @@
+package com.owori.domain.feed.repository;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.feed.source.FeedPosition;
+import com.owori.domain.feed.source.FeedRow;
+import com.owori.domain.feed.source.FeedType;
+
+import java.util.List;
+
+public interface FeedRepository {
+    /**
+     * 한 종류의 가족 활동을 위치보다 앞서는 것부터 최신순으로 limit 건 조회, 위치가 null 이면 처음부터
+     */
+    List<FeedRow> findBefore(FeedType type, Family family, FeedPosition position, int limit);
+}
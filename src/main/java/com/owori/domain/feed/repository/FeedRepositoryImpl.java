@@ -0,0 +1,78 @@
+package com.owori.domain.feed.repository;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.feed.source.FeedPosition;
+import com.owori.domain.feed.source.FeedRow;
+import com.owori.domain.feed.source.FeedType;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.owori.domain.comment.entity.QComment.comment;
+import static com.owori.domain.heart.entity.QHeart.heart;
+import static com.owori.domain.member.entity.QMember.member;
+import static com.owori.domain.saying.entity.QSaying.saying;
+import static com.owori.domain.schedule.entity.QSchedule.schedule;
+import static com.owori.domain.story.entity.QStory.story;
+
+/**
+ * 종류마다 (family_id, deleted_at, 시각) 인덱스를 최신순으로 limit 건만 읽는다
+ * 연관관계는 외래키만 읽어서 작성자나 이야기 엔티티를 불러오지 않는다, 좋아요만 이야기 제목을 위해 이야기를 조인한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedRepositoryImpl implements FeedRepository {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<FeedRow> findBefore(FeedType type, Family family, FeedPosition position, int limit) {
+        return switch (type) {
+            case STORY -> find(story,
+                    Projections.constructor(FeedRow.class, story.id, story.member.id, story.id, story.title, story.baseTime.createdAt),
+                    story.family.eq(family), story.baseTime.createdAt, story.id, position, limit);
+            case COMMENT -> find(comment,
+                    Projections.constructor(FeedRow.class, comment.id, comment.member.id, comment.story.id, comment.content, comment.baseTime.createdAt),
+                    comment.family.eq(family), comment.baseTime.createdAt, comment.id, position, limit);
+            case HEART -> find(heart,
+                    Projections.constructor(FeedRow.class, heart.id, heart.member.id, heart.story.id, heart.story.title, heart.baseTime.createdAt),
+                    heart.family.eq(family), heart.baseTime.createdAt, heart.id, position, limit);
+            case SAYING -> find(saying,
+                    Projections.constructor(FeedRow.class, saying.id, saying.member.id, saying.content, saying.baseTime.createdAt),
+                    saying.family.eq(family), saying.baseTime.createdAt, saying.id, position, limit);
+            case SCHEDULE -> find(schedule,
+                    Projections.constructor(FeedRow.class, schedule.id, schedule.member.id, schedule.title, schedule.baseTime.createdAt),
+                    schedule.family.eq(family), schedule.baseTime.createdAt, schedule.id, position, limit);
+            case MEMBER_JOINED -> find(member,
+                    Projections.constructor(FeedRow.class, member.id, member.id, member.nickname, member.joinedAt),
+                    member.family.eq(family).and(member.joinedAt.isNotNull()), member.joinedAt, member.id, position, limit);
+        };
+    }
+
+    private List<FeedRow> find(EntityPath<?> from, ConstructorExpression<FeedRow> projection, BooleanExpression ofFamily,
+                               DateTimePath<LocalDateTime> occurredAt, ComparablePath<UUID> id, FeedPosition position, int limit) {
+        return queryFactory
+                .select(projection)
+                .from(from)
+                .where(ofFamily, isBefore(occurredAt, id, position)) // no-offset 페이징 처리
+                .orderBy(occurredAt.desc(), id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 마지막으로 내려준 활동보다 (시각, id) 가 앞서는 활동, 첫 페이지는 조건 없음
+    private BooleanExpression isBefore(DateTimePath<LocalDateTime> occurredAt, ComparablePath<UUID> id, FeedPosition position) {
+        if (position == null) return null;
+        return occurredAt.lt(position.occurredAt())
+                .or(occurredAt.eq(position.occurredAt()).and(id.lt(position.id())));
+    }
+}
@@ -0,0 +1,92 @@
+package com.owori.domain.feed.service;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.feed.dto.response.FeedItemResponse;
+import com.owori.domain.feed.dto.response.FeedResponse;
+import com.owori.domain.feed.mapper.FeedMapper;
+import com.owori.domain.feed.repository.FeedRepository;
+import com.owori.domain.feed.source.FeedCursor;
+import com.owori.domain.feed.source.FeedPosition;
+import com.owori.domain.feed.source.FeedRow;
+import com.owori.domain.feed.source.FeedType;
+import com.owori.domain.member.service.AuthService;
+import com.owori.global.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 이야기, 댓글, 좋아요, 서로에게 한마디, 일정, 가족 참여를 하나의 최신순 피드로 합친다
+ * 종류마다 커서 위치 이후를 페이지 크기 + 1 건만 읽고, 각 종류의 맨 앞 활동을 힙에 넣어 가장 최근 것부터 하나씩 꺼낸다
+ * 한 페이지에서 읽는 행은 (페이지 크기 + 1) x 종류 수를 넘지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+    private final AuthService authService;
+    private final FeedRepository feedRepository;
+    private final FeedMapper feedMapper;
+
+    @Value("${app.feed.max-page-size:50}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public FeedResponse findFeed(final Pageable pageable, final String cursor) {
+        Family family = authService.getLoginUser().getFamily();
+        if (family == null) throw new EntityNotFoundException();
+        int pageSize = Math.max(1, Math.min(pageable.getPageSize(), maxPageSize));
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
+
+        PriorityQueue<Source> heap = new PriorityQueue<>(Comparator.comparing(Source::head, FeedPosition.NEWEST_FIRST));
+        for (FeedType type : FeedType.values()) {
+            if (feedCursor.isExhausted(type)) continue;
+            // 한 종류에서 한 페이지를 모두 채워도 다음 페이지 여부를 알 수 있도록 한 건 더 읽는다
+            List<FeedRow> rows = feedRepository.findBefore(type, family, feedCursor.getPosition(type).orElse(null), pageSize + 1);
+            if (rows.isEmpty()) feedCursor.exhaust(type);
+            else heap.add(new Source(type, rows));
+        }
+
+        List<FeedItemResponse> items = new ArrayList<>(pageSize);
+        while (items.size() < pageSize && !heap.isEmpty()) {
+            Source source = heap.poll();
+            FeedRow row = source.next();
+            items.add(feedMapper.toItemResponse(source.type, row));
+            feedCursor.advance(source.type, row.getPosition());
+            if (source.hasNext()) heap.add(source);
+            // 읽은 행이 페이지 크기 + 1 보다 적었으면 더 남은 활동이 없다
+            else if (source.rows.size() <= pageSize) feedCursor.exhaust(source.type);
+        }
+        return feedMapper.toResponse(items, feedCursor, !heap.isEmpty());
+    }
+
+    // 한 종류에서 읽어 둔 활동, 힙에는 아직 내려주지 않은 맨 앞 활동 기준으로 정렬된다
+    private static class Source {
+        private final FeedType type;
+        private final List<FeedRow> rows;
+        private int index;
+
+        private Source(final FeedType type, final List<FeedRow> rows) {
+            this.type = type;
+            this.rows = rows;
+        }
+
+        private FeedPosition head() {
+            return rows.get(index).getPosition();
+        }
+
+        private FeedRow next() {
+            return rows.get(index++);
+        }
+
+        private boolean hasNext() {
+            return index < rows.size();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.owori.domain.feed.source;
+
+import com.owori.domain.feed.exception.InvalidFeedCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 활동 종류마다 마지막으로 내려준 위치를 담는 피드 커서
+ * 위치가 없는 종류는 처음부터 읽고, 끝까지 읽은 종류는 다음 페이지에서 조회하지 않는다
+ * 클라이언트에는 "종류,시각,id" 를 ; 로 이은 문자열을 URL 안전한 Base64 로 감싸서 보낸다
+ */
+public class FeedCursor {
+    private static final String EXHAUSTED = "-";
+
+    private final Map<FeedType, FeedPosition> positions = new EnumMap<>(FeedType.class);
+    private final Set<FeedType> exhausted = EnumSet.noneOf(FeedType.class);
+
+    public static FeedCursor decode(final String cursor) {
+        FeedCursor feedCursor = new FeedCursor();
+        if (cursor == null || cursor.isBlank()) return feedCursor;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String entry : decoded.split(";")) {
+                String[] fields = entry.split(",");
+                FeedType type = FeedType.valueOf(fields[0]);
+                if (fields.length == 2 && EXHAUSTED.equals(fields[1])) feedCursor.exhaust(type);
+                else if (fields.length == 3) feedCursor.advance(type, new FeedPosition(LocalDateTime.parse(fields[1]), UUID.fromString(fields[2])));
+                else throw new InvalidFeedCursorException();
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidFeedCursorException();
+        }
+        return feedCursor;
+    }
+
+    public String encode() {
+        StringJoiner joiner = new StringJoiner(";");
+        for (FeedType type : FeedType.values()) {
+            if (exhausted.contains(type)) joiner.add(type.name() + "," + EXHAUSTED);
+            else if (positions.containsKey(type)) {
+                FeedPosition position = positions.get(type);
+                joiner.add(type.name() + "," + position.occurredAt() + "," + position.id());
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Optional<FeedPosition> getPosition(final FeedType type) {
+        return Optional.ofNullable(positions.get(type));
+    }
+
+    public boolean isExhausted(final FeedType type) {
+        return exhausted.contains(type);
+    }
+
+    public void advance(final FeedType type, final FeedPosition position) {
+        positions.put(type, position);
+    }
+
+    public void exhaust(final FeedType type) {
+        exhausted.add(type);
+        positions.remove(type);
+    }
+}
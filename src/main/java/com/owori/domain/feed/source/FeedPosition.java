@@ -0,0 +1,20 @@
+package com.owori.domain.feed.source;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * 종류별 no-offset 조회의 기준 위치, (시각, id) 가 이보다 앞서는 활동부터 읽는다
+ */
+public record FeedPosition(LocalDateTime occurredAt, UUID id) {
+    // DB 의 BINARY(16) 비교와 같은 순서가 되도록 id 는 부호 없는 값으로 비교
+    private static final Comparator<UUID> BINARY_ORDER = Comparator
+            .<UUID, Long>comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    public static final Comparator<FeedPosition> NEWEST_FIRST = Comparator
+            .comparing(FeedPosition::occurredAt)
+            .thenComparing(FeedPosition::id, BINARY_ORDER)
+            .reversed();
+}
@@ -0,0 +1,29 @@
+package com.owori.domain.feed.source;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 종류별 조회에서 인덱스와 외래키로 읽는 활동 한 건
+ */
+@Getter
+@AllArgsConstructor
+public class FeedRow {
+    private UUID id;
+    private UUID memberId;
+    // 이야기에 달린 활동(댓글, 좋아요)과 이야기 자신만 값이 있음
+    private UUID storyId;
+    private String content;
+    private LocalDateTime occurredAt;
+
+    public FeedRow(UUID id, UUID memberId, String content, LocalDateTime occurredAt) {
+        this(id, memberId, null, content, occurredAt);
+    }
+
+    public FeedPosition getPosition() {
+        return new FeedPosition(occurredAt, id);
+    }
+}
@@ -0,0 +1,13 @@
+package com.owori.domain.feed.source;
+
+/**
+ * 가족 활동 피드에 합쳐지는 활동 종류, 종류마다 따로 최신순으로 읽는다
+ */
+public enum FeedType {
+    STORY,
+    COMMENT,
+    HEART,
+    SAYING,
+    SCHEDULE,
+    MEMBER_JOINED
+}
@@ -1,10 +1,12 @@
 package com.owori.domain.heart.entity;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.story.entity.Story;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
@@ -20,8 +22,8 @@ import java.util.UUID;
 public class Heart implements Auditable {
 
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -33,6 +35,11 @@ public class Heart implements Auditable {
     @JoinColumn
     private Member member;
 
+    // 누른 당시 회원의 가족, 가족 활동 피드를 이야기 조인 없이 처리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Family family;
+
     @Setter
     @Embedded
     @Column(nullable = false)
@@ -41,6 +48,7 @@ public class Heart implements Auditable {
     @Builder
     public Heart(Member member, Story story) {
         this.member = member;
+        this.family = member.getFamily();
         this.story = story;
         story.addHeart(this);
     }
@@ -0,0 +1,22 @@
+package com.owori.domain.heart.event;
+
+import com.owori.global.event.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 좋아요를 누르거나 취소함, 같은 이야기의 이벤트끼리 순서가 지켜진다
+ * occurredAt 은 요청에서 누른 시각이라 늦게 전달되어도 인기 점수와 알림이 전달 시각에 끌려가지 않는다
+ */
+public record HeartToggled(UUID storyId, UUID familyId, UUID memberId, boolean hearted, LocalDateTime occurredAt) implements DomainEvent {
+    public HeartToggled {
+        // 시각을 담기 전에 저장된 이벤트는 전달 시각으로 채운다
+        if (occurredAt == null) occurredAt = LocalDateTime.now();
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return storyId;
+    }
+}
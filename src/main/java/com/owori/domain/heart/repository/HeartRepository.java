@@ -1,5 +1,6 @@
 package com.owori.domain.heart.repository;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.heart.entity.Heart;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.story.entity.Story;
@@ -12,4 +13,5 @@ public interface HeartRepository {
     Heart save(Heart heart);
     Optional<Heart> findByMemberAndStory(Member member, Story story);
     boolean existsByMemberAndStory(Member member, Story story);
+    int updateFamilyByMember(Member member, Family family);
 }
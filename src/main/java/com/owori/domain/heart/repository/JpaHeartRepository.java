@@ -1,9 +1,18 @@
 package com.owori.domain.heart.repository;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.heart.entity.Heart;
+import com.owori.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface JpaHeartRepository extends JpaRepository<Heart, UUID>, HeartRepository {
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("update Heart h set h.family = :family where h.member = :member")
+    int updateFamilyByMember(@Param("member") Member member, @Param("family") Family family);
 }
@@ -1,18 +1,24 @@
 package com.owori.domain.heart.service;
 
 import com.owori.domain.heart.dto.response.HeartStatusResponse;
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.heart.entity.Heart;
+import com.owori.domain.heart.event.HeartToggled;
 import com.owori.domain.heart.mapper.HeartMapper;
 import com.owori.domain.heart.repository.HeartRepository;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.service.AuthService;
 import com.owori.domain.story.entity.Story;
+import com.owori.global.event.DomainEventPublisher;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.service.EntityLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -21,6 +27,8 @@ public class HeartService implements EntityLoader<Heart, UUID> {
     private final HeartRepository heartRepository;
     private final HeartMapper heartMapper;
     private final AuthService authService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FamilyChangeRecorder familyChangeRecorder;
 
     @Transactional
     public HeartStatusResponse toggleHeart(Story story) {
@@ -29,16 +37,24 @@ public class HeartService implements EntityLoader<Heart, UUID> {
         if (hasHeart(member, story)) {
             Heart heart = heartRepository.findByMemberAndStory(member, story).orElseThrow(EntityNotFoundException::new);
             story.removeHeart(heart);
+            publishToggled(story, member, false);
 
             return new HeartStatusResponse(Boolean.FALSE);
         }
 
         Heart heart = heartMapper.toEntity(member, story);
         heartRepository.save(heart);
+        publishToggled(story, member, true);
 
         return new HeartStatusResponse(Boolean.TRUE);
     }
 
+    private void publishToggled(Story story, Member member, boolean hearted) {
+        Family family = story.getFamily();
+        domainEventPublisher.publish(new HeartToggled(story.getId(), family == null ? null : family.getId(), member.getId(), hearted, LocalDateTime.now()));
+        familyChangeRecorder.record(family, FamilyChangeType.HEART_TOGGLED, story.getId());
+    }
+
     public boolean hasHeart(Member member, Story story) {
         return heartRepository.existsByMemberAndStory(member, story);
     }
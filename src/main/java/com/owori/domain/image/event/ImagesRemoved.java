@@ -0,0 +1,12 @@
+package com.owori.domain.image.event;
+
+import com.owori.global.event.DomainEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DB 에서 지운 이미지의 S3 객체 정리 요청
+ */
+public record ImagesRemoved(UUID aggregateId, List<String> urls) implements DomainEvent {
+}
@@ -0,0 +1,25 @@
+package com.owori.domain.image.event;
+
+import com.owori.global.event.DomainEventHandler;
+import com.owori.utils.S3ImageComponent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커밋된 이미지 삭제만 S3 에 반영, 이미 없는 객체를 지워도 실패하지 않으므로 다시 전달되어도 괜찮다
+ */
+@Component
+@RequiredArgsConstructor
+public class ImagesRemovedHandler implements DomainEventHandler<ImagesRemoved> {
+    private final S3ImageComponent s3ImageComponent;
+
+    @Override
+    public Class<ImagesRemoved> getEventType() {
+        return ImagesRemoved.class;
+    }
+
+    @Override
+    public void handle(ImagesRemoved event) {
+        s3ImageComponent.deleteImages(event.urls());
+    }
+}
@@ -1,10 +1,12 @@
 package com.owori.domain.image.service;
 
 import com.owori.domain.image.entity.Image;
+import com.owori.domain.image.event.ImagesRemoved;
 import com.owori.domain.image.exception.ImageLimitExceededException;
 import com.owori.domain.image.mapper.ImageMapper;
 import com.owori.domain.image.repository.ImageRepository;
 import com.owori.domain.story.entity.Story;
+import com.owori.global.event.DomainEventPublisher;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.service.EntityLoader;
 import com.owori.utils.S3ImageComponent;
@@ -23,6 +25,7 @@ public class ImageService implements EntityLoader<Image, UUID> {
     private final ImageRepository imageRepository;
     private final ImageMapper imageMapper;
     private final S3ImageComponent s3ImageComponent;
+    private final DomainEventPublisher domainEventPublisher;
 
     public List<UUID> addStoryImage(List<MultipartFile> images) {
         if (images.size() > 10) {
@@ -51,11 +54,11 @@ public class ImageService implements EntityLoader<Image, UUID> {
     @Transactional
     public void removeImages(Story story) {
         List<Image> oldImages = imageRepository.findAllByStory(story);
+        if (oldImages == null || oldImages.isEmpty()) return;
 
-        Optional.ofNullable(oldImages).ifPresent(images -> images.forEach(img -> {
-            s3ImageComponent.deleteImage(img.getUrl());
-            story.removeImage(img);
-        }));
+        oldImages.forEach(story::removeImage);
+        // S3 객체는 커밋된 뒤에 지워서 롤백되어도 이미지가 깨지지 않게 한다
+        domainEventPublisher.publish(new ImagesRemoved(story.getId(), oldImages.stream().map(Image::getUrl).toList()));
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.owori.domain.keyword.controller;
 
 import com.owori.domain.keyword.dto.response.FindKeywordsResponse;
+import com.owori.domain.keyword.dto.response.SuggestKeywordResponse;
 import com.owori.domain.keyword.service.KeywordService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +25,17 @@ public class KeywordController {
         return ResponseEntity.ok(keywordService.findSearchWords());
     }
 
+    /**
+     * 입력 중인 검색어의 자동 완성 목록을 조회하는 컨트롤러입니다.
+     * 가족의 이야기 제목, 닉네임과 내 최근 검색어 중 입력한 글자로 시작하는 검색어를 찾습니다.
+     * @param prefix 입력 중인 검색어, 완성되지 않은 글자(ㄱ, 기ㄷ 등)도 가능합니다.
+     * @param size 최대 개수
+     * @return 자동 완성 검색어 dto list를 반환합니다.
+     */
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<SuggestKeywordResponse>> findSuggestions(@RequestParam String prefix, @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(keywordService.findSuggestions(prefix, size));
+    }
 
     /**
      * 최근 검색어를 전체 삭제하는 컨트롤러입니다.
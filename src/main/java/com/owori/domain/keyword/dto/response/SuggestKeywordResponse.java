@@ -0,0 +1,10 @@
+package com.owori.domain.keyword.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SuggestKeywordResponse {
+    private String content;
+}
@@ -4,11 +4,13 @@ import com.owori.domain.member.entity.Member;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
@@ -18,8 +20,8 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Keyword implements Auditable {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -40,4 +42,10 @@ public class Keyword implements Auditable {
         this.member = member;
     }
 
+    // 모아서 저장하는 검색어는 저장 시각이 아니라 검색한 시각을 작성 시각으로 남김
+    public Keyword(String contents, Member member, LocalDateTime searchedAt) {
+        this(contents, member);
+        this.baseTime = BaseTime.createdAt(searchedAt);
+    }
+
 }
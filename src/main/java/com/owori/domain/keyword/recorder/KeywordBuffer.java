@@ -0,0 +1,74 @@
+package com.owori.domain.keyword.recorder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아직 저장하지 않은 검색어를 회원별로 모아 두는 버퍼
+ * 같은 검색어는 마지막 검색 시각만 남기고, 회원별로 최근 검색어 개수만큼만 보관해서 가장 오래된 검색어부터 밀어낸다
+ */
+@Component
+public class KeywordBuffer {
+    // 회원별 검색어와 마지막 검색 시각, 처음 검색한 순서를 유지
+    private final ConcurrentHashMap<UUID, LinkedHashMap<String, LocalDateTime>> pending = new ConcurrentHashMap<>();
+
+    @Value("${app.keyword.max-per-member:20}")
+    private int maxPerMember;
+
+    public void record(final UUID memberId, final String contents, final LocalDateTime searchedAt) {
+        // 버퍼 변경은 모두 compute 안에서 수행해서 drain 과 겹치지 않도록 함
+        pending.compute(memberId, (id, keywords) -> {
+            LinkedHashMap<String, LocalDateTime> next = keywords == null ? new LinkedHashMap<>() : keywords;
+            next.put(contents, searchedAt);
+            if (next.size() > maxPerMember) next.remove(oldest(next));
+            return next;
+        });
+    }
+
+    /**
+     * 모아 둔 검색어를 모두 꺼내고 버퍼 비우기
+     */
+    public Map<UUID, Map<String, LocalDateTime>> drain() {
+        Map<UUID, Map<String, LocalDateTime>> drained = new LinkedHashMap<>();
+        for (UUID memberId : pending.keySet()) {
+            LinkedHashMap<String, LocalDateTime> keywords = pending.remove(memberId);
+            if (keywords != null) drained.put(memberId, keywords);
+        }
+        return drained;
+    }
+
+    /**
+     * 저장하지 못한 검색어를 버퍼에 되돌리기, 그 사이 다시 검색한 검색어는 더 최근 검색 시각을 남긴다
+     */
+    public void requeue(final Map<UUID, Map<String, LocalDateTime>> drained) {
+        drained.forEach((memberId, keywords) -> pending.compute(memberId, (id, current) -> {
+            LinkedHashMap<String, LocalDateTime> next = new LinkedHashMap<>(keywords);
+            if (current != null) current.forEach((contents, searchedAt) -> next.merge(contents, searchedAt, this::latest));
+            while (next.size() > maxPerMember) next.remove(oldest(next));
+            return next;
+        }));
+    }
+
+    /**
+     * 검색어 전체 삭제 시 아직 저장하지 않은 검색어도 버리기
+     */
+    public void discard(final UUID memberId) {
+        pending.remove(memberId);
+    }
+
+    public int getMaxPerMember() {
+        return maxPerMember;
+    }
+
+    private LocalDateTime latest(final LocalDateTime first, final LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private String oldest(final Map<String, LocalDateTime> keywords) {
+        return Collections.min(keywords.entrySet(), Map.Entry.comparingByValue()).getKey();
+    }
+}
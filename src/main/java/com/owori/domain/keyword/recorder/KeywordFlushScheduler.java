@@ -0,0 +1,27 @@
+package com.owori.domain.keyword.recorder;
+
+import com.owori.domain.keyword.service.KeywordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+/**
+ * 모아 둔 검색어를 주기적으로 저장하고, 서버가 내려갈 때 남은 검색어도 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordFlushScheduler {
+    private final KeywordService keywordService;
+
+    @Scheduled(fixedDelayString = "${app.keyword.flush-interval:1000}")
+    public void flushKeywords() {
+        keywordService.flushKeywords();
+    }
+
+    @PreDestroy
+    public void flushRemainingKeywords() {
+        keywordService.flushKeywords();
+    }
+}
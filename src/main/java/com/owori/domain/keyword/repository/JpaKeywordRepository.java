@@ -1,9 +1,25 @@
 package com.owori.domain.keyword.repository;
 
 import com.owori.domain.keyword.entity.Keyword;
+import com.owori.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface JpaKeywordRepository extends JpaRepository<Keyword, UUID>, KeywordRepository {
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Keyword k set k.baseTime.deletedAt = :deletedAt where k.member = :member and k.baseTime.deletedAt is null")
+    int deleteAllByMember(@Param("member") Member member, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Keyword k set k.baseTime.deletedAt = :deletedAt where k.id in :ids and k.baseTime.deletedAt is null")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids, @Param("deletedAt") LocalDateTime deletedAt);
 }
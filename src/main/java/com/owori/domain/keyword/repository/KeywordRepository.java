@@ -3,13 +3,19 @@ package com.owori.domain.keyword.repository;
 import com.owori.domain.keyword.entity.Keyword;
 import com.owori.domain.member.entity.Member;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface KeywordRepository {
-    Optional<Keyword> findByContents(String contents);
     List<Keyword> findByMember(Member member);
+    List<Keyword> findAllByMemberIdInAndContentsIn(Collection<UUID> memberIds, Collection<String> contents);
+    List<Keyword> findAllByMemberIdIn(Collection<UUID> memberIds);
     Keyword save(Keyword keyword);
+    <S extends Keyword> List<S> saveAll(Iterable<S> keywords);
+    int deleteAllByMember(Member member, LocalDateTime deletedAt);
+    int deleteAllByIdIn(Collection<UUID> ids, LocalDateTime deletedAt);
     Optional<Keyword> findById(UUID id);
 }
@@ -1,34 +1,131 @@
 package com.owori.domain.keyword.service;
 
 import com.owori.domain.keyword.dto.response.FindKeywordsResponse;
+import com.owori.domain.keyword.dto.response.SuggestKeywordResponse;
 import com.owori.domain.keyword.entity.Keyword;
+import com.owori.domain.keyword.recorder.KeywordBuffer;
 import com.owori.domain.keyword.repository.KeywordRepository;
+import com.owori.domain.keyword.suggest.FamilySuggestionCache;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.service.AuthService;
+import com.owori.domain.member.service.MemberService;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.exception.NoAuthorityException;
 import com.owori.global.service.EntityLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class KeywordService implements EntityLoader<Keyword, UUID> {
+    private static final int MAX_SUGGESTIONS = 20;
 
     private final KeywordRepository keywordRepository;
     private final AuthService authService;
+    private final MemberService memberService;
+    private final KeywordBuffer keywordBuffer;
+    private final FamilySuggestionCache familySuggestionCache;
 
+    /**
+     * 검색어를 버퍼에 기록하고, 저장은 flushKeywords 에서 모아서 수행
+     */
     public void addKeyword(String keyword, Member member) {
-        Optional<Keyword> findKeyword = keywordRepository.findByContents(keyword);
-        findKeyword.ifPresentOrElse(word -> word.getBaseTime().setCreatedAt(LocalDateTime.now()), // 같은 검색어가 이미 존재하면 createdAt만 update
-                () -> keywordRepository.save(new Keyword(keyword, member)));
+        keywordBuffer.record(member.getId(), keyword, LocalDateTime.now());
+    }
+
+    /**
+     * 버퍼에 모인 검색어를 한 번에 저장
+     * 회원의 기존 검색어는 createdAt 만 update 하고, 새 검색어는 검색한 시각으로 묶어서 insert 한 뒤 회원별 최근 검색어 개수를 넘는 검색어를 삭제
+     * 트랜잭션이 커밋되지 않으면 꺼낸 검색어를 버퍼에 되돌려서 다음 저장에 다시 시도
+     */
+    public void flushKeywords() {
+        Map<UUID, Map<String, LocalDateTime>> pending = keywordBuffer.drain();
+        if (pending.isEmpty()) return;
+        requeueUnlessCommitted(pending);
+
+        Set<String> contents = pending.values().stream().flatMap(keywords -> keywords.keySet().stream()).collect(Collectors.toSet());
+        Map<UUID, Map<String, Keyword>> existing = keywordRepository.findAllByMemberIdInAndContentsIn(pending.keySet(), contents).stream()
+                .collect(Collectors.groupingBy(keyword -> keyword.getMember().getId(),
+                        Collectors.toMap(Keyword::getContents, Function.identity(), (first, second) -> first)));
+        // 그 사이 탈퇴한 회원의 검색어는 저장하지 않음
+        Map<UUID, Member> members = memberService.findMembersByIds(List.copyOf(pending.keySet())).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        List<Keyword> newKeywords = new ArrayList<>();
+        pending.forEach((memberId, keywords) -> {
+            Member member = members.get(memberId);
+            if (member == null) return;
+            Map<String, Keyword> saved = existing.getOrDefault(memberId, Map.of());
+            keywords.forEach((content, searchedAt) -> {
+                Keyword keyword = saved.get(content);
+                if (keyword != null) keyword.getBaseTime().setCreatedAt(searchedAt); // 같은 검색어가 이미 존재하면 createdAt만 update
+                else newKeywords.add(new Keyword(content, member, searchedAt));
+            });
+        });
+        keywordRepository.saveAll(newKeywords);
+        newKeywords.stream()
+                .collect(Collectors.groupingBy(Keyword::getMember, LinkedHashMap::new, Collectors.mapping(Keyword::getContents, Collectors.toList())))
+                .forEach(familySuggestionCache::addKeywords);
+
+        deleteOverflow(members.values());
+    }
+
+    /**
+     * 최근 검색어 개수를 넘는 오래된 검색어 삭제
+     * 회원들의 검색어를 한 번에 읽어서 넘치는 검색어를 고르고 한 번에 삭제, 버퍼도 같은 개수로 제한하므로 회원당 읽는 검색어 수가 제한된다
+     */
+    private void deleteOverflow(Collection<Member> members) {
+        if (members.isEmpty()) return;
+        int maxPerMember = keywordBuffer.getMaxPerMember();
+        Map<UUID, Member> byId = members.stream().collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        Map<UUID, List<Keyword>> overflow = new LinkedHashMap<>();
+        keywordRepository.findAllByMemberIdIn(byId.keySet()).stream()
+                .collect(Collectors.groupingBy(keyword -> keyword.getMember().getId()))
+                .forEach((memberId, keywords) -> {
+                    List<Keyword> old = keywords.stream()
+                            .sorted(Comparator.comparing((Keyword keyword) -> keyword.getBaseTime().getCreatedAt()).reversed())
+                            .skip(maxPerMember)
+                            .toList();
+                    if (!old.isEmpty()) overflow.put(memberId, old);
+                });
+        if (overflow.isEmpty()) return;
+
+        overflow.forEach((memberId, old) -> familySuggestionCache.removeKeywords(byId.get(memberId), old.stream().map(Keyword::getContents).toList()));
+        keywordRepository.deleteAllByIdIn(overflow.values().stream().flatMap(List::stream).map(Keyword::getId).toList(), LocalDateTime.now());
+    }
+
+    private void requeueUnlessCommitted(Map<UUID, Map<String, LocalDateTime>> pending) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) keywordBuffer.requeue(pending);
+            }
+        });
+    }
+
+    /**
+     * 입력 중인 검색어로 가족의 이야기 제목, 닉네임과 내 최근 검색어 중 자동 완성 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<SuggestKeywordResponse> findSuggestions(String prefix, int size) {
+        Member loginUser = authService.getLoginUser();
+        if (loginUser.getFamily() == null) return List.of();
+
+        return familySuggestionCache.find(loginUser.getFamily())
+                .find(prefix, loginUser.getId(), Math.min(size, MAX_SUGGESTIONS)).stream()
+                .map(SuggestKeywordResponse::new)
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -46,7 +143,9 @@ public class KeywordService implements EntityLoader<Keyword, UUID> {
     @Transactional
     public void deleteSearchWords() {
         Member loginUser = authService.getLoginUser();
-        keywordRepository.findByMember(loginUser).forEach(Keyword::delete);
+        keywordBuffer.discard(loginUser.getId());
+        keywordRepository.deleteAllByMember(loginUser, LocalDateTime.now());
+        familySuggestionCache.clearKeywords(loginUser);
     }
 
     @Transactional
@@ -56,6 +155,7 @@ public class KeywordService implements EntityLoader<Keyword, UUID> {
             throw new NoAuthorityException();
         }
         keyword.delete();
+        familySuggestionCache.removeKeywords(keyword.getMember(), List.of(keyword.getContents()));
     }
 
     @Override
@@ -0,0 +1,106 @@
+package com.owori.domain.keyword.suggest;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.roster.FamilyRoster;
+import com.owori.domain.family.roster.FamilyRosterCache;
+import com.owori.domain.keyword.repository.KeywordRepository;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.global.cache.FamilyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 가족별 검색어 자동 완성 목록을 보관하는 메모리 캐시
+ * 처음 조회할 때 이야기 제목, 닉네임, 가족의 최근 검색어로 목록을 만들고, 이후 변경은 커밋 이후에 목록에 바로 반영한다
+ * 보관하는 가족 수를 넘으면 가장 오래 조회되지 않은 가족부터 비운다
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilySuggestionCache extends FamilyCache<FamilySuggestions> {
+    private final StoryRepository storyRepository;
+    private final KeywordRepository keywordRepository;
+    private final FamilyRosterCache familyRosterCache;
+
+    @Value("${app.keyword.suggestion.max-families:1000}")
+    private int maxFamilies;
+
+    public FamilySuggestions find(final Family family) {
+        UUID familyId = family.getId();
+        // 아직 저장되지 않은 가족은 캐시하지 않음
+        if (familyId == null) return load(family);
+        return find(familyId, () -> load(family));
+    }
+
+    /**
+     * 새로 쓰거나 제목을 바꾼 이야기 반영
+     */
+    public void putStory(final Story story) {
+        UUID storyId = story.getId();
+        String title = story.getTitle();
+        apply(story.getMember().getFamily(), familySuggestions -> familySuggestions.putStory(storyId, title));
+    }
+
+    public void removeStory(final Story story) {
+        UUID storyId = story.getId();
+        apply(story.getMember().getFamily(), familySuggestions -> familySuggestions.removeStory(storyId));
+    }
+
+    /**
+     * 닉네임이 바뀐 회원 반영
+     */
+    public void refreshMember(final Member member) {
+        UUID memberId = member.getId();
+        String nickname = member.getNickname();
+        apply(member.getFamily(), familySuggestions -> familySuggestions.putNickname(memberId, nickname));
+    }
+
+    public void addKeywords(final Member member, final Collection<String> contents) {
+        if (contents.isEmpty()) return;
+        UUID memberId = member.getId();
+        List<String> added = List.copyOf(contents);
+        apply(member.getFamily(), familySuggestions -> added.forEach(content -> familySuggestions.addKeyword(memberId, content)));
+    }
+
+    public void removeKeywords(final Member member, final Collection<String> contents) {
+        if (contents.isEmpty()) return;
+        UUID memberId = member.getId();
+        List<String> removed = List.copyOf(contents);
+        apply(member.getFamily(), familySuggestions -> removed.forEach(content -> familySuggestions.removeKeyword(memberId, content)));
+    }
+
+    public void clearKeywords(final Member member) {
+        UUID memberId = member.getId();
+        apply(member.getFamily(), familySuggestions -> familySuggestions.removeKeywords(memberId));
+    }
+
+    @Override
+    protected long capacity() {
+        return maxFamilies;
+    }
+
+    private FamilySuggestions load(final Family family) {
+        FamilyRoster roster = familyRosterCache.find(family);
+        FamilySuggestions loaded = new FamilySuggestions();
+        roster.getMembers().forEach(member -> loaded.putNickname(member.getMemberId(), member.getNickname()));
+        if (family.getId() == null) return loaded;
+        storyRepository.findAllTitlesByFamily(family).forEach(story -> loaded.putStory(story.getStoryId(), story.getTitle()));
+        keywordRepository.findAllByMemberIdIn(roster.getMemberIds())
+                .forEach(keyword -> loaded.addKeyword(keyword.getMember().getId(), keyword.getContents()));
+        return loaded;
+    }
+
+    private void apply(final Family family, final Consumer<FamilySuggestions> change) {
+        if (family == null || family.getId() == null) return;
+        UUID familyId = family.getId();
+        afterCommit(() -> update(familyId, familySuggestions -> {
+            change.accept(familySuggestions);
+            return familySuggestions;
+        }));
+    }
+}
@@ -0,0 +1,110 @@
+package com.owori.domain.keyword.suggest;
+
+import java.util.*;
+
+/**
+ * 한 가족의 검색어 자동 완성 목록
+ * 이야기 제목과 닉네임은 가족 모두에게, 최근 검색어는 검색한 회원에게만 보여 준다
+ * 변경 시 이전 값을 지울 수 있도록 이야기, 회원별로 넣어 둔 값을 함께 보관
+ */
+public class FamilySuggestions {
+    // 노드마다 골라 둘 검색어 수, 자동 완성 최대 개수(20)에 겹칠 수 있는 개인 검색어 최대 개수(20)를 더함
+    private static final int TOP_SIZE = 40;
+    // 제목은 단어마다 키를 만들므로 키 길이를 제한해서 트리 크기가 제목 길이의 제곱으로 늘지 않게 함
+    private static final int MAX_KEY_LENGTH = 24;
+
+    private final SuggestionTrie trie = new SuggestionTrie(TOP_SIZE);
+    private final Map<UUID, String> storyTitles = new HashMap<>();
+    private final Map<UUID, String> nicknames = new HashMap<>();
+    // 회원별 최근 검색어와 자모로 푼 키, 회원당 최근 검색어 개수만큼이라 트리에 넣지 않고 직접 찾는다
+    private final Map<UUID, Map<String, String>> keywords = new HashMap<>();
+
+    /**
+     * 접두사로 시작하는 검색어를 개인 검색어, 여러 곳에 나온 검색어, 짧은 검색어 순으로 찾기
+     */
+    public synchronized List<String> find(final String prefix, final UUID viewer, final int limit) {
+        String key = HangulJamo.decompose(prefix);
+        if (key.isEmpty() || limit <= 0) return List.of();
+
+        List<String> owned = keywords.getOrDefault(viewer, Map.of()).entrySet().stream()
+                .filter(keyword -> keyword.getValue().startsWith(key))
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.comparingInt((String display) -> trie.count(indexKey(display), display)).reversed()
+                        .thenComparingInt(String::length)
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+        List<String> results = new ArrayList<>(owned.subList(0, Math.min(limit, owned.size())));
+
+        // 키 길이보다 긴 접두사는 잘린 키로 찾은 뒤 전체 접두사로 다시 거름
+        boolean truncated = key.length() > MAX_KEY_LENGTH;
+        for (String display : trie.find(truncate(key), TOP_SIZE)) {
+            if (results.size() >= limit) break;
+            if (owned.contains(display)) continue;
+            if (truncated && wordStarts(display).stream().noneMatch(start -> start.startsWith(key))) continue;
+            results.add(display);
+        }
+        return results;
+    }
+
+    public synchronized void putStory(final UUID storyId, final String title) {
+        removeStory(storyId);
+        if (isBlank(title)) return;
+        String display = title.strip();
+        storyTitles.put(storyId, display);
+        // 제목 중간 단어로도 찾을 수 있도록 단어마다 키를 만듦
+        wordStarts(display).forEach(key -> trie.add(truncate(key), display));
+    }
+
+    public synchronized void removeStory(final UUID storyId) {
+        String display = storyTitles.remove(storyId);
+        if (display != null) wordStarts(display).forEach(key -> trie.remove(truncate(key), display));
+    }
+
+    public synchronized void putNickname(final UUID memberId, final String nickname) {
+        String previous = nicknames.remove(memberId);
+        if (previous != null) trie.remove(indexKey(previous), previous);
+        if (isBlank(nickname)) return;
+        String display = nickname.strip();
+        nicknames.put(memberId, display);
+        trie.add(indexKey(display), display);
+    }
+
+    public synchronized void addKeyword(final UUID memberId, final String contents) {
+        if (isBlank(contents)) return;
+        String display = contents.strip();
+        keywords.computeIfAbsent(memberId, id -> new HashMap<>()).putIfAbsent(display, HangulJamo.decompose(display));
+    }
+
+    public synchronized void removeKeyword(final UUID memberId, final String contents) {
+        if (isBlank(contents)) return;
+        String display = contents.strip();
+        Map<String, String> memberKeywords = keywords.get(memberId);
+        if (memberKeywords == null || memberKeywords.remove(display) == null) return;
+        if (memberKeywords.isEmpty()) keywords.remove(memberId);
+    }
+
+    public synchronized void removeKeywords(final UUID memberId) {
+        keywords.remove(memberId);
+    }
+
+    private List<String> wordStarts(final String title) {
+        String[] words = title.split("\\s+");
+        List<String> keys = new ArrayList<>(words.length);
+        for (int i = 0; i < words.length; i++) {
+            keys.add(HangulJamo.decompose(String.join(" ", Arrays.asList(words).subList(i, words.length))));
+        }
+        return keys;
+    }
+
+    private String indexKey(final String display) {
+        return truncate(HangulJamo.decompose(display));
+    }
+
+    private String truncate(final String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,58 @@
+package com.owori.domain.keyword.suggest;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절을 자모로 풀어서 입력 중인 음절도 앞부분이 맞으면 찾을 수 있도록 함
+ * 겹받침과 이중 모음도 기본 자모로 나눠서 '갑' 으로 '가방', '고' 로 '과일' 을 찾을 수 있음
+ */
+public final class HangulJamo {
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char COMPATIBILITY_BEGIN = 'ㄱ';
+    private static final char COMPATIBILITY_END = 'ㅣ';
+
+    private static final String[] INITIALS = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 호환 자모(ㄱ ~ ㅣ)를 입력한 경우의 기본 자모, 겹자모만 둘로 나뉨
+    private static final String[] COMPATIBILITY = {
+            "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄸ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅃ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ",
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 앞뒤 공백을 지우고 소문자로 바꾼 뒤 한글은 자모로 풀기
+     */
+    public static String decompose(final String text) {
+        String normalized = text.strip().toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(INITIALS[index / 588])
+                        .append(MEDIALS[index % 588 / 28])
+                        .append(FINALS[index % 28]);
+            } else if (c >= COMPATIBILITY_BEGIN && c <= COMPATIBILITY_END) {
+                builder.append(COMPATIBILITY[c - COMPATIBILITY_BEGIN]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
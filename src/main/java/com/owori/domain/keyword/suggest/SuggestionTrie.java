@@ -0,0 +1,206 @@
+package com.owori.domain.keyword.suggest;
+
+import java.util.*;
+
+/**
+ * 자모로 푼 검색어를 공통 접두사끼리 한 간선으로 합친 접두사 트리
+ * 키마다 보여 줄 검색어와 출처 수를 담고, 노드마다 아래에 있는 검색어 중 상위 capacity 개를 미리 골라 둔다
+ * 조회는 접두사 노드를 찾아 골라 둔 목록을 그대로 돌려주므로 하위 트리를 돌지 않는다
+ */
+public class SuggestionTrie {
+    // 여러 곳에 나온 검색어, 짧은 검색어 순
+    private static final Comparator<Ranked> ORDER = Comparator.comparingInt(Ranked::score).reversed()
+            .thenComparingInt((Ranked ranked) -> ranked.display().length())
+            .thenComparing(Ranked::display);
+
+    private final int capacity;
+    private final Node root = new Node("");
+
+    public SuggestionTrie(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void add(final String key, final String display) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            path.add(node);
+            Node child = node.children.get(key.charAt(index));
+            if (child == null) {
+                child = new Node(key.substring(index));
+                node.children.put(key.charAt(index), child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) child = split(node, child, common);
+            node = child;
+            index += common;
+        }
+        path.add(node);
+        int score = node.suggestions().merge(display, 1, Integer::sum);
+
+        // 점수는 늘기만 하므로 경로의 노드마다 새 점수를 넣어 보기만 하면 된다
+        Ranked ranked = new Ranked(display, score);
+        path.forEach(current -> offer(current.top, ranked));
+    }
+
+    public void remove(final String key, final String display) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) return;
+            path.push(node);
+            node = child;
+            index += child.label.length();
+        }
+        if (node.suggestions == null) return;
+        Integer score = node.suggestions.get(display);
+        if (score == null) return;
+        if (score > 1) node.suggestions.put(display, score - 1);
+        else node.suggestions.remove(display);
+        if (node.suggestions.isEmpty()) node.suggestions = null;
+
+        // 점수가 줄면 밀려났던 검색어가 올라올 수 있어 경로의 노드를 아래에서부터 다시 고른다
+        List<Node> ancestors = List.copyOf(path);
+        compact(node, path);
+        rank(node);
+        ancestors.forEach(this::rank);
+    }
+
+    /**
+     * 접두사로 시작하는 검색어를 여러 곳에 나온 검색어, 짧은 검색어 순으로 최대 capacity 개 찾기
+     */
+    public List<String> find(final String prefix, final int limit) {
+        Node node = locate(prefix);
+        if (node == null || limit <= 0) return List.of();
+        return node.top.stream().limit(limit).map(Ranked::display).toList();
+    }
+
+    /**
+     * 키에 담긴 검색어의 출처 수
+     */
+    public int count(final String key, final String display) {
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) return 0;
+            node = child;
+            index += child.label.length();
+        }
+        return node.suggestions == null ? 0 : node.suggestions.getOrDefault(display, 0);
+    }
+
+    public boolean isEmpty() {
+        return root.children.isEmpty() && root.suggestions == null;
+    }
+
+    private Node locate(final String prefix) {
+        Node node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(index));
+            if (child == null) return null;
+            int common = commonPrefixLength(child.label, prefix, index);
+            // 접두사가 간선 중간에서 끝나면 그 간선 아래가 모두 후보
+            if (index + common == prefix.length()) return child;
+            if (common < child.label.length()) return null;
+            node = child;
+            index += common;
+        }
+        return node;
+    }
+
+    private Node split(final Node parent, final Node child, final int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top.addAll(child.top);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * 검색어가 없어진 노드를 지우고, 자식이 하나뿐인 빈 노드는 자식과 합쳐 트리를 압축된 상태로 유지
+     */
+    private void compact(final Node node, final Deque<Node> path) {
+        Node current = node;
+        while (!path.isEmpty() && current.suggestions == null) {
+            Node parent = path.pop();
+            if (current.children.isEmpty()) {
+                parent.children.remove(current.label.charAt(0));
+                current = parent;
+                continue;
+            }
+            if (current.children.size() == 1) merge(current);
+            return;
+        }
+    }
+
+    private void merge(final Node node) {
+        Node child = node.children.values().iterator().next();
+        node.label = node.label + child.label;
+        node.children.clear();
+        node.children.putAll(child.children);
+        node.suggestions = child.suggestions;
+    }
+
+    /**
+     * 노드의 검색어와 자식들이 골라 둔 목록으로 노드의 상위 목록을 다시 고르기
+     * 하위 트리의 상위 검색어는 반드시 어느 자식의 상위 목록에 있으므로 자식 목록만 보면 된다
+     */
+    private void rank(final Node node) {
+        Map<String, Integer> scores = new HashMap<>();
+        if (node.suggestions != null) scores.putAll(node.suggestions);
+        node.children.values().forEach(child -> child.top.forEach(ranked -> scores.merge(ranked.display(), ranked.score(), Math::max)));
+        node.top.clear();
+        scores.forEach((display, score) -> node.top.add(new Ranked(display, score)));
+        node.top.sort(ORDER);
+        while (node.top.size() > capacity) node.top.remove(node.top.size() - 1);
+    }
+
+    private void offer(final List<Ranked> top, final Ranked ranked) {
+        // 제목은 단어마다 키를 만들기 때문에 같은 검색어가 여러 번 나올 수 있어 가장 높은 점수만 남김
+        for (int i = 0; i < top.size(); i++) {
+            if (!top.get(i).display().equals(ranked.display())) continue;
+            if (top.get(i).score() >= ranked.score()) return;
+            top.remove(i);
+            break;
+        }
+        int position = Collections.binarySearch(top, ranked, ORDER);
+        top.add(position < 0 ? -position - 1 : position, ranked);
+        if (top.size() > capacity) top.remove(top.size() - 1);
+    }
+
+    private int commonPrefixLength(final String label, final String key, final int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) i++;
+        return i;
+    }
+
+    private record Ranked(String display, int score) {
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        // 출처가 여러 개인 검색어는 출처 수만큼 점수를 가짐
+        private Map<String, Integer> suggestions;
+        // 하위 트리 전체에서 점수 순으로 고른 검색어
+        private final List<Ranked> top = new ArrayList<>(2);
+
+        private Node(final String label) {
+            this.label = label;
+        }
+
+        private Map<String, Integer> suggestions() {
+            if (suggestions == null) suggestions = new HashMap<>(2);
+            return suggestions;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.owori.domain.member.entity;
+
+/**
+ * 탈퇴한 회원의 데이터를 지우는 순서
+ * 이야기를 먼저 지워서 이야기에 달린 다른 가족의 댓글, 좋아요도 함께 정리하고, 회원 정보는 마지막에 익명화한다
+ */
+public enum ErasureStep {
+    STORY,
+    COMMENT,
+    HEART,
+    SAYING,
+    SAYING_TAG,
+    KEYWORD,
+    SCHEDULE,
+    CALENDAR_FEED,
+    PROFILE,
+    DONE;
+
+    public ErasureStep next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
@@ -1,10 +1,10 @@
 package com.owori.domain.member.entity;
 
 import com.owori.domain.family.entity.Family;
-import com.owori.domain.saying.entity.Saying;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
@@ -12,6 +12,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import javax.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Getter
@@ -22,8 +23,8 @@ import java.util.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member implements Auditable {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -42,6 +43,9 @@ public class Member implements Auditable {
     @ManyToOne(fetch = FetchType.LAZY)
     private Family family;
 
+    // 현재 가족에 들어온 시각
+    private LocalDateTime joinedAt;
+
     @JoinColumn
     @Enumerated(EnumType.STRING)
     @ElementCollection(fetch = FetchType.EAGER)
@@ -53,8 +57,9 @@ public class Member implements Auditable {
     @Enumerated(EnumType.STRING)
     private EmotionalBadge emotionalBadge = EmotionalBadge.NONE;
 
-    @OneToOne(mappedBy = "member", fetch = FetchType.LAZY)
-    private Saying saying;
+    // 읽지 않은 알림 수, 엔티티 저장이 오래된 값으로 덮어쓰지 않도록 알림을 보내거나 읽을 때 update 로만 바꾼다
+    @Column(nullable = false, updatable = false)
+    private int unreadNotificationCount;
 
     @Setter
     @Embedded
@@ -74,23 +79,29 @@ public class Member implements Auditable {
     public void generateColor() {
         if (family == null) return;
         List<Color> familyColors = family.getMembers().stream().filter(m -> m.getId() != null && !m.getId().equals(this.id)).map(Member::getColor).toList();
-        updateColor(Color.getNextColor(familyColors));
+        updateColor(Color.getNextColor(familyColors), getFamilyColors());
+    }
+
+    /**
+     * 다른 구성원들의 색상을 받아서 가족 구성원 엔티티를 불러오지 않고 색상 정하기
+     */
+    public void generateColor(List<Color> otherMemberColors) {
+        this.color = Color.getNextColor(otherMemberColors);
     }
 
-    private void updateColor(Color color) {
-        Set<Member> familyMembers = this.family.getMembers();
-        if (hasNoDuplicateColor(familyMembers) && hasSameColor(color, familyMembers)) {
+    private List<Color> getFamilyColors() {
+        return this.family.getMembers().stream().map(Member::getColor).toList();
+    }
+
+    private void updateColor(Color color, List<Color> familyColors) {
+        if (hasNoDuplicateColor(familyColors) && familyColors.contains(color)) {
             return;
         }
         this.color = color;
     }
 
-    private boolean hasNoDuplicateColor(Set<Member> familyMembers) {
-        return familyMembers.size() <= Color.values().length;
-    }
-
-    private boolean hasSameColor(Color color, Set<Member> familyMembers) {
-        return familyMembers.stream().map(Member::getColor).anyMatch(color::equals);
+    private boolean hasNoDuplicateColor(List<Color> familyColors) {
+        return familyColors.size() <= Color.values().length;
     }
 
     public List<SimpleGrantedAuthority> getRole() {
@@ -99,17 +110,31 @@ public class Member implements Auditable {
 
     public void organizeFamily(Family family) {
         this.family = family;
+        this.joinedAt = LocalDateTime.now();
         generateColor();
     }
 
+    public void organizeFamily(Family family, List<Color> otherMemberColors) {
+        this.family = family;
+        this.joinedAt = LocalDateTime.now();
+        generateColor(otherMemberColors);
+    }
+
     public void updateProfileImage(String profileImage) {
         this.profileImage = profileImage;
     }
 
     public void updateProfile(String nickname, LocalDate birthday, Color color) {
+        updateProfile(nickname, birthday, color, getFamilyColors());
+    }
+
+    /**
+     * 본인을 포함한 가족 구성원들의 색상을 받아서 프로필 수정
+     */
+    public void updateProfile(String nickname, LocalDate birthday, Color color, List<Color> familyColors) {
         this.nickname = nickname;
         this.birthday = birthday;
-        updateColor(color);
+        updateColor(color, familyColors);
     }
 
     public boolean isServiceMember() {
@@ -119,8 +144,4 @@ public class Member implements Auditable {
     public void updateEmotionalBadge(EmotionalBadge emotionalBadge) {
         this.emotionalBadge = emotionalBadge;
     }
-
-    public void addSaying(Saying saying) {
-        this.saying = saying;
-    }
 }
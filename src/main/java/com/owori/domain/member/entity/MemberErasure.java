@@ -0,0 +1,93 @@
+package com.owori.domain.member.entity;
+
+import com.owori.global.audit.AuditListener;
+import com.owori.global.audit.Auditable;
+import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 탈퇴한 회원의 데이터 삭제 작업과 진행 위치
+ * 묶음을 처리할 때마다 현재 단계와 마지막으로 처리한 id 를 저장해서 서버가 재시작되어도 이어서 처리한다
+ * 작업을 가져간 서버는 claimToken 과 claimedUntil 로 선점하고, 기한이 지나면 다른 서버가 다시 가져간다
+ */
+@Getter
+@Entity
+@EntityListeners(AuditListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_member_erasure_pending", columnList = "completed_at, id"),
+        @Index(name = "idx_member_erasure_claim_token", columnList = "claim_token")
+})
+public class MemberErasure implements Auditable {
+    @Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID memberId;
+
+    // 탈퇴 당시 가족, 데이터를 지운 뒤 가족 캐시를 비우는 데 사용
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID familyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ErasureStep step = ErasureStep.STORY;
+
+    // 현재 단계에서 마지막으로 처리한 행의 id, 단계가 바뀌면 비운다
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID lastId;
+
+    private LocalDateTime completedAt;
+
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID claimToken;
+
+    private LocalDateTime claimedUntil;
+
+    @Setter
+    @Embedded
+    @Column(nullable = false)
+    private BaseTime baseTime;
+
+    public MemberErasure(UUID memberId, UUID familyId) {
+        this.memberId = memberId;
+        this.familyId = familyId;
+    }
+
+    public void advance(UUID lastId) {
+        this.lastId = lastId;
+    }
+
+    public void nextStep() {
+        this.step = step.next();
+        this.lastId = null;
+        if (step == ErasureStep.DONE) this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isClaimedBy(UUID claimToken) {
+        return claimToken.equals(this.claimToken);
+    }
+
+    // 묶음을 처리할 때마다 선점 기한을 늘려서 오래 걸리는 작업을 다른 서버가 가져가지 않게 함
+    public void extendClaim(LocalDateTime claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public void release() {
+        this.claimToken = null;
+        this.claimedUntil = null;
+    }
+
+    public boolean isCompleted() {
+        return step == ErasureStep.DONE;
+    }
+}
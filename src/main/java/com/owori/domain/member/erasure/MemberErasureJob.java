@@ -0,0 +1,235 @@
+package com.owori.domain.member.erasure;
+
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.image.event.ImagesRemoved;
+import com.owori.domain.keyword.suggest.FamilySuggestionCache;
+import com.owori.domain.member.entity.EmotionalBadge;
+import com.owori.domain.member.entity.ErasureStep;
+import com.owori.domain.member.entity.MemberErasure;
+import com.owori.domain.member.home.FamilyHomeCache;
+import com.owori.domain.member.repository.MemberErasureRepository;
+import com.owori.domain.schedule.cache.FamilyScheduleCache;
+import com.owori.global.event.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 탈퇴한 회원이 작성한 데이터를 단계별로 작은 묶음씩 지우는 작업
+ * 묶음마다 id 순서로 처리할 행을 고르고, 고른 행만 일괄 수정한 뒤 진행 위치를 같은 트랜잭션에서 저장한다
+ * 한 번에 잠그는 행은 묶음 크기를 넘지 않고, 이미지 삭제는 같은 트랜잭션에서 이벤트로 남겨 커밋 이후에 S3 에 요청한다
+ * 작업은 아웃박스처럼 토큰과 기한으로 선점해서 여러 서버가 같은 작업을 함께 처리하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberErasureJob {
+    private static final int CLAIM_SIZE = 20;
+
+    private final MemberErasureRepository memberErasureRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FamilyScheduleCache familyScheduleCache;
+    private final FamilyHomeCache familyHomeCache;
+    private final FamilySuggestionCache familySuggestionCache;
+    private final FamilyChangeRecorder familyChangeRecorder;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Value("${app.member.erasure.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.member.erasure.batch-pause-millis:100}")
+    private long batchPauseMillis;
+
+    // 선점한 서버가 내려가면 이 시간이 지난 뒤 다른 서버가 이어서 처리한다, 묶음마다 다시 늘린다
+    @Value("${app.member.erasure.claim-seconds:300}")
+    private long claimSeconds;
+
+    /**
+     * 끝나지 않은 삭제 작업을 요청 순서대로 처리
+     *
+     * @return 끝낸 작업 수
+     */
+    public int erasePending() {
+        UUID claimToken = UUID.randomUUID();
+        List<UUID> erasureIds = transactionTemplate.execute(status -> claim(claimToken));
+        int completed = 0;
+        for (UUID erasureId : erasureIds) {
+            if (erase(erasureId, claimToken)) completed++;
+            if (Thread.currentThread().isInterrupted()) break;
+        }
+        // 중단해서 손대지 못한 작업도 선점을 풀어 다른 서버가 바로 가져가게 함
+        erasureIds.forEach(erasureId -> transactionTemplate.executeWithoutResult(status -> memberErasureRepository.release(erasureId, claimToken)));
+        return completed;
+    }
+
+    private List<UUID> claim(final UUID claimToken) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = memberErasureRepository.findClaimableIds(now, PageRequest.of(0, CLAIM_SIZE));
+        if (ids.isEmpty()) return List.of();
+        memberErasureRepository.claim(ids, claimToken, now, now.plusSeconds(claimSeconds));
+        return memberErasureRepository.findAllByClaimTokenOrderByIdAsc(claimToken).stream().map(MemberErasure::getId).toList();
+    }
+
+    private boolean erase(final UUID erasureId, final UUID claimToken) {
+        Boolean completed;
+        do {
+            completed = transactionTemplate.execute(status -> eraseBatch(erasureId, claimToken));
+        } while (Boolean.FALSE.equals(completed) && pause());
+        return Boolean.TRUE.equals(completed);
+    }
+
+    /**
+     * @return 작업을 끝냈으면 true, 남았으면 false, 선점 기한이 지나 다른 서버가 가져갔으면 null
+     */
+    private Boolean eraseBatch(final UUID erasureId, final UUID claimToken) {
+        MemberErasure erasure = memberErasureRepository.findById(erasureId).orElseThrow();
+        if (erasure.isCompleted()) return true;
+        if (!erasure.isClaimedBy(claimToken)) return null;
+
+        List<String> objectUrls = new ArrayList<>();
+        ErasureStep step = erasure.getStep();
+        List<UUID> ids = switch (step) {
+            case STORY -> eraseStories(erasure, objectUrls);
+            case COMMENT -> softDelete(erasure, "Comment", "member");
+            case HEART -> softDelete(erasure, "Heart", "member");
+            case SAYING -> eraseSayings(erasure);
+            case SAYING_TAG -> softDelete(erasure, "SayingTagMember", "member");
+            case KEYWORD -> softDelete(erasure, "Keyword", "member");
+            case SCHEDULE -> eraseSchedules(erasure);
+            case CALENDAR_FEED -> softDelete(erasure, "CalendarFeed", "member");
+            case PROFILE -> anonymizeProfile(erasure, objectUrls);
+            case DONE -> List.of();
+        };
+
+        if (ids.size() < batchSize) erasure.nextStep();
+        else erasure.advance(ids.get(ids.size() - 1));
+        evictFamilyCaches(erasure.getFamilyId());
+        recordDeleted(erasure.getFamilyId(), step, ids);
+        if (!objectUrls.isEmpty()) domainEventPublisher.publish(new ImagesRemoved(erasure.getMemberId(), objectUrls));
+        if (erasure.isCompleted()) erasure.release();
+        else erasure.extendClaim(LocalDateTime.now().plusSeconds(claimSeconds));
+        return erasure.isCompleted();
+    }
+
+    // 이야기와 이야기에 달린 이미지, 댓글, 좋아요
+    private List<UUID> eraseStories(final MemberErasure erasure, final List<String> objectUrls) {
+        List<UUID> ids = findOwnedIds(erasure, "Story", "member");
+        if (ids.isEmpty()) return ids;
+        objectUrls.addAll(em.createQuery("select i.url from Image i where i.story.id in :ids", String.class)
+                .setParameter("ids", ids)
+                .getResultList());
+        softDeleteBy("Image", "story.id", ids);
+        softDeleteBy("Comment", "story.id", ids);
+        softDeleteBy("Heart", "story.id", ids);
+        softDeleteBy("Story", "id", ids);
+        return ids;
+    }
+
+    // 서로에게 한마디와 한마디의 태그
+    private List<UUID> eraseSayings(final MemberErasure erasure) {
+        List<UUID> ids = findOwnedIds(erasure, "Saying", "member");
+        if (ids.isEmpty()) return ids;
+        softDeleteBy("SayingTagMember", "saying.id", ids);
+        softDeleteBy("Saying", "id", ids);
+        return ids;
+    }
+
+    // 일정과 일정의 발송 대기 알람, 회차 예외
+    private List<UUID> eraseSchedules(final MemberErasure erasure) {
+        List<UUID> ids = findOwnedIds(erasure, "Schedule", "member");
+        if (ids.isEmpty()) return ids;
+        softDeleteBy("ScheduleAlarm", "schedule.id", ids);
+        softDeleteBy("ScheduleOccurrenceOverride", "schedule.id", ids);
+        softDeleteBy("Schedule", "id", ids);
+        return ids;
+    }
+
+    private List<UUID> softDelete(final MemberErasure erasure, final String entity, final String owner) {
+        List<UUID> ids = findOwnedIds(erasure, entity, owner);
+        if (!ids.isEmpty()) softDeleteBy(entity, "id", ids);
+        return ids;
+    }
+
+    // 닉네임, 생일, 프로필 사진, 로그인 정보를 지우고 탈퇴한 회원 행만 남긴다
+    private List<UUID> anonymizeProfile(final MemberErasure erasure, final List<String> objectUrls) {
+        // 탈퇴한 회원은 @Where 로 걸러지므로 직접 조회
+        List<?> profileImages = em.createNativeQuery("select profile_image from member where id = :id")
+                .setParameter("id", erasure.getMemberId())
+                .getResultList();
+        profileImages.stream().filter(Objects::nonNull).forEach(profileImage -> objectUrls.add((String) profileImage));
+        em.createQuery("update Member m set m.nickname = null, m.birthday = null, m.profileImage = null, m.refreshToken = null,"
+                        + " m.emotionalBadge = :emotionalBadge, m.oAuth2Info.clientId = :clientId where m.id = :id")
+                .setParameter("emotionalBadge", EmotionalBadge.NONE)
+                .setParameter("clientId", "erased:" + erasure.getMemberId())
+                .setParameter("id", erasure.getMemberId())
+                .executeUpdate();
+        return List.of();
+    }
+
+    // 지워지지 않은 행만 보이므로 지운 행은 다음 묶음에서 다시 고르지 않는다
+    private List<UUID> findOwnedIds(final MemberErasure erasure, final String entity, final String owner) {
+        String jpql = "select e.id from " + entity + " e where e." + owner + ".id = :memberId"
+                + (erasure.getLastId() == null ? "" : " and e.id > :lastId")
+                + " order by e.id";
+        var query = em.createQuery(jpql, UUID.class)
+                .setParameter("memberId", erasure.getMemberId())
+                .setMaxResults(batchSize);
+        if (erasure.getLastId() != null) query.setParameter("lastId", erasure.getLastId());
+        return query.getResultList();
+    }
+
+    private void softDeleteBy(final String entity, final String path, final List<UUID> ids) {
+        em.createQuery("update " + entity + " e set e.baseTime.deletedAt = :deletedAt"
+                        + " where e." + path + " in :ids and e.baseTime.deletedAt is null")
+                .setParameter("deletedAt", LocalDateTime.now())
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    // 동기화하는 가족 구성원의 기기에서도 지워지도록 단계별로 지운 대상을 변경 기록에 남긴다
+    private void recordDeleted(final UUID familyId, final ErasureStep step, final List<UUID> ids) {
+        if (familyId == null || ids.isEmpty()) return;
+        FamilyChangeType type = switch (step) {
+            case STORY -> FamilyChangeType.STORY_DELETED;
+            case COMMENT -> FamilyChangeType.COMMENT_DELETED;
+            case SAYING -> FamilyChangeType.SAYING_DELETED;
+            case SCHEDULE -> FamilyChangeType.SCHEDULE_DELETED;
+            default -> null;
+        };
+        if (type == null) return;
+        Family family = em.getReference(Family.class, familyId);
+        familyChangeRecorder.recordAll(family, type, ids);
+    }
+
+    private void evictFamilyCaches(final UUID familyId) {
+        if (familyId == null) return;
+        Family family = em.getReference(Family.class, familyId);
+        familyScheduleCache.evict(family);
+        familyHomeCache.evict(family);
+        familySuggestionCache.evict(family);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.owori.domain.member.erasure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴 요청 이후 남은 데이터 삭제 작업을 주기적으로 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberErasureScheduler {
+    private final MemberErasureJob memberErasureJob;
+
+    @Scheduled(fixedDelayString = "${app.member.erasure.interval:60000}")
+    public void erasePending() {
+        int completed = memberErasureJob.erasePending();
+        if (completed > 0) log.info("탈퇴 회원 데이터 삭제 {}건 완료", completed);
+    }
+}
@@ -0,0 +1,64 @@
+package com.owori.domain.member.home;
+
+import com.owori.domain.member.dto.response.MemberProfileResponse;
+import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가족 단위로 미리 만들어 둔 홈 화면 데이터, 조회하는 사람과 상관없는 값만 담는다
+ * 불변 객체이고 변경은 바뀐 부분만 교체한 새 객체로 한다
+ */
+@Getter
+@AllArgsConstructor
+public class FamilyHome {
+    private final String familyGroupName;
+    private final List<String> familyImages;
+    // 닉네임 순
+    private final List<MemberProfileResponse> memberProfiles;
+    private final List<SayingByFamilyResponse> familySayings;
+    // dDayDate 기준으로 계산한 디데이, 일정이 바뀌면 null 이 되고 다음 조회 때 다시 계산한다
+    private final LocalDate dDayDate;
+    private final List<ScheduleDDayResponse> ddaySchedules;
+
+    public boolean hasDDaysOf(LocalDate nowDate) {
+        return ddaySchedules != null && nowDate.equals(dDayDate);
+    }
+
+    public FamilyHome withDDays(LocalDate nowDate, List<ScheduleDDayResponse> ddaySchedules) {
+        return new FamilyHome(familyGroupName, familyImages, memberProfiles, familySayings, nowDate, List.copyOf(ddaySchedules));
+    }
+
+    public FamilyHome withoutDDays() {
+        return new FamilyHome(familyGroupName, familyImages, memberProfiles, familySayings, null, null);
+    }
+
+    public FamilyHome withFamily(String familyGroupName, List<String> familyImages) {
+        return new FamilyHome(familyGroupName, List.copyOf(familyImages), memberProfiles, familySayings, dDayDate, ddaySchedules);
+    }
+
+    public FamilyHome withMemberProfile(MemberProfileResponse memberProfile) {
+        List<MemberProfileResponse> profiles = new ArrayList<>(memberProfiles);
+        profiles.removeIf(profile -> profile.getId().equals(memberProfile.getId()));
+        profiles.add(memberProfile);
+        profiles.sort(Comparator.comparing(MemberProfileResponse::getNickname, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new FamilyHome(familyGroupName, familyImages, List.copyOf(profiles), familySayings, dDayDate, ddaySchedules);
+    }
+
+    /**
+     * memberId 가 쓴 서로에게 한마디 교체, saying 이 null 이면 삭제
+     */
+    public FamilyHome withSaying(UUID memberId, SayingByFamilyResponse saying) {
+        List<SayingByFamilyResponse> sayings = new ArrayList<>(familySayings);
+        sayings.removeIf(familySaying -> familySaying.getMemberId().equals(memberId));
+        if (saying != null) sayings.add(saying);
+        return new FamilyHome(familyGroupName, familyImages, memberProfiles, List.copyOf(sayings), dDayDate, ddaySchedules);
+    }
+}
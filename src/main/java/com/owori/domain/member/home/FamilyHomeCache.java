@@ -0,0 +1,112 @@
+package com.owori.domain.member.home;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.roster.FamilyRosterCache;
+import com.owori.domain.member.dto.response.MemberProfileResponse;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.mapper.MemberMapper;
+import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.mapper.SayingMapper;
+import com.owori.domain.saying.repository.SayingRepository;
+import com.owori.domain.schedule.cache.FamilyScheduleCache;
+import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
+import com.owori.domain.schedule.mapper.ScheduleMapper;
+import com.owori.global.cache.FamilyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * 가족 단위 홈 화면 데이터를 보관하는 메모리 캐시
+ * 처음 조회할 때 가족 이름, 사진, 구성원 프로필, 서로에게 한마디를 한 번 불러오고
+ * 이후 일정, 서로에게 한마디, 프로필, 감정 뱃지 변경은 커밋 이후에 바뀐 부분만 교체한다
+ * 디데이는 일정 캐시에서 날짜가 바뀌거나 일정이 바뀌었을 때만 다시 계산한다
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyHomeCache extends FamilyCache<FamilyHome> {
+    private final SayingRepository sayingRepository;
+    private final SayingMapper sayingMapper;
+    private final MemberMapper memberMapper;
+    private final FamilyScheduleCache familyScheduleCache;
+    private final FamilyRosterCache familyRosterCache;
+    private final ScheduleMapper scheduleMapper;
+
+    @Value("${app.home.cache.max-families:10000}")
+    private int maxFamilies;
+
+    public FamilyHome find(final Family family) {
+        LocalDate nowDate = LocalDate.now();
+        // 디데이가 오늘 기준이 아니면 캐시에 있던 데이터에 디데이만 다시 계산
+        return find(family.getId(), home -> home.hasDDaysOf(nowDate),
+                stale -> (stale == null ? load(family) : stale).withDDays(nowDate, findDDay(family, nowDate)));
+    }
+
+    private FamilyHome load(final Family family) {
+        List<MemberProfileResponse> memberProfiles = familyRosterCache.find(family).getMembers().stream()
+                .map(memberMapper::toProfileResponse)
+                .sorted(Comparator.comparing(MemberProfileResponse::getNickname, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        List<Saying> sayings = sayingRepository.findAllModifiableByFamily(family);
+        return new FamilyHome(family.getFamilyGroupName(), List.copyOf(family.getImages()), memberProfiles,
+                sayingMapper.toResponseList(sayings, sayingRepository.findAllTagMembersBySayings(sayings)), null, null);
+    }
+
+    private List<ScheduleDDayResponse> findDDay(final Family family, final LocalDate nowDate) {
+        return scheduleMapper.toDDayResponseList(familyScheduleCache.findDDay(family, nowDate), nowDate);
+    }
+
+    /**
+     * 프로필(닉네임, 사진, 감정 뱃지, 색상) 교체, 디데이에 담긴 닉네임과 색상도 바뀌므로 디데이는 다시 계산한다
+     */
+    public void refreshMember(final Member member) {
+        if (member.getFamily() == null) return;
+        MemberProfileResponse memberProfile = memberMapper.toProfileResponse(member);
+        write(member.getFamily(), home -> home.withMemberProfile(memberProfile).withoutDDays());
+    }
+
+    /**
+     * 회원의 현재 서로에게 한마디 교체, saying 이 null 이면 삭제
+     */
+    public void refreshSaying(final Member member, final Saying saying) {
+        if (member.getFamily() == null) return;
+        UUID familyId = member.getFamily().getId();
+        UUID memberId = member.getId();
+        // 수정 시각은 flush 때 기록되므로 커밋 이후에 응답 객체로 만든다
+        afterCommit(() -> {
+            SayingByFamilyResponse response = saying == null ? null : sayingMapper.toResponse(saying);
+            update(familyId, home -> home.withSaying(memberId, response));
+        });
+    }
+
+    public void refreshFamily(final Family family) {
+        if (family == null) return;
+        String familyGroupName = family.getFamilyGroupName();
+        List<String> familyImages = List.copyOf(family.getImages());
+        write(family, home -> home.withFamily(familyGroupName, familyImages));
+    }
+
+    /**
+     * 일정이 바뀌었을 때 디데이 비우기, 일정 캐시 반영 이후에 실행되도록 일정 캐시 갱신 다음에 호출해야 한다
+     */
+    public void refreshDDays(final Family family) {
+        if (family == null) return;
+        write(family, FamilyHome::withoutDDays);
+    }
+
+    // 변경 내용은 트랜잭션 안에서 응답 객체로 만들어 두고, 커밋 이후에는 교체만 한다
+    private void write(final Family family, final UnaryOperator<FamilyHome> mutation) {
+        UUID familyId = family.getId();
+        afterCommit(() -> update(familyId, mutation));
+    }
+
+    @Override
+    protected long capacity() {
+        return maxFamilies;
+    }
+}
@@ -1,7 +1,7 @@
 package com.owori.domain.member.mapper;
 
 import com.owori.config.security.jwt.JwtToken;
-import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.roster.RosterMember;
 import com.owori.domain.member.dto.request.MemberRequest;
 import com.owori.domain.member.dto.response.MemberColorResponse;
 import com.owori.domain.member.dto.response.MemberHomeResponse;
@@ -10,13 +10,10 @@ import com.owori.domain.member.dto.response.MemberProfileResponse;
 import com.owori.domain.member.entity.Color;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.entity.OAuth2Info;
-import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
-import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
+import com.owori.domain.member.home.FamilyHome;
 import org.springframework.stereotype.Component;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -36,29 +33,27 @@ public class MemberMapper {
                 .build();
     }
 
-    public MemberHomeResponse toHomeResponse(Member nowMember, List<ScheduleDDayResponse> dDayByFamilyResponses, List<SayingByFamilyResponse> sayingResponses) {
-        Family family = nowMember.getFamily();
+    public MemberHomeResponse toHomeResponse(Member nowMember, FamilyHome familyHome) {
         return MemberHomeResponse.builder()
-                .familyGroupName(family.getFamilyGroupName())
-                .memberProfiles(toProfileResponseList(nowMember, family.getMembers()))
-                .ddaySchedules(dDayByFamilyResponses)
-                .familyImages(family.getImages())
-                .familySayings(sayingResponses)
+                .familyGroupName(familyHome.getFamilyGroupName())
+                .memberProfiles(toProfileResponseList(nowMember, familyHome.getMemberProfiles()))
+                .ddaySchedules(familyHome.getDdaySchedules())
+                .familyImages(familyHome.getFamilyImages())
+                .familySayings(familyHome.getFamilySayings())
                 .build();
     }
 
-    private List<MemberProfileResponse> toProfileResponseList(Member nowMember, Set<Member> members) {
-        members.removeIf(member -> member.equals(nowMember));
-        // 닉네임순으로 정렬
-        List<Member> familyMembers = members.stream().sorted(Comparator.comparing(Member::getNickname)).toList();
-        MemberProfileResponse memberProfileResponse = toProfileResponse(nowMember);
-        List<MemberProfileResponse> memberProfileResponseList = familyMembers.stream().map(this::toProfileResponse).collect(Collectors.toList());
+    private List<MemberProfileResponse> toProfileResponseList(Member nowMember, List<MemberProfileResponse> familyProfiles) {
+        // 가족 프로필은 닉네임순으로 정렬되어 있음
+        List<MemberProfileResponse> memberProfileResponseList = familyProfiles.stream()
+                .filter(profile -> !profile.getId().equals(nowMember.getId()))
+                .collect(Collectors.toList());
         // 본인이 맨 앞으로 정렬
-        memberProfileResponseList.add(0, memberProfileResponse);
+        memberProfileResponseList.add(0, toProfileResponse(nowMember));
         return memberProfileResponseList;
     }
 
-    private MemberProfileResponse toProfileResponse(Member member) {
+    public MemberProfileResponse toProfileResponse(Member member) {
         return MemberProfileResponse.builder()
                 .id(member.getId())
                 .nickname(member.getNickname())
@@ -67,11 +62,20 @@ public class MemberMapper {
                 .build();
     }
 
-    public MemberColorResponse toColorResponse(Set<Member> familyMembers) {
-        if (familyMembers.size() >= 7) {
+    public MemberProfileResponse toProfileResponse(RosterMember member) {
+        return MemberProfileResponse.builder()
+                .id(member.getMemberId())
+                .nickname(member.getNickname())
+                .profileImage(member.getProfileImage())
+                .emotionalBadge(member.getEmotionalBadge())
+                .build();
+    }
+
+    public MemberColorResponse toColorResponse(List<Color> familyColors) {
+        if (familyColors.size() >= 7) {
             return defaultColorResponse();
         }
-        return toColorResponseWithFamilyColors(familyMembers.stream().map(Member::getColor).toList());
+        return toColorResponseWithFamilyColors(familyColors);
     }
 
     private MemberColorResponse toColorResponseWithFamilyColors(List<Color> familyColors) {
@@ -0,0 +1,33 @@
+package com.owori.domain.member.repository;
+
+import com.owori.domain.member.entity.MemberErasure;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaMemberErasureRepository extends JpaRepository<MemberErasure, UUID>, MemberErasureRepository {
+    // 끝나지 않았고 다른 서버가 선점하지 않았거나 선점 기한이 지난 작업
+    @Override
+    @Query("select e.id from MemberErasure e where e.completedAt is null"
+            + " and (e.claimedUntil is null or e.claimedUntil < :now) order by e.id")
+    List<UUID> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MemberErasure e set e.claimToken = :claimToken, e.claimedUntil = :claimedUntil"
+            + " where e.id in :ids and e.completedAt is null and (e.claimedUntil is null or e.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<UUID> ids, @Param("claimToken") UUID claimToken,
+              @Param("now") LocalDateTime now, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MemberErasure e set e.claimToken = null, e.claimedUntil = null where e.id = :id and e.claimToken = :claimToken")
+    int release(@Param("id") UUID id, @Param("claimToken") UUID claimToken);
+}
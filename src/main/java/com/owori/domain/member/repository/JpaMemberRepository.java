@@ -1,5 +1,7 @@
 package com.owori.domain.member.repository;
 
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.roster.RosterMember;
 import com.owori.domain.member.entity.AuthProvider;
 import com.owori.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,4 +25,15 @@ public interface JpaMemberRepository extends JpaRepository<Member, UUID>, Member
 
     @Query("SELECT m.refreshToken FROM Member m WHERE m.id = :id")
     String findRefreshTokenById(UUID id);
+
+    @Query("SELECT new com.owori.domain.family.roster.RosterMember(m.id, m.nickname, m.color, m.profileImage, m.emotionalBadge) " +
+            "FROM Member m WHERE m.family = :family ORDER BY m.nickname")
+    List<RosterMember> findRosterByFamily(Family family);
+
+    @Query("SELECT m.unreadNotificationCount FROM Member m WHERE m.id = :id")
+    int findUnreadNotificationCount(UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE member SET unread_notification_count = GREATEST(unread_notification_count - :count, 0) WHERE id = :id", nativeQuery = true)
+    void decreaseUnreadNotificationCount(UUID id, int count);
 }
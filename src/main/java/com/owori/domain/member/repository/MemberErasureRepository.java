@@ -0,0 +1,19 @@
+package com.owori.domain.member.repository;
+
+import com.owori.domain.member.entity.MemberErasure;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MemberErasureRepository {
+    MemberErasure save(MemberErasure memberErasure);
+    Optional<MemberErasure> findById(UUID id);
+    List<UUID> findClaimableIds(LocalDateTime now, Pageable pageable);
+    int claim(Collection<UUID> ids, UUID claimToken, LocalDateTime now, LocalDateTime claimedUntil);
+    List<MemberErasure> findAllByClaimTokenOrderByIdAsc(UUID claimToken);
+    int release(UUID id, UUID claimToken);
+}
@@ -1,5 +1,7 @@
 package com.owori.domain.member.repository;
 
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.roster.RosterMember;
 import com.owori.domain.member.entity.AuthProvider;
 import com.owori.domain.member.entity.Member;
 
@@ -14,4 +16,7 @@ public interface MemberRepository {
     void updateRefreshToken(UUID id, String refreshToken);
     String findRefreshTokenById(UUID id);
     List<Member> findAllByIdIn(List<UUID> memberIds);
+    List<RosterMember> findRosterByFamily(Family family);
+    int findUnreadNotificationCount(UUID id);
+    void decreaseUnreadNotificationCount(UUID id, int count);
 }
@@ -8,15 +8,20 @@ import com.owori.domain.member.dto.request.MemberDetailsRequest;
 import com.owori.domain.member.dto.request.MemberProfileRequest;
 import com.owori.domain.member.dto.request.MemberRequest;
 import com.owori.domain.member.dto.response.*;
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
+import com.owori.domain.family.roster.FamilyRosterCache;
+import com.owori.domain.keyword.suggest.FamilySuggestionCache;
 import com.owori.domain.member.entity.AuthProvider;
+import com.owori.domain.member.entity.Color;
 import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.entity.MemberErasure;
 import com.owori.domain.member.exception.NoSuchProfileImageException;
+import com.owori.domain.member.home.FamilyHomeCache;
 import com.owori.domain.member.mapper.MemberMapper;
+import com.owori.domain.member.repository.MemberErasureRepository;
 import com.owori.domain.member.repository.MemberRepository;
-import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
-import com.owori.domain.saying.mapper.SayingMapper;
-import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
-import com.owori.domain.schedule.service.ScheduleService;
+import com.owori.domain.schedule.cache.FamilyScheduleCache;
 import com.owori.global.dto.ImageResponse;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.service.EntityLoader;
@@ -34,10 +39,14 @@ public class MemberService implements EntityLoader<Member, UUID> {
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
     private final AuthService authService;
-    private final SayingMapper sayingMapper;
-    private final ScheduleService scheduleService;
     private final S3ImageComponent s3ImageComponent;
     private final KakaoMemberClient kakaoMemberClient;
+    private final FamilyScheduleCache familyScheduleCache;
+    private final FamilyHomeCache familyHomeCache;
+    private final FamilyRosterCache familyRosterCache;
+    private final FamilySuggestionCache familySuggestionCache;
+    private final MemberErasureRepository memberErasureRepository;
+    private final FamilyChangeRecorder familyChangeRecorder;
 
     @Override
     public Member loadEntity(final UUID id) {
@@ -88,9 +97,15 @@ public class MemberService implements EntityLoader<Member, UUID> {
 
     @Transactional
     public MemberValidateResponse updateMemberDetails(final MemberDetailsRequest memberDetailsRequest) {
-        authService.getLoginUser().update(
+        Member member = authService.getLoginUser();
+        member.update(
                 memberDetailsRequest.getNickname(),
                 memberDetailsRequest.getBirthday());
+        familyRosterCache.refresh(member);
+        familyScheduleCache.evict(member.getFamily());
+        familyHomeCache.refreshMember(member);
+        familySuggestionCache.refreshMember(member);
+        familyChangeRecorder.record(member.getFamily(), FamilyChangeType.MEMBER_UPDATED, member.getId());
 
         return new MemberValidateResponse(Boolean.TRUE);
     }
@@ -98,7 +113,11 @@ public class MemberService implements EntityLoader<Member, UUID> {
     @Transactional
     public ImageResponse updateMemberProfileImage(final MultipartFile profileImage) {
         String profileImageUrl = uploadImage(profileImage);
-        authService.getLoginUser().updateProfileImage(profileImageUrl);
+        Member member = authService.getLoginUser();
+        member.updateProfileImage(profileImageUrl);
+        familyRosterCache.refresh(member);
+        familyHomeCache.refreshMember(member);
+        familyChangeRecorder.record(member.getFamily(), FamilyChangeType.MEMBER_UPDATED, member.getId());
         return new ImageResponse(profileImageUrl);
     }
 
@@ -115,12 +134,31 @@ public class MemberService implements EntityLoader<Member, UUID> {
         member.updateProfile(
                 memberProfileRequest.getNickname(),
                 memberProfileRequest.getBirthday(),
-                memberProfileRequest.getColor());
+                memberProfileRequest.getColor(),
+                getFamilyColors(member));
+        familyRosterCache.refresh(member);
+        familyScheduleCache.evict(member.getFamily());
+        familyHomeCache.refreshMember(member);
+        familySuggestionCache.refreshMember(member);
+        familyChangeRecorder.record(member.getFamily(), FamilyChangeType.MEMBER_UPDATED, member.getId());
+    }
+
+    private List<Color> getFamilyColors(final Member member) {
+        if (member.getFamily() == null) return List.of();
+        return familyRosterCache.find(member.getFamily()).getColors();
     }
 
     @Transactional
     public void deleteMember() {
-        authService.getLoginUser().delete();
+        Member member = authService.getLoginUser();
+        member.delete();
+        // 작성한 데이터는 삭제 작업이 묶음 단위로 나눠서 지운다
+        memberErasureRepository.save(new MemberErasure(member.getId(), member.getFamily() == null ? null : member.getFamily().getId()));
+        familyRosterCache.evict(member.getFamily());
+        familyScheduleCache.evict(member.getFamily());
+        familyHomeCache.evict(member.getFamily());
+        familySuggestionCache.evict(member.getFamily());
+        familyChangeRecorder.record(member.getFamily(), FamilyChangeType.MEMBER_LEFT, member.getId());
     }
 
     /**
@@ -135,16 +173,18 @@ public class MemberService implements EntityLoader<Member, UUID> {
 
     @Transactional
     public void updateEmotionalBadge(final EmotionalBadgeRequest emotionalBadgeRequest) {
-        authService.getLoginUser().updateEmotionalBadge(emotionalBadgeRequest.getEmotionalBadge());
+        Member member = authService.getLoginUser();
+        member.updateEmotionalBadge(emotionalBadgeRequest.getEmotionalBadge());
+        familyRosterCache.refresh(member);
+        familyHomeCache.refreshMember(member);
+        familyChangeRecorder.record(member.getFamily(), FamilyChangeType.MEMBER_UPDATED, member.getId());
     }
 
     @Transactional(readOnly = true)
     public MemberHomeResponse findHomeData() {
         Member nowMember = authService.getLoginUser();
-        List<ScheduleDDayResponse> dDayByFamilyResponses = scheduleService.findDDayByFamily();
-        List<SayingByFamilyResponse> sayingResponses = nowMember.getFamily().getMembers().stream()
-                .map(Member::getSaying).filter(Objects::nonNull).map(sayingMapper::toResponse).toList();
-        return memberMapper.toHomeResponse(nowMember, dDayByFamilyResponses, sayingResponses);
+        // 가족 공통 데이터는 캐시에서 받고 본인 프로필만 현재 값으로 덮어쓰기
+        return memberMapper.toHomeResponse(nowMember, familyHomeCache.find(nowMember.getFamily()));
     }
 
     @Transactional(readOnly = true)
@@ -157,8 +197,7 @@ public class MemberService implements EntityLoader<Member, UUID> {
     @Transactional(readOnly = true)
     public MemberColorResponse getEnableColor() {
         Member loginUser = authService.getLoginUser();
-        Set<Member> familyMembers = loginUser.getFamily().getMembers();
-        familyMembers.removeIf(loginUser::equals);
-        return memberMapper.toColorResponse(familyMembers);
+        List<Color> familyColors = familyRosterCache.find(loginUser.getFamily()).getColorsExcept(loginUser.getId());
+        return memberMapper.toColorResponse(familyColors);
     }
 }
@@ -0,0 +1,54 @@
+package com.owori.domain.notification.controller;
+
+import com.owori.domain.notification.dto.response.NotificationGroupResponse;
+import com.owori.domain.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/notifications")
+public class NotificationController {
+    private final NotificationService notificationService;
+
+    /**
+     * 로그인 유저의 알림을 최근 활동순으로 조회합니다.
+     * @param pageable 조회할 개수입니다.
+     * @param lastOccurredAt 이전 페이지 마지막 알림의 활동 시각입니다. 첫 페이지는 비워둡니다.
+     * @param lastNotificationId 이전 페이지 마지막 알림의 id 입니다. 첫 페이지는 비워둡니다.
+     * @return 알림 목록과 다음 페이지 여부, 읽지 않은 알림 수를 반환합니다.
+     */
+    @GetMapping
+    public ResponseEntity<NotificationGroupResponse> findNotifications(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false, value = "last_occurred_at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastOccurredAt,
+            @RequestParam(required = false, value = "last_notification_id") UUID lastNotificationId) {
+        return ResponseEntity.ok(notificationService.findNotifications(pageable, lastOccurredAt, lastNotificationId));
+    }
+
+    /**
+     * 알림 하나를 읽음으로 표시합니다.
+     * @param notificationId 읽은 알림 id 입니다.
+     */
+    @PostMapping("/{notificationId}/read")
+    public ResponseEntity<Void> readNotification(@PathVariable UUID notificationId) {
+        notificationService.readNotification(notificationId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 로그인 유저의 알림을 모두 읽음으로 표시합니다.
+     */
+    @PostMapping("/read-all")
+    public ResponseEntity<Void> readAllNotifications() {
+        notificationService.readAllNotifications();
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.owori.domain.notification.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class NotificationGroupResponse {
+    private List<NotificationResponse> notifications;
+    private Boolean hasNext;
+    private Integer unreadCount;
+}
@@ -0,0 +1,26 @@
+package com.owori.domain.notification.dto.response;
+
+import com.owori.domain.notification.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+    private UUID notificationId;
+    private NotificationType type;
+    private UUID storyId;
+    private String storyTitle;
+    private UUID lastActorId;
+    private String lastActorNickname;
+    // 마지막 활동을 한 사람을 포함한 인원 수, 2 이상이면 "오월이님 외 1명" 으로 표시
+    private Integer actorCount;
+    private LocalDateTime occurredAt;
+    // 읽지 않았으면 null
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,58 @@
+package com.owori.domain.notification.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 구성원 한 명의 알림함에 담긴 알림
+ * 읽지 않은 알림이 있는 이야기에 같은 종류의 활동이 또 생기면 새 행을 만들지 않고 인원 수와 마지막 활동만 바꾼다
+ * 묶인 사람은 notification_actor 에 남기고 처음 활동한 사람일 때만 인원 수를 늘린다
+ * 행은 NotificationFanout 이 여러 행을 한 번에 저장하므로 엔티티는 조회에만 쓴다
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_notification_inbox", columnList = "recipient_id, occurred_at"),
+        @Index(name = "idx_notification_coalesce", columnList = "recipient_id, story_id, notification_type, read_at")
+})
+public class Notification {
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false)
+    private NotificationType type;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID storyId;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID lastActorId;
+
+    // 묶인 활동을 한 서로 다른 사람 수
+    @Column(nullable = false)
+    private int actorCount;
+
+    // 마지막으로 묶인 활동 시각, 알림함은 이 순서로 읽는다
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime readAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+}
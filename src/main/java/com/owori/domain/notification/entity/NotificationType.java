@@ -0,0 +1,9 @@
+package com.owori.domain.notification.entity;
+
+/**
+ * 알림 종류, 같은 이야기의 같은 종류 알림은 읽기 전까지 하나로 묶인다
+ */
+public enum NotificationType {
+    COMMENT,
+    HEART
+}
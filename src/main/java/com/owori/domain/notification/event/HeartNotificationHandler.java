@@ -0,0 +1,40 @@
+package com.owori.domain.notification.event;
+
+import com.owori.domain.heart.event.HeartToggled;
+import com.owori.domain.notification.push.NotificationPush;
+import com.owori.domain.notification.push.NotificationPushSink;
+import com.owori.domain.notification.service.NotificationService;
+import com.owori.global.event.DomainEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 커밋된 좋아요를 알림함에 남기고 푸시를 보낸다
+ * 다시 전달되어도 마지막 활동한 사람이 같으면 묶인 인원 수가 늘지 않고, 푸시 실패로는 다시 전달하지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartNotificationHandler implements DomainEventHandler<HeartToggled> {
+    private final NotificationService notificationService;
+    private final NotificationPushSink notificationPushSink;
+
+    @Override
+    public Class<HeartToggled> getEventType() {
+        return HeartToggled.class;
+    }
+
+    @Override
+    public void handle(HeartToggled event) {
+        List<NotificationPush> pushes = notificationService.notifyHeart(event);
+        if (pushes.isEmpty()) return;
+        try {
+            notificationPushSink.send(pushes);
+        } catch (RuntimeException e) {
+            log.warn("알림 푸시 실패 {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.owori.domain.notification.fanout;
+
+import com.owori.domain.notification.entity.NotificationType;
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 활동 하나를 받는 사람 전체의 알림함에 한 번에 반영
+ * 받는 사람 수만큼 문장을 보내지 않고, 묶을 알림 조회, 묶을 알림 일괄 수정, 새 알림 여러 행 삽입, 읽지 않은 수 일괄 증가로 처리한다
+ * 알림마다 활동한 사람을 notification_actor 에 남겨서, 처음 활동한 사람일 때만 인원 수를 늘린다
+ * 같은 이야기의 이벤트는 디스패처가 하나씩 순서대로 넘기므로 같은 알림 행을 동시에 만들지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationFanout {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 삽입 한 문장에 담는 최대 행 수
+    @Value("${app.notification.insert-batch-size:500}")
+    private int insertBatchSize;
+
+    /**
+     * @return 알림을 받은 사람별 묶인 인원 수
+     */
+    public Map<UUID, Integer> fanOut(final NotificationType type, final UUID storyId, final UUID actorId,
+                                     final List<UUID> recipientIds, final LocalDateTime occurredAt) {
+        if (recipientIds.isEmpty()) return Map.of();
+
+        Map<UUID, UUID> coalesced = findUnreadNotifications(type, storyId, recipientIds);
+        if (!coalesced.isEmpty()) coalesce(actorId, List.copyOf(coalesced.values()), occurredAt);
+
+        List<UUID> fresh = recipientIds.stream().filter(recipientId -> !coalesced.containsKey(recipientId)).toList();
+        for (int from = 0; from < fresh.size(); from += insertBatchSize) {
+            insert(type, storyId, actorId, fresh.subList(from, Math.min(from + insertBatchSize, fresh.size())), occurredAt);
+        }
+        // 묶인 알림은 이미 읽지 않은 수에 들어 있으므로 새로 만든 알림만 센다
+        if (!fresh.isEmpty()) increaseUnreadCount(fresh);
+
+        return findActorCounts(type, storyId, recipientIds);
+    }
+
+    /**
+     * @return 받는 사람별 묶을 읽지 않은 알림 id
+     */
+    private Map<UUID, UUID> findUnreadNotifications(final NotificationType type, final UUID storyId, final List<UUID> recipientIds) {
+        List<Object> args = new ArrayList<>(List.of(toBytes(storyId), type.name()));
+        recipientIds.forEach(recipientId -> args.add(toBytes(recipientId)));
+        Map<UUID, UUID> notifications = new HashMap<>();
+        jdbcTemplate.query("select recipient_id, id from notification where story_id = ? and notification_type = ?"
+                        + " and read_at is null and recipient_id in (" + placeholders(recipientIds.size()) + ") for update",
+                (RowCallbackHandler) rs -> notifications.put(toUuid(rs.getBytes(1)), toUuid(rs.getBytes(2))), args.toArray());
+        return notifications;
+    }
+
+    // 이미 묶인 사람이 또 활동하면(다시 전달된 이벤트 포함) 인원 수는 그대로 두고 마지막 활동만 바꾼다
+    private void coalesce(final UUID actorId, final List<UUID> notificationIds, final LocalDateTime occurredAt) {
+        byte[] actor = toBytes(actorId);
+        List<Object> args = new ArrayList<>(List.of(actor));
+        notificationIds.forEach(notificationId -> args.add(toBytes(notificationId)));
+        // 묶을 알림 행을 잠근 뒤라 같은 알림에 같은 사람을 동시에 넣지 않는다
+        Set<UUID> joined = new HashSet<>(jdbcTemplate.query("select notification_id from notification_actor where actor_id = ?"
+                        + " and notification_id in (" + placeholders(notificationIds.size()) + ")",
+                (rs, rowNum) -> toUuid(rs.getBytes(1)), args.toArray()));
+        List<UUID> newlyJoined = notificationIds.stream().filter(notificationId -> !joined.contains(notificationId)).toList();
+        if (!newlyJoined.isEmpty()) {
+            insertActors(actorId, newlyJoined);
+            jdbcTemplate.update("update notification set actor_count = actor_count + 1 where id in (" + placeholders(newlyJoined.size()) + ")",
+                    newlyJoined.stream().map(NotificationFanout::toBytes).toArray());
+        }
+
+        List<Object> updateArgs = new ArrayList<>(List.of(actor, occurredAt));
+        notificationIds.forEach(notificationId -> updateArgs.add(toBytes(notificationId)));
+        jdbcTemplate.update("update notification set last_actor_id = ?, occurred_at = ?"
+                + " where id in (" + placeholders(notificationIds.size()) + ")", updateArgs.toArray());
+    }
+
+    private void insert(final NotificationType type, final UUID storyId, final UUID actorId,
+                        final List<UUID> recipientIds, final LocalDateTime occurredAt) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> notificationIds = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        for (UUID recipientId : recipientIds) {
+            UUID notificationId = TimeOrderedUuidGenerator.next();
+            notificationIds.add(notificationId);
+            args.addAll(List.of(toBytes(notificationId), toBytes(recipientId), type.name(),
+                    toBytes(storyId), toBytes(actorId), occurredAt, now));
+        }
+        String values = String.join(", ", Collections.nCopies(recipientIds.size(), "(?, ?, ?, ?, ?, 1, ?, ?)"));
+        jdbcTemplate.update("insert into notification (id, recipient_id, notification_type, story_id, last_actor_id,"
+                + " actor_count, occurred_at, created_at) values " + values, args.toArray());
+        insertActors(actorId, notificationIds);
+    }
+
+    private void insertActors(final UUID actorId, final List<UUID> notificationIds) {
+        byte[] actor = toBytes(actorId);
+        List<Object> args = new ArrayList<>();
+        notificationIds.forEach(notificationId -> args.addAll(List.of(toBytes(notificationId), actor)));
+        jdbcTemplate.update("insert into notification_actor (notification_id, actor_id) values "
+                + String.join(", ", Collections.nCopies(notificationIds.size(), "(?, ?)")), args.toArray());
+    }
+
+    private void increaseUnreadCount(final List<UUID> recipientIds) {
+        jdbcTemplate.update("update member set unread_notification_count = unread_notification_count + 1"
+                        + " where id in (" + placeholders(recipientIds.size()) + ")",
+                recipientIds.stream().map(NotificationFanout::toBytes).toArray());
+    }
+
+    private Map<UUID, Integer> findActorCounts(final NotificationType type, final UUID storyId, final List<UUID> recipientIds) {
+        List<Object> args = new ArrayList<>(List.of(toBytes(storyId), type.name()));
+        recipientIds.forEach(recipientId -> args.add(toBytes(recipientId)));
+        Map<UUID, Integer> actorCounts = new HashMap<>();
+        jdbcTemplate.query("select recipient_id, actor_count from notification where story_id = ? and notification_type = ?"
+                        + " and read_at is null and recipient_id in (" + placeholders(recipientIds.size()) + ")",
+                (RowCallbackHandler) rs -> actorCounts.put(toUuid(rs.getBytes(1)), rs.getInt(2)), args.toArray());
+        return actorCounts;
+    }
+
+    private static String placeholders(final int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private static byte[] toBytes(final UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    private static UUID toUuid(final byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
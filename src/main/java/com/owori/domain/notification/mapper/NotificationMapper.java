@@ -0,0 +1,39 @@
+package com.owori.domain.notification.mapper;
+
+import com.owori.domain.notification.dto.response.NotificationGroupResponse;
+import com.owori.domain.notification.dto.response.NotificationResponse;
+import com.owori.domain.notification.entity.NotificationType;
+import com.owori.domain.notification.push.NotificationPush;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class NotificationMapper {
+    public List<NotificationPush> toPushList(NotificationType type, UUID storyId, String actorNickname, Map<UUID, Integer> actorCounts) {
+        return actorCounts.entrySet().stream()
+                .map(actorCount -> NotificationPush.builder()
+                        .recipientId(actorCount.getKey())
+                        .type(type)
+                        .storyId(storyId)
+                        .message(toMessage(type, actorNickname, actorCount.getValue()))
+                        .build())
+                .toList();
+    }
+
+    // "오월이님이 이야기를 좋아해요", 묶인 알림이면 "오월이님 외 2명이 이야기를 좋아해요"
+    private String toMessage(NotificationType type, String actorNickname, int actorCount) {
+        String actors = actorCount > 1 ? actorNickname + "님 외 " + (actorCount - 1) + "명이" : actorNickname + "님이";
+        return switch (type) {
+            case COMMENT -> actors + " 이야기에 댓글을 남겼어요";
+            case HEART -> actors + " 이야기를 좋아해요";
+        };
+    }
+
+    public NotificationGroupResponse toGroupResponse(Slice<NotificationResponse> notifications, int unreadCount) {
+        return new NotificationGroupResponse(notifications.getContent(), notifications.hasNext(), unreadCount);
+    }
+}
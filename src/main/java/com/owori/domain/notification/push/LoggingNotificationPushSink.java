@@ -0,0 +1,20 @@
+package com.owori.domain.notification.push;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로컬 확인용 푸시 전달 구현, 실제 전달 구현을 @Primary 빈으로 등록하면 대체된다
+ */
+@Slf4j
+@Component
+public class LoggingNotificationPushSink implements NotificationPushSink {
+    private static final String FORMAT = "NOTIFICATION : {}";
+
+    @Override
+    public void send(List<NotificationPush> pushes) {
+        pushes.forEach(push -> log.info(FORMAT, push));
+    }
+}
@@ -0,0 +1,23 @@
+package com.owori.domain.notification.push;
+
+import com.owori.domain.notification.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 구성원 한 명에게 보낼 푸시 하나, 묶인 알림이면 묶인 인원 수를 담는다
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class NotificationPush {
+    private UUID recipientId;
+    private NotificationType type;
+    private UUID storyId;
+    private String message;
+}
@@ -0,0 +1,11 @@
+package com.owori.domain.notification.push;
+
+import java.util.List;
+
+/**
+ * 알림함에 저장된 알림을 기기로 보내는 통로 (푸시, 메시지 등)
+ * 알림함이 원본이므로 보내지 못해도 알림은 남고, 다시 보내지 않는다
+ */
+public interface NotificationPushSink {
+    void send(List<NotificationPush> pushes);
+}
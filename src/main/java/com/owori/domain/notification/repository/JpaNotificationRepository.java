@@ -0,0 +1,21 @@
+package com.owori.domain.notification.repository;
+
+import com.owori.domain.notification.entity.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface JpaNotificationRepository extends JpaRepository<Notification, UUID>, NotificationRepository, NotificationRepositoryCustom {
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("update Notification n set n.readAt = :readAt where n.id = :id and n.recipientId = :recipientId and n.readAt is null")
+    int markRead(UUID id, UUID recipientId, LocalDateTime readAt);
+
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("update Notification n set n.readAt = :readAt where n.recipientId = :recipientId and n.readAt is null")
+    int markAllRead(UUID recipientId, LocalDateTime readAt);
+}
@@ -0,0 +1,10 @@
+package com.owori.domain.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface NotificationRepository extends NotificationRepositoryCustom {
+    int markRead(UUID id, UUID recipientId, LocalDateTime readAt);
+
+    int markAllRead(UUID recipientId, LocalDateTime readAt);
+}
@@ -0,0 +1,18 @@
+package com.owori.domain.notification.repository;
+
+import com.owori.domain.notification.dto.response.NotificationResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationRepositoryCustom {
+    Slice<NotificationResponse> findInbox(UUID recipientId, Pageable pageable, LocalDateTime lastOccurredAt, UUID lastNotificationId);
+
+    /**
+     * 이야기 작성자와 includeCommenters 이면 댓글을 단 사람 중 지금 같은 가족인 사람, 활동한 사람은 빼고 조회
+     */
+    List<UUID> findRecipients(UUID storyId, UUID familyId, UUID actorId, boolean includeCommenters);
+}
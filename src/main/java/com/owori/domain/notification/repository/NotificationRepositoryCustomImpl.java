@@ -0,0 +1,82 @@
+package com.owori.domain.notification.repository;
+
+import com.owori.domain.notification.dto.response.NotificationResponse;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.owori.domain.comment.entity.QComment.comment;
+import static com.owori.domain.member.entity.QMember.member;
+import static com.owori.domain.notification.entity.QNotification.notification;
+import static com.owori.domain.story.entity.QStory.story;
+
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<NotificationResponse> findInbox(UUID recipientId, Pageable pageable, LocalDateTime lastOccurredAt, UUID lastNotificationId) {
+        // 한 페이지의 알림에 대해서만 이야기 제목과 마지막으로 활동한 사람의 닉네임을 붙인다
+        List<NotificationResponse> results = queryFactory
+                .select(Projections.constructor(NotificationResponse.class,
+                        notification.id, notification.type, notification.storyId, story.title,
+                        notification.lastActorId, member.nickname, notification.actorCount,
+                        notification.occurredAt, notification.readAt))
+                .from(notification)
+                .leftJoin(story).on(story.id.eq(notification.storyId))
+                .leftJoin(member).on(member.id.eq(notification.lastActorId))
+                .where(
+                        notification.recipientId.eq(recipientId),
+                        isBefore(lastOccurredAt, lastNotificationId) // no-offset 페이징 처리
+                )
+                .orderBy(notification.occurredAt.desc(), notification.id.desc())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return checkLastPage(pageable, results);
+    }
+
+    @Override
+    public List<UUID> findRecipients(UUID storyId, UUID familyId, UUID actorId, boolean includeCommenters) {
+        BooleanExpression related = member.id.eq(JPAExpressions.select(story.member.id).from(story).where(story.id.eq(storyId)));
+        if (includeCommenters) {
+            related = related.or(member.id.in(JPAExpressions.select(comment.member.id).from(comment).where(comment.story.id.eq(storyId))));
+        }
+        return queryFactory
+                .select(member.id)
+                .from(member)
+                .where(
+                        member.family.id.eq(familyId),
+                        member.id.ne(actorId),
+                        related
+                )
+                .fetch();
+    }
+
+    // 마지막으로 본 알림보다 (활동 시각, id) 가 앞서는 알림, 첫 페이지는 조건 없음
+    private BooleanExpression isBefore(LocalDateTime lastOccurredAt, UUID lastNotificationId) {
+        if (lastOccurredAt == null || lastNotificationId == null) return null;
+        return notification.occurredAt.lt(lastOccurredAt)
+                .or(notification.occurredAt.eq(lastOccurredAt).and(notification.id.lt(lastNotificationId)));
+    }
+
+    private Slice<NotificationResponse> checkLastPage(Pageable pageable, List<NotificationResponse> results) {
+        boolean hasNext = false; // pagesize보다 1 크게 가져와서 다음 페이지가 남았는지 확인
+
+        if (results.size() > pageable.getPageSize()) {
+            hasNext = true;
+            results.remove(pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+}
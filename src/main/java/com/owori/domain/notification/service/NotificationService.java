@@ -0,0 +1,83 @@
+package com.owori.domain.notification.service;
+
+import com.owori.domain.comment.event.CommentAdded;
+import com.owori.domain.heart.event.HeartToggled;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.repository.MemberRepository;
+import com.owori.domain.member.service.AuthService;
+import com.owori.domain.notification.dto.response.NotificationGroupResponse;
+import com.owori.domain.notification.dto.response.NotificationResponse;
+import com.owori.domain.notification.entity.NotificationType;
+import com.owori.domain.notification.fanout.NotificationFanout;
+import com.owori.domain.notification.mapper.NotificationMapper;
+import com.owori.domain.notification.push.NotificationPush;
+import com.owori.domain.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 댓글과 좋아요를 이야기 작성자와 댓글을 단 가족에게 알림으로 남긴다
+ * 같은 이야기의 같은 종류 알림은 읽기 전까지 한 건으로 묶고, 읽지 않은 수는 회원 행에 더하고 빼면서 유지한다
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+    private final AuthService authService;
+    private final NotificationRepository notificationRepository;
+    private final MemberRepository memberRepository;
+    private final NotificationFanout notificationFanout;
+    private final NotificationMapper notificationMapper;
+
+    @Transactional
+    public List<NotificationPush> notifyComment(final CommentAdded event) {
+        return notify(NotificationType.COMMENT, event.storyId(), event.familyId(), event.memberId(), event.occurredAt());
+    }
+
+    @Transactional
+    public List<NotificationPush> notifyHeart(final HeartToggled event) {
+        // 좋아요 취소는 알리지 않고, 이미 남은 알림도 그대로 둔다
+        if (!event.hearted()) return List.of();
+        return notify(NotificationType.HEART, event.storyId(), event.familyId(), event.memberId(), event.occurredAt());
+    }
+
+    private List<NotificationPush> notify(final NotificationType type, final UUID storyId, final UUID familyId, final UUID actorId,
+                                          final LocalDateTime occurredAt) {
+        if (familyId == null) return List.of();
+        List<UUID> recipientIds = notificationRepository.findRecipients(storyId, familyId, actorId, type == NotificationType.COMMENT);
+        if (recipientIds.isEmpty()) return List.of();
+
+        Map<UUID, Integer> actorCounts = notificationFanout.fanOut(type, storyId, actorId, recipientIds, occurredAt);
+        String actorNickname = memberRepository.findById(actorId).map(Member::getNickname).orElse(null);
+        return notificationMapper.toPushList(type, storyId, actorNickname, actorCounts);
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationGroupResponse findNotifications(final Pageable pageable, final LocalDateTime lastOccurredAt, final UUID lastNotificationId) {
+        UUID memberId = authService.getLoginUserId();
+        Slice<NotificationResponse> notifications = notificationRepository.findInbox(memberId, pageable, lastOccurredAt, lastNotificationId);
+        return notificationMapper.toGroupResponse(notifications, memberRepository.findUnreadNotificationCount(memberId));
+    }
+
+    @Transactional
+    public void readNotification(final UUID notificationId) {
+        UUID memberId = authService.getLoginUserId();
+        // 이미 읽었거나 다른 회원의 알림이면 바뀌는 행이 없다
+        int read = notificationRepository.markRead(notificationId, memberId, LocalDateTime.now());
+        if (read > 0) memberRepository.decreaseUnreadNotificationCount(memberId, read);
+    }
+
+    @Transactional
+    public void readAllNotifications() {
+        UUID memberId = authService.getLoginUserId();
+        int read = notificationRepository.markAllRead(memberId, LocalDateTime.now());
+        if (read > 0) memberRepository.decreaseUnreadNotificationCount(memberId, read);
+    }
+}
@@ -3,14 +3,19 @@ package com.owori.domain.saying.controller;
 import com.owori.domain.saying.dto.request.AddSayingRequest;
 import com.owori.domain.saying.dto.request.UpdateSayingRequest;
 import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.saying.dto.response.SayingHistoryGroupResponse;
 import com.owori.domain.saying.dto.response.SayingIdResponse;
 import com.owori.domain.saying.service.SayingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -59,4 +64,36 @@ public class SayingController {
     public ResponseEntity<List<SayingByFamilyResponse>> findSayingByFamily() {
         return ResponseEntity.ok(sayingService.findSayingByFamily());
     }
+
+    /**
+     * 로그인 유저가 포함된 가족의 이전 서로에게 한마디까지 최신순으로 조회합니다.
+     * @param pageable 조회할 개수입니다.
+     * @param lastCreatedAt 이전 페이지 마지막 서로에게 한마디의 작성 시각입니다. 첫 페이지는 비워둡니다.
+     * @param lastSayingId 이전 페이지 마지막 서로에게 한마디의 id 입니다. 첫 페이지는 비워둡니다.
+     * @return 서로에게 한마디 기록과 다음 페이지 여부를 반환합니다.
+     */
+    @GetMapping("/history")
+    public ResponseEntity<SayingHistoryGroupResponse> findSayingHistoryByFamily(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false, value = "last_created_at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @RequestParam(required = false, value = "last_saying_id") UUID lastSayingId) {
+        return ResponseEntity.ok(sayingService.findSayingHistoryByFamily(pageable, lastCreatedAt, lastSayingId));
+    }
+
+    /**
+     * 같은 가족 구성원 한 명의 이전 서로에게 한마디까지 최신순으로 조회합니다.
+     * @param memberId 조회할 구성원 id 입니다.
+     * @param pageable 조회할 개수입니다.
+     * @param lastCreatedAt 이전 페이지 마지막 서로에게 한마디의 작성 시각입니다. 첫 페이지는 비워둡니다.
+     * @param lastSayingId 이전 페이지 마지막 서로에게 한마디의 id 입니다. 첫 페이지는 비워둡니다.
+     * @return 서로에게 한마디 기록과 다음 페이지 여부를 반환합니다.
+     */
+    @GetMapping("/history/{memberId}")
+    public ResponseEntity<SayingHistoryGroupResponse> findSayingHistoryByMember(
+            @PathVariable UUID memberId,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false, value = "last_created_at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @RequestParam(required = false, value = "last_saying_id") UUID lastSayingId) {
+        return ResponseEntity.ok(sayingService.findSayingHistoryByMember(memberId, pageable, lastCreatedAt, lastSayingId));
+    }
 }
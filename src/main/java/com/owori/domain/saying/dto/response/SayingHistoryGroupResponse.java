@@ -0,0 +1,15 @@
+package com.owori.domain.saying.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SayingHistoryGroupResponse {
+    private List<SayingHistoryResponse> sayings;
+    private Boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.owori.domain.saying.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SayingHistoryResponse {
+    private UUID sayingId;
+    private UUID memberId;
+    private String content;
+    // 현재 서로에게 한마디 여부
+    private Boolean modifiable;
+    private LocalDateTime createdAt;
+}
@@ -1,27 +1,33 @@
 package com.owori.domain.saying.entity;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Getter
 @Entity
 @Where(clause = "deleted_at is null")
 @EntityListeners(AuditListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_saying_member_modifiable", columnList = "member_id, modifiable"),
+        // 회원별 이전 서로에게 한마디 조회의 no-offset 페이징 (작성 시각, id) 순서, 조회 컬럼까지 담은 커버링 인덱스
+        @Index(name = "idx_saying_member_history", columnList = "member_id, deleted_at, created_at, id, modifiable, content")
+})
 public class Saying implements Auditable {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -29,10 +35,16 @@ public class Saying implements Auditable {
     @Column(nullable = false, length = 50)
     private String content;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    // 수정하거나 삭제한 이전 서로에게 한마디도 남아 있으므로 회원당 여러 건
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn
     private Member member;
 
+    // 작성 당시 작성자의 가족, 가족 단위 조회를 작성자 조인 없이 처리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Family family;
+
     // 태그 기능
     @OneToMany(mappedBy = "saying", cascade = CascadeType.ALL)
     private List<SayingTagMember> tagMembers = new ArrayList<>();
@@ -48,7 +60,8 @@ public class Saying implements Auditable {
     @Builder
     public Saying(String content, Member member, List<Member> tagMembers) {
         this.content = content;
-        organizeMember(member);
+        this.member = member;
+        this.family = member.getFamily();
         organizeTagMembers(tagMembers);
     }
 
@@ -60,21 +73,28 @@ public class Saying implements Auditable {
     private void organizeTagMembers(List<Member> tagMembers) {
         this.tagMembers = tagMembers.stream()
                 .map(tagMember -> new SayingTagMember(this, tagMember))
-                .toList();
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    private void organizeMember(Member member) {
-        this.member = member;
-        this.member.addSaying(this);
+    private void change(List<Member> tagMembers) {
+        Map<UUID, Member> newTagMembers = new LinkedHashMap<>();
+        tagMembers.forEach(tagMember -> newTagMembers.putIfAbsent(tagMember.getId(), tagMember));
+
+        // 태그에서 빠진 멤버만 삭제하고 그대로 남은 멤버는 기존 태그 유지
+        this.tagMembers.removeIf(tag -> {
+            if (newTagMembers.remove(tag.getMember().getId()) != null) return false;
+            tag.delete();
+            return true;
+        });
+        // 새로 태그된 멤버들 추가
+        newTagMembers.values().forEach(tagMember -> this.tagMembers.add(new SayingTagMember(this, tagMember)));
     }
 
-    private void change(List<Member> tagMembers) {
-        // 기존에 있던거 삭제
-        this.tagMembers.forEach(SayingTagMember::delete);
-        // 새로운 태그된 멤버들 추가
-        this.tagMembers = tagMembers.stream()
-                .map(tagMember -> new SayingTagMember(this, tagMember))
-                .toList();
+    /**
+     * 새 서로에게 한마디를 작성해서 이전 서로에게 한마디가 된 경우, 삭제하지 않고 기록으로 남긴다
+     */
+    public void retire() {
+        this.modifiable = Boolean.FALSE;
     }
 
     public void changeModifiable() {
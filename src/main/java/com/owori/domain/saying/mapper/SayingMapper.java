@@ -2,14 +2,19 @@ package com.owori.domain.saying.mapper;
 
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.saying.dto.response.SayingHistoryGroupResponse;
+import com.owori.domain.saying.dto.response.SayingHistoryResponse;
 import com.owori.domain.saying.entity.Saying;
 import com.owori.domain.saying.entity.SayingTagMember;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class SayingMapper {
@@ -21,22 +26,36 @@ public class SayingMapper {
                 .build();
     }
 
-    public List<SayingByFamilyResponse> toResponseList(List<Saying> sayingList) {
+    /**
+     * 따로 조회한 태그로 응답 생성, 서로에게 한마디마다 태그 컬렉션을 초기화하지 않는다
+     */
+    public List<SayingByFamilyResponse> toResponseList(List<Saying> sayingList, List<SayingTagMember> tagMembers) {
+        Map<UUID, List<UUID>> tagMembersIdBySaying = tagMembers.stream()
+                .collect(Collectors.groupingBy(tagMember -> tagMember.getSaying().getId(),
+                        Collectors.mapping(tagMember -> tagMember.getMember().getId(), Collectors.toList())));
         return sayingList.stream()
-                .map(this::toResponse)
+                .map(saying -> toResponse(saying, tagMembersIdBySaying.getOrDefault(saying.getId(), List.of())))
                 .toList();
     }
 
     public SayingByFamilyResponse toResponse(Saying saying) {
+        return toResponse(saying, getTagMembersId(saying));
+    }
+
+    private SayingByFamilyResponse toResponse(Saying saying, List<UUID> tagMembersId) {
         return SayingByFamilyResponse.builder()
                 .sayingId(saying.getId())
                 .content(saying.getContent())
                 .memberId(saying.getMember().getId())
-                .tagMembersId(getTagMembersId(saying))
+                .tagMembersId(tagMembersId)
                 .updatedAt(getUpdatedAt(saying))
                 .build();
     }
 
+    public SayingHistoryGroupResponse toHistoryGroupResponse(Slice<SayingHistoryResponse> sayings) {
+        return new SayingHistoryGroupResponse(sayings.getContent(), sayings.hasNext());
+    }
+
     private LocalDateTime getUpdatedAt(Saying saying) {
         return Optional.ofNullable(saying.getBaseTime().getUpdatedAt()).orElse(saying.getBaseTime().getCreatedAt());
     }
@@ -1,11 +1,23 @@
 package com.owori.domain.saying.repository;
 
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
 import com.owori.domain.saying.entity.Saying;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
-public interface JpaSayingRepository extends JpaRepository<Saying, UUID>, SayingRepository {
-
+public interface JpaSayingRepository extends JpaRepository<Saying, UUID>, SayingRepository, SayingRepositoryCustom {
+    @Override
+    @Query("select s.id from Saying s where s.member = :member")
+    List<UUID> findAllIdsByMember(@Param("member") Member member);
 
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("update Saying s set s.family = :family where s.member = :member")
+    int updateFamilyByMember(@Param("member") Member member, @Param("family") Family family);
 }
@@ -1,15 +1,20 @@
 package com.owori.domain.saying.repository;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.saying.entity.Saying;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface SayingRepository {
+public interface SayingRepository extends SayingRepositoryCustom {
 
     Optional<Saying> findById(UUID uuid);
+    List<Saying> findAllByIdIn(List<UUID> ids);
     Saying save(Saying saying);
     Optional<Saying> findByMemberAndModifiable(Member member, Boolean modifiable);
+    List<UUID> findAllIdsByMember(Member member);
+    int updateFamilyByMember(Member member, Family family);
 
 }
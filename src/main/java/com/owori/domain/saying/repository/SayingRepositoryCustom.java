@@ -0,0 +1,26 @@
+package com.owori.domain.saying.repository;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.saying.dto.response.SayingHistoryResponse;
+import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.entity.SayingTagMember;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface SayingRepositoryCustom {
+    // 가족 구성원들의 현재 서로에게 한마디를 한 번에 넘겨주기
+    List<Saying> findAllModifiableByFamily(Family family);
+
+    // 서로에게 한마디들의 태그를 한 번에 넘겨주기, 태그된 멤버는 id 만 사용하므로 함께 조회하지 않음
+    List<SayingTagMember> findAllTagMembersBySayings(List<Saying> sayings);
+
+    // 멤버들이 작성한 이전 서로에게 한마디를 포함해서 (작성 시각, id) 기준 최신순으로 넘겨주기
+    Slice<SayingHistoryResponse> findHistoryByMembers(List<UUID> memberIds, Pageable pageable, LocalDateTime lastCreatedAt, UUID lastSayingId);
+
+    // 가족 안에서 작성된 이전 서로에게 한마디를 포함해서 (작성 시각, id) 기준 최신순으로 넘겨주기
+    Slice<SayingHistoryResponse> findHistoryByFamily(Family family, Pageable pageable, LocalDateTime lastCreatedAt, UUID lastSayingId);
+}
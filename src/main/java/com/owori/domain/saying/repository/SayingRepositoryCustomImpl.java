@@ -0,0 +1,91 @@
+package com.owori.domain.saying.repository;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.saying.dto.response.SayingHistoryResponse;
+import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.entity.SayingTagMember;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.owori.domain.saying.entity.QSaying.saying;
+import static com.owori.domain.saying.entity.QSayingTagMember.sayingTagMember;
+
+@RequiredArgsConstructor
+public class SayingRepositoryCustomImpl implements SayingRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Saying> findAllModifiableByFamily(Family family) {
+        return queryFactory
+                .selectFrom(saying)
+                .where(
+                        saying.family.eq(family)
+                                .and(saying.modifiable.isTrue())
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<SayingTagMember> findAllTagMembersBySayings(List<Saying> sayings) {
+        if (sayings.isEmpty()) return List.of();
+        return queryFactory
+                .selectFrom(sayingTagMember)
+                .where(sayingTagMember.saying.in(sayings))
+                .fetch();
+    }
+
+    @Override
+    public Slice<SayingHistoryResponse> findHistoryByMembers(List<UUID> memberIds, Pageable pageable, LocalDateTime lastCreatedAt, UUID lastSayingId) {
+        return findHistory(saying.member.id.in(memberIds), pageable, lastCreatedAt, lastSayingId);
+    }
+
+    @Override
+    public Slice<SayingHistoryResponse> findHistoryByFamily(Family family, Pageable pageable, LocalDateTime lastCreatedAt, UUID lastSayingId) {
+        // 작성 당시의 가족 기준, 가족을 옮긴 구성원의 이전 가족 기록은 포함하지 않음
+        return findHistory(saying.family.eq(family), pageable, lastCreatedAt, lastSayingId);
+    }
+
+    private Slice<SayingHistoryResponse> findHistory(BooleanExpression owner, Pageable pageable, LocalDateTime lastCreatedAt, UUID lastSayingId) {
+        // 회원 연관관계는 외래키만 읽어서 엔티티를 만들지 않음
+        List<SayingHistoryResponse> results = queryFactory
+                .select(Projections.constructor(SayingHistoryResponse.class,
+                        saying.id, saying.member.id, saying.content, saying.modifiable, saying.baseTime.createdAt))
+                .from(saying)
+                .where(
+                        owner,
+                        isBefore(lastCreatedAt, lastSayingId) // no-offset 페이징 처리
+                )
+                .orderBy(saying.baseTime.createdAt.desc(), saying.id.desc())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return checkLastPage(pageable, results);
+    }
+
+    // 마지막으로 본 서로에게 한마디보다 (작성 시각, id) 가 앞서는 서로에게 한마디, 첫 페이지는 조건 없음
+    private BooleanExpression isBefore(LocalDateTime lastCreatedAt, UUID lastSayingId) {
+        if (lastCreatedAt == null || lastSayingId == null) return null;
+        return saying.baseTime.createdAt.lt(lastCreatedAt)
+                .or(saying.baseTime.createdAt.eq(lastCreatedAt).and(saying.id.lt(lastSayingId)));
+    }
+
+    private Slice<SayingHistoryResponse> checkLastPage(Pageable pageable, List<SayingHistoryResponse> results) {
+        boolean hasNext = false; // pagesize보다 1 크게 가져와서 다음 페이지가 남았는지 확인
+
+        if (results.size() > pageable.getPageSize()) {
+            hasNext = true;
+            results.remove(pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+}
@@ -1,12 +1,17 @@
 package com.owori.domain.saying.service;
 
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
 import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.roster.FamilyRosterCache;
 import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.home.FamilyHomeCache;
 import com.owori.domain.member.service.AuthService;
 import com.owori.domain.member.service.MemberService;
 import com.owori.domain.saying.dto.request.AddSayingRequest;
 import com.owori.domain.saying.dto.request.UpdateSayingRequest;
 import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.saying.dto.response.SayingHistoryGroupResponse;
 import com.owori.domain.saying.dto.response.SayingIdResponse;
 import com.owori.domain.saying.entity.Saying;
 import com.owori.domain.saying.mapper.SayingMapper;
@@ -15,9 +20,11 @@ import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.exception.NoAuthorityException;
 import com.owori.global.service.EntityLoader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,18 +36,23 @@ public class SayingService implements EntityLoader<Saying, UUID> {
     private final MemberService memberService;
     private final SayingMapper sayingMapper;
     private final AuthService authService;
+    private final FamilyHomeCache familyHomeCache;
+    private final FamilyRosterCache familyRosterCache;
+    private final FamilyChangeRecorder familyChangeRecorder;
 
     @Transactional
     public SayingIdResponse addSaying(AddSayingRequest request) {
         Member member = authService.getLoginUser();
         List<Member> tagMembers = memberService.findMembersByIds(request.getTagMembersId());
 
-        // 이전 서로에게 한마디 삭제하기
+        // 이전 서로에게 한마디는 기록으로 남기기
         Optional<Saying> oldSaying = sayingRepository.findByMemberAndModifiable(member, Boolean.TRUE);
-        oldSaying.ifPresent(Saying::changeModifiable);
+        oldSaying.ifPresent(Saying::retire);
 
         // 새로운 서로에게 한마디 생성하기
         Saying newSaying = sayingRepository.save(sayingMapper.toEntity(request.getContent(), member, tagMembers));
+        familyHomeCache.refreshSaying(member, newSaying);
+        familyChangeRecorder.record(newSaying.getFamily(), FamilyChangeType.SAYING_CREATED, newSaying.getId());
         return new SayingIdResponse(newSaying.getId());
     }
 
@@ -50,12 +62,16 @@ public class SayingService implements EntityLoader<Saying, UUID> {
 
         // 서로에게 한마디 작성자와 현재 유저가 동일하지 않을 경우 예외처리
         if (!authService.getLoginUser().getId().equals(saying.getMember().getId())) throw new NoAuthorityException();
+        // 기록으로 남은 이전 서로에게 한마디는 수정할 수 없음
+        if (!saying.getModifiable()) throw new EntityNotFoundException();
 
         // tagMemberIds 를 통해 tagMembers 구하기
         List<Member> tagMembers = memberService.findMembersByIds(request.getTagMembersId());
 
         // 새로운 정보로 업데이트
         saying.update(request.getContent(), tagMembers);
+        familyHomeCache.refreshSaying(saying.getMember(), saying);
+        familyChangeRecorder.record(saying.getFamily(), FamilyChangeType.SAYING_UPDATED, saying.getId());
 
         return new SayingIdResponse(saying.getId());
     }
@@ -64,20 +80,38 @@ public class SayingService implements EntityLoader<Saying, UUID> {
     public void deleteSaying(UUID sayingId) {
         Saying saying = loadEntity(sayingId);
         if (!saying.getMember().getId().equals(authService.getLoginUser().getId())) throw new NoAuthorityException();
+        // 이전 서로에게 한마디를 기록에서 지우는 경우는 현재 서로에게 한마디에 영향 없음
+        boolean current = saying.getModifiable();
         saying.changeModifiable();
+        if (current) familyHomeCache.refreshSaying(saying.getMember(), null);
+        familyChangeRecorder.record(saying.getFamily(), FamilyChangeType.SAYING_DELETED, saying.getId());
     }
 
     @Transactional(readOnly = true)
     public List<SayingByFamilyResponse> findSayingByFamily() {
         Family family = authService.getLoginUser().getFamily();
 
-        List<Saying> sayingList = family.getMembers().stream()
-                .map(member -> sayingRepository.findByMemberAndModifiable(member, Boolean.TRUE))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
+        // 서로에게 한마디와 태그를 각각 한 번에 조회
+        List<Saying> sayingList = sayingRepository.findAllModifiableByFamily(family);
+        return sayingMapper.toResponseList(sayingList, sayingRepository.findAllTagMembersBySayings(sayingList));
+    }
+
+    @Transactional(readOnly = true)
+    public SayingHistoryGroupResponse findSayingHistoryByFamily(Pageable pageable, LocalDateTime lastCreatedAt, UUID lastSayingId) {
+        Family family = authService.getLoginUser().getFamily();
+        return sayingMapper.toHistoryGroupResponse(sayingRepository.findHistoryByFamily(family, pageable, lastCreatedAt, lastSayingId));
+    }
+
+    @Transactional(readOnly = true)
+    public SayingHistoryGroupResponse findSayingHistoryByMember(UUID memberId, Pageable pageable, LocalDateTime lastCreatedAt, UUID lastSayingId) {
+        // 본인과 같은 가족의 기록만 조회 가능
+        if (!isSelfOrFamily(authService.getLoginUser(), memberId)) throw new NoAuthorityException();
+        return sayingMapper.toHistoryGroupResponse(sayingRepository.findHistoryByMembers(List.of(memberId), pageable, lastCreatedAt, lastSayingId));
+    }
 
-        return sayingMapper.toResponseList(sayingList);
+    private boolean isSelfOrFamily(Member loginUser, UUID memberId) {
+        if (loginUser.getId().equals(memberId)) return true;
+        return loginUser.getFamily() != null && familyRosterCache.find(loginUser.getFamily()).contains(memberId);
     }
 
     @Override
@@ -0,0 +1,31 @@
+package com.owori.domain.schedule.alarm;
+
+import com.owori.domain.schedule.entity.Alarm;
+import com.owori.domain.schedule.entity.ScheduleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알림 발송 대상 하나, 가족 일정이면 familyId 의 구성원 전체, 개인 일정이면 memberId 에게 보낸다
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class AlarmNotification {
+    private UUID alarmId;
+    private UUID scheduleId;
+    private UUID memberId;
+    private UUID familyId;
+    private ScheduleType scheduleType;
+    private String title;
+    private LocalDate startDate;
+    private Alarm alarm;
+    private LocalDateTime fireAt;
+}
@@ -0,0 +1,11 @@
+package com.owori.domain.schedule.alarm;
+
+import java.util.List;
+
+/**
+ * 발송 시각이 된 알람을 실제로 전달하는 통로 (푸시, 메시지 등)
+ * 예외를 던지면 묶음 전체가 다시 발송 대기 상태로 돌아간다
+ */
+public interface AlarmNotificationSink {
+    void send(List<AlarmNotification> notifications);
+}
@@ -0,0 +1,20 @@
+package com.owori.domain.schedule.alarm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로컬 확인용 알람 전달 구현, 실제 전달 구현을 @Primary 빈으로 등록하면 대체된다
+ */
+@Slf4j
+@Component
+public class LoggingAlarmNotificationSink implements AlarmNotificationSink {
+    private static final String FORMAT = "ALARM : {}";
+
+    @Override
+    public void send(List<AlarmNotification> notifications) {
+        notifications.forEach(notification -> log.info(FORMAT, notification));
+    }
+}
@@ -0,0 +1,81 @@
+package com.owori.domain.schedule.alarm;
+
+import com.owori.domain.schedule.entity.ScheduleAlarm;
+import com.owori.domain.schedule.service.ScheduleAlarmService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 발송 대기 알람을 타이밍 휠로 옮기고, 휠에서 만료된 알람을 묶음 단위로 발송
+ * 구간을 읽을 때 시작 시각 제한을 두지 않으므로 서버가 내려가 있던 동안 놓친 알람도 다음 읽기에서 바로 발송된다
+ * 구간 읽기는 선점 기한이 지난 알람도 다시 휠에 올리므로, 선점한 서버가 발송 전에 내려간 알람을 회수하는 역할도 한다
+ * 발송 완료 표시는 발송 이후에 하므로 알람은 최소 한 번 발송되고, 완료 표시 전에 실패하면 중복 발송될 수 있다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleAlarmDispatcher {
+    private final ScheduleAlarmService scheduleAlarmService;
+    private final ScheduleAlarmWheel scheduleAlarmWheel;
+    private final AlarmNotificationSink alarmNotificationSink;
+
+    @Value("${app.alarm.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.alarm.load-size:1000}")
+    private int loadSize;
+
+    @Scheduled(fixedDelayString = "${app.alarm.load-interval:60000}", initialDelay = 0L)
+    public void loadPendingAlarms() {
+        // 구간을 먼저 늘려야 조회 이후 커밋된 알람이 휠에 직접 올라간다
+        LocalDateTime until = scheduleAlarmWheel.extendHorizon(LocalDateTime.now());
+
+        LocalDateTime lastFireAt = null;
+        UUID lastAlarmId = null;
+        List<ScheduleAlarm> alarms;
+        do {
+            alarms = scheduleAlarmService.findPendingUntil(until, lastFireAt, lastAlarmId, loadSize);
+            alarms.stream()
+                    .filter(alarm -> !scheduleAlarmWheel.contains(alarm.getId()))
+                    .forEach(alarm -> scheduleAlarmWheel.schedule(alarm.getId(), alarm.getFireAt()));
+            if (alarms.isEmpty()) break;
+            ScheduleAlarm last = alarms.get(alarms.size() - 1);
+            lastFireAt = last.getFireAt();
+            lastAlarmId = last.getId();
+        } while (alarms.size() == loadSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.alarm.tick-interval:1000}")
+    public void dispatchDueAlarms() {
+        List<UUID> due = scheduleAlarmWheel.advance(LocalDateTime.now());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            dispatch(due.subList(from, Math.min(from + batchSize, due.size())));
+        }
+    }
+
+    private void dispatch(List<UUID> alarmIds) {
+        UUID dispatchToken = UUID.randomUUID();
+        List<AlarmNotification> claimed = scheduleAlarmService.claim(alarmIds, dispatchToken);
+        if (claimed.isEmpty()) return;
+        // 선점과 발송 사이에 취소된 알람은 보내지 않고, 완료 표시에서도 빠진다
+        List<AlarmNotification> notifications = scheduleAlarmService.excludeCancelled(dispatchToken, claimed);
+        if (notifications.isEmpty()) return;
+
+        try {
+            alarmNotificationSink.send(notifications);
+        } catch (RuntimeException e) {
+            // 선점을 풀어두면 다음 구간 읽기에서 다시 휠에 올라간다
+            log.warn("알람 발송 실패 : {}", e.getMessage());
+            scheduleAlarmService.release(dispatchToken);
+            return;
+        }
+        scheduleAlarmService.complete(dispatchToken);
+    }
+}
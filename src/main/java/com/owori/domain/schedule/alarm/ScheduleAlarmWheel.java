@@ -0,0 +1,61 @@
+package com.owori.domain.schedule.alarm;
+
+import com.owori.global.timer.HierarchicalTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가까운 시간(horizon) 안에 울릴 알람만 메모리 타이밍 휠에 올려두는 컴포넌트
+ * 1초 틱 60칸 휠 위로 분, 시간 단위 휠이 필요할 때 자동으로 생긴다
+ */
+@Component
+public class ScheduleAlarmWheel {
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+
+    private final HierarchicalTimingWheel<UUID> wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    private final Duration horizon;
+    private LocalDateTime horizonEnd = LocalDateTime.MIN;
+
+    public ScheduleAlarmWheel(@Value("${app.alarm.horizon:PT10M}") final Duration horizon) {
+        this.horizon = horizon;
+    }
+
+    /**
+     * 휠이 책임지는 구간을 now + horizon 까지 늘리고 새 구간의 끝을 반환
+     */
+    public synchronized LocalDateTime extendHorizon(final LocalDateTime now) {
+        horizonEnd = now.plus(horizon);
+        return horizonEnd;
+    }
+
+    /**
+     * 구간 안의 알람이면 휠에 올리기, 구간 밖의 알람은 구간이 늘어날 때 DB 에서 읽어온다
+     */
+    public synchronized void schedule(final UUID alarmId, final LocalDateTime fireAt) {
+        if (fireAt.isAfter(horizonEnd)) return;
+        wheel.schedule(alarmId, toMillis(fireAt));
+    }
+
+    public synchronized void cancel(final UUID alarmId) {
+        wheel.cancel(alarmId);
+    }
+
+    public synchronized boolean contains(final UUID alarmId) {
+        return wheel.contains(alarmId);
+    }
+
+    public synchronized List<UUID> advance(final LocalDateTime now) {
+        return wheel.advance(toMillis(now));
+    }
+
+    private long toMillis(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,139 @@
+package com.owori.domain.schedule.cache;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.mapper.ScheduleMapper;
+import com.owori.domain.schedule.repository.ScheduleRepository;
+import com.owori.global.cache.FamilyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 가족 단위 일정 구간 트리를 보관하는 메모리 캐시
+ * 처음 조회할 때 가족 전체 일정을 한 번 불러오고, 이후 일정 추가/수정/삭제는 커밋 이후에 트리에 반영한다
+ * 전체 일정 수가 maxSchedules 를 넘으면 가장 오래 조회되지 않은 가족부터 제거한다
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyScheduleCache extends FamilyCache<ScheduleIntervalTree> {
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleMapper scheduleMapper;
+
+    @Value("${app.schedule.cache.max-schedules:100000}")
+    private int maxSchedules;
+
+    // 혼자서 캐시 한도를 넘는 가족과 표시한 시각, DB 기간 조회로 처리하고 ttl 이 지나면 다시 크기를 잰다
+    // 표시할 가족 수도 한도를 두어 가장 오래전에 표시한 가족부터 버린다
+    private final Map<UUID, Long> oversizedFamilies = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<UUID, Long> eldest) {
+            return size() > MAX_OVERSIZED_FAMILIES;
+        }
+    };
+    private static final int MAX_OVERSIZED_FAMILIES = 1024;
+
+    public List<ScheduleSummary> findByPeriod(final Family family, final LocalDate startDate, final LocalDate endDate) {
+        return read(family, tree -> tree.findOverlapping(startDate, endDate),
+                () -> scheduleRepository.findAllByFamilyAndPeriod(family, startDate, endDate));
+    }
+
+    public List<ScheduleSummary> findDDay(final Family family, final LocalDate nowDate) {
+        return read(family, tree -> tree.findDDayFrom(nowDate),
+                () -> scheduleRepository.findAllDDayByFamily(family, nowDate));
+    }
+
+    public void put(final Schedule schedule) {
+        Family family = schedule.getMember().getFamily();
+        if (family == null) return;
+        ScheduleSummary summary = scheduleMapper.toSummary(schedule);
+        afterCommit(() -> write(family.getId(), tree -> tree.put(summary)));
+    }
+
+    public void putAll(final List<Schedule> schedules) {
+        Map<UUID, List<ScheduleSummary>> summariesByFamily = new HashMap<>();
+        schedules.stream()
+                .filter(schedule -> schedule.getMember().getFamily() != null)
+                .forEach(schedule -> summariesByFamily
+                        .computeIfAbsent(schedule.getMember().getFamily().getId(), familyId -> new ArrayList<>())
+                        .add(scheduleMapper.toSummary(schedule)));
+        afterCommit(() -> summariesByFamily.forEach((familyId, summaries) -> write(familyId, tree -> summaries.forEach(tree::put))));
+    }
+
+    public void remove(final Schedule schedule) {
+        Family family = schedule.getMember().getFamily();
+        if (family == null) return;
+        UUID scheduleId = schedule.getId();
+        afterCommit(() -> write(family.getId(), tree -> tree.remove(scheduleId)));
+    }
+
+    /**
+     * 일정 요약에 담긴 회원 정보(닉네임, 색상)나 가족 구성이 바뀌었을 때 가족 트리를 비우기
+     */
+    @Override
+    public void evict(final Family family) {
+        if (family == null) return;
+        UUID familyId = family.getId();
+        afterCommit(() -> {
+            synchronized (this) {
+                oversizedFamilies.remove(familyId);
+                remove(familyId);
+            }
+        });
+    }
+
+    private List<ScheduleSummary> read(final Family family,
+                                       final Function<ScheduleIntervalTree, List<ScheduleSummary>> reader,
+                                       final Supplier<List<Schedule>> fallback) {
+        UUID familyId = family.getId();
+        boolean oversized;
+        synchronized (this) {
+            Long markedAt = oversizedFamilies.get(familyId);
+            oversized = markedAt != null && !isExpired(markedAt, System.nanoTime());
+            if (markedAt != null && !oversized) oversizedFamilies.remove(familyId);
+        }
+        // DB 기간 조회는 다른 가족의 캐시 사용을 막지 않도록 잠금 밖에서 수행
+        if (oversized) return scheduleMapper.toSummaryList(fallback.get());
+
+        ScheduleIntervalTree tree = find(familyId, () -> {
+            ScheduleIntervalTree loaded = new ScheduleIntervalTree();
+            scheduleMapper.toSummaryList(scheduleRepository.findAllByFamily(family)).forEach(loaded::put);
+            return loaded;
+        });
+        // 트리는 커밋 이후 변경이 그 자리에서 바꾸므로 읽기도 잠금 안에서 수행
+        synchronized (this) {
+            return reader.apply(tree);
+        }
+    }
+
+    private void write(final UUID familyId, final Consumer<ScheduleIntervalTree> mutation) {
+        update(familyId, tree -> {
+            mutation.accept(tree);
+            return tree;
+        });
+    }
+
+    @Override
+    protected long capacity() {
+        return maxSchedules;
+    }
+
+    // 빈 가족도 한도에 포함되도록 가족마다 1을 더함
+    @Override
+    protected long weight(final ScheduleIntervalTree tree) {
+        return tree.size() + 1L;
+    }
+
+    @Override
+    protected boolean admit(final UUID familyId, final ScheduleIntervalTree loaded) {
+        if (weight(loaded) <= maxSchedules) return true;
+        oversizedFamilies.put(familyId, System.nanoTime());
+        return false;
+    }
+}
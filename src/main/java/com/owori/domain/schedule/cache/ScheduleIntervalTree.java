@@ -0,0 +1,145 @@
+package com.owori.domain.schedule.cache;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시작일 순으로 정렬된 일정 요약을 담는 구간 트리 (treap)
+ * 각 노드는 서브트리의 가장 늦은 종료일(maxEnd, 반복 일정은 마지막 회차 종료일)을 함께 보관해서 기간과 겹치지 않는 서브트리를 건너뛴다
+ * 반복 일정은 회차를 펼치지 않은 채로 반환하므로 호출하는 쪽에서 기간 안의 회차로 펼쳐야 한다
+ * 동기화는 호출하는 쪽(FamilyScheduleCache)에서 책임진다
+ */
+public class ScheduleIntervalTree {
+    private static final Comparator<ScheduleSummary> ORDER = Comparator
+            .comparing(ScheduleSummary::getStartDate)
+            .thenComparing(ScheduleSummary::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(ScheduleSummary::getScheduleId);
+
+    private final Map<UUID, ScheduleSummary> index = new HashMap<>();
+    private Node root;
+
+    public void put(final ScheduleSummary summary) {
+        ScheduleSummary old = index.put(summary.getScheduleId(), summary);
+        if (old != null) root = remove(root, old);
+        root = insert(root, new Node(summary));
+    }
+
+    public void remove(final UUID scheduleId) {
+        ScheduleSummary old = index.remove(scheduleId);
+        if (old != null) root = remove(root, old);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 기간 [from, to] 와 하루라도 겹치는 일정(반복 일정은 첫 회차부터 마지막 회차까지)을 시작일 순으로 반환
+     */
+    public List<ScheduleSummary> findOverlapping(final LocalDate from, final LocalDate to) {
+        List<ScheduleSummary> result = new ArrayList<>();
+        collectOverlapping(root, from, to, result);
+        return result;
+    }
+
+    /**
+     * 디데이 옵션이 켜져 있고 date 이후에 시작하는 회차가 있을 수 있는 일정을 시작일 순으로 반환
+     */
+    public List<ScheduleSummary> findDDayFrom(final LocalDate date) {
+        List<ScheduleSummary> result = new ArrayList<>();
+        collectDDay(root, date, result);
+        return result;
+    }
+
+    private void collectOverlapping(final Node node, final LocalDate from, final LocalDate to, final List<ScheduleSummary> result) {
+        // 서브트리의 모든 일정이 from 이전에 끝나면 확인할 필요 없음
+        if (node == null || node.maxEnd.isBefore(from)) return;
+        collectOverlapping(node.left, from, to, result);
+        // 현재 노드와 오른쪽 서브트리는 모두 to 이후에 시작
+        if (node.value.getStartDate().isAfter(to)) return;
+        if (!node.value.getSeriesEndDate().isBefore(from)) result.add(node.value);
+        collectOverlapping(node.right, from, to, result);
+    }
+
+    private void collectDDay(final Node node, final LocalDate date, final List<ScheduleSummary> result) {
+        // 서브트리의 모든 일정(회차)이 date 이전에 끝나면 확인할 필요 없음
+        if (node == null || node.maxEnd.isBefore(date)) return;
+        collectDDay(node.left, date, result);
+        if (Boolean.TRUE.equals(node.value.getDDayOption()) && hasOccurrenceFrom(node.value, date)) result.add(node.value);
+        collectDDay(node.right, date, result);
+    }
+
+    private boolean hasOccurrenceFrom(final ScheduleSummary summary, final LocalDate date) {
+        if (!summary.getStartDate().isBefore(date)) return true;
+        return summary.isRecurring() && !summary.getSeriesEndDate().isBefore(date);
+    }
+
+    private Node insert(final Node node, final Node newNode) {
+        if (node == null) return newNode;
+        if (newNode.priority > node.priority) {
+            Node[] parts = split(node, newNode.value);
+            newNode.left = parts[0];
+            newNode.right = parts[1];
+            return newNode.update();
+        }
+        if (ORDER.compare(newNode.value, node.value) < 0) node.left = insert(node.left, newNode);
+        else node.right = insert(node.right, newNode);
+        return node.update();
+    }
+
+    private Node remove(final Node node, final ScheduleSummary summary) {
+        if (node == null) return null;
+        int compared = ORDER.compare(summary, node.value);
+        if (compared == 0) return merge(node.left, node.right);
+        if (compared < 0) node.left = remove(node.left, summary);
+        else node.right = remove(node.right, summary);
+        return node.update();
+    }
+
+    // key 보다 작은 노드들과 크거나 같은 노드들로 나누기
+    private Node[] split(final Node node, final ScheduleSummary key) {
+        if (node == null) return new Node[]{null, null};
+        if (ORDER.compare(node.value, key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            return new Node[]{node.update(), parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        return new Node[]{parts[0], node.update()};
+    }
+
+    private Node merge(final Node left, final Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static final class Node {
+        private final ScheduleSummary value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private LocalDate maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(final ScheduleSummary value) {
+            this.value = value;
+            this.maxEnd = value.getSeriesEndDate();
+        }
+
+        private Node update() {
+            LocalDate max = value.getSeriesEndDate();
+            if (left != null && left.maxEnd.isAfter(max)) max = left.maxEnd;
+            if (right != null && right.maxEnd.isAfter(max)) max = right.maxEnd;
+            this.maxEnd = max;
+            return this;
+        }
+    }
+}
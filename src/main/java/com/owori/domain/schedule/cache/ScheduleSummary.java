@@ -0,0 +1,51 @@
+package com.owori.domain.schedule.cache;
+
+import com.owori.domain.member.entity.Color;
+import com.owori.domain.schedule.entity.Alarm;
+import com.owori.domain.schedule.entity.Recurrence;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.recurrence.OccurrenceOverride;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캘린더 조회에 필요한 값만 담은 불변 일정 요약
+ * 영속성 컨텍스트 밖(가족 일정 캐시)에서 보관되므로 엔티티를 참조하지 않는다
+ * 반복 일정은 회차를 펼치지 않은 첫 회차 기준 값을 담는다
+ */
+@Getter
+@Builder
+public class ScheduleSummary {
+    private final UUID scheduleId;
+    private final String title;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final ScheduleType scheduleType;
+    private final UUID memberId;
+    private final String nickname;
+    private final Color color;
+    private final Boolean dDayOption;
+    private final List<Alarm> alarmList;
+    private final LocalDateTime createdAt;
+    // 반복하지 않는 일정이면 null
+    private final Recurrence recurrence;
+    private final List<OccurrenceOverride> overrides;
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * 마지막 회차의 종료일, 반복하지 않으면 종료일이고 끝없이 반복하면 LocalDate.MAX
+     */
+    public LocalDate getSeriesEndDate() {
+        if (recurrence == null) return endDate;
+        if (recurrence.getLastEndDate() == null) return LocalDate.MAX;
+        return recurrence.getLastEndDate();
+    }
+}
@@ -0,0 +1,21 @@
+package com.owori.domain.schedule.calendar;
+
+import com.owori.domain.schedule.cache.ScheduleSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 피드로 내려줄 일정과 조건부 요청 검증 값(ETag, Last-Modified)
+ * 일정은 불변 요약이라 트랜잭션이 끝난 뒤에 응답을 써도 안전하다
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarFeedContent {
+    private final String calendarName;
+    private final List<ScheduleSummary> schedules;
+    private final String eTag;
+    private final Instant lastModified;
+}
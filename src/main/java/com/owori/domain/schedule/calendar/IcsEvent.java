@@ -0,0 +1,22 @@
+package com.owori.domain.schedule.calendar;
+
+import java.util.*;
+
+/**
+ * VEVENT 하나의 속성 모음, VALARM 처럼 안에 들어있는 컴포넌트의 속성은 담지 않는다
+ */
+public class IcsEvent {
+    private final Map<String, List<IcsProperty>> properties = new HashMap<>();
+
+    void add(final IcsProperty property) {
+        properties.computeIfAbsent(property.getName(), name -> new ArrayList<>()).add(property);
+    }
+
+    public Optional<IcsProperty> find(final String name) {
+        return getAll(name).stream().findFirst();
+    }
+
+    public List<IcsProperty> getAll(final String name) {
+        return properties.getOrDefault(name, List.of());
+    }
+}
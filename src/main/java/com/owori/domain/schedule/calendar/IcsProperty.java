@@ -0,0 +1,21 @@
+package com.owori.domain.schedule.calendar;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 접힌 줄을 펼친 iCalendar 속성 한 줄, 예) DTSTART;VALUE=DATE:20230731
+ */
+@Getter
+@AllArgsConstructor
+public class IcsProperty {
+    private final String name;
+    private final Map<String, String> parameters;
+    private final String value;
+
+    public String getParameter(final String name) {
+        return parameters.get(name);
+    }
+}
@@ -0,0 +1,115 @@
+package com.owori.domain.schedule.calendar;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * iCalendar(RFC 5545) 문서에서 VEVENT 를 하나씩 읽는 스트리밍 파서
+ * 문서 전체를 메모리에 올리지 않고 현재 읽고 있는 일정 하나만 보관한다
+ */
+public class IcsReader implements Closeable {
+    private final BufferedReader reader;
+    private String lookahead;
+
+    public IcsReader(final InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다음 VEVENT, 더 이상 없으면 null
+     */
+    public IcsEvent nextEvent() throws IOException {
+        IcsEvent event = null;
+        int depth = 0;
+        for (String line = nextLine(); line != null; line = nextLine()) {
+            IcsProperty property = parse(line);
+            if (property == null) continue;
+
+            if (event == null) {
+                if (property.getName().equals("BEGIN") && property.getValue().equalsIgnoreCase("VEVENT")) event = new IcsEvent();
+                continue;
+            }
+            if (property.getName().equals("BEGIN")) {
+                depth++;
+            } else if (property.getName().equals("END")) {
+                if (depth == 0) return event;
+                depth--;
+            } else if (depth == 0) {
+                event.add(property);
+            }
+        }
+        if (event != null) throw new EOFException("VEVENT가 끝나지 않았습니다.");
+        return null;
+    }
+
+    // 공백이나 탭으로 시작하는 줄은 앞 줄에 이어 붙인다
+    private String nextLine() throws IOException {
+        String line = lookahead != null ? lookahead : reader.readLine();
+        lookahead = null;
+        if (line == null) return null;
+
+        StringBuilder unfolded = new StringBuilder(line);
+        for (String next = reader.readLine(); next != null; next = reader.readLine()) {
+            if (next.isEmpty() || (next.charAt(0) != ' ' && next.charAt(0) != '\t')) {
+                lookahead = next;
+                break;
+            }
+            unfolded.append(next, 1, next.length());
+        }
+        return unfolded.toString();
+    }
+
+    private IcsProperty parse(final String line) {
+        int colon = indexOfValue(line);
+        if (colon < 0) return null;
+
+        String[] head = line.substring(0, colon).split(";");
+        Map<String, String> parameters = new HashMap<>();
+        for (int i = 1; i < head.length; i++) {
+            int equals = head[i].indexOf('=');
+            if (equals > 0) parameters.put(head[i].substring(0, equals).toUpperCase(Locale.ROOT), unquote(head[i].substring(equals + 1)));
+        }
+        return new IcsProperty(head[0].trim().toUpperCase(Locale.ROOT), parameters, line.substring(colon + 1));
+    }
+
+    // 따옴표로 감싼 파라미터 값 안의 콜론은 구분자가 아니다
+    private int indexOfValue(final String line) {
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') quoted = !quoted;
+            if (c == ':' && !quoted) return i;
+        }
+        return -1;
+    }
+
+    private String unquote(final String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) return value.substring(1, value.length() - 1);
+        return value;
+    }
+
+    /**
+     * TEXT 값의 이스케이프 해제
+     */
+    public static String unescape(final String value) {
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 == value.length()) {
+                text.append(c);
+                continue;
+            }
+            char next = value.charAt(++i);
+            text.append(next == 'n' || next == 'N' ? '\n' : next);
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
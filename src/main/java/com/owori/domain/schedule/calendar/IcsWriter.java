@@ -0,0 +1,94 @@
+package com.owori.domain.schedule.calendar;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar(RFC 5545) 문서를 한 줄씩 바로 출력하는 작성기
+ * 문서 전체를 메모리에 만들지 않고, 75 옥텟을 넘는 줄은 멀티바이트 문자를 자르지 않도록 접어서 쓴다
+ */
+public class IcsWriter implements Flushable {
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Writer writer;
+
+    public IcsWriter(final OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    public IcsWriter begin(final String component) throws IOException {
+        return line("BEGIN:" + component);
+    }
+
+    public IcsWriter end(final String component) throws IOException {
+        return line("END:" + component);
+    }
+
+    /**
+     * 이스케이프 없이 값을 그대로 쓰기 (RRULE 처럼 구분자가 의미 있는 값)
+     */
+    public IcsWriter property(final String name, final String value) throws IOException {
+        return line(name + ":" + value);
+    }
+
+    /**
+     * 사용자 입력 문자열을 TEXT 값으로 이스케이프해서 쓰기
+     */
+    public IcsWriter text(final String name, final String value) throws IOException {
+        return property(name, escape(value));
+    }
+
+    public IcsWriter date(final String name, final LocalDate date) throws IOException {
+        return property(name + ";VALUE=DATE", DateTimeFormatter.BASIC_ISO_DATE.format(date));
+    }
+
+    public IcsWriter dateTime(final String name, final Instant instant) throws IOException {
+        return property(name, DATE_TIME.format(instant));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private IcsWriter line(final String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int length = utf8Length(codePoint);
+            if (octets + length > MAX_LINE_OCTETS) {
+                // 이어지는 줄은 맨 앞 공백도 한 옥텟으로 센다
+                writer.write(CRLF + " ");
+                octets = 1;
+            }
+            writer.write(content, i, Character.charCount(codePoint));
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(CRLF);
+        return this;
+    }
+
+    private static int utf8Length(final int codePoint) {
+        if (codePoint < 0x80) return 1;
+        if (codePoint < 0x800) return 2;
+        if (codePoint < 0x10000) return 3;
+        return 4;
+    }
+
+    private static String escape(final String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+}
@@ -0,0 +1,52 @@
+package com.owori.domain.schedule.controller;
+
+import com.owori.domain.schedule.calendar.CalendarFeedContent;
+import com.owori.domain.schedule.dto.request.CalendarFeedRequest;
+import com.owori.domain.schedule.dto.response.CalendarFeedResponse;
+import com.owori.domain.schedule.service.CalendarFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/calendar")
+public class CalendarFeedController {
+    private static final String TEXT_CALENDAR = "text/calendar; charset=UTF-8";
+
+    private final CalendarFeedService calendarFeedService;
+
+    /**
+     * 캘린더 구독 피드 발급 컨트롤러입니다.
+     * 가족 일정(FAMILY) 또는 내 개인 일정(MEMBER) 피드 주소를 발급하며, 다시 발급하면 기존 주소는 더 이상 사용할 수 없습니다.
+     * @param calendarFeedRequest 발급할 피드의 범위입니다.
+     * @return CalendarFeedResponse는 캘린더 앱에 등록할 피드 경로입니다.
+     */
+    @PostMapping("/feeds")
+    public ResponseEntity<CalendarFeedResponse> issueFeed(@Valid @RequestBody CalendarFeedRequest calendarFeedRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(calendarFeedService.issueFeed(calendarFeedRequest));
+    }
+
+    /**
+     * 캘린더 구독 피드 조회 컨트롤러입니다.
+     * 로그인 없이 토큰으로 조회하며, ETag 나 Last-Modified 가 일치하면 본문 없이 304를 반환합니다.
+     * @param token 발급받은 피드 토큰입니다.
+     */
+    @GetMapping("/{token}.ics")
+    public void findCalendarFeed(@PathVariable String token, ServletWebRequest webRequest, HttpServletResponse response) throws IOException {
+        CalendarFeedContent content = calendarFeedService.findContent(token);
+        if (webRequest.checkNotModified(content.getETag(), content.getLastModified().toEpochMilli())) return;
+
+        response.setContentType(TEXT_CALENDAR);
+        // 캐시하더라도 매번 재검증하도록 해서 변경이 바로 반영되게 한다
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        calendarFeedService.writeContent(content, response.getOutputStream());
+    }
+}
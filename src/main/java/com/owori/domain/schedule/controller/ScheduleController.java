@@ -1,19 +1,27 @@
 package com.owori.domain.schedule.controller;
 
 import com.owori.domain.schedule.dto.request.AddScheduleRequest;
+import com.owori.domain.schedule.dto.request.ScheduleOccurrenceRequest;
 import com.owori.domain.schedule.dto.request.UpdateScheduleRequest;
 import com.owori.domain.schedule.dto.response.ScheduleByMonthResponse;
 import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
 import com.owori.domain.schedule.dto.response.ScheduleIdResponse;
+import com.owori.domain.schedule.dto.response.ScheduleImportResponse;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.service.ScheduleImportService;
 import com.owori.domain.schedule.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Pattern;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +31,7 @@ import java.util.UUID;
 @RequestMapping("/schedule")
 public class ScheduleController {
     private final ScheduleService scheduleService;
+    private final ScheduleImportService scheduleImportService;
 
     /**
      * 일정 추가 컨트롤러입니다.
@@ -35,6 +44,31 @@ public class ScheduleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.addSchedule(addScheduleRequest));
     }
 
+    /**
+     * 일정 여러 건 가져오기 컨트롤러입니다.
+     * 일정 추가 요청의 JSON 배열을 한 건씩 읽어서 저장하고, 잘못된 건은 건너뛴 뒤 건별 결과를 반환합니다.
+     * @param request 일정 추가 요청 배열을 본문으로 담은 요청입니다.
+     * @return ScheduleImportResponse는 전체 건수, 저장된 건수와 입력 순서별 결과입니다.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScheduleImportResponse> importSchedules(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(scheduleImportService.importJson(request.getInputStream()));
+    }
+
+    /**
+     * ICS 파일 일정 가져오기 컨트롤러입니다.
+     * 캘린더 앱에서 내보낸 ICS 파일의 일정을 한 건씩 읽어서 저장하고 건별 결과를 반환합니다.
+     * @param file 가져올 ICS 파일입니다.
+     * @param scheduleType 가져온 일정에 지정할 일정 타입입니다.
+     * @return ScheduleImportResponse는 전체 건수, 저장된 건수와 입력 순서별 결과입니다.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ScheduleImportResponse> importIcs(
+            @RequestPart MultipartFile file,
+            @RequestParam(value = "schedule_type", defaultValue = "FAMILY") ScheduleType scheduleType) throws IOException {
+        return ResponseEntity.ok(scheduleImportService.importIcs(file.getInputStream(), scheduleType));
+    }
+
     /**
      * 일정 수정 컨트롤러입니다.
      * 수정된 일정 정보(제목, 시작일, 종료일, 타입, 디데이 여부, 알람 옵션)을 입력받고 기존 일정을 수정합니다.
@@ -47,6 +81,19 @@ public class ScheduleController {
         return ResponseEntity.ok(scheduleService.updateSchedule(updateScheduleRequest));
     }
 
+    /**
+     * 반복 일정 회차 예외 등록 컨트롤러입니다.
+     * 반복 일정의 원래 회차 시작일을 입력받고 해당 회차만 취소하거나 날짜, 제목을 변경합니다.
+     * @param scheduleId 반복 일정 id 입니다.
+     * @param scheduleOccurrenceRequest 변경할 회차의 정보입니다.
+     * @return ScheduleIdResponse는 반복 일정의 id값입니다.
+     */
+    @PostMapping("/{scheduleId}/exceptions")
+    public ResponseEntity<ScheduleIdResponse> updateOccurrence(
+            @PathVariable UUID scheduleId, @Valid @RequestBody ScheduleOccurrenceRequest scheduleOccurrenceRequest) {
+        return ResponseEntity.ok(scheduleService.updateOccurrence(scheduleId, scheduleOccurrenceRequest));
+    }
+
     /**
      * 월별 일정 조회 컨트롤러입니다.
      * 조회할 달을 입력받고 해당 달의 일정을 조회합니다.
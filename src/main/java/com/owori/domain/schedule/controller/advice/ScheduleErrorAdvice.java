@@ -0,0 +1,22 @@
+package com.owori.domain.schedule.controller.advice;
+
+import com.owori.domain.schedule.exception.NoSuchOccurrenceException;
+import com.owori.domain.schedule.exception.NotRecurringScheduleException;
+import com.owori.global.advice.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ScheduleErrorAdvice {
+    @ExceptionHandler(NotRecurringScheduleException.class)
+    public ResponseEntity<ErrorResponse> notRecurringScheduleException(NotRecurringScheduleException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+    }
+
+    @ExceptionHandler(NoSuchOccurrenceException.class)
+    public ResponseEntity<ErrorResponse> noSuchOccurrenceException(NoSuchOccurrenceException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.owori.domain.schedule.dto.request;
+
+import com.owori.domain.schedule.entity.CalendarFeedScope;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarFeedRequest {
+    @NotNull(message = "scope는 필수 입력값입니다.")
+    private CalendarFeedScope scope;
+}
@@ -0,0 +1,23 @@
+package com.owori.domain.schedule.dto.request;
+
+import com.owori.domain.schedule.entity.RecurrenceFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurrenceRequest {
+    @NotNull(message = "frequency는 필수 입력값입니다.")
+    private RecurrenceFrequency frequency;
+    private LocalDate until;
+    @Positive(message = "count는 1 이상이어야 합니다.")
+    @Max(value = 1000, message = "count는 최대 1000입니다.")
+    private Integer count;
+}
@@ -0,0 +1,23 @@
+package com.owori.domain.schedule.dto.request;
+
+import com.owori.global.validation.DateRange;
+import com.owori.global.validation.ValidDateRange;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ValidDateRange
+public class ScheduleOccurrenceRequest implements DateRange {
+    @NotNull(message = "originalDate는 필수 입력값입니다.")
+    private LocalDate originalDate;
+    private Boolean canceled;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
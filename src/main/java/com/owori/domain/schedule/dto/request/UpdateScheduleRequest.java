@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import javax.validation.Valid;
 import javax.validation.constraints.FutureOrPresent;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -29,5 +30,7 @@ public class UpdateScheduleRequest {
     private Boolean ddayOption;
     @Size(max = 3, message = "알람 옵션은 최대 세 개입니다.")
     private List<Alarm> alarmOptions;
+    @Valid
+    private RecurrenceRequest recurrence;
 }
 
@@ -0,0 +1,12 @@
+package com.owori.domain.schedule.dto.response;
+
+import com.owori.domain.schedule.entity.CalendarFeedScope;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CalendarFeedResponse {
+    private CalendarFeedScope scope;
+    private String feedPath;
+}
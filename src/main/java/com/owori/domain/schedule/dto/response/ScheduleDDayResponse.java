@@ -2,6 +2,7 @@ package com.owori.domain.schedule.dto.response;
 
 import com.owori.domain.member.entity.Color;
 import com.owori.domain.schedule.entity.Alarm;
+import com.owori.domain.schedule.entity.RecurrenceFrequency;
 import com.owori.domain.schedule.entity.ScheduleType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,4 +26,6 @@ public class ScheduleDDayResponse {
     private Color color;
     private Boolean ddayOption;
     private List<Alarm> alarmOptions;
+    private RecurrenceFrequency frequency;
+    private LocalDate originalDate;
 }
@@ -0,0 +1,14 @@
+package com.owori.domain.schedule.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleImportResponse {
+    private int totalCount;
+    private int importedCount;
+    private List<ScheduleImportResult> results;
+}
@@ -0,0 +1,16 @@
+package com.owori.domain.schedule.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleImportResult {
+    // 0 부터 시작하는 입력 순서
+    private int row;
+    private boolean success;
+    private UUID scheduleId;
+    private String message;
+}
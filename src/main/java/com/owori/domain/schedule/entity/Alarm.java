@@ -4,12 +4,24 @@ package com.owori.domain.schedule.entity;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 @Getter
 @RequiredArgsConstructor
 public enum Alarm {
-    TODAY("당일"),
-    A_DAY_AGO("전날"),
-    A_WEEK_AGO("일주일전");
+    TODAY("당일", 0, 1),
+    A_DAY_AGO("전날", 1, 1 << 1),
+    A_WEEK_AGO("일주일전", 7, 1 << 2);
 
     private final String toKorean;
+    private final int daysBefore;
+    // alarm_options 비트마스크에서 차지하는 비트, 저장된 값과 V1_2 마이그레이션이 이 값을 쓰므로 기존 값은 변경하지 않는다
+    private final int flag;
+
+    // 일정 시작일 기준으로 알람이 울릴 시각 계산
+    public LocalDateTime toFireAt(LocalDate startDate, LocalTime fireTime) {
+        return startDate.minusDays(daysBefore).atTime(fireTime);
+    }
 }
@@ -0,0 +1,40 @@
+package com.owori.domain.schedule.entity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 알람 옵션 집합을 Alarm.flag 비트의 합 하나로 저장하는 컨버터
+ */
+@Converter
+public class AlarmOptionsConverter implements AttributeConverter<Set<Alarm>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<Alarm> alarms) {
+        return toMask(alarms);
+    }
+
+    @Override
+    public Set<Alarm> convertToEntityAttribute(Integer mask) {
+        EnumSet<Alarm> alarms = EnumSet.noneOf(Alarm.class);
+        if (mask == null) return alarms;
+        for (Alarm alarm : Alarm.values()) {
+            if ((mask & alarm.getFlag()) != 0) alarms.add(alarm);
+        }
+        return alarms;
+    }
+
+    public static int toMask(Collection<Alarm> alarms) {
+        if (alarms == null) return 0;
+        return alarms.stream().mapToInt(Alarm::getFlag).reduce(0, (mask, flag) -> mask | flag);
+    }
+
+    // 요청으로 받은 목록을 중복 없는 집합으로 바꾸기, 엔티티에는 항상 새 집합을 넣어 변경 감지가 되도록 한다
+    public static Set<Alarm> toSet(Collection<Alarm> alarms) {
+        if (alarms == null || alarms.isEmpty()) return EnumSet.noneOf(Alarm.class);
+        return EnumSet.copyOf(alarms);
+    }
+}
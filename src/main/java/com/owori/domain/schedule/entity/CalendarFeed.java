@@ -0,0 +1,66 @@
+package com.owori.domain.schedule.entity;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
+import com.owori.global.audit.AuditListener;
+import com.owori.global.audit.Auditable;
+import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Where;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 캘린더 앱이 구독하는 ICS 피드, 토큰만 알면 로그인 없이 조회할 수 있으므로 재발급하면 기존 토큰은 삭제된다
+ * 가족 피드는 가족 일정을, 개인 피드는 member 의 개인 일정을 담는다
+ */
+@Getter
+@Entity
+@Where(clause = "deleted_at is null")
+@EntityListeners(AuditListener.class)
+@Table(indexes = @Index(name = "idx_calendar_feed_token", columnList = "token", unique = true))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarFeed implements Auditable {
+    @Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(nullable = false, length = 64)
+    private String token;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CalendarFeedScope scope;
+
+    @JoinColumn
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Family family;
+
+    @JoinColumn
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Member member;
+
+    // 마지막으로 내려준 피드 내용의 해시, 내용이 바뀐 시각을 Last-Modified 로 쓴다, CalendarFeedChangeRecorder 만 갱신한다
+    private String contentHash;
+
+    private LocalDateTime contentChangedAt;
+
+    @Setter
+    @Embedded
+    @Column(nullable = false)
+    private BaseTime baseTime;
+
+    @Builder
+    public CalendarFeed(String token, CalendarFeedScope scope, Family family, Member member) {
+        this.token = token;
+        this.scope = scope;
+        this.family = family;
+        this.member = member;
+    }
+}
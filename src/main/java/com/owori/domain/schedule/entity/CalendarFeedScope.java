@@ -0,0 +1,13 @@
+package com.owori.domain.schedule.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CalendarFeedScope {
+    FAMILY("가족 일정"),
+    MEMBER("개인 일정");
+
+    private final String toKorean;
+}
@@ -0,0 +1,66 @@
+package com.owori.domain.schedule.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 일정 반복 규칙, 반복 일정은 첫 회차 하나만 저장하고 조회 기간 안의 회차만 그때그때 펼친다
+ * until 과 count 가 모두 없으면 끝없이 반복한다
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Recurrence {
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_frequency")
+    private RecurrenceFrequency frequency;
+
+    // 이 날짜 이후에 시작하는 회차는 없음
+    @Column(name = "recurrence_until")
+    private LocalDate until;
+
+    // 첫 회차를 포함한 전체 회차 수
+    @Column(name = "recurrence_count")
+    private Integer count;
+
+    // 마지막 회차의 종료일, 끝없이 반복하면 null (기간 조회 조건에 사용)
+    @Column(name = "recurrence_last_end_date")
+    private LocalDate lastEndDate;
+
+    private Recurrence(RecurrenceFrequency frequency, LocalDate until, Integer count, LocalDate lastEndDate) {
+        this.frequency = frequency;
+        this.until = until;
+        this.count = count;
+        this.lastEndDate = lastEndDate;
+    }
+
+    /**
+     * 첫 회차의 시작일과 종료일로 마지막 회차의 종료일을 계산해서 반복 규칙 생성
+     */
+    public static Recurrence of(RecurrenceFrequency frequency, LocalDate until, Integer count, LocalDate startDate, LocalDate endDate) {
+        if (frequency == null) return null;
+        long durationDays = endDate.toEpochDay() - startDate.toEpochDay();
+
+        LocalDate lastStartDate = null;
+        if (count != null) lastStartDate = startDate.plus(count - 1L, frequency.getUnit());
+        if (until != null && (lastStartDate == null || until.isBefore(lastStartDate))) lastStartDate = until;
+
+        LocalDate lastEndDate = lastStartDate == null ? null : lastStartDate.plusDays(durationDays);
+        return new Recurrence(frequency, until, count, lastEndDate);
+    }
+
+    public static boolean isSameRule(Recurrence recurrence, Recurrence other) {
+        if (recurrence == null || other == null) return recurrence == other;
+        return recurrence.frequency == other.frequency
+                && Objects.equals(recurrence.until, other.until)
+                && Objects.equals(recurrence.count, other.count);
+    }
+}
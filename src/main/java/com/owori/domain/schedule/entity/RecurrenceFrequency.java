@@ -0,0 +1,17 @@
+package com.owori.domain.schedule.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@RequiredArgsConstructor
+public enum RecurrenceFrequency {
+    WEEKLY("매주", ChronoUnit.WEEKS),
+    MONTHLY("매월", ChronoUnit.MONTHS),
+    YEARLY("매년", ChronoUnit.YEARS);
+
+    private final String toKorean;
+    private final ChronoUnit unit;
+}
@@ -1,28 +1,37 @@
 package com.owori.domain.schedule.entity;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Getter
 @Entity
 @Where(clause = "deleted_at is null")
 @EntityListeners(AuditListener.class) // 자동으로 시간 매핑
+@Table(indexes = {
+        @Index(name = "idx_schedule_member_period", columnList = "member_id, start_date, end_date"),
+        @Index(name = "idx_schedule_member_dday", columnList = "member_id, d_day_option, start_date")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Schedule implements Auditable {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -43,35 +52,93 @@ public class Schedule implements Auditable {
     @JoinColumn
     private Member member;
 
+    // 작성 당시 작성자의 가족, 가족 단위 조회를 작성자 조인 없이 처리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Family family;
+
     private Boolean dDayOption;
 
-    // 알람 옵션이 여러개일 수 있음
-    @Enumerated(EnumType.STRING)
-    @JoinColumn
-    @ElementCollection(fetch = FetchType.LAZY)
-    private List<Alarm> alarmList = new ArrayList<>();
+    // 알람 옵션이 여러개일 수 있음, 별도 테이블 대신 비트마스크 컬럼 하나에 저장
+    @Getter(AccessLevel.NONE)
+    @Convert(converter = AlarmOptionsConverter.class)
+    @Column(name = "alarm_options", nullable = false)
+    private Set<Alarm> alarmOptions = EnumSet.noneOf(Alarm.class);
+
+    // 반복 일정이 아니면 null, 반복 일정은 첫 회차만 저장
+    @Embedded
+    private Recurrence recurrence;
+
+    // 반복 일정의 회차별 예외, 반복 일정을 펼칠 때만 여러 일정 단위로 모아서 읽는다
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL)
+    private List<ScheduleOccurrenceOverride> occurrenceOverrides = new ArrayList<>();
 
     @Setter
     @Embedded
     @Column(nullable = false)
     private BaseTime baseTime;
 
-    @Builder
     public Schedule(String title, LocalDate startDate, LocalDate endDate, ScheduleType scheduleType, Boolean dDayOption, List<Alarm> alarmList, Member member) {
+        this(title, startDate, endDate, scheduleType, dDayOption, alarmList, null, member);
+    }
+
+    @Builder
+    public Schedule(String title, LocalDate startDate, LocalDate endDate, ScheduleType scheduleType, Boolean dDayOption, List<Alarm> alarmList, Recurrence recurrence, Member member) {
         this.title = title;
         this.startDate = startDate;
         this.endDate = endDate;
         this.scheduleType = scheduleType;
         this.dDayOption = dDayOption;
-        this.alarmList = alarmList;
+        this.alarmOptions = AlarmOptionsConverter.toSet(alarmList);
+        this.recurrence = recurrence;
         this.member = member;
+        this.family = member.getFamily();
     }
 
-    public void updateSchedule(String title, LocalDate startDate, LocalDate endDate, Boolean dDayOption, List<Alarm> alarmList) {
+    public void updateSchedule(String title, LocalDate startDate, LocalDate endDate, Boolean dDayOption, List<Alarm> alarmList, Recurrence recurrence) {
+        // 회차 날짜가 달라지면 기존 회차 예외는 더 이상 맞지 않음
+        if (!this.startDate.equals(startDate) || !this.endDate.equals(endDate) || !Recurrence.isSameRule(this.recurrence, recurrence)) {
+            clearOccurrenceOverrides();
+        }
         this.title = title;
         this.startDate = startDate;
         this.endDate = endDate;
         this.dDayOption = dDayOption;
-        this.alarmList = alarmList;
+        this.alarmOptions = AlarmOptionsConverter.toSet(alarmList);
+        this.recurrence = recurrence;
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * originalDate 회차를 취소하거나 바꾸기, 이미 예외가 있으면 덮어쓴다
+     */
+    public void overrideOccurrence(LocalDate originalDate, Boolean canceled, String title, LocalDate startDate, LocalDate endDate) {
+        boolean isCanceled = Boolean.TRUE.equals(canceled);
+        occurrenceOverrides.stream()
+                .filter(override -> override.getOriginalDate().equals(originalDate))
+                .findFirst()
+                .ifPresentOrElse(
+                        override -> override.update(isCanceled, title, startDate, endDate),
+                        () -> occurrenceOverrides.add(ScheduleOccurrenceOverride.builder()
+                                .schedule(this)
+                                .originalDate(originalDate)
+                                .canceled(isCanceled)
+                                .title(title)
+                                .startDate(startDate)
+                                .endDate(endDate)
+                                .build()));
+    }
+
+    private void clearOccurrenceOverrides() {
+        occurrenceOverrides.forEach(ScheduleOccurrenceOverride::delete);
+        occurrenceOverrides.clear();
+    }
+
+    public List<Alarm> getAlarmList() {
+        return List.copyOf(alarmOptions);
     }
 }
@@ -0,0 +1,65 @@
+package com.owori.domain.schedule.entity;
+
+import com.owori.global.audit.AuditListener;
+import com.owori.global.audit.Auditable;
+import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Where;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 일정의 알람 옵션으로 계산된 실제 알람 발송 예정 시각
+ * 발송 서버가 가져갈 때 dispatchToken 과 claimedUntil 로 선점하고, 발송에 성공한 뒤에 dispatchedAt 을 채운다
+ * 선점한 서버가 발송 전에 내려가도 claimedUntil 이 지나면 다시 발송 대기 알람으로 조회된다
+ */
+@Getter
+@Entity
+@Where(clause = "deleted_at is null")
+@EntityListeners(AuditListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_schedule_alarm_due", columnList = "dispatched_at, deleted_at, fire_at"),
+        @Index(name = "idx_schedule_alarm_dispatch_token", columnList = "dispatch_token")
+})
+public class ScheduleAlarm implements Auditable {
+    @Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @JoinColumn
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Schedule schedule;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Alarm alarm;
+
+    @Column(nullable = false)
+    private LocalDateTime fireAt;
+
+    private LocalDateTime dispatchedAt;
+
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID dispatchToken;
+
+    private LocalDateTime claimedUntil;
+
+    @Setter
+    @Embedded
+    @Column(nullable = false)
+    private BaseTime baseTime;
+
+    @Builder
+    public ScheduleAlarm(Schedule schedule, Alarm alarm, LocalDateTime fireAt) {
+        this.schedule = schedule;
+        this.alarm = alarm;
+        this.fireAt = fireAt;
+    }
+}
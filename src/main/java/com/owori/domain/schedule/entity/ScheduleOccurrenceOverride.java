@@ -0,0 +1,68 @@
+package com.owori.domain.schedule.entity;
+
+import com.owori.global.audit.AuditListener;
+import com.owori.global.audit.Auditable;
+import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Where;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 반복 일정 중 한 회차만 취소하거나 날짜, 제목을 바꾼 예외
+ * originalDate 는 반복 규칙으로 계산된 원래 회차 시작일이고, 비어 있는 값은 반복 일정의 값을 그대로 쓴다
+ */
+@Getter
+@Entity
+@Where(clause = "deleted_at is null")
+@EntityListeners(AuditListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleOccurrenceOverride implements Auditable {
+    @Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @JoinColumn
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Schedule schedule;
+
+    @Column(nullable = false)
+    private LocalDate originalDate;
+
+    @Column(nullable = false)
+    private Boolean canceled;
+
+    private String title;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Setter
+    @Embedded
+    @Column(nullable = false)
+    private BaseTime baseTime;
+
+    @Builder
+    public ScheduleOccurrenceOverride(Schedule schedule, LocalDate originalDate, Boolean canceled, String title, LocalDate startDate, LocalDate endDate) {
+        this.schedule = schedule;
+        this.originalDate = originalDate;
+        this.canceled = canceled;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public void update(Boolean canceled, String title, LocalDate startDate, LocalDate endDate) {
+        this.canceled = canceled;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
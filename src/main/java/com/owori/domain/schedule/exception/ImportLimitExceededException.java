@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class ImportLimitExceededException extends IllegalArgumentException {
+    private static final String MESSAGE = "한 번에 가져올 수 있는 일정 수를 초과했습니다.";
+
+    public ImportLimitExceededException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class InvalidIcsEventException extends IllegalArgumentException {
+    private static final String MESSAGE = "일정의 제목이나 날짜를 읽을 수 없습니다.";
+
+    public InvalidIcsEventException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class InvalidScheduleFormatException extends IllegalArgumentException {
+    private static final String MESSAGE = "일정 형식이 올바르지 않습니다.";
+
+    public InvalidScheduleFormatException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class NoSuchOccurrenceException extends IllegalArgumentException {
+    private static final String MESSAGE = "반복 일정에 해당 날짜의 회차가 없습니다.";
+
+    public NoSuchOccurrenceException() {
+        super(MESSAGE);
+    }
+}
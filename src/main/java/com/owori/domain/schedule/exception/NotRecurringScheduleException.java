@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class NotRecurringScheduleException extends IllegalArgumentException {
+    private static final String MESSAGE = "반복 일정이 아닙니다.";
+
+    public NotRecurringScheduleException() {
+        super(MESSAGE);
+    }
+}
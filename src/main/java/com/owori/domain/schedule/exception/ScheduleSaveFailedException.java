@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class ScheduleSaveFailedException extends IllegalStateException {
+    private static final String MESSAGE = "일정을 저장하지 못했습니다. 다시 시도해주세요.";
+
+    public ScheduleSaveFailedException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class UnreadableScheduleException extends IllegalArgumentException {
+    private static final String MESSAGE = "일정을 읽을 수 없어 가져오기를 중단했습니다.";
+
+    public UnreadableScheduleException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.owori.domain.schedule.exception;
+
+public class UnsupportedRecurrenceException extends IllegalArgumentException {
+    private static final String MESSAGE = "지원하지 않는 반복 규칙입니다. 매주, 매월, 매년 반복만 가져올 수 있습니다.";
+
+    public UnsupportedRecurrenceException() {
+        super(MESSAGE);
+    }
+}
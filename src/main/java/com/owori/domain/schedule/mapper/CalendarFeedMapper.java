@@ -0,0 +1,147 @@
+package com.owori.domain.schedule.mapper;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.schedule.cache.ScheduleSummary;
+import com.owori.domain.schedule.calendar.CalendarFeedContent;
+import com.owori.domain.schedule.calendar.IcsWriter;
+import com.owori.domain.schedule.dto.response.CalendarFeedResponse;
+import com.owori.domain.schedule.entity.CalendarFeed;
+import com.owori.domain.schedule.entity.CalendarFeedScope;
+import com.owori.domain.schedule.entity.Recurrence;
+import com.owori.domain.schedule.recurrence.Occurrence;
+import com.owori.domain.schedule.recurrence.OccurrenceOverride;
+import com.owori.domain.schedule.recurrence.RecurrenceExpander;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+@Component
+public class CalendarFeedMapper {
+    private static final String PRODUCT_ID = "-//Owori//Family Calendar//KO";
+
+    public CalendarFeed toEntity(String token, CalendarFeedScope scope, Family family, Member member) {
+        return CalendarFeed.builder()
+                .token(token)
+                .scope(scope)
+                .family(family)
+                .member(member)
+                .build();
+    }
+
+    public CalendarFeedResponse toResponse(CalendarFeed calendarFeed) {
+        return new CalendarFeedResponse(calendarFeed.getScope(), "/calendar/" + calendarFeed.getToken() + ".ics");
+    }
+
+    /**
+     * 피드에 쓰이는 값만으로 계산한 해시, 일정 추가/수정/삭제와 회차 예외가 모두 반영된다
+     */
+    public String toContentHash(String calendarName, List<ScheduleSummary> schedules) {
+        MessageDigest digest = sha256();
+        update(digest, calendarName);
+        for (ScheduleSummary schedule : schedules) {
+            update(digest, schedule.getScheduleId(), schedule.getTitle(), schedule.getStartDate(), schedule.getEndDate(),
+                    schedule.getScheduleType(), schedule.getNickname());
+            if (!schedule.isRecurring()) continue;
+            Recurrence recurrence = schedule.getRecurrence();
+            update(digest, recurrence.getFrequency(), recurrence.getUntil(), recurrence.getCount());
+            for (OccurrenceOverride override : sortedOverrides(schedule)) {
+                update(digest, override.getOriginalDate(), override.isCanceled(), override.getTitle(),
+                        override.getStartDate(), override.getEndDate());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 일정을 VEVENT 로 바로 출력, 반복 일정은 회차를 펼치지 않고 RRULE 과 EXDATE, RECURRENCE-ID 로 표현한다
+     */
+    public void writeCalendar(CalendarFeedContent content, OutputStream outputStream) throws IOException {
+        IcsWriter ics = new IcsWriter(outputStream);
+        ics.begin("VCALENDAR")
+                .property("VERSION", "2.0")
+                .property("PRODID", PRODUCT_ID)
+                .property("CALSCALE", "GREGORIAN")
+                .text("X-WR-CALNAME", content.getCalendarName());
+
+        for (ScheduleSummary schedule : content.getSchedules()) {
+            writeEvent(ics, content, schedule);
+            ics.flush();
+        }
+        ics.end("VCALENDAR").flush();
+    }
+
+    private void writeEvent(IcsWriter ics, CalendarFeedContent content, ScheduleSummary schedule) throws IOException {
+        List<OccurrenceOverride> overrides = sortedOverrides(schedule);
+
+        ics.begin("VEVENT");
+        writeCommon(ics, content, schedule);
+        ics.date("DTSTART", schedule.getStartDate())
+                // 종일 일정의 DTEND 는 마지막 날의 다음 날
+                .date("DTEND", schedule.getEndDate().plusDays(1))
+                .text("SUMMARY", schedule.getTitle());
+        if (schedule.isRecurring()) {
+            ics.property("RRULE", toRule(schedule.getRecurrence()));
+            for (OccurrenceOverride override : overrides) {
+                if (override.isCanceled()) ics.date("EXDATE", override.getOriginalDate());
+            }
+        }
+        ics.end("VEVENT");
+
+        for (OccurrenceOverride override : overrides) {
+            if (override.isCanceled()) continue;
+            Occurrence occurrence = RecurrenceExpander.toOccurrence(schedule, override);
+            ics.begin("VEVENT");
+            writeCommon(ics, content, schedule);
+            ics.date("RECURRENCE-ID", occurrence.getOriginalDate())
+                    .date("DTSTART", occurrence.getStartDate())
+                    .date("DTEND", occurrence.getEndDate().plusDays(1))
+                    .text("SUMMARY", occurrence.getTitle())
+                    .end("VEVENT");
+        }
+    }
+
+    private void writeCommon(IcsWriter ics, CalendarFeedContent content, ScheduleSummary schedule) throws IOException {
+        ics.property("UID", schedule.getScheduleId() + "@owori")
+                .dateTime("DTSTAMP", content.getLastModified())
+                .text("CATEGORIES", schedule.getScheduleType().getToKorean())
+                .text("DESCRIPTION", schedule.getNickname());
+    }
+
+    private String toRule(Recurrence recurrence) {
+        StringBuilder rule = new StringBuilder("FREQ=").append(recurrence.getFrequency().name());
+        if (recurrence.getCount() != null) rule.append(";COUNT=").append(recurrence.getCount());
+        if (recurrence.getUntil() != null) rule.append(";UNTIL=").append(DateTimeFormatter.BASIC_ISO_DATE.format(recurrence.getUntil()));
+        return rule.toString();
+    }
+
+    private List<OccurrenceOverride> sortedOverrides(ScheduleSummary schedule) {
+        if (schedule.getOverrides() == null) return List.of();
+        return schedule.getOverrides().stream()
+                .sorted(Comparator.comparing(OccurrenceOverride::getOriginalDate))
+                .toList();
+    }
+
+    private void update(MessageDigest digest, Object... values) {
+        for (Object value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.owori.domain.schedule.mapper;
+
+import com.owori.domain.schedule.calendar.IcsEvent;
+import com.owori.domain.schedule.calendar.IcsProperty;
+import com.owori.domain.schedule.calendar.IcsReader;
+import com.owori.domain.schedule.dto.request.AddScheduleRequest;
+import com.owori.domain.schedule.dto.request.RecurrenceRequest;
+import com.owori.domain.schedule.dto.response.ScheduleImportResponse;
+import com.owori.domain.schedule.dto.response.ScheduleImportResult;
+import com.owori.domain.schedule.entity.RecurrenceFrequency;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.exception.InvalidIcsEventException;
+import com.owori.domain.schedule.exception.UnsupportedRecurrenceException;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Component
+public class ScheduleImportMapper {
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Set<String> SUPPORTED_RULE_PARTS = Set.of("FREQ", "COUNT", "UNTIL", "INTERVAL", "WKST", "BYDAY", "BYMONTHDAY", "BYMONTH");
+
+    /**
+     * VEVENT 를 일정 추가 요청으로 변환, 종일 일정의 DTEND 는 다음 날이므로 하루 앞당긴다
+     * 지난 반복 일정(생일 등)은 오늘 이후 첫 회차부터 시작하도록 옮긴다
+     */
+    public AddScheduleRequest toAddScheduleRequest(IcsEvent event, ScheduleType scheduleType, LocalDate nowDate) {
+        String title = event.find("SUMMARY")
+                .map(summary -> IcsReader.unescape(summary.getValue()).trim())
+                .filter(summary -> !summary.isEmpty())
+                .orElseThrow(InvalidIcsEventException::new);
+        IcsProperty start = event.find("DTSTART").orElseThrow(InvalidIcsEventException::new);
+        LocalDate startDate = toDate(start);
+        LocalDate endDate = event.find("DTEND").map(end -> toEndDate(end, startDate)).orElse(startDate);
+        if (endDate.isBefore(startDate)) throw new InvalidIcsEventException();
+
+        RecurrenceRequest recurrence = event.find("RRULE").map(rule -> toRecurrenceRequest(rule.getValue(), startDate)).orElse(null);
+        if (recurrence != null && endDate.isBefore(nowDate)) {
+            return toUpcomingRequest(title, startDate, endDate, scheduleType, recurrence, nowDate);
+        }
+        return new AddScheduleRequest(title, startDate, endDate, scheduleType, false, List.of(), recurrence);
+    }
+
+    private AddScheduleRequest toUpcomingRequest(String title, LocalDate startDate, LocalDate endDate, ScheduleType scheduleType,
+                                                 RecurrenceRequest recurrence, LocalDate nowDate) {
+        ChronoUnit unit = recurrence.getFrequency().getUnit();
+        long durationDays = ChronoUnit.DAYS.between(startDate, endDate);
+        // 첫 회차 기준으로 더해야 월말 날짜 보정이 반복 일정 펼치기와 같아진다
+        long index = Math.max(0L, unit.between(startDate, nowDate) - 1);
+        while (startDate.plus(index, unit).plusDays(durationDays).isBefore(nowDate)) index++;
+
+        LocalDate upcomingStartDate = startDate.plus(index, unit);
+        Integer count = recurrence.getCount() == null ? null : (int) Math.max(0, recurrence.getCount() - index);
+        // 남은 회차가 없으면 옮기지 않고 그대로 두어 검증에서 실패하게 한다
+        boolean hasUpcoming = (count == null || count > 0)
+                && (recurrence.getUntil() == null || !upcomingStartDate.isAfter(recurrence.getUntil()));
+        if (!hasUpcoming) return new AddScheduleRequest(title, startDate, endDate, scheduleType, false, List.of(), recurrence);
+
+        return new AddScheduleRequest(title, upcomingStartDate, upcomingStartDate.plusDays(durationDays), scheduleType, false, List.of(),
+                new RecurrenceRequest(recurrence.getFrequency(), recurrence.getUntil(), count));
+    }
+
+    private LocalDate toEndDate(IcsProperty end, LocalDate startDate) {
+        LocalDate endDate = toDate(end);
+        // DTEND 는 포함하지 않는 값이므로 종일 일정이거나 자정에 끝나는 일정은 전날이 마지막 날
+        boolean exclusive = isDate(end) || end.getValue().contains("T000000");
+        if (exclusive && endDate.isAfter(startDate)) return endDate.minusDays(1);
+        return endDate;
+    }
+
+    private LocalDate toDate(IcsProperty property) {
+        String value = property.getValue().trim();
+        try {
+            if (isDate(property) || value.length() == 8) return LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+            LocalDateTime dateTime = LocalDateTime.parse(value.substring(0, 15), DATE_TIME);
+            if (!value.endsWith("Z")) return dateTime.toLocalDate();
+            return dateTime.atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+        } catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new InvalidIcsEventException();
+        }
+    }
+
+    private boolean isDate(IcsProperty property) {
+        return "DATE".equalsIgnoreCase(property.getParameter("VALUE"));
+    }
+
+    /**
+     * 첫 회차 날짜만으로 표현할 수 있는 RRULE 만 변환, 간격이나 여러 요일처럼 펼치기가 다른 규칙은 지원하지 않는다
+     */
+    private RecurrenceRequest toRecurrenceRequest(String rule, LocalDate startDate) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.split(";")) {
+            int equals = part.indexOf('=');
+            if (equals < 0) throw new UnsupportedRecurrenceException();
+            parts.put(part.substring(0, equals).trim().toUpperCase(Locale.ROOT), part.substring(equals + 1).trim().toUpperCase(Locale.ROOT));
+        }
+        if (!SUPPORTED_RULE_PARTS.containsAll(parts.keySet())) throw new UnsupportedRecurrenceException();
+        if (parts.containsKey("INTERVAL") && !parts.get("INTERVAL").equals("1")) throw new UnsupportedRecurrenceException();
+        if (!restatesStartDate(parts, startDate)) throw new UnsupportedRecurrenceException();
+
+        RecurrenceFrequency frequency = Arrays.stream(RecurrenceFrequency.values())
+                .filter(value -> value.name().equals(parts.get("FREQ")))
+                .findFirst()
+                .orElseThrow(UnsupportedRecurrenceException::new);
+        try {
+            Integer count = parts.containsKey("COUNT") ? Integer.valueOf(parts.get("COUNT")) : null;
+            LocalDate until = parts.containsKey("UNTIL") ? LocalDate.parse(parts.get("UNTIL").substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE) : null;
+            return new RecurrenceRequest(frequency, until, count);
+        } catch (NumberFormatException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new UnsupportedRecurrenceException();
+        }
+    }
+
+    // BY 규칙이 첫 회차의 요일, 날짜, 월을 다시 적은 것뿐일 때만 허용 (구글 캘린더 내보내기 형식)
+    private boolean restatesStartDate(Map<String, String> parts, LocalDate startDate) {
+        String byDay = parts.get("BYDAY");
+        if (byDay != null && !byDay.equals(startDate.getDayOfWeek().name().substring(0, 2))) return false;
+        String byMonthDay = parts.get("BYMONTHDAY");
+        if (byMonthDay != null && !byMonthDay.equals(String.valueOf(startDate.getDayOfMonth()))) return false;
+        String byMonth = parts.get("BYMONTH");
+        return byMonth == null || byMonth.equals(String.valueOf(startDate.getMonthValue()));
+    }
+
+    public ScheduleImportResult toSuccessResult(int row, UUID scheduleId) {
+        return new ScheduleImportResult(row, true, scheduleId, null);
+    }
+
+    public ScheduleImportResult toFailureResult(int row, String message) {
+        return new ScheduleImportResult(row, false, null, message);
+    }
+
+    public ScheduleImportResponse toResponse(int totalCount, List<ScheduleImportResult> results) {
+        List<ScheduleImportResult> sorted = results.stream()
+                .sorted(Comparator.comparingInt(ScheduleImportResult::getRow))
+                .toList();
+        int importedCount = (int) sorted.stream().filter(ScheduleImportResult::isSuccess).count();
+        return new ScheduleImportResponse(totalCount, importedCount, sorted);
+    }
+}
@@ -1,15 +1,26 @@
 package com.owori.domain.schedule.mapper;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
+import com.owori.domain.schedule.alarm.AlarmNotification;
+import com.owori.domain.schedule.cache.ScheduleSummary;
 import com.owori.domain.schedule.dto.request.AddScheduleRequest;
+import com.owori.domain.schedule.dto.request.RecurrenceRequest;
 import com.owori.domain.schedule.dto.response.ScheduleByMonthResponse;
 import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
-import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.entity.*;
+import com.owori.domain.schedule.recurrence.Occurrence;
+import com.owori.domain.schedule.recurrence.OccurrenceOverride;
+import com.owori.domain.schedule.recurrence.RecurrenceExpander;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.Period;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 public class ScheduleMapper {
@@ -21,48 +32,145 @@ public class ScheduleMapper {
                 .scheduleType(request.getScheduleType())
                 .dDayOption(request.getDdayOption())
                 .alarmList(request.getAlarmOptions())
+                .recurrence(toRecurrence(request.getRecurrence(), request.getStartDate(), request.getEndDate()))
                 .member(member)
                 .build();
     }
 
-    public List<ScheduleByMonthResponse> toMonthResponseList(List<Schedule> schedules) {
+    public Recurrence toRecurrence(RecurrenceRequest request, LocalDate startDate, LocalDate endDate) {
+        if (request == null) return null;
+        return Recurrence.of(request.getFrequency(), request.getUntil(), request.getCount(), startDate, endDate);
+    }
+
+    public ScheduleSummary toSummary(Schedule schedule) {
+        return ScheduleSummary.builder()
+                .scheduleId(schedule.getId())
+                .title(schedule.getTitle())
+                .startDate(schedule.getStartDate())
+                .endDate(schedule.getEndDate())
+                .scheduleType(schedule.getScheduleType())
+                .memberId(schedule.getMember().getId())
+                .nickname(schedule.getMember().getNickname())
+                .color(schedule.getMember().getColor())
+                .dDayOption(schedule.getDDayOption())
+                .alarmList(schedule.getAlarmList())
+                .createdAt(schedule.getBaseTime() == null ? null : schedule.getBaseTime().getCreatedAt())
+                .recurrence(schedule.getRecurrence())
+                .overrides(toOverrideList(schedule))
+                .build();
+    }
+
+    // 반복 일정일 때만 회차 예외를 읽어서 반복하지 않는 일정은 추가 조회가 없게 한다
+    private List<OccurrenceOverride> toOverrideList(Schedule schedule) {
+        if (!schedule.isRecurring()) return List.of();
+        return schedule.getOccurrenceOverrides().stream()
+                .map(override -> new OccurrenceOverride(override.getOriginalDate(), override.getCanceled(),
+                        override.getTitle(), override.getStartDate(), override.getEndDate()))
+                .toList();
+    }
+
+    public List<ScheduleSummary> toSummaryList(List<Schedule> schedules) {
         return schedules.stream()
-                .map(this::toMonthResponse)
+                .map(this::toSummary)
                 .toList();
     }
 
-    public List<ScheduleDDayResponse> toDDayResponseList(List<Schedule> schedules) {
+    /**
+     * 일정을 기간 안의 회차로 펼쳐서 회차 시작일 순으로 변환
+     */
+    public List<ScheduleByMonthResponse> toMonthResponseList(List<ScheduleSummary> schedules, LocalDate startDate, LocalDate endDate) {
         return schedules.stream()
-                .map(schedule -> toDDayResponse(schedule, toDDay(schedule.getStartDate())))
+                .flatMap(schedule -> RecurrenceExpander.expand(schedule, startDate, endDate).stream()
+                        .map(occurrence -> toMonthResponse(schedule, occurrence)))
+                .sorted(Comparator.comparing(ScheduleByMonthResponse::getStartDate))
                 .toList();
     }
 
-    private ScheduleByMonthResponse toMonthResponse(Schedule schedule) {
+    /**
+     * 일정마다 오늘 이후 가장 가까운 회차 하나를 회차 시작일 순으로 변환
+     */
+    public List<ScheduleDDayResponse> toDDayResponseList(List<ScheduleSummary> schedules, LocalDate nowDate) {
+        return schedules.stream()
+                .flatMap(schedule -> RecurrenceExpander.findFirstStartingFrom(schedule, nowDate).stream()
+                        .map(occurrence -> toDDayResponse(schedule, occurrence, toDDay(occurrence.getStartDate()))))
+                .sorted(Comparator.comparing(ScheduleDDayResponse::getStartDate))
+                .toList();
+    }
+
+    private ScheduleByMonthResponse toMonthResponse(ScheduleSummary schedule, Occurrence occurrence) {
         return ScheduleByMonthResponse.builder()
-                .scheduleId(schedule.getId())
-                .title(schedule.getTitle())
-                .startDate(schedule.getStartDate())
-                .endDate(schedule.getEndDate())
+                .scheduleId(schedule.getScheduleId())
+                .title(occurrence.getTitle())
+                .startDate(occurrence.getStartDate())
+                .endDate(occurrence.getEndDate())
                 .scheduleType(schedule.getScheduleType())
-                .nickname(schedule.getMember().getNickname())
-                .color(schedule.getMember().getColor())
+                .nickname(schedule.getNickname())
+                .color(schedule.getColor())
                 .ddayOption(schedule.getDDayOption())
                 .alarmOptions(schedule.getAlarmList())
+                .frequency(toFrequency(schedule))
+                .originalDate(occurrence.getOriginalDate())
                 .build();
     }
 
-    private ScheduleDDayResponse toDDayResponse(Schedule schedule, String dDay) {
+    private ScheduleDDayResponse toDDayResponse(ScheduleSummary schedule, Occurrence occurrence, String dDay) {
         return ScheduleDDayResponse.builder()
-                .scheduleId(schedule.getId())
-                .title(schedule.getTitle())
-                .startDate(schedule.getStartDate())
-                .endDate(schedule.getEndDate())
+                .scheduleId(schedule.getScheduleId())
+                .title(occurrence.getTitle())
+                .startDate(occurrence.getStartDate())
+                .endDate(occurrence.getEndDate())
                 .dday(dDay)
                 .scheduleType(schedule.getScheduleType())
-                .nickname(schedule.getMember().getNickname())
-                .color(schedule.getMember().getColor())
+                .nickname(schedule.getNickname())
+                .color(schedule.getColor())
                 .ddayOption(schedule.getDDayOption())
                 .alarmOptions(schedule.getAlarmList())
+                .frequency(toFrequency(schedule))
+                .originalDate(occurrence.getOriginalDate())
+                .build();
+    }
+
+    private RecurrenceFrequency toFrequency(ScheduleSummary schedule) {
+        return schedule.isRecurring() ? schedule.getRecurrence().getFrequency() : null;
+    }
+
+    /**
+     * 알람 옵션마다 after 이후에 울릴 가장 가까운 회차의 알람 생성, 반복 일정은 다음 회차 알람을 발송 시점에 다시 만든다
+     */
+    public List<ScheduleAlarm> toAlarmEntityList(Schedule schedule, LocalTime fireTime, LocalDateTime after) {
+        ScheduleSummary series = toSummary(schedule);
+        return schedule.getAlarmList().stream()
+                .map(alarm -> toAlarmEntity(schedule, series, alarm, fireTime, after))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    public Optional<ScheduleAlarm> toAlarmEntity(Schedule schedule, ScheduleSummary series, Alarm alarm, LocalTime fireTime, LocalDateTime after) {
+        // after 이후에 울리려면 회차 시작일이 이 날짜 이후여야 함
+        LocalDate firstStartDate = after.toLocalDate().plusDays(alarm.getDaysBefore());
+        if (!after.toLocalTime().isBefore(fireTime)) firstStartDate = firstStartDate.plusDays(1);
+
+        return RecurrenceExpander.findFirstStartingFrom(series, firstStartDate)
+                .map(occurrence -> ScheduleAlarm.builder()
+                        .schedule(schedule)
+                        .alarm(alarm)
+                        .fireAt(alarm.toFireAt(occurrence.getStartDate(), fireTime))
+                        .build());
+    }
+
+    public AlarmNotification toAlarmNotification(ScheduleAlarm scheduleAlarm) {
+        Schedule schedule = scheduleAlarm.getSchedule();
+        Family family = schedule.getMember().getFamily();
+        return AlarmNotification.builder()
+                .alarmId(scheduleAlarm.getId())
+                .scheduleId(schedule.getId())
+                .memberId(schedule.getMember().getId())
+                .familyId(family == null ? null : family.getId())
+                .scheduleType(schedule.getScheduleType())
+                .title(schedule.getTitle())
+                .startDate(scheduleAlarm.getFireAt().toLocalDate().plusDays(scheduleAlarm.getAlarm().getDaysBefore()))
+                .alarm(scheduleAlarm.getAlarm())
+                .fireAt(scheduleAlarm.getFireAt())
                 .build();
     }
 
@@ -0,0 +1,18 @@
+package com.owori.domain.schedule.recurrence;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 일정을 펼친 회차 하나, 반복하지 않는 일정은 originalDate 가 시작일인 회차 하나로 펼쳐진다
+ */
+@Getter
+@AllArgsConstructor
+public class Occurrence {
+    private final LocalDate originalDate;
+    private final String title;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
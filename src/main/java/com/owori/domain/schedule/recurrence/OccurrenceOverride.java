@@ -0,0 +1,19 @@
+package com.owori.domain.schedule.recurrence;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 캐시에 보관하는 회차 예외의 불변 복사본
+ */
+@Getter
+@AllArgsConstructor
+public class OccurrenceOverride {
+    private final LocalDate originalDate;
+    private final boolean canceled;
+    private final String title;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
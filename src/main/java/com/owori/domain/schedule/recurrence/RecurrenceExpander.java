@@ -0,0 +1,127 @@
+package com.owori.domain.schedule.recurrence;
+
+import com.owori.domain.schedule.cache.ScheduleSummary;
+import com.owori.domain.schedule.entity.Recurrence;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 반복 일정을 요청한 기간 안의 회차로만 펼치는 유틸
+ * 첫 회차부터 세지 않고 기간 시작 직전 회차로 바로 건너뛰므로 비용은 기간 안의 회차 수에 비례한다
+ */
+public final class RecurrenceExpander {
+    private RecurrenceExpander() {
+    }
+
+    /**
+     * 기간 [from, to] 와 겹치는 회차를 시작일 순으로 반환, 취소된 회차는 빠지고 바뀐 회차는 바뀐 값으로 반환
+     */
+    public static List<Occurrence> expand(final ScheduleSummary series, final LocalDate from, final LocalDate to) {
+        Map<LocalDate, OccurrenceOverride> overrides = toMap(series.getOverrides());
+        long durationDays = durationDays(series);
+        List<Occurrence> occurrences = new ArrayList<>();
+
+        long index = firstIndexNear(series, from.minusDays(durationDays));
+        for (LocalDate originalDate = nth(series, index); isWithinRule(series, index, originalDate) && !originalDate.isAfter(to);
+             originalDate = nth(series, ++index)) {
+            if (overrides.containsKey(originalDate)) continue;
+            if (!originalDate.plusDays(durationDays).isBefore(from)) {
+                occurrences.add(new Occurrence(originalDate, series.getTitle(), originalDate, originalDate.plusDays(durationDays)));
+            }
+        }
+
+        // 바뀐 회차는 원래 날짜와 상관없이 바뀐 기간으로 판단
+        overrides.values().stream()
+                .filter(override -> !override.isCanceled())
+                .map(override -> toOccurrence(series, override, durationDays))
+                .filter(occurrence -> !occurrence.getStartDate().isAfter(to) && !occurrence.getEndDate().isBefore(from))
+                .forEach(occurrences::add);
+
+        occurrences.sort(Comparator.comparing(Occurrence::getStartDate).thenComparing(Occurrence::getOriginalDate));
+        return occurrences;
+    }
+
+    /**
+     * date 이후에 시작하는 가장 가까운 회차
+     */
+    public static Optional<Occurrence> findFirstStartingFrom(final ScheduleSummary series, final LocalDate date) {
+        Map<LocalDate, OccurrenceOverride> overrides = toMap(series.getOverrides());
+        long durationDays = durationDays(series);
+
+        Occurrence first = null;
+        long index = firstIndexNear(series, date);
+        for (LocalDate originalDate = nth(series, index); isWithinRule(series, index, originalDate); originalDate = nth(series, ++index)) {
+            if (originalDate.isBefore(date) || overrides.containsKey(originalDate)) continue;
+            first = new Occurrence(originalDate, series.getTitle(), originalDate, originalDate.plusDays(durationDays));
+            break;
+        }
+
+        Optional<Occurrence> moved = overrides.values().stream()
+                .filter(override -> !override.isCanceled())
+                .map(override -> toOccurrence(series, override, durationDays))
+                .filter(occurrence -> !occurrence.getStartDate().isBefore(date))
+                .min(Comparator.comparing(Occurrence::getStartDate));
+
+        if (first == null) return moved;
+        if (moved.isPresent() && moved.get().getStartDate().isBefore(first.getStartDate())) return moved;
+        return Optional.of(first);
+    }
+
+    /**
+     * 반복 규칙으로 계산되는 회차 시작일인지 확인
+     */
+    public static boolean isOccurrence(final ScheduleSummary series, final LocalDate originalDate) {
+        long index = firstIndexNear(series, originalDate);
+        for (LocalDate date = nth(series, index); isWithinRule(series, index, date) && !date.isAfter(originalDate); date = nth(series, ++index)) {
+            if (date.equals(originalDate)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 회차 예외가 적용된 회차, 비어 있는 값은 반복 일정의 값과 기간을 그대로 쓴다
+     */
+    public static Occurrence toOccurrence(final ScheduleSummary series, final OccurrenceOverride override) {
+        return toOccurrence(series, override, durationDays(series));
+    }
+
+    // date 직전 회차 번호, 월말 날짜 보정으로 한 칸 어긋날 수 있어 한 회차 앞에서 시작
+    private static long firstIndexNear(final ScheduleSummary series, final LocalDate date) {
+        Recurrence recurrence = series.getRecurrence();
+        if (recurrence == null || !date.isAfter(series.getStartDate())) return 0L;
+        return Math.max(0L, recurrence.getFrequency().getUnit().between(series.getStartDate(), date) - 1);
+    }
+
+    // 항상 첫 회차 기준으로 더해서 월말 보정이 누적되지 않게 한다
+    private static LocalDate nth(final ScheduleSummary series, final long index) {
+        Recurrence recurrence = series.getRecurrence();
+        if (index == 0 || recurrence == null) return series.getStartDate();
+        return series.getStartDate().plus(index, recurrence.getFrequency().getUnit());
+    }
+
+    private static boolean isWithinRule(final ScheduleSummary series, final long index, final LocalDate originalDate) {
+        Recurrence recurrence = series.getRecurrence();
+        if (recurrence == null) return index == 0;
+        if (recurrence.getCount() != null && index >= recurrence.getCount()) return false;
+        return recurrence.getUntil() == null || !originalDate.isAfter(recurrence.getUntil());
+    }
+
+    private static Occurrence toOccurrence(final ScheduleSummary series, final OccurrenceOverride override, final long durationDays) {
+        LocalDate startDate = Optional.ofNullable(override.getStartDate()).orElse(override.getOriginalDate());
+        LocalDate endDate = Optional.ofNullable(override.getEndDate()).orElse(startDate.plusDays(durationDays));
+        String title = Optional.ofNullable(override.getTitle()).orElse(series.getTitle());
+        return new Occurrence(override.getOriginalDate(), title, startDate, endDate);
+    }
+
+    private static long durationDays(final ScheduleSummary series) {
+        return ChronoUnit.DAYS.between(series.getStartDate(), series.getEndDate());
+    }
+
+    private static Map<LocalDate, OccurrenceOverride> toMap(final List<OccurrenceOverride> overrides) {
+        Map<LocalDate, OccurrenceOverride> map = new HashMap<>();
+        if (overrides != null) overrides.forEach(override -> map.put(override.getOriginalDate(), override));
+        return map;
+    }
+}
@@ -0,0 +1,20 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.schedule.entity.CalendarFeed;
+import com.owori.domain.schedule.entity.CalendarFeedScope;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CalendarFeedRepository {
+    CalendarFeed save(CalendarFeed calendarFeed);
+    Optional<CalendarFeed> findByToken(String token);
+    Optional<CalendarFeed> findByScopeAndFamily(CalendarFeedScope scope, Family family);
+    Optional<CalendarFeed> findByScopeAndMember(CalendarFeedScope scope, Member member);
+
+    // 저장된 내용 해시와 다를 때만 해시와 변경 시각을 갱신
+    void updateContent(UUID calendarFeedId, String contentHash, LocalDateTime contentChangedAt);
+}
@@ -0,0 +1,19 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.schedule.entity.CalendarFeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface JpaCalendarFeedRepository extends JpaRepository<CalendarFeed, UUID>, CalendarFeedRepository {
+    @Override
+    @Modifying
+    @Query("update CalendarFeed c set c.contentHash = :contentHash, c.contentChangedAt = :contentChangedAt"
+            + " where c.id = :calendarFeedId and (c.contentHash is null or c.contentHash <> :contentHash)")
+    void updateContent(@Param("calendarFeedId") UUID calendarFeedId, @Param("contentHash") String contentHash,
+                       @Param("contentChangedAt") LocalDateTime contentChangedAt);
+}
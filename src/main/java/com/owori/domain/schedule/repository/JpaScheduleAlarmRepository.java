@@ -0,0 +1,7 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.schedule.entity.ScheduleAlarm;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaScheduleAlarmRepository extends JpaRepository<ScheduleAlarm, Long>, ScheduleAlarmRepository, ScheduleAlarmRepositoryCustom {
+}
@@ -1,18 +1,27 @@
 package com.owori.domain.schedule.repository;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.schedule.entity.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
-public interface JpaScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleRepository {
+public interface JpaScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleRepository, ScheduleRepositoryCustom {
+    @Override
+    @Query("select s from Schedule s left join fetch s.member where s.id in :ids")
+    List<Schedule> findAllByIdIn(@Param("ids") List<UUID> ids);
 
-    @Query("select s from Schedule s where s.member = :member and ((s.startDate between :startDate and :endDate) or (s.endDate between :startDate and :endDate))")
-    List<Schedule> findAllByMonth(Member member, LocalDate startDate, LocalDate endDate);
+    @Override
+    @Query("select s.id from Schedule s where s.member = :member")
+    List<UUID> findAllIdsByMember(@Param("member") Member member);
 
-    @Query("select s from Schedule s where s.member = :member and s.dDayOption = :dDayOption and s.startDate >= :nowDate")
-    List<Schedule> findAllByMember(Member member, Boolean dDayOption, LocalDate nowDate);
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("update Schedule s set s.family = :family where s.member = :member")
+    int updateFamilyByMember(@Param("member") Member member, @Param("family") Family family);
 }
@@ -0,0 +1,19 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.entity.ScheduleAlarm;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduleAlarmRepository extends ScheduleAlarmRepositoryCustom {
+    ScheduleAlarm save(ScheduleAlarm scheduleAlarm);
+
+    <S extends ScheduleAlarm> List<S> saveAll(Iterable<S> scheduleAlarms);
+
+    // 일정의 아직 발송되지 않은 알람 넘겨주기
+    List<ScheduleAlarm> findAllByScheduleAndDispatchedAtIsNull(Schedule schedule);
+
+    // 여러 일정의 아직 발송되지 않은 알람 한 번에 넘겨주기
+    List<ScheduleAlarm> findAllByScheduleInAndDispatchedAtIsNull(Collection<Schedule> schedules);
+}
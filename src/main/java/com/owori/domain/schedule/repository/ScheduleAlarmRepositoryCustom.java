@@ -0,0 +1,24 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.schedule.entity.ScheduleAlarm;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ScheduleAlarmRepositoryCustom {
+    // until 이전에 울려야 하는 발송 대기 알람을 (fireAt, id) 순서로 마지막 조회 위치 이후부터 넘겨주기, 선점 기한이 지난 알람도 포함
+    List<ScheduleAlarm> findAllPendingUntil(LocalDateTime until, LocalDateTime now, LocalDateTime lastFireAt, UUID lastAlarmId, int size);
+
+    // 발송 대기 중이고 선점되지 않았거나 선점 기한이 지난 알람만 claimedUntil 까지 선점하고 선점한 개수 넘겨주기
+    long claim(List<UUID> alarmIds, UUID dispatchToken, LocalDateTime now, LocalDateTime claimedUntil);
+
+    // 선점한 알람을 일정, 회원과 함께 넘겨주기
+    List<ScheduleAlarm> findAllByDispatchToken(UUID dispatchToken);
+
+    // 발송에 성공한 알람을 발송 완료로 표시하고 표시한 개수 넘겨주기, 선점 기한이 지나 다른 서버가 다시 선점했다면 바뀌지 않는다
+    long markDispatched(UUID dispatchToken, LocalDateTime dispatchedAt);
+
+    // 발송에 실패한 선점을 풀어서 다시 발송 대기 상태로 돌리기
+    long release(UUID dispatchToken);
+}
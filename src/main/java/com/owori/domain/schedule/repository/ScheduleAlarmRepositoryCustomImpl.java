@@ -0,0 +1,98 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.schedule.entity.ScheduleAlarm;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.owori.domain.member.entity.QMember.member;
+import static com.owori.domain.schedule.entity.QSchedule.schedule;
+import static com.owori.domain.schedule.entity.QScheduleAlarm.scheduleAlarm;
+
+@RequiredArgsConstructor
+public class ScheduleAlarmRepositoryCustomImpl implements ScheduleAlarmRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ScheduleAlarm> findAllPendingUntil(LocalDateTime until, LocalDateTime now, LocalDateTime lastFireAt, UUID lastAlarmId, int size) {
+        return queryFactory
+                .selectFrom(scheduleAlarm)
+                .where(
+                        scheduleAlarm.dispatchedAt.isNull()
+                                .and(scheduleAlarm.fireAt.loe(until))
+                                .and(claimable(now))
+                                .and(afterCursor(lastFireAt, lastAlarmId))
+                )
+                .orderBy(scheduleAlarm.fireAt.asc(), scheduleAlarm.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime lastFireAt, UUID lastAlarmId) {
+        if (lastFireAt == null || lastAlarmId == null) return null;
+        return scheduleAlarm.fireAt.gt(lastFireAt)
+                .or(scheduleAlarm.fireAt.eq(lastFireAt).and(scheduleAlarm.id.gt(lastAlarmId)));
+    }
+
+    private BooleanExpression claimable(LocalDateTime now) {
+        return scheduleAlarm.claimedUntil.isNull().or(scheduleAlarm.claimedUntil.lt(now));
+    }
+
+    @Override
+    public long claim(List<UUID> alarmIds, UUID dispatchToken, LocalDateTime now, LocalDateTime claimedUntil) {
+        return queryFactory
+                .update(scheduleAlarm)
+                .set(scheduleAlarm.dispatchToken, dispatchToken)
+                .set(scheduleAlarm.claimedUntil, claimedUntil)
+                .where(
+                        scheduleAlarm.id.in(alarmIds)
+                                .and(scheduleAlarm.dispatchedAt.isNull())
+                                .and(scheduleAlarm.baseTime.deletedAt.isNull())
+                                .and(claimable(now))
+                )
+                .execute();
+    }
+
+    @Override
+    public List<ScheduleAlarm> findAllByDispatchToken(UUID dispatchToken) {
+        return queryFactory
+                .selectFrom(scheduleAlarm)
+                .join(scheduleAlarm.schedule, schedule).fetchJoin()
+                .join(schedule.member, member).fetchJoin()
+                .where(scheduleAlarm.dispatchToken.eq(dispatchToken))
+                .orderBy(scheduleAlarm.fireAt.asc())
+                .fetch();
+    }
+
+    @Override
+    public long markDispatched(UUID dispatchToken, LocalDateTime dispatchedAt) {
+        return queryFactory
+                .update(scheduleAlarm)
+                .set(scheduleAlarm.dispatchedAt, dispatchedAt)
+                .setNull(scheduleAlarm.claimedUntil)
+                .where(
+                        // 벌크 수정에는 @Where 가 붙지 않으므로 선점 이후 취소된 알람을 직접 제외
+                        scheduleAlarm.dispatchToken.eq(dispatchToken)
+                                .and(scheduleAlarm.dispatchedAt.isNull())
+                                .and(scheduleAlarm.baseTime.deletedAt.isNull())
+                )
+                .execute();
+    }
+
+    @Override
+    public long release(UUID dispatchToken) {
+        return queryFactory
+                .update(scheduleAlarm)
+                .setNull(scheduleAlarm.dispatchToken)
+                .setNull(scheduleAlarm.claimedUntil)
+                .where(
+                        scheduleAlarm.dispatchToken.eq(dispatchToken)
+                                .and(scheduleAlarm.dispatchedAt.isNull())
+                )
+                .execute();
+    }
+}
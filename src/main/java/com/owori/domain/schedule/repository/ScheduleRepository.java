@@ -1,22 +1,24 @@
 package com.owori.domain.schedule.repository;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.schedule.entity.Schedule;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ScheduleRepository {
+public interface ScheduleRepository extends ScheduleRepositoryCustom {
     Schedule save(Schedule schedule);
 
+    <S extends Schedule> List<S> saveAll(Iterable<S> schedules);
+
     Optional<Schedule> findById(UUID id);
 
-    // 멤버와 웗 시작일과 종료일 받아서 일정 넘겨주기
-    List<Schedule> findAllByMonth(Member member, LocalDate startDate, LocalDate endDate);
+    List<Schedule> findAllByIdIn(List<UUID> ids);
+
+    List<UUID> findAllIdsByMember(Member member);
 
-    // 멤버와 디데이옵션을 통해서 오늘 이후 일정 넘겨주기
-    List<Schedule> findAllByMember(Member member, Boolean dDayOption, LocalDate nowDate);
+    int updateFamilyByMember(Member member, Family family);
 
 }
@@ -0,0 +1,18 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.schedule.entity.Schedule;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ScheduleRepositoryCustom {
+    // 가족 전체 일정을 시작일 순으로 넘겨주기
+    List<Schedule> findAllByFamily(Family family);
+
+    // 가족과 조회 기간을 받아서 기간과 겹치는 가족 전체 일정을 시작일 순으로 넘겨주기
+    List<Schedule> findAllByFamilyAndPeriod(Family family, LocalDate startDate, LocalDate endDate);
+
+    // 가족과 오늘 날짜를 받아서 디데이 옵션이 켜진 오늘 이후 가족 전체 일정을 시작일 순으로 넘겨주기
+    List<Schedule> findAllDDayByFamily(Family family, LocalDate nowDate);
+}
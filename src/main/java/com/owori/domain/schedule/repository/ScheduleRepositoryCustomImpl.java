@@ -0,0 +1,74 @@
+package com.owori.domain.schedule.repository;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.schedule.entity.Schedule;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.owori.domain.member.entity.QMember.member;
+import static com.owori.domain.schedule.entity.QSchedule.schedule;
+
+@RequiredArgsConstructor
+public class ScheduleRepositoryCustomImpl implements ScheduleRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Schedule> findAllByFamily(Family family) {
+        return queryFactory
+                .selectFrom(schedule)
+                .join(schedule.member, member).fetchJoin()
+                .where(schedule.family.eq(family))
+                .orderBy(schedule.startDate.asc(), schedule.baseTime.createdAt.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Schedule> findAllByFamilyAndPeriod(Family family, LocalDate startDate, LocalDate endDate) {
+        return queryFactory
+                .selectFrom(schedule)
+                .join(schedule.member, member).fetchJoin()
+                .where(
+                        schedule.family.eq(family)
+                                .and(overlaps(startDate, endDate))
+                )
+                .orderBy(schedule.startDate.asc(), schedule.baseTime.createdAt.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Schedule> findAllDDayByFamily(Family family, LocalDate nowDate) {
+        return queryFactory
+                .selectFrom(schedule)
+                .join(schedule.member, member).fetchJoin()
+                .where(
+                        schedule.family.eq(family)
+                                .and(schedule.dDayOption.isTrue())
+                                .and(hasOccurrenceFrom(nowDate))
+                )
+                .orderBy(schedule.startDate.asc(), schedule.baseTime.createdAt.asc())
+                .fetch();
+    }
+
+    // 기간 [startDate, endDate] 와 하루라도 겹치는 일정 (기간 전체에 걸친 일정 포함)
+    // 반복 일정은 첫 회차 시작일부터 마지막 회차 종료일까지를 기간으로 보고, 실제 회차는 매퍼에서 펼친다
+    private BooleanExpression overlaps(LocalDate startDate, LocalDate endDate) {
+        return schedule.startDate.loe(endDate)
+                .and(schedule.recurrence.frequency.isNull().and(schedule.endDate.goe(startDate))
+                        .or(isRecurringUntil(startDate)));
+    }
+
+    // nowDate 이후에 시작하는 회차가 있을 수 있는 일정
+    private BooleanExpression hasOccurrenceFrom(LocalDate nowDate) {
+        return schedule.startDate.goe(nowDate)
+                .or(isRecurringUntil(nowDate));
+    }
+
+    private BooleanExpression isRecurringUntil(LocalDate date) {
+        return schedule.recurrence.frequency.isNotNull()
+                .and(schedule.recurrence.lastEndDate.isNull().or(schedule.recurrence.lastEndDate.goe(date)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.owori.domain.schedule.service;
+
+import com.owori.domain.schedule.repository.CalendarFeedRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 피드 내용이 바뀐 시각 기록, 피드 조회는 읽기 전용이라 조회 트랜잭션이 끝난 뒤 내용이 바뀐 경우에만 새 트랜잭션으로 쓴다
+ * 같은 변경을 여러 구독 갱신이 동시에 발견해도 서버마다 한 번만 쓰고, 조건부 갱신이라 여러 서버가 써도 먼저 기록한 시각이 남는다
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarFeedChangeRecorder {
+    private final CalendarFeedRepository calendarFeedRepository;
+    // 기록 중인 피드와 내용 해시
+    private final Map<UUID, String> recordingHashes = new ConcurrentHashMap<>();
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void record(UUID calendarFeedId, String contentHash, LocalDateTime contentChangedAt) {
+        if (contentHash.equals(recordingHashes.putIfAbsent(calendarFeedId, contentHash))) return;
+        try {
+            calendarFeedRepository.updateContent(calendarFeedId, contentHash, contentChangedAt);
+        } finally {
+            recordingHashes.remove(calendarFeedId, contentHash);
+        }
+    }
+}
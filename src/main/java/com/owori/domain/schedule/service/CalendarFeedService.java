@@ -0,0 +1,140 @@
+package com.owori.domain.schedule.service;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.service.AuthService;
+import com.owori.domain.schedule.cache.FamilyScheduleCache;
+import com.owori.domain.schedule.cache.ScheduleSummary;
+import com.owori.domain.schedule.calendar.CalendarFeedContent;
+import com.owori.domain.schedule.dto.request.CalendarFeedRequest;
+import com.owori.domain.schedule.dto.response.CalendarFeedResponse;
+import com.owori.domain.schedule.entity.CalendarFeed;
+import com.owori.domain.schedule.entity.CalendarFeedScope;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.mapper.CalendarFeedMapper;
+import com.owori.domain.schedule.repository.CalendarFeedRepository;
+import com.owori.global.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+    private static final int TOKEN_BYTES = 32;
+    // MySQL DATE 의 최댓값, 끝없이 반복하는 일정까지 포함하기 위한 조회 끝 날짜
+    private static final LocalDate FEED_END_DATE = LocalDate.of(9999, 12, 31);
+
+    private final CalendarFeedRepository calendarFeedRepository;
+    private final CalendarFeedMapper calendarFeedMapper;
+    private final FamilyScheduleCache familyScheduleCache;
+    private final AuthService authService;
+    private final CalendarFeedChangeRecorder calendarFeedChangeRecorder;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${app.calendar.feed.past-days:365}")
+    private long pastDays;
+
+    /**
+     * 피드 토큰 발급, 이미 발급된 피드가 있으면 기존 토큰을 삭제하고 새로 발급한다
+     * 가족 피드는 가족 구성원 모두가 같은 토큰을 공유한다
+     */
+    @Transactional
+    public CalendarFeedResponse issueFeed(CalendarFeedRequest request) {
+        Member member = authService.getLoginUser();
+        Family family = member.getFamily();
+        if (family == null) throw new EntityNotFoundException();
+
+        CalendarFeedScope scope = request.getScope();
+        findIssuedFeed(scope, family, member).ifPresent(CalendarFeed::delete);
+
+        CalendarFeed calendarFeed = scope == CalendarFeedScope.FAMILY
+                ? calendarFeedMapper.toEntity(newToken(), scope, family, null)
+                : calendarFeedMapper.toEntity(newToken(), scope, null, member);
+        return calendarFeedMapper.toResponse(calendarFeedRepository.save(calendarFeed));
+    }
+
+    private Optional<CalendarFeed> findIssuedFeed(CalendarFeedScope scope, Family family, Member member) {
+        if (scope == CalendarFeedScope.FAMILY) return calendarFeedRepository.findByScopeAndFamily(scope, family);
+        return calendarFeedRepository.findByScopeAndMember(scope, member);
+    }
+
+    /**
+     * 피드에 담을 일정을 가족 일정 캐시에서 읽고 내용 해시로 ETag 와 Last-Modified 를 계산
+     * 응답 본문을 만들지 않고도 변경 여부를 판단할 수 있어서 대부분의 구독 갱신은 304 로 끝난다
+     * 구독 갱신마다 쓰지 않도록 읽기 전용으로 조회하고, 내용이 바뀐 경우에만 조회가 끝난 뒤 변경 시각을 기록한다
+     */
+    @Transactional(readOnly = true)
+    public CalendarFeedContent findContent(String token) {
+        CalendarFeed calendarFeed = calendarFeedRepository.findByToken(token).orElseThrow(EntityNotFoundException::new);
+        boolean isFamilyFeed = calendarFeed.getScope() == CalendarFeedScope.FAMILY;
+        Family family = isFamilyFeed ? calendarFeed.getFamily() : calendarFeed.getMember().getFamily();
+
+        List<ScheduleSummary> schedules = findSchedules(calendarFeed, family);
+        String calendarName = isFamilyFeed ? toFamilyCalendarName(family) : calendarFeed.getMember().getNickname() + " " + calendarFeed.getScope().getToKorean();
+        String contentHash = calendarFeedMapper.toContentHash(calendarName, schedules);
+        LocalDateTime contentChangedAt = calendarFeed.getContentChangedAt();
+        if (!contentHash.equals(calendarFeed.getContentHash())) {
+            contentChangedAt = LocalDateTime.now();
+            recordChangeAfterCommit(calendarFeed.getId(), contentHash, contentChangedAt);
+        }
+
+        return new CalendarFeedContent(calendarName, schedules, contentHash,
+                contentChangedAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void recordChangeAfterCommit(UUID calendarFeedId, String contentHash, LocalDateTime contentChangedAt) {
+        Runnable record = () -> calendarFeedChangeRecorder.record(calendarFeedId, contentHash, contentChangedAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record.run();
+            }
+        });
+    }
+
+    private List<ScheduleSummary> findSchedules(CalendarFeed calendarFeed, Family family) {
+        if (family == null) return List.of();
+        return familyScheduleCache.findByPeriod(family, LocalDate.now().minusDays(pastDays), FEED_END_DATE).stream()
+                .filter(schedule -> isIncluded(calendarFeed, schedule))
+                .toList();
+    }
+
+    private boolean isIncluded(CalendarFeed calendarFeed, ScheduleSummary schedule) {
+        if (calendarFeed.getScope() == CalendarFeedScope.FAMILY) return schedule.getScheduleType() == ScheduleType.FAMILY;
+        return schedule.getScheduleType() == ScheduleType.INDIVIDUAL && calendarFeed.getMember().getId().equals(schedule.getMemberId());
+    }
+
+    private String toFamilyCalendarName(Family family) {
+        String familyGroupName = family.getFamilyGroupName();
+        return familyGroupName == null ? CalendarFeedScope.FAMILY.getToKorean() : familyGroupName + " " + CalendarFeedScope.FAMILY.getToKorean();
+    }
+
+    public void writeContent(CalendarFeedContent content, OutputStream outputStream) throws IOException {
+        calendarFeedMapper.writeCalendar(content, outputStream);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,168 @@
+package com.owori.domain.schedule.service;
+
+import com.owori.domain.schedule.alarm.AlarmNotification;
+import com.owori.domain.schedule.alarm.ScheduleAlarmWheel;
+import com.owori.domain.schedule.entity.Alarm;
+import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.entity.ScheduleAlarm;
+import com.owori.domain.schedule.mapper.ScheduleMapper;
+import com.owori.domain.schedule.repository.ScheduleAlarmRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleAlarmService {
+    private final ScheduleAlarmRepository scheduleAlarmRepository;
+    private final ScheduleAlarmWheel scheduleAlarmWheel;
+    private final ScheduleMapper scheduleMapper;
+
+    @Value("${app.alarm.fire-time:09:00}")
+    private String fireTime;
+
+    @Value("${app.alarm.claim-seconds:300}")
+    private long claimSeconds;
+
+    /**
+     * 일정의 알람 옵션으로 발송 시각을 계산해서 저장, 기존에 대기 중이던 알람은 취소
+     * 이미 지난 발송 시각은 저장하지 않는다
+     */
+    @Transactional
+    public void register(Schedule schedule) {
+        List<UUID> cancelledIds = cancelPending(schedule);
+        List<ScheduleAlarm> alarms = scheduleAlarmRepository.saveAll(
+                scheduleMapper.toAlarmEntityList(schedule, LocalTime.parse(fireTime), LocalDateTime.now()));
+
+        afterCommit(() -> {
+            cancelledIds.forEach(scheduleAlarmWheel::cancel);
+            alarms.forEach(alarm -> scheduleAlarmWheel.schedule(alarm.getId(), alarm.getFireAt()));
+        });
+    }
+
+    /**
+     * 새로 저장한 일정들의 알람을 한 번에 저장, 대기 중인 알람이 없으므로 취소 조회를 하지 않는다
+     */
+    @Transactional
+    public void registerNew(List<Schedule> schedules) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalTime alarmTime = LocalTime.parse(fireTime);
+        List<ScheduleAlarm> alarms = scheduleAlarmRepository.saveAll(schedules.stream()
+                .flatMap(schedule -> scheduleMapper.toAlarmEntityList(schedule, alarmTime, now).stream())
+                .toList());
+
+        afterCommit(() -> alarms.forEach(alarm -> scheduleAlarmWheel.schedule(alarm.getId(), alarm.getFireAt())));
+    }
+
+    @Transactional
+    public void cancel(Schedule schedule) {
+        List<UUID> cancelledIds = cancelPending(schedule);
+        afterCommit(() -> cancelledIds.forEach(scheduleAlarmWheel::cancel));
+    }
+
+    private List<UUID> cancelPending(Schedule schedule) {
+        List<ScheduleAlarm> pending = scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule);
+        pending.forEach(ScheduleAlarm::delete);
+        return pending.stream().map(ScheduleAlarm::getId).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScheduleAlarm> findPendingUntil(LocalDateTime until, LocalDateTime lastFireAt, UUID lastAlarmId, int size) {
+        return scheduleAlarmRepository.findAllPendingUntil(until, LocalDateTime.now(), lastFireAt, lastAlarmId, size);
+    }
+
+    /**
+     * 알람을 claimSeconds 동안 선점하고 발송할 내용을 반환, 다른 서버가 선점 중이거나 취소된 알람은 빠진다
+     * 발송 완료는 발송에 성공한 뒤 complete 로 표시하므로, 그 전에 서버가 내려가면 선점 기한이 지나 다시 발송된다
+     */
+    @Transactional
+    public List<AlarmNotification> claim(List<UUID> alarmIds, UUID dispatchToken) {
+        LocalDateTime now = LocalDateTime.now();
+        if (scheduleAlarmRepository.claim(alarmIds, dispatchToken, now, now.plusSeconds(claimSeconds)) == 0) return List.of();
+        return scheduleAlarmRepository.findAllByDispatchToken(dispatchToken).stream()
+                .map(scheduleMapper::toAlarmNotification)
+                .toList();
+    }
+
+    /**
+     * 선점한 뒤 일정 수정/삭제로 취소된 알람을 발송 직전에 빼기, 취소된 알람은 @Where 로 조회되지 않는다
+     */
+    @Transactional(readOnly = true)
+    public List<AlarmNotification> excludeCancelled(UUID dispatchToken, List<AlarmNotification> notifications) {
+        Set<UUID> claimedIds = scheduleAlarmRepository.findAllByDispatchToken(dispatchToken).stream()
+                .map(ScheduleAlarm::getId)
+                .collect(Collectors.toSet());
+        return notifications.stream()
+                .filter(notification -> claimedIds.contains(notification.getAlarmId()))
+                .toList();
+    }
+
+    /**
+     * 발송에 성공한 알람을 발송 완료로 표시, 반복 일정은 같은 트랜잭션에서 다음 회차의 알람을 만든다
+     * 선점 기한이 지나 다른 서버가 다시 선점한 알람은 그 서버가 완료 처리한다
+     */
+    @Transactional
+    public void complete(UUID dispatchToken) {
+        List<ScheduleAlarm> claimed = scheduleAlarmRepository.findAllByDispatchToken(dispatchToken);
+        if (scheduleAlarmRepository.markDispatched(dispatchToken, LocalDateTime.now()) == 0) return;
+        registerNextOccurrence(claimed);
+    }
+
+    private void registerNextOccurrence(List<ScheduleAlarm> dispatched) {
+        LocalTime alarmTime = LocalTime.parse(fireTime);
+        List<ScheduleAlarm> candidates = dispatched.stream()
+                .filter(alarm -> alarm.getSchedule().isRecurring())
+                .map(alarm -> scheduleMapper.toAlarmEntity(alarm.getSchedule(), scheduleMapper.toSummary(alarm.getSchedule()),
+                        alarm.getAlarm(), alarmTime, alarm.getFireAt()))
+                .flatMap(Optional::stream)
+                .toList();
+        if (candidates.isEmpty()) return;
+
+        // 선점 기한이 지나 다른 서버가 다시 발송한 알람을 완료 처리하면 다음 회차 알람이 이미 있으므로 중복 생성하지 않는다
+        // 대기 중인 알람은 일정들을 모아서 한 번에 조회한다
+        Set<PendingAlarm> pending = scheduleAlarmRepository.findAllByScheduleInAndDispatchedAtIsNull(
+                        candidates.stream().map(ScheduleAlarm::getSchedule).distinct().toList()).stream()
+                .map(PendingAlarm::of)
+                .collect(Collectors.toSet());
+        List<ScheduleAlarm> nextAlarms = scheduleAlarmRepository.saveAll(candidates.stream()
+                .filter(next -> pending.add(PendingAlarm.of(next)))
+                .toList());
+
+        afterCommit(() -> nextAlarms.forEach(alarm -> scheduleAlarmWheel.schedule(alarm.getId(), alarm.getFireAt())));
+    }
+
+    @Transactional
+    public void release(UUID dispatchToken) {
+        scheduleAlarmRepository.release(dispatchToken);
+    }
+
+    private record PendingAlarm(UUID scheduleId, Alarm alarm, LocalDateTime fireAt) {
+        static PendingAlarm of(ScheduleAlarm scheduleAlarm) {
+            return new PendingAlarm(scheduleAlarm.getSchedule().getId(), scheduleAlarm.getAlarm(), scheduleAlarm.getFireAt());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,178 @@
+package com.owori.domain.schedule.service;
+
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.service.AuthService;
+import com.owori.domain.schedule.calendar.IcsEvent;
+import com.owori.domain.schedule.calendar.IcsReader;
+import com.owori.domain.schedule.dto.request.AddScheduleRequest;
+import com.owori.domain.schedule.dto.response.ScheduleImportResponse;
+import com.owori.domain.schedule.dto.response.ScheduleImportResult;
+import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.exception.ImportLimitExceededException;
+import com.owori.domain.schedule.exception.InvalidScheduleFormatException;
+import com.owori.domain.schedule.exception.ScheduleSaveFailedException;
+import com.owori.domain.schedule.exception.UnreadableScheduleException;
+import com.owori.domain.schedule.mapper.ScheduleImportMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 여러 일정을 한 번에 가져오기
+ * 입력을 한 건씩 읽고 검증해서 chunkSize 건씩 한 트랜잭션으로 저장하므로 입력 크기와 상관없이 메모리 사용량이 일정하다
+ * 검증에 실패한 건은 빼고 나머지를 저장하고, 결과는 입력 순서대로 건별로 반환한다
+ * 값을 읽지 못한 건이 나오면 그 뒤의 입력을 믿을 수 없으므로 그 건까지 결과에 담고 가져오기를 멈춘다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleImportService {
+    private final ScheduleService scheduleService;
+    private final ScheduleImportMapper scheduleImportMapper;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    @Value("${app.schedule.import.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.schedule.import.max-rows:1000}")
+    private int maxRows;
+
+    /**
+     * AddScheduleRequest 의 JSON 배열 가져오기
+     */
+    public ScheduleImportResponse importJson(InputStream inputStream) throws IOException {
+        // 최상위 배열은 원소 단위로 읽는다
+        try (MappingIterator<AddScheduleRequest> rows = objectMapper.readerFor(AddScheduleRequest.class).readValues(inputStream)) {
+            return importRows(new RowReader() {
+                @Override
+                public boolean hasNext() throws IOException {
+                    return rows.hasNextValue();
+                }
+
+                @Override
+                public AddScheduleRequest next() throws IOException {
+                    try {
+                        return rows.nextValue();
+                    } catch (DatabindException e) {
+                        throw new UnreadableScheduleException();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * ICS 파일의 VEVENT 가져오기
+     */
+    public ScheduleImportResponse importIcs(InputStream inputStream, ScheduleType scheduleType) throws IOException {
+        LocalDate nowDate = LocalDate.now();
+        try (IcsReader reader = new IcsReader(inputStream)) {
+            return importRows(new RowReader() {
+                private IcsEvent next;
+
+                @Override
+                public boolean hasNext() throws IOException {
+                    if (next == null) next = reader.nextEvent();
+                    return next != null;
+                }
+
+                @Override
+                public AddScheduleRequest next() {
+                    IcsEvent event = next;
+                    next = null;
+                    return scheduleImportMapper.toAddScheduleRequest(event, scheduleType, nowDate);
+                }
+            });
+        }
+    }
+
+    private ScheduleImportResponse importRows(RowReader reader) throws IOException {
+        List<ScheduleImportResult> results = new ArrayList<>();
+        List<Integer> chunkRows = new ArrayList<>(chunkSize);
+        List<AddScheduleRequest> chunk = new ArrayList<>(chunkSize);
+
+        // 읽은 건수, 제한을 넘어서 읽지 않은 건은 세지 않는다
+        int row = 0;
+        while (reader.hasNext()) {
+            if (row == maxRows) {
+                results.add(scheduleImportMapper.toFailureResult(row, new ImportLimitExceededException().getMessage()));
+                break;
+            }
+            try {
+                AddScheduleRequest request = reader.next();
+                validate(request);
+                chunk.add(request);
+                chunkRows.add(row);
+            } catch (UnreadableScheduleException e) {
+                results.add(scheduleImportMapper.toFailureResult(row++, e.getMessage()));
+                break;
+            } catch (IllegalArgumentException e) {
+                results.add(scheduleImportMapper.toFailureResult(row, e.getMessage()));
+            }
+            row++;
+            if (chunk.size() == chunkSize) saveChunk(chunk, chunkRows, results);
+        }
+        saveChunk(chunk, chunkRows, results);
+
+        return scheduleImportMapper.toResponse(row, results);
+    }
+
+    private void validate(AddScheduleRequest request) {
+        if (request == null) throw new InvalidScheduleFormatException();
+        validator.validate(request).stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .ifPresent(message -> {
+                    throw new IllegalArgumentException(message);
+                });
+    }
+
+    private void saveChunk(List<AddScheduleRequest> chunk, List<Integer> chunkRows, List<ScheduleImportResult> results) {
+        if (chunk.isEmpty()) return;
+        try {
+            // 앞 묶음을 저장한 뒤 영속성 컨텍스트를 비우므로 로그인 회원은 묶음마다 새로 읽는다
+            Member member = authService.getLoginUser();
+            List<Schedule> schedules = scheduleService.addSchedules(chunk, member);
+            for (int i = 0; i < schedules.size(); i++) {
+                results.add(scheduleImportMapper.toSuccessResult(chunkRows.get(i), schedules.get(i).getId()));
+            }
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("일정 가져오기 저장 실패 rows={}~{}", chunkRows.get(0), chunkRows.get(chunkRows.size() - 1), e);
+            chunkRows.forEach(row -> results.add(scheduleImportMapper.toFailureResult(row, new ScheduleSaveFailedException().getMessage())));
+        } finally {
+            // 요청 범위로 열려 있는 영속성 컨텍스트에 저장한 일정이 쌓이지 않도록 비운다
+            // 호출한 쪽 트랜잭션에 참여해서 아직 커밋되지 않았다면 먼저 반영한다
+            if (TransactionSynchronizationManager.isActualTransactionActive()) entityManager.flush();
+            entityManager.clear();
+            chunk.clear();
+            chunkRows.clear();
+        }
+    }
+
+    private interface RowReader {
+        boolean hasNext() throws IOException;
+
+        AddScheduleRequest next() throws IOException;
+    }
+}
@@ -1,15 +1,26 @@
 package com.owori.domain.schedule.service;
 
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.home.FamilyHomeCache;
 import com.owori.domain.member.service.AuthService;
+import com.owori.domain.schedule.cache.FamilyScheduleCache;
+import com.owori.domain.schedule.cache.ScheduleSummary;
 import com.owori.domain.schedule.dto.request.AddScheduleRequest;
+import com.owori.domain.schedule.dto.request.ScheduleOccurrenceRequest;
 import com.owori.domain.schedule.dto.request.UpdateScheduleRequest;
 import com.owori.domain.schedule.dto.response.ScheduleByMonthResponse;
 import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
 import com.owori.domain.schedule.dto.response.ScheduleIdResponse;
+import com.owori.domain.schedule.entity.Recurrence;
 import com.owori.domain.schedule.entity.Schedule;
 import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.exception.NoSuchOccurrenceException;
+import com.owori.domain.schedule.exception.NotRecurringScheduleException;
 import com.owori.domain.schedule.mapper.ScheduleMapper;
+import com.owori.domain.schedule.recurrence.RecurrenceExpander;
 import com.owori.domain.schedule.repository.ScheduleRepository;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.exception.NoAuthorityException;
@@ -19,9 +30,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -30,13 +39,39 @@ public class ScheduleService implements EntityLoader<Schedule, UUID> {
     private final ScheduleRepository scheduleRepository;
     private final ScheduleMapper scheduleMapper;
     private final AuthService authService;
+    private final FamilyScheduleCache familyScheduleCache;
+    private final ScheduleAlarmService scheduleAlarmService;
+    private final FamilyHomeCache familyHomeCache;
+    private final FamilyChangeRecorder familyChangeRecorder;
 
+    @Transactional
     public ScheduleIdResponse addSchedule(AddScheduleRequest addScheduleRequest) {
         Member member = authService.getLoginUser();
         Schedule newSchedule = scheduleRepository.save(scheduleMapper.toEntity(addScheduleRequest, member));
+        familyScheduleCache.put(newSchedule);
+        familyHomeCache.refreshDDays(member.getFamily());
+        scheduleAlarmService.register(newSchedule);
+        familyChangeRecorder.record(newSchedule.getFamily(), FamilyChangeType.SCHEDULE_CREATED, newSchedule.getId());
         return new ScheduleIdResponse(newSchedule.getId());
     }
 
+    /**
+     * 이미 검증된 일정 여러 건을 한 트랜잭션으로 저장, 로그인 사용자는 호출하는 쪽에서 한 번만 조회해서 넘긴다
+     * hibernate.jdbc.batch_size 에 맞춰 insert 가 묶여서 나간다
+     */
+    @Transactional
+    public List<Schedule> addSchedules(List<AddScheduleRequest> addScheduleRequests, Member member) {
+        List<Schedule> schedules = scheduleRepository.saveAll(addScheduleRequests.stream()
+                .map(request -> scheduleMapper.toEntity(request, member))
+                .toList());
+        familyScheduleCache.putAll(schedules);
+        familyHomeCache.refreshDDays(member.getFamily());
+        scheduleAlarmService.registerNew(schedules);
+        // 모두 같은 회원의 일정이라 가족 변경 순번은 한 번에 올린다
+        familyChangeRecorder.recordAll(member.getFamily(), FamilyChangeType.SCHEDULE_CREATED, schedules.stream().map(Schedule::getId).toList());
+        return schedules;
+    }
+
     @Transactional
     public ScheduleIdResponse updateSchedule(UpdateScheduleRequest updateScheduleRequest) {
         // id 값으로 일정 찾기
@@ -45,8 +80,34 @@ public class ScheduleService implements EntityLoader<Schedule, UUID> {
         // 현재 일정이 개인 일정이고 현재 사용자와 생성자가 다를 경우 예외처리
         if (nonValidMember(schedule)) throw new NoAuthorityException();
 
+        Recurrence recurrence = scheduleMapper.toRecurrence(updateScheduleRequest.getRecurrence(),
+                updateScheduleRequest.getStartDate(), updateScheduleRequest.getEndDate());
         schedule.updateSchedule(updateScheduleRequest.getTitle(), updateScheduleRequest.getStartDate(),
-                updateScheduleRequest.getEndDate(), updateScheduleRequest.getDdayOption(), updateScheduleRequest.getAlarmOptions());
+                updateScheduleRequest.getEndDate(), updateScheduleRequest.getDdayOption(), updateScheduleRequest.getAlarmOptions(), recurrence);
+        familyScheduleCache.put(schedule);
+        familyHomeCache.refreshDDays(schedule.getMember().getFamily());
+        scheduleAlarmService.register(schedule);
+        familyChangeRecorder.record(schedule.getFamily(), FamilyChangeType.SCHEDULE_UPDATED, scheduleId);
+
+        return new ScheduleIdResponse(scheduleId);
+    }
+
+    /**
+     * 반복 일정의 한 회차만 취소하거나 날짜, 제목을 변경
+     */
+    @Transactional
+    public ScheduleIdResponse updateOccurrence(UUID scheduleId, ScheduleOccurrenceRequest request) {
+        Schedule schedule = loadEntity(scheduleId);
+        if (nonValidMember(schedule)) throw new NoAuthorityException();
+        if (!schedule.isRecurring()) throw new NotRecurringScheduleException();
+        if (!RecurrenceExpander.isOccurrence(scheduleMapper.toSummary(schedule), request.getOriginalDate())) throw new NoSuchOccurrenceException();
+
+        schedule.overrideOccurrence(request.getOriginalDate(), request.getCanceled(),
+                request.getTitle(), request.getStartDate(), request.getEndDate());
+        familyScheduleCache.put(schedule);
+        familyHomeCache.refreshDDays(schedule.getMember().getFamily());
+        scheduleAlarmService.register(schedule);
+        familyChangeRecorder.record(schedule.getFamily(), FamilyChangeType.SCHEDULE_UPDATED, scheduleId);
 
         return new ScheduleIdResponse(scheduleId);
     }
@@ -61,6 +122,10 @@ public class ScheduleService implements EntityLoader<Schedule, UUID> {
         // 생성자와 동일하지 않을 경우 예외처리
         if (!authService.getLoginUser().getId().equals(schedule.getMember().getId())) throw new NoAuthorityException();
         schedule.delete();
+        familyScheduleCache.remove(schedule);
+        familyHomeCache.refreshDDays(schedule.getMember().getFamily());
+        scheduleAlarmService.cancel(schedule);
+        familyChangeRecorder.record(schedule.getFamily(), FamilyChangeType.SCHEDULE_DELETED, scheduleId);
     }
 
     @Transactional(readOnly = true)
@@ -69,33 +134,21 @@ public class ScheduleService implements EntityLoader<Schedule, UUID> {
         LocalDate firstDate = scheduleMapper.toFirstDate(month);
         LocalDate lastDate = firstDate.withDayOfMonth(firstDate.lengthOfMonth());
 
-        // 현재 유저 가족에 포함된 회원 정보 받기
-        Set<Member> familyMembers = authService.getLoginUser().getFamily().getMembers();
+        // 현재 유저 가족 전체의 일정 중 해당 달과 겹치는 일정을 시작일 기준으로 정렬해서 받기
+        Family family = authService.getLoginUser().getFamily();
+        List<ScheduleSummary> monthSchedules = familyScheduleCache.findByPeriod(family, firstDate, lastDate);
 
-        // 가족들의 일정 시작일 기준으로 정렬해서 받기
-        List<Schedule> monthSchedules = familyMembers.stream()
-                .map(familyMember -> scheduleRepository.findAllByMonth(familyMember, firstDate, lastDate))
-                .flatMap(List::stream)
-                .sorted(Comparator.comparing(Schedule::getStartDate))
-                .toList();
-
-        return scheduleMapper.toMonthResponseList(monthSchedules);
+        return scheduleMapper.toMonthResponseList(monthSchedules, firstDate, lastDate);
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleDDayResponse> findDDayByFamily() {
-
-        // 현재 유저 가족에 포함된 회원 정보 받기
-        Set<Member> familyMembers = authService.getLoginUser().getFamily().getMembers();
-
         // 가족들의 일정 중 dDay 옵션이 켜진 일정을 시작일 기준으로 정렬해서 받기
-        List<Schedule> dDaySchedules = familyMembers.stream()
-                .map(familyMember -> scheduleRepository.findAllByMember(familyMember, Boolean.TRUE, LocalDate.now()))
-                .flatMap(List::stream)
-                .sorted(Comparator.comparing(Schedule::getStartDate))
-                .toList();
+        Family family = authService.getLoginUser().getFamily();
+        LocalDate nowDate = LocalDate.now();
+        List<ScheduleSummary> dDaySchedules = familyScheduleCache.findDDay(family, nowDate);
 
-        return scheduleMapper.toDDayResponseList(dDaySchedules);
+        return scheduleMapper.toDDayResponseList(dDaySchedules, nowDate);
     }
 
     @Override
@@ -46,14 +46,18 @@ public class StoryController {
      * 이야기를 전체 조회를 위한 컨트롤러입니다.
      * @param pageable
      * @param lastViewed 조회할 게시글의 기준 (year_month) 입니다.
+     * @param lastStoryId 인기순(popular) 조회에서 이전 페이지 마지막 이야기의 id 입니다. 첫 페이지는 비워둡니다.
+     * @param lastScore 인기순(popular) 조회에서 이전 페이지 마지막 이야기의 popularity_score 입니다. 첫 페이지는 비워둡니다.
      * @return 전체 조회 dto가 반환됩니다.
      */
     @GetMapping
     public ResponseEntity<FindAllStoryGroupResponse> findAllStory(
             @PageableDefault(sort = "created_at", direction = DESC) Pageable pageable,
-            @RequestParam(required = false, value = "last_viewed") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate lastViewed) {
+            @RequestParam(required = false, value = "last_viewed") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate lastViewed,
+            @RequestParam(required = false, value = "last_story_id") UUID lastStoryId,
+            @RequestParam(required = false, value = "last_score") Double lastScore) {
 
-        return ResponseEntity.ok(storyService.findAllStory(pageable, lastViewed));
+        return ResponseEntity.ok(storyService.findAllStory(pageable, lastViewed, lastStoryId, lastScore));
     }
 
     /**
@@ -67,8 +71,10 @@ public class StoryController {
     public ResponseEntity<FindAllStoryGroupResponse> findStoryBySearch(
             @PageableDefault(sort = "created_at", direction = DESC) Pageable pageable,
             @RequestParam("last_viewed") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate lastViewed,
+            @RequestParam(required = false, value = "last_story_id") UUID lastStoryId,
+            @RequestParam(required = false, value = "last_score") Double lastScore,
             @RequestParam @Size(min = 2, message = "검색어를 2글자 이상 입력해주세요.") String keyword) {
-        return ResponseEntity.ok(storyService.findStoryBySearch(keyword, pageable, lastViewed));
+        return ResponseEntity.ok(storyService.findStoryBySearch(keyword, pageable, lastViewed, lastStoryId, lastScore));
     }
 
     /**
@@ -79,9 +85,11 @@ public class StoryController {
     @GetMapping("/member")
     public ResponseEntity<FindAllStoryGroupResponse> findStoryByWriter(
             @PageableDefault(sort = "created_at", direction = DESC) Pageable pageable,
-            @RequestParam(required = false, value = "last_viewed") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate lastViewed) {
+            @RequestParam(required = false, value = "last_viewed") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate lastViewed,
+            @RequestParam(required = false, value = "last_story_id") UUID lastStoryId,
+            @RequestParam(required = false, value = "last_score") Double lastScore) {
 
-        return ResponseEntity.ok(storyService.findStoryByWriter(pageable, lastViewed));
+        return ResponseEntity.ok(storyService.findStoryByWriter(pageable, lastViewed, lastStoryId, lastScore));
     }
 
     /**
@@ -92,9 +100,11 @@ public class StoryController {
     @GetMapping("/heart")
     public ResponseEntity<FindAllStoryGroupResponse> findStoryByHeart(
             @PageableDefault(sort = "created_at", direction = DESC) Pageable pageable,
-            @RequestParam(required = false, value = "last_viewed") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate lastViewed) {
+            @RequestParam(required = false, value = "last_viewed") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate lastViewed,
+            @RequestParam(required = false, value = "last_story_id") UUID lastStoryId,
+            @RequestParam(required = false, value = "last_score") Double lastScore) {
 
-        return ResponseEntity.ok(storyService.findStoryByHeart(pageable, lastViewed));
+        return ResponseEntity.ok(storyService.findStoryByHeart(pageable, lastViewed, lastStoryId, lastScore));
     }
 
     /**
@@ -22,4 +22,6 @@ public class FindAllStoryResponse {
     private String writer;
     private LocalDate startDate;
     private LocalDate endDate;
+    // 인기순 조회에서 다음 페이지를 요청할 때 마지막 이야기의 점수를 last_score 로 보낸다
+    private Double popularityScore;
 }
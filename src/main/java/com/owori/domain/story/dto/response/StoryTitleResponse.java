@@ -0,0 +1,15 @@
+package com.owori.domain.story.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoryTitleResponse {
+    private UUID storyId;
+    private String title;
+}
@@ -1,5 +1,6 @@
 package com.owori.domain.story.entity;
 
+import com.owori.domain.family.entity.Family;
 import com.owori.domain.comment.entity.Comment;
 import com.owori.domain.heart.entity.Heart;
 import com.owori.domain.image.entity.Image;
@@ -7,6 +8,7 @@ import com.owori.domain.member.entity.Member;
 import com.owori.global.audit.AuditListener;
 import com.owori.global.audit.Auditable;
 import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
@@ -22,8 +24,8 @@ import java.util.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Story implements Auditable {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -44,6 +46,15 @@ public class Story implements Auditable {
     @JoinColumn
     private Member member;
 
+    // 작성 당시 작성자의 가족, 가족 단위 조회를 작성자 조인 없이 처리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Family family;
+
+    // 좋아요와 댓글에 시간 가중치를 준 인기 점수의 로그 값, 엔티티 저장이 오래된 값으로 덮어쓰지 않도록 update 로만 바꾼다
+    @Column(nullable = false, updatable = false)
+    private double popularityScore;
+
     @OneToMany(mappedBy = "story", cascade = CascadeType.ALL)
     private List<Image> images = new ArrayList<>();
 
@@ -65,6 +76,7 @@ public class Story implements Auditable {
         this.startDate = startDate;
         this.endDate = endDate;
         this.member = member;
+        this.family = member.getFamily();
     }
 
     /* image */
@@ -0,0 +1,15 @@
+package com.owori.domain.story.event;
+
+import com.owori.global.event.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * 이야기 작성
+ */
+public record StoryCreated(UUID storyId, UUID familyId, UUID memberId) implements DomainEvent {
+    @Override
+    public UUID aggregateId() {
+        return storyId;
+    }
+}
@@ -36,6 +36,7 @@ public class StoryMapper {
                 .writer(story.getMember().getNickname())
                 .startDate(story.getStartDate())
                 .endDate(story.getEndDate())
+                .popularityScore(story.getPopularityScore())
                 .build();
     }
 
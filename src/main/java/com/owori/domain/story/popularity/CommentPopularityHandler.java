@@ -0,0 +1,30 @@
+package com.owori.domain.story.popularity;
+
+import com.owori.domain.comment.event.CommentAdded;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.global.event.DomainEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 커밋된 댓글을 이야기 인기 점수에 더한다
+ * 다시 전달되어 두 번 더해진 점수와 지운 댓글은 StoryPopularityRecalculator 가 다시 계산할 때 바로잡는다
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPopularityHandler implements DomainEventHandler<CommentAdded> {
+    private final StoryRepository storyRepository;
+    private final PopularityDecay popularityDecay;
+
+    @Override
+    public Class<CommentAdded> getEventType() {
+        return CommentAdded.class;
+    }
+
+    @Override
+    @Transactional
+    public void handle(CommentAdded event) {
+        storyRepository.addPopularityScore(event.storyId(), popularityDecay.comment(event.occurredAt()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.owori.domain.story.popularity;
+
+import com.owori.domain.heart.event.HeartToggled;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.global.event.DomainEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 커밋된 좋아요를 이야기 인기 점수에 더한다
+ * 로그 값에서는 빼기가 정확하지 않으므로 좋아요 취소와 다시 전달되어 두 번 더해진 점수는 StoryPopularityRecalculator 가 다시 계산할 때 바로잡는다
+ */
+@Component
+@RequiredArgsConstructor
+public class HeartPopularityHandler implements DomainEventHandler<HeartToggled> {
+    private final StoryRepository storyRepository;
+    private final PopularityDecay popularityDecay;
+
+    @Override
+    public Class<HeartToggled> getEventType() {
+        return HeartToggled.class;
+    }
+
+    @Override
+    @Transactional
+    public void handle(HeartToggled event) {
+        if (!event.hearted()) return;
+        storyRepository.addPopularityScore(event.storyId(), popularityDecay.heart(event.occurredAt()));
+    }
+}
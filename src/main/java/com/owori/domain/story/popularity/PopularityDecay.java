@@ -0,0 +1,45 @@
+package com.owori.domain.story.popularity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 인기 점수 계산, 활동 하나의 가중치는 weight x 2^((활동 시각 - 기준 시각) / 반감기) 로 최근 활동일수록 크다
+ * 모든 이야기가 같은 기준 시각을 쓰므로 저장한 점수를 시간이 지날 때마다 깎지 않아도 순서가 유지된다
+ * 가중치는 시간이 갈수록 커지므로 합 대신 합의 로그를 저장해서 넘치지 않게 한다
+ */
+@Component
+public class PopularityDecay {
+    // 서비스 시작 이전의 고정 기준 시각, 반감기와 함께 바꾸면 모든 점수를 다시 계산해야 한다
+    private static final LocalDateTime LANDMARK = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    @Value("${app.story.popularity.half-life-hours:168}")
+    private long halfLifeHours;
+
+    @Value("${app.story.popularity.heart-weight:1}")
+    private double heartWeight;
+
+    @Value("${app.story.popularity.comment-weight:2}")
+    private double commentWeight;
+
+    public double heart(final LocalDateTime occurredAt) {
+        return logWeight(heartWeight, occurredAt);
+    }
+
+    public double comment(final LocalDateTime occurredAt) {
+        return logWeight(commentWeight, occurredAt);
+    }
+
+    private double logWeight(final double weight, final LocalDateTime occurredAt) {
+        double halfLives = Duration.between(LANDMARK, occurredAt).toSeconds() / (halfLifeHours * 3600.0);
+        return Math.log(weight) + halfLives * Math.log(2);
+    }
+
+    // 로그 값끼리 더하기, StoryRepository.addPopularityScore 와 같은 식
+    public static double add(final double score, final double weight) {
+        return Math.max(score, weight) + Math.log1p(Math.exp(-Math.abs(score - weight)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.owori.domain.story.popularity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 이야기 인기 점수를 남아 있는 좋아요와 댓글로 다시 계산
+ * 이벤트로 더한 점수에는 좋아요 취소, 지운 댓글, 다시 전달된 이벤트가 반영되지 않으므로 주기적으로 바로잡는다
+ * id 순서로 묶음마다 트랜잭션을 나누고, 다시 계산한 값이 저장된 값과 다른 이야기만 수정한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryPopularityRecalculator {
+    // 이벤트 처리 시각과 작성 시각의 차이로 생기는 오차는 고치지 않는다
+    private static final double TOLERANCE = 1e-3;
+
+    private final TransactionTemplate transactionTemplate;
+    private final PopularityDecay popularityDecay;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Value("${app.story.popularity.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.story.popularity.recalculate-cron:0 0 4 * * *}")
+    public void recalculate() {
+        int corrected = recalculateAll();
+        if (corrected > 0) log.info("이야기 인기 점수 {}건 다시 계산", corrected);
+    }
+
+    /**
+     * @return 점수를 고친 이야기 수
+     */
+    public int recalculateAll() {
+        int corrected = 0;
+        Batch batch = new Batch(null, 0, 0);
+        do {
+            UUID lastId = batch.lastId();
+            batch = transactionTemplate.execute(status -> recalculateBatch(lastId));
+            corrected += batch.corrected();
+        } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+        return corrected;
+    }
+
+    private Batch recalculateBatch(final UUID lastId) {
+        String jpql = "select s.id, s.popularityScore from Story s"
+                + (lastId == null ? "" : " where s.id > :lastId")
+                + " order by s.id";
+        var query = em.createQuery(jpql, Object[].class).setMaxResults(batchSize);
+        if (lastId != null) query.setParameter("lastId", lastId);
+        List<Object[]> stories = query.getResultList();
+        if (stories.isEmpty()) return new Batch(lastId, 0, 0);
+
+        List<UUID> ids = stories.stream().map(story -> (UUID) story[0]).toList();
+        // 활동이 없는 이야기는 기본값 0 에서 시작한다
+        Map<UUID, Double> scores = new HashMap<>();
+        ids.forEach(id -> scores.put(id, 0.0));
+        em.createQuery("select h.story.id, h.baseTime.createdAt from Heart h where h.story.id in :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(heart -> scores.merge((UUID) heart[0], popularityDecay.heart((LocalDateTime) heart[1]), PopularityDecay::add));
+        em.createQuery("select c.story.id, c.baseTime.createdAt from Comment c where c.story.id in :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(comment -> scores.merge((UUID) comment[0], popularityDecay.comment((LocalDateTime) comment[1]), PopularityDecay::add));
+
+        int corrected = 0;
+        for (Object[] story : stories) {
+            double score = scores.get((UUID) story[0]);
+            if (Math.abs(score - (double) story[1]) < TOLERANCE) continue;
+            em.createQuery("update Story s set s.popularityScore = :score where s.id = :id")
+                    .setParameter("score", score)
+                    .setParameter("id", story[0])
+                    .executeUpdate();
+            corrected++;
+        }
+        return new Batch(ids.get(ids.size() - 1), ids.size(), corrected);
+    }
+
+    private record Batch(UUID lastId, int size, int corrected) {
+    }
+}
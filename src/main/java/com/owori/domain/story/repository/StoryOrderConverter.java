@@ -11,12 +11,16 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static com.owori.domain.story.entity.QStory.story;
 
 
 @Component
 public class StoryOrderConverter implements OrderConverter {
+    private static final String POPULAR = "popular";
+
     private final Map<String, ComparableExpressionBase<?>> keywordMap = new HashMap<>();
 
     public StoryOrderConverter() {
@@ -26,28 +30,43 @@ public class StoryOrderConverter implements OrderConverter {
     private void initializeMap() {
         keywordMap.put("created_at", story.baseTime.createdAt);
         keywordMap.put("start_date", story.startDate);
+        keywordMap.put(POPULAR, story.popularityScore);
     }
 
     @Override
     public OrderSpecifier<?>[] convert(Sort sort) {
         return sort.stream()
-                .map(
+                .flatMap(
                         s -> {
                             ComparableExpressionBase<?> path = keywordMap.get(s.getProperty());
-                            return path.desc();
+                            // 점수가 같은 이야기는 id 순서로 두어 다음 페이지와 겹치거나 빠지지 않게 한다
+                            if (s.getProperty().equals(POPULAR)) return Stream.of(path.desc(), story.id.desc());
+                            return Stream.of(path.desc());
                         })
                 .toArray(OrderSpecifier[]::new);
     }
 
-    public BooleanExpression createOrderExpression(Pageable pageable, LocalDate date) {
+    public BooleanExpression createOrderExpression(Pageable pageable, LocalDate date, UUID lastStoryId, Double lastScore) {
+        String sortProperty = pageable.getSort().toList().get(0).getProperty();
+        if (sortProperty.equals(POPULAR)) {
+            return isLessPopular(lastScore, lastStoryId);
+        }
         if (date == null) {
             return null;
         }
-        String sortProperty = pageable.getSort().toList().get(0).getProperty();
 
         if (sortProperty.equals("start_date")) {
             return story.startDate.lt(date);
         }
         return story.baseTime.createdAt.lt(date.atStartOfDay());
     }
+
+    // 이전 페이지 마지막 이야기보다 (인기 점수, id) 가 뒤인 이야기, 점수는 이전 페이지에서 받은 값으로 비교한다
+    private BooleanExpression isLessPopular(Double lastScore, UUID lastStoryId) {
+        if (lastScore == null || lastStoryId == null) {
+            return null;
+        }
+        return story.popularityScore.lt(lastScore)
+                .or(story.popularityScore.eq(lastScore).and(story.id.lt(lastStoryId)));
+    }
 }
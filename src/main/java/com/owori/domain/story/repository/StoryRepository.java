@@ -1,12 +1,38 @@
 package com.owori.domain.story.repository;
 
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.member.entity.Member;
 import com.owori.domain.story.entity.Story;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface StoryRepository extends JpaRepository<Story, Long>, StoryRepositoryCustom {
     Story save(Story story);
     Optional<Story> findById(UUID id);
+    // 작성자와 좋아요를 함께 읽기, 컬렉션 두 개를 한 번에 읽으면 행이 곱해지므로 댓글은 따로 채운다
+    @Query("select distinct s from Story s left join fetch s.member left join fetch s.hearts where s.id in :ids")
+    List<Story> findAllByIdIn(@Param("ids") List<UUID> ids);
+
+    // 이미 읽은 이야기의 댓글 목록 채우기
+    @Query("select distinct s from Story s left join fetch s.comments where s.id in :ids")
+    List<Story> findAllWithCommentsByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query("select s.id from Story s where s.member = :member")
+    List<UUID> findAllIdsByMember(@Param("member") Member member);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Story s set s.family = :family where s.member = :member")
+    int updateFamilyByMember(@Param("member") Member member, @Param("family") Family family);
+
+    // 로그 값으로 저장한 점수에 가중치 더하기, ln(e^score + e^weight) 를 넘치지 않게 계산한다
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update story set popularity_score = greatest(popularity_score, :weight)"
+            + " + ln(1 + exp(-abs(popularity_score - :weight))) where id = :id", nativeQuery = true)
+    int addPopularityScore(@Param("id") UUID id, @Param("weight") double weight);
 }
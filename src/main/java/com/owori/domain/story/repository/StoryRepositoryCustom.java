@@ -2,15 +2,19 @@ package com.owori.domain.story.repository;
 
 import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
+import com.owori.domain.story.dto.response.StoryTitleResponse;
 import com.owori.domain.story.entity.Story;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 public interface StoryRepositoryCustom {
-    Slice<Story> findAllStory(Pageable pageable, Family family, LocalDate date);
-    Slice<Story> findStoryBySearch(Pageable pageable, String keyword, Family family, LocalDate date);
-    Slice<Story> findStoryByWriter(Pageable pageable, Member member, LocalDate date);
-    Slice<Story> findStoryByHeart(Pageable pageable, Member member, LocalDate date);
+    Slice<Story> findAllStory(Pageable pageable, Family family, LocalDate date, UUID lastStoryId, Double lastScore);
+    Slice<Story> findStoryBySearch(Pageable pageable, String keyword, Family family, LocalDate date, UUID lastStoryId, Double lastScore);
+    Slice<Story> findStoryByWriter(Pageable pageable, Member member, LocalDate date, UUID lastStoryId, Double lastScore);
+    Slice<Story> findStoryByHeart(Pageable pageable, Member member, LocalDate date, UUID lastStoryId, Double lastScore);
+    List<StoryTitleResponse> findAllTitlesByFamily(Family family);
 }
@@ -2,7 +2,9 @@ package com.owori.domain.story.repository;
 
 import com.owori.domain.family.entity.Family;
 import com.owori.domain.member.entity.Member;
+import com.owori.domain.story.dto.response.StoryTitleResponse;
 import com.owori.domain.story.entity.Story;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +13,7 @@ import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 import static com.owori.domain.heart.entity.QHeart.heart;
 import static com.owori.domain.story.entity.QStory.story;
@@ -21,12 +24,12 @@ public class StoryRepositoryCustomImpl implements StoryRepositoryCustom {
     private final StoryOrderConverter storyOrderConverter;
 
     @Override
-    public Slice<Story> findAllStory(Pageable pageable, Family family, LocalDate date) {
+    public Slice<Story> findAllStory(Pageable pageable, Family family, LocalDate date, UUID lastStoryId, Double lastScore) {
         List<Story> results = queryFactory
                 .selectFrom(story)
                 .where(
-                        story.member.family.eq(family)
-                                .and(storyOrderConverter.createOrderExpression(pageable, date)) // no-offset 페이징 처리
+                        story.family.eq(family)
+                                .and(storyOrderConverter.createOrderExpression(pageable, date, lastStoryId, lastScore)) // no-offset 페이징 처리
                 )
                 .orderBy(storyOrderConverter.convert(pageable.getSort()))
                 .limit(pageable.getPageSize() + 1)
@@ -36,12 +39,12 @@ public class StoryRepositoryCustomImpl implements StoryRepositoryCustom {
     }
 
     @Override
-    public Slice<Story> findStoryBySearch(Pageable pageable, String keyword, Family family, LocalDate date) {
+    public Slice<Story> findStoryBySearch(Pageable pageable, String keyword, Family family, LocalDate date, UUID lastStoryId, Double lastScore) {
         List<Story> results = queryFactory
                 .selectFrom(story)
                 .where(
-                        story.member.family.eq(family)
-                                .and(storyOrderConverter.createOrderExpression(pageable, date))
+                        story.family.eq(family)
+                                .and(storyOrderConverter.createOrderExpression(pageable, date, lastStoryId, lastScore))
                                 .and(
                                         story.title.contains(keyword)
                                                 .or(story.content.contains(keyword))
@@ -56,12 +59,12 @@ public class StoryRepositoryCustomImpl implements StoryRepositoryCustom {
     }
 
     @Override
-    public Slice<Story> findStoryByWriter(Pageable pageable, Member member, LocalDate date) {
+    public Slice<Story> findStoryByWriter(Pageable pageable, Member member, LocalDate date, UUID lastStoryId, Double lastScore) {
         List<Story> results = queryFactory
                 .selectFrom(story)
                 .where(
                         story.member.eq(member)
-                                .and(storyOrderConverter.createOrderExpression(pageable, date))
+                                .and(storyOrderConverter.createOrderExpression(pageable, date, lastStoryId, lastScore))
                 )
                 .orderBy(storyOrderConverter.convert(pageable.getSort()))
                 .limit(pageable.getPageSize() + 1)
@@ -71,13 +74,13 @@ public class StoryRepositoryCustomImpl implements StoryRepositoryCustom {
     }
 
     @Override
-    public Slice<Story> findStoryByHeart(Pageable pageable, Member member, LocalDate date) {
+    public Slice<Story> findStoryByHeart(Pageable pageable, Member member, LocalDate date, UUID lastStoryId, Double lastScore) {
         List<Story> results = queryFactory
                 .selectFrom(story)
                 .join(story.hearts, heart)
                 .where(
                         heart.member.eq(member)
-                                .and(storyOrderConverter.createOrderExpression(pageable, date))
+                                .and(storyOrderConverter.createOrderExpression(pageable, date, lastStoryId, lastScore))
                 )
                 .orderBy(storyOrderConverter.convert(pageable.getSort()))
                 .limit(pageable.getPageSize() + 1)
@@ -86,6 +89,15 @@ public class StoryRepositoryCustomImpl implements StoryRepositoryCustom {
         return checkLastPage(pageable, results);
     }
 
+    @Override
+    public List<StoryTitleResponse> findAllTitlesByFamily(Family family) {
+        return queryFactory
+                .select(Projections.constructor(StoryTitleResponse.class, story.id, story.title))
+                .from(story)
+                .where(story.family.eq(family))
+                .fetch();
+    }
+
     private Slice<Story> checkLastPage(Pageable pageable, List<Story> results) {
         boolean hasNext = false; // pagesize보다 1 크게 가져와서 다음 페이지가 남았는지 확인
 
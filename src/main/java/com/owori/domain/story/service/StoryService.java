@@ -1,9 +1,12 @@
 package com.owori.domain.story.service;
 
 import com.owori.domain.comment.dto.response.CommentResponse;
+import com.owori.domain.family.change.FamilyChangeRecorder;
+import com.owori.domain.family.change.FamilyChangeType;
 import com.owori.domain.family.entity.Family;
 import com.owori.domain.image.service.ImageService;
 import com.owori.domain.keyword.service.KeywordService;
+import com.owori.domain.keyword.suggest.FamilySuggestionCache;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.service.AuthService;
 import com.owori.domain.story.dto.request.PostStoryRequest;
@@ -12,8 +15,10 @@ import com.owori.domain.story.dto.response.FindAllStoryGroupResponse;
 import com.owori.domain.story.dto.response.FindStoryResponse;
 import com.owori.domain.story.dto.response.StoryIdResponse;
 import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.event.StoryCreated;
 import com.owori.domain.story.mapper.StoryMapper;
 import com.owori.domain.story.repository.StoryRepository;
+import com.owori.global.event.DomainEventPublisher;
 import com.owori.global.exception.EntityNotFoundException;
 import com.owori.global.exception.NoAuthorityException;
 import com.owori.global.service.EntityLoader;
@@ -36,7 +41,11 @@ public class StoryService implements EntityLoader<Story, UUID> {
     private final ImageService imageService;
     private final AuthService authService;
     private final KeywordService keywordService;
+    private final FamilySuggestionCache familySuggestionCache;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FamilyChangeRecorder familyChangeRecorder;
 
+    @Transactional
     public StoryIdResponse addStory(PostStoryRequest request) {
         Member loginUser = authService.getLoginUser();
         Story newStory = storyRepository.save(storyMapper.toEntity(request, loginUser));
@@ -44,13 +53,17 @@ public class StoryService implements EntityLoader<Story, UUID> {
         if (imagesIds != null) {
             imageService.updateStory(newStory, imagesIds);
         }
+        familySuggestionCache.putStory(newStory);
+        Family family = newStory.getFamily();
+        domainEventPublisher.publish(new StoryCreated(newStory.getId(), family == null ? null : family.getId(), loginUser.getId()));
+        familyChangeRecorder.record(family, FamilyChangeType.STORY_CREATED, newStory.getId());
         return new StoryIdResponse(newStory.getId());
     }
 
     @Transactional(readOnly = true)
-    public FindAllStoryGroupResponse findAllStory(Pageable pageable, LocalDate lastViewed) {
+    public FindAllStoryGroupResponse findAllStory(Pageable pageable, LocalDate lastViewed, UUID lastStoryId, Double lastScore) {
         Family family = authService.getLoginUser().getFamily();
-        Slice<Story> storyBySlice = storyRepository.findAllStory(pageable, family, lastViewed);
+        Slice<Story> storyBySlice = storyRepository.findAllStory(pageable, family, lastViewed, lastStoryId, lastScore);
 
         return storyMapper.toFindAllStoryGroupResponse(storyBySlice);
     }
@@ -67,6 +80,8 @@ public class StoryService implements EntityLoader<Story, UUID> {
         }
         story.update(request.getContent(), request.getTitle(), request.getStartDate(), request.getEndDate());
         imageService.updateStory(story, request.getImagesId());
+        familySuggestionCache.putStory(story);
+        familyChangeRecorder.record(story.getFamily(), FamilyChangeType.STORY_UPDATED, story.getId());
 
         return new StoryIdResponse(story.getId());
     }
@@ -80,29 +95,31 @@ public class StoryService implements EntityLoader<Story, UUID> {
         imageService.removeImages(story); // 이미지 삭제
         story.getHearts().forEach(story::removeHeart); // 좋아요 삭제
         story.delete(); // 스토리 삭제
+        familySuggestionCache.removeStory(story);
+        familyChangeRecorder.record(story.getFamily(), FamilyChangeType.STORY_DELETED, story.getId());
     }
 
     @Transactional(readOnly = true)
-    public FindAllStoryGroupResponse findStoryBySearch(String keyword, Pageable pageable, LocalDate lastViewed) {
+    public FindAllStoryGroupResponse findStoryBySearch(String keyword, Pageable pageable, LocalDate lastViewed, UUID lastStoryId, Double lastScore) {
         Member loginUser = authService.getLoginUser();
-        Slice<Story> storyBySearch = storyRepository.findStoryBySearch(pageable, keyword, loginUser.getFamily(), lastViewed);
+        Slice<Story> storyBySearch = storyRepository.findStoryBySearch(pageable, keyword, loginUser.getFamily(), lastViewed, lastStoryId, lastScore);
         keywordService.addKeyword(keyword, loginUser);
 
         return storyMapper.toFindAllStoryGroupResponse(storyBySearch);
     }
 
     @Transactional(readOnly = true)
-    public FindAllStoryGroupResponse findStoryByWriter(Pageable pageable, LocalDate lastViewed) {
+    public FindAllStoryGroupResponse findStoryByWriter(Pageable pageable, LocalDate lastViewed, UUID lastStoryId, Double lastScore) {
         Member member = authService.getLoginUser();
-        Slice<Story> storyByWriter = storyRepository.findStoryByWriter(pageable, member, lastViewed);
+        Slice<Story> storyByWriter = storyRepository.findStoryByWriter(pageable, member, lastViewed, lastStoryId, lastScore);
 
         return storyMapper.toFindAllStoryGroupResponse(storyByWriter);
     }
 
     @Transactional(readOnly = true)
-    public FindAllStoryGroupResponse findStoryByHeart(Pageable pageable, LocalDate lastViewed) {
+    public FindAllStoryGroupResponse findStoryByHeart(Pageable pageable, LocalDate lastViewed, UUID lastStoryId, Double lastScore) {
         Member member = authService.getLoginUser();
-        Slice<Story> storyByHeart = storyRepository.findStoryByHeart(pageable, member, lastViewed);
+        Slice<Story> storyByHeart = storyRepository.findStoryByHeart(pageable, member, lastViewed, lastStoryId, lastScore);
 
         return storyMapper.toFindAllStoryGroupResponse(storyByHeart);
     }
@@ -0,0 +1,30 @@
+package com.owori.domain.sync.controller;
+
+import com.owori.domain.sync.dto.response.SyncResponse;
+import com.owori.domain.sync.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/sync")
+public class SyncController {
+    private final SyncService syncService;
+
+    /**
+     * 가족 데이터 변경분을 조회하는 컨트롤러입니다.
+     * 마지막으로 받은 순번 이후에 바뀐 이야기, 댓글, 서로에게 한마디, 일정, 가족 구성원과 지워진 대상을 변경 순서대로 조회합니다.
+     * reset 이 true 이면 이어 받을 수 없으므로 목록을 모두 다시 불러온 뒤 응답의 version 부터 다시 동기화합니다.
+     * @param since 마지막으로 받은 순번입니다. 처음 동기화할 때는 목록을 불러오기 직전의 순번을 보냅니다.
+     * @param size 한 번에 읽을 변경 기록 수입니다.
+     * @return 다음 요청에 보낼 순번과 변경된 대상을 가지는 response dto 입니다.
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam Long since, @RequestParam(defaultValue = "100") Integer size) {
+        return ResponseEntity.ok(syncService.sync(since, size));
+    }
+}
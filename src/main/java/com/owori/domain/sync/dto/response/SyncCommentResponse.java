@@ -0,0 +1,19 @@
+package com.owori.domain.sync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SyncCommentResponse {
+    private UUID storyId;
+    private UUID parentCommentId;
+    private UUID commentId;
+    private String comment;
+    private String writer;
+    private String timeBeforeWriting;
+}
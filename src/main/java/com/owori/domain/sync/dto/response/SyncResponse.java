@@ -0,0 +1,27 @@
+package com.owori.domain.sync.dto.response;
+
+import com.owori.domain.member.dto.response.MemberProfileResponse;
+import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.story.dto.response.FindAllStoryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SyncResponse {
+    // 다음 요청의 since 로 보낼 순번
+    private Long version;
+    private Boolean hasNext;
+    // 변경 기록으로 이어 받을 수 없으므로 전체 목록을 다시 불러와야 함
+    private Boolean reset;
+    private List<FindAllStoryResponse> stories;
+    private List<SyncCommentResponse> comments;
+    private List<SayingByFamilyResponse> sayings;
+    private List<SyncScheduleResponse> schedules;
+    private List<MemberProfileResponse> members;
+    private List<SyncTombstoneResponse> deleted;
+}
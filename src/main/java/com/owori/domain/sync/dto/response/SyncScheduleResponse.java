@@ -0,0 +1,37 @@
+package com.owori.domain.sync.dto.response;
+
+import com.owori.domain.member.entity.Color;
+import com.owori.domain.schedule.entity.Alarm;
+import com.owori.domain.schedule.entity.RecurrenceFrequency;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.recurrence.OccurrenceOverride;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회차로 펼치지 않은 일정 원본, 반복 일정은 규칙과 회차 예외를 함께 보낸다
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SyncScheduleResponse {
+    private UUID scheduleId;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private ScheduleType scheduleType;
+    private UUID memberId;
+    private String nickname;
+    private Color color;
+    private Boolean ddayOption;
+    private List<Alarm> alarmOptions;
+    private RecurrenceFrequency frequency;
+    private LocalDate until;
+    private Integer count;
+    private List<OccurrenceOverride> overrides;
+}
@@ -0,0 +1,14 @@
+package com.owori.domain.sync.dto.response;
+
+import com.owori.domain.family.change.ChangeEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class SyncTombstoneResponse {
+    private ChangeEntityType type;
+    private UUID id;
+}
@@ -0,0 +1,66 @@
+package com.owori.domain.sync.entity;
+
+import com.owori.domain.family.change.ChangeEntityType;
+import com.owori.domain.family.change.FamilyChangeType;
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 가족 데이터 변경 기록, 추가만 하고 수정하지 않는다
+ * 대상의 내용은 담지 않고 종류와 id 만 남겨서, 동기화할 때 변경된 대상만 다시 읽는다
+ * version 은 가족별로 빈틈없이 1씩 늘어나는 순번이라 클라이언트는 마지막으로 받은 순번 다음부터 요청한다
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_change_log_family_version", columnList = "family_id, version", unique = true),
+        @Index(name = "idx_change_log_created", columnList = "created_at")
+})
+public class ChangeLog {
+    @Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID familyId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID entityId;
+
+    // 가족 스트림으로 보낼 알림 종류
+    @Enumerated(EnumType.STRING)
+    private FamilyChangeType changeType;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public ChangeLog(UUID familyId, long version, FamilyChangeType changeType, UUID entityId) {
+        this.familyId = familyId;
+        this.version = version;
+        this.entityType = changeType.getEntityType();
+        this.entityId = entityId;
+        this.changeType = changeType;
+        this.deleted = changeType.isDeleted();
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,70 @@
+package com.owori.domain.sync.mapper;
+
+import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.family.change.ChangeEntityType;
+import com.owori.domain.schedule.cache.ScheduleSummary;
+import com.owori.domain.schedule.entity.Recurrence;
+import com.owori.domain.sync.dto.response.SyncCommentResponse;
+import com.owori.domain.sync.dto.response.SyncResponse;
+import com.owori.domain.sync.dto.response.SyncScheduleResponse;
+import com.owori.domain.sync.dto.response.SyncTombstoneResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class SyncMapper {
+    public SyncCommentResponse toCommentResponse(Comment comment) {
+        return SyncCommentResponse.builder()
+                .storyId(comment.getStory().getId())
+                .parentCommentId(comment.getParentId())
+                .commentId(comment.getId())
+                .comment(comment.getContent())
+                .writer(comment.getMember().getNickname())
+                .timeBeforeWriting(comment.getTimeBefore())
+                .build();
+    }
+
+    public SyncScheduleResponse toScheduleResponse(ScheduleSummary schedule) {
+        Optional<Recurrence> recurrence = Optional.ofNullable(schedule.getRecurrence());
+        return SyncScheduleResponse.builder()
+                .scheduleId(schedule.getScheduleId())
+                .title(schedule.getTitle())
+                .startDate(schedule.getStartDate())
+                .endDate(schedule.getEndDate())
+                .scheduleType(schedule.getScheduleType())
+                .memberId(schedule.getMemberId())
+                .nickname(schedule.getNickname())
+                .color(schedule.getColor())
+                .ddayOption(schedule.getDDayOption())
+                .alarmOptions(schedule.getAlarmList())
+                .frequency(recurrence.map(Recurrence::getFrequency).orElse(null))
+                .until(recurrence.map(Recurrence::getUntil).orElse(null))
+                .count(recurrence.map(Recurrence::getCount).orElse(null))
+                .overrides(schedule.getOverrides())
+                .build();
+    }
+
+    public SyncTombstoneResponse toTombstoneResponse(ChangeEntityType type, UUID id) {
+        return new SyncTombstoneResponse(type, id);
+    }
+
+    /**
+     * 변경 기록으로 이어 받을 수 없을 때, 클라이언트는 목록을 모두 다시 불러온 뒤 version 부터 다시 동기화한다
+     */
+    public SyncResponse toResetResponse(long version) {
+        return SyncResponse.builder()
+                .version(version)
+                .hasNext(false)
+                .reset(true)
+                .stories(List.of())
+                .comments(List.of())
+                .sayings(List.of())
+                .schedules(List.of())
+                .members(List.of())
+                .deleted(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.owori.domain.sync.repository;
+
+import com.owori.domain.sync.entity.ChangeLog;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ChangeLogRepository {
+    ChangeLog save(ChangeLog changeLog);
+
+    <S extends ChangeLog> List<S> saveAll(Iterable<S> changeLogs);
+
+    List<ChangeLog> findAllByFamilyIdAndVersionGreaterThanOrderByVersionAsc(UUID familyId, long version, Pageable pageable);
+
+    // 보관 기간이 지난 기록 정리
+    int deleteAllCreatedBefore(LocalDateTime createdBefore, int batchSize);
+}
@@ -0,0 +1,19 @@
+package com.owori.domain.sync.repository;
+
+import com.owori.domain.sync.entity.ChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface JpaChangeLogRepository extends JpaRepository<ChangeLog, UUID>, ChangeLogRepository {
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = "delete from change_log where created_at < :createdBefore limit :batchSize", nativeQuery = true)
+    int deleteAllCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore, @Param("batchSize") int batchSize);
+}
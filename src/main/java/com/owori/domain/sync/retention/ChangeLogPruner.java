@@ -0,0 +1,39 @@
+package com.owori.domain.sync.retention;
+
+import com.owori.domain.sync.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 변경 기록을 묶음 단위로 지운다
+ * 지워진 구간부터 동기화를 요청한 클라이언트는 reset 응답을 받고 전체 목록을 다시 불러온다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChangeLogPruner {
+    private final ChangeLogRepository changeLogRepository;
+
+    @Value("${app.sync.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${app.sync.purge-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.sync.purge-cron:0 0 5 * * *}")
+    public void pruneExpired() {
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(retentionDays);
+        int pruned = 0;
+        int deleted;
+        do {
+            deleted = changeLogRepository.deleteAllCreatedBefore(createdBefore, batchSize);
+            pruned += deleted;
+        } while (deleted == batchSize && !Thread.currentThread().isInterrupted());
+        if (pruned > 0) log.info("보관 기간이 지난 변경 기록 {}건 삭제", pruned);
+    }
+}
@@ -0,0 +1,157 @@
+package com.owori.domain.sync.service;
+
+import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.comment.repository.CommentRepository;
+import com.owori.domain.family.change.ChangeEntityType;
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.mapper.MemberMapper;
+import com.owori.domain.member.repository.MemberRepository;
+import com.owori.domain.member.service.AuthService;
+import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.mapper.SayingMapper;
+import com.owori.domain.saying.repository.SayingRepository;
+import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.mapper.ScheduleMapper;
+import com.owori.domain.schedule.repository.ScheduleRepository;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.mapper.StoryMapper;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.domain.sync.dto.response.SyncResponse;
+import com.owori.domain.sync.dto.response.SyncTombstoneResponse;
+import com.owori.domain.sync.entity.ChangeLog;
+import com.owori.domain.sync.mapper.SyncMapper;
+import com.owori.domain.sync.repository.ChangeLogRepository;
+import com.owori.global.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 클라이언트가 마지막으로 받은 순번(since) 이후에 바뀐 가족 데이터만 내려준다
+ * 변경 기록에서 대상별 마지막 변경만 남긴 뒤 종류별로 한 번씩 모아서 읽고, 읽히지 않는 대상은 지운 것으로 알린다
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+    private final AuthService authService;
+    private final FamilyRepository familyRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final StoryRepository storyRepository;
+    private final CommentRepository commentRepository;
+    private final SayingRepository sayingRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final MemberRepository memberRepository;
+    private final StoryMapper storyMapper;
+    private final SayingMapper sayingMapper;
+    private final ScheduleMapper scheduleMapper;
+    private final MemberMapper memberMapper;
+    private final SyncMapper syncMapper;
+
+    @Value("${app.sync.max-page-size:500}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public SyncResponse sync(final Long since, final Integer size) {
+        Family family = authService.getLoginUser().getFamily();
+        if (family == null) throw new EntityNotFoundException();
+        long current = familyRepository.findActivityVersion(family.getId()).orElseThrow(EntityNotFoundException::new);
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+
+        // 서버보다 앞선 순번은 다른 가족이나 초기화 이전에 받은 순번
+        if (since < 0 || since > current) return syncMapper.toResetResponse(current);
+        if (since == current) return toResponse(current, false, new LinkedHashMap<>(), family);
+
+        List<ChangeLog> changeLogs = changeLogRepository.findAllByFamilyIdAndVersionGreaterThanOrderByVersionAsc(
+                family.getId(), since, PageRequest.of(0, pageSize + 1));
+        // 보관 기간이 지나 정리됐거나 변경 기록을 남기기 전의 순번이면 이어 받을 수 없다
+        if (changeLogs.isEmpty() || changeLogs.get(0).getVersion() != since + 1) return syncMapper.toResetResponse(current);
+
+        boolean hasNext = changeLogs.size() > pageSize;
+        if (hasNext) changeLogs = changeLogs.subList(0, pageSize);
+
+        // 같은 대상이 여러 번 바뀌었으면 마지막 변경만 남긴다
+        Map<ChangeEntityType, Map<UUID, Boolean>> changes = new LinkedHashMap<>();
+        for (ChangeLog changeLog : changeLogs) {
+            Map<UUID, Boolean> changesOfType = changes.computeIfAbsent(changeLog.getEntityType(), type -> new LinkedHashMap<>());
+            changesOfType.remove(changeLog.getEntityId());
+            changesOfType.put(changeLog.getEntityId(), changeLog.isDeleted());
+        }
+        return toResponse(changeLogs.get(changeLogs.size() - 1).getVersion(), hasNext, changes, family);
+    }
+
+    private SyncResponse toResponse(final long version, final boolean hasNext,
+                                    final Map<ChangeEntityType, Map<UUID, Boolean>> changes, final Family family) {
+        List<SyncTombstoneResponse> deleted = new ArrayList<>();
+        List<Story> stories = load(ChangeEntityType.STORY, changes, deleted, this::findStories, Story::getId,
+                story -> isSameFamily(story.getFamily(), family));
+        List<Comment> comments = load(ChangeEntityType.COMMENT, changes, deleted, commentRepository::findAllByIdIn, Comment::getId,
+                comment -> isSameFamily(comment.getFamily(), family));
+        List<Saying> sayings = load(ChangeEntityType.SAYING, changes, deleted, sayingRepository::findAllByIdIn, Saying::getId,
+                saying -> isSameFamily(saying.getFamily(), family));
+        List<Schedule> schedules = load(ChangeEntityType.SCHEDULE, changes, deleted, scheduleRepository::findAllByIdIn, Schedule::getId,
+                schedule -> isSameFamily(schedule.getFamily(), family));
+        List<Member> members = load(ChangeEntityType.MEMBER, changes, deleted, memberRepository::findAllByIdIn, Member::getId,
+                member -> isSameFamily(member.getFamily(), family));
+
+        return SyncResponse.builder()
+                .version(version)
+                .hasNext(hasNext)
+                .reset(false)
+                .stories(stories.stream().map(storyMapper::toFindAllStoryResponse).toList())
+                .comments(comments.stream().map(syncMapper::toCommentResponse).toList())
+                .sayings(sayingMapper.toResponseList(sayings, sayings.isEmpty() ? List.of() : sayingRepository.findAllTagMembersBySayings(sayings)))
+                .schedules(schedules.stream().map(scheduleMapper::toSummary).map(syncMapper::toScheduleResponse).toList())
+                .members(members.stream().map(memberMapper::toProfileResponse).toList())
+                .deleted(deleted)
+                .build();
+    }
+
+    /**
+     * 응답에 쓰는 작성자, 좋아요, 댓글을 이야기마다 따로 읽지 않도록 함께 읽기
+     */
+    private List<Story> findStories(final List<UUID> ids) {
+        List<Story> stories = storyRepository.findAllByIdIn(ids);
+        // 영속성 컨텍스트에 있는 이야기의 댓글 목록이 채워진다
+        storyRepository.findAllWithCommentsByIdIn(ids);
+        return stories;
+    }
+
+    /**
+     * 지워지지 않은 대상을 변경 순서대로 한 번에 읽기, 지웠거나 읽히지 않거나 가족을 옮긴 대상은 지운 대상에 더한다
+     */
+    private <T> List<T> load(final ChangeEntityType type, final Map<ChangeEntityType, Map<UUID, Boolean>> changes,
+                             final List<SyncTombstoneResponse> deleted, final Function<List<UUID>, List<T>> finder,
+                             final Function<T, UUID> idOf, final Function<T, Boolean> visible) {
+        Map<UUID, Boolean> changesOfType = changes.getOrDefault(type, Map.of());
+        List<UUID> upsertIds = changesOfType.entrySet().stream()
+                .filter(change -> !change.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        Map<UUID, T> found = new HashMap<>();
+        if (!upsertIds.isEmpty()) {
+            finder.apply(upsertIds).stream()
+                    .filter(visible::apply)
+                    .forEach(entity -> found.put(idOf.apply(entity), entity));
+        }
+
+        List<T> entities = new ArrayList<>();
+        changesOfType.keySet().forEach(id -> {
+            T entity = found.get(id);
+            if (entity == null) deleted.add(syncMapper.toTombstoneResponse(type, id));
+            else entities.add(entity);
+        });
+        return entities;
+    }
+
+    private boolean isSameFamily(final Family owner, final Family family) {
+        return owner != null && Objects.equals(owner.getId(), family.getId());
+    }
+}
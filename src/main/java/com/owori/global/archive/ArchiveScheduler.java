@@ -0,0 +1,22 @@
+package com.owori.global.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자가 적은 새벽 시간에 지운 행을 보관 테이블로 옮기기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveScheduler {
+    private final SoftDeleteArchiver softDeleteArchiver;
+
+    @Scheduled(cron = "${app.archive.cron:0 30 4 * * *}")
+    public void archiveDeletedRows() {
+        int archived = softDeleteArchiver.archiveAll();
+        if (archived > 0) log.info("지운 행 {}건 보관 테이블로 이동", archived);
+    }
+}
@@ -0,0 +1,51 @@
+package com.owori.global.archive;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지운 지 보관 기간이 지난 행을 보관 테이블(테이블명_archive)로 옮기는 대상 테이블
+ * 다른 행이 외래키로 참조하는 행은 참조하는 행이 먼저 옮겨진 뒤에 옮길 수 있으므로 참조하는 테이블부터 순서대로 둔다
+ * 회원과 가족은 거의 모든 테이블이 참조하므로 옮기지 않는다
+ */
+@Getter
+public enum ArchiveTable {
+    SAYING_TAG_MEMBER("saying_tag_member", List.of("id", "saying_id", "member_id", "created_at", "updated_at", "deleted_at")),
+    SAYING("saying", List.of("id", "content", "member_id", "modifiable", "family_id", "created_at", "updated_at", "deleted_at"),
+            "saying_tag_member.saying_id"),
+    HEART("heart", List.of("id", "story_id", "member_id", "family_id", "created_at", "updated_at", "deleted_at")),
+    IMAGE("image", List.of("id", "story_id", "order_num", "url", "created_at", "updated_at", "deleted_at")),
+    COMMENT("comment", List.of("id", "member_id", "story_id", "parent_id", "content", "family_id", "created_at", "updated_at", "deleted_at"),
+            "comment.parent_id"),
+    STORY("story", List.of("id", "title", "content", "start_date", "end_date", "member_id", "family_id", "popularity_score",
+            "created_at", "updated_at", "deleted_at"),
+            "image.story_id", "comment.story_id", "heart.story_id"),
+    KEYWORD("keyword", List.of("id", "contents", "member_id", "created_at", "updated_at", "deleted_at")),
+    SCHEDULE_ALARM("schedule_alarm", List.of("id", "schedule_id", "alarm", "fire_at", "dispatched_at", "dispatch_token", "claimed_until",
+            "created_at", "updated_at", "deleted_at")),
+    SCHEDULE_OCCURRENCE_OVERRIDE("schedule_occurrence_override", List.of("id", "schedule_id", "original_date", "canceled", "title",
+            "start_date", "end_date", "created_at", "updated_at", "deleted_at")),
+    SCHEDULE("schedule", List.of("id", "title", "start_date", "end_date", "schedule_type", "member_id", "family_id", "d_day_option",
+            "alarm_options", "recurrence_frequency", "recurrence_until", "recurrence_count", "recurrence_last_end_date",
+            "created_at", "updated_at", "deleted_at"),
+            "schedule_occurrence_override.schedule_id", "schedule_alarm.schedule_id"),
+    CALENDAR_FEED("calendar_feed", List.of("id", "token", "scope", "family_id", "member_id", "content_hash", "content_changed_at",
+            "created_at", "updated_at", "deleted_at"));
+
+    private final String tableName;
+    // 보관 테이블로 옮기는 컬럼, 원본 테이블에 컬럼을 더하면 여기와 보관 테이블에 함께 더해야 한다
+    private final List<String> columns;
+    // 이 테이블의 id 를 참조하는 "테이블.컬럼", 참조하는 행이 남아 있으면 지운 행이어도 옮기지 않음
+    private final List<String> references;
+
+    ArchiveTable(final String tableName, final List<String> columns, final String... references) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.references = List.of(references);
+    }
+
+    public String getArchiveTableName() {
+        return tableName + "_archive";
+    }
+}
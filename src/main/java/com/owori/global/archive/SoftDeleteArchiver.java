@@ -0,0 +1,158 @@
+package com.owori.global.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지운 지 보관 기간이 지난 행을 보관 테이블로 옮겨서 운영 테이블과 인덱스에는 살아 있는 행만 남긴다
+ * id 순서의 keyset 으로 작은 묶음씩 옮기고, 묶음마다 보관 테이블 삽입, 원본 삭제, 진행 위치 저장을 한 트랜잭션으로 처리한다
+ * 진행 위치는 archive_cursor 에 남기므로 중간에 멈춰도 다음 실행이 이어서 옮기고, 한 바퀴를 다 돌면 처음부터 다시 본다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteArchiver {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    // 묶음 사이에 쉬는 시간, 운영 쿼리와 복제 지연에 여유를 준다
+    @Value("${app.archive.batch-pause-millis:200}")
+    private long batchPauseMillis;
+
+    // 원본 컬럼과 옮길 컬럼 목록이 같은지 확인한 테이블
+    private final Set<ArchiveTable> verified = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 모든 대상 테이블을 참조하는 테이블부터 차례로 옮기기
+     *
+     * @return 옮긴 행 수
+     */
+    public int archiveAll() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minusDays(retentionDays);
+        int archived = 0;
+        for (ArchiveTable table : ArchiveTable.values()) {
+            try {
+                archived += archive(table, deletedBefore);
+            } catch (DataAccessException e) {
+                // 한 테이블이 실패해도 나머지는 옮기고, 실패한 묶음은 진행 위치가 그대로라 다음 실행에서 다시 시도
+                log.warn("{} 보관 실패", table.getTableName(), e);
+            }
+            if (Thread.currentThread().isInterrupted()) break;
+        }
+        return archived;
+    }
+
+    public int archive(final ArchiveTable table, final LocalDateTime deletedBefore) {
+        int archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(table, deletedBefore));
+            archived += moved;
+        } while (moved == batchSize && pause());
+        return archived;
+    }
+
+    private int archiveBatch(final ArchiveTable table, final LocalDateTime deletedBefore) {
+        verifyColumns(table);
+        byte[] cursor = findCursor(table);
+        List<Object> args = new ArrayList<>();
+        args.add(deletedBefore);
+        if (cursor != null) args.add(cursor);
+        args.add(batchSize);
+        List<byte[]> ids = jdbcTemplate.query(candidateSql(table, cursor != null), (rs, rowNum) -> rs.getBytes(1), args.toArray());
+
+        if (!ids.isEmpty()) {
+            String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            String columnList = String.join(", ", table.getColumns());
+            List<Object> insertArgs = new ArrayList<>();
+            insertArgs.add(LocalDateTime.now());
+            insertArgs.addAll(ids);
+            jdbcTemplate.update("insert into " + table.getArchiveTableName() + " (" + columnList + ", archived_at)"
+                    + " select " + columnList + ", ? from " + table.getTableName() + " where id in (" + in + ")", insertArgs.toArray());
+            jdbcTemplate.update("delete from " + table.getTableName() + " where id in (" + in + ")", ids.toArray());
+        }
+
+        // 마지막 묶음이면 다음 실행은 처음부터 다시 본다
+        saveCursor(table, ids.size() < batchSize ? null : ids.get(ids.size() - 1));
+        return ids.size();
+    }
+
+    // 보관 기간이 지났고 참조하는 행이 없는 행을 id 순으로, 다른 서버가 같은 행을 옮기지 않도록 잠그면서 조회
+    // (deleted_at, id) 인덱스로 지운 행만 범위로 읽는다
+    private String candidateSql(final ArchiveTable table, final boolean hasCursor) {
+        StringBuilder sql = new StringBuilder("select t.id from ").append(table.getTableName())
+                .append(" t where t.deleted_at < ?");
+        if (hasCursor) sql.append(" and t.id > ?");
+        for (String reference : table.getReferences()) {
+            String[] tableAndColumn = reference.split("\\.");
+            sql.append(" and not exists (select 1 from ").append(tableAndColumn[0])
+                    .append(" r where r.").append(tableAndColumn[1]).append(" = t.id)");
+        }
+        return sql.append(" order by t.id limit ? for update").toString();
+    }
+
+    /**
+     * 원본 테이블에 옮길 목록에 없는 컬럼이 생기면 그 값을 잃지 않도록 옮기지 않고 실패
+     */
+    private void verifyColumns(final ArchiveTable table) {
+        if (verified.contains(table)) return;
+        List<String> actual = jdbcTemplate.query("select * from " + table.getTableName() + " where 1 = 0",
+                (ResultSetExtractor<List<String>>) rs -> {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    List<String> names = new ArrayList<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) names.add(metaData.getColumnName(i).toLowerCase());
+                    return names;
+                });
+        if (actual == null || !Set.copyOf(actual).equals(Set.copyOf(table.getColumns()))) {
+            throw new IllegalStateException(table.getTableName() + " 컬럼 " + actual + " 이 보관 대상 컬럼 " + table.getColumns() + " 과 다릅니다.");
+        }
+        verified.add(table);
+    }
+
+    private byte[] findCursor(final ArchiveTable table) {
+        List<byte[]> cursors = jdbcTemplate.query("select last_id from archive_cursor where table_name = ?",
+                (rs, rowNum) -> rs.getBytes(1), table.getTableName());
+        return cursors.isEmpty() ? null : cursors.get(0);
+    }
+
+    private void saveCursor(final ArchiveTable table, final byte[] lastId) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update("update archive_cursor set last_id = ?, updated_at = ? where table_name = ?",
+                lastId, now, table.getTableName());
+        if (updated == 0) {
+            jdbcTemplate.update("insert into archive_cursor (table_name, last_id, updated_at) values (?, ?, ?)",
+                    table.getTableName(), lastId, now);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            // 종료 중이면 진행 위치만 남기고 멈춘다
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
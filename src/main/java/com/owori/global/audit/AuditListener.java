@@ -9,7 +9,8 @@ public class AuditListener {
     @PrePersist
     public void setCreatedAt(Auditable auditable) {
         BaseTime baseTime = Optional.ofNullable(auditable.getBaseTime()).orElseGet(BaseTime::new);
-        baseTime.setCreatedAt(LocalDateTime.now());
+        // 작성 시각을 미리 정한 엔티티는 그대로 유지
+        if (baseTime.getCreatedAt() == null) baseTime.setCreatedAt(LocalDateTime.now());
         auditable.setBaseTime(baseTime);
     }
 
@@ -16,4 +16,10 @@ public class BaseTime {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
+
+    public static BaseTime createdAt(LocalDateTime createdAt) {
+        BaseTime baseTime = new BaseTime();
+        baseTime.setCreatedAt(createdAt);
+        return baseTime;
+    }
 }
@@ -0,0 +1,225 @@
+package com.owori.global.cache;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 가족 단위 데이터를 보관하는 메모리 캐시의 공통 동작
+ * 처음 조회할 때 DB 에서 불러와 올리고, 이후 변경은 커밋 이후에 가족 값에 반영한다
+ * 값의 무게 합이 한도를 넘으면 가장 오래 조회되지 않은 가족부터 비운다
+ * 값마다 불러올 때의 가족 변경 순번을 남기고, FamilyCacheSweeper 가 DB 순번이 앞선 가족을 비워서 다른 서버의 변경도 반영한다
+ * 변경 기록을 남기지 않는 변경(검색어, 가족 사진 등)은 ttl 이 지나면 다시 불러와서 반영한다
+ */
+public abstract class FamilyCache<V> {
+    // 접근 순서로 정렬해서 가장 앞의 가족이 가장 오래 조회되지 않은 가족
+    private final LinkedHashMap<UUID, Entry<V>> values = new LinkedHashMap<>(16, 0.75f, true);
+    // 불러오는 중인 가족별 조회 수와 마지막 변경 순번, 조회 도중 변경이 커밋되면 불러온 값을 캐시에 올리지 않음
+    // 불러오는 중인 가족만 남기므로 캐시 한도와 상관없이 늘어나지 않는다
+    private final Map<UUID, Integer> loading = new HashMap<>();
+    private final Map<UUID, Long> versions = new HashMap<>();
+    private long writeSequence;
+    private long cachedWeight;
+
+    private FamilyRepository familyRepository;
+
+    @Value("${app.cache.family.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 하위 캐시가 생성자 주입을 그대로 쓰도록 공통 의존성은 설정자로 받는다
+    @Autowired
+    void setFamilyRepository(final FamilyRepository familyRepository) {
+        this.familyRepository = familyRepository;
+    }
+
+    /**
+     * 캐시에 올릴 수 있는 무게 합
+     */
+    protected abstract long capacity();
+
+    /**
+     * 가족 값 하나의 무게, 기본은 가족 수로 제한
+     */
+    protected long weight(final V value) {
+        return 1L;
+    }
+
+    /**
+     * 불러온 값을 캐시에 올릴지 여부, 잠금 안에서 호출된다
+     */
+    protected boolean admit(final UUID familyId, final V loaded) {
+        return true;
+    }
+
+    protected V find(final UUID familyId, final Supplier<V> loader) {
+        return find(familyId, value -> true, stale -> loader.get());
+    }
+
+    /**
+     * 쓸 수 있는 값이 캐시에 없으면 잠금 밖에서 불러와 캐시에 올리기
+     * @param fresh 캐시에 있는 값을 그대로 쓸 수 있는지 여부
+     * @param loader 캐시에 있던 오래된 값(없으면 null)으로 새 값 만들기
+     */
+    protected V find(final UUID familyId, final Predicate<V> fresh, final Function<V, V> loader) {
+        V cached;
+        long version;
+        long now = System.nanoTime();
+        synchronized (this) {
+            Entry<V> entry = values.get(familyId);
+            if (entry != null && !isExpired(entry, now) && fresh.test(entry.value)) return entry.value;
+            cached = entry == null ? null : entry.value;
+            loading.merge(familyId, 1, Integer::sum);
+            version = versions.getOrDefault(familyId, 0L);
+        }
+
+        // DB 조회는 잠금 밖에서 수행, 변경 순번을 먼저 읽어서 불러온 값이 그 순번 이후의 변경을 놓치지 않게 한다
+        long familyVersion;
+        V loaded;
+        try {
+            familyVersion = familyRepository.findActivityVersion(familyId).orElse(0L);
+            loaded = loader.apply(cached);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                finishLoading(familyId);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            boolean unchanged = versions.getOrDefault(familyId, 0L) == version;
+            finishLoading(familyId);
+            if (unchanged && admit(familyId, loaded)) {
+                Entry<V> previous = values.put(familyId, new Entry<>(loaded, familyVersion, now));
+                cachedWeight += weight(loaded) - (previous == null ? 0L : weight(previous.value));
+                evictColdFamilies(familyId);
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * 캐시에 있는 가족 값 바꾸기, 커밋 이후에 호출해야 한다
+     * 값을 그 자리에서 바꾸는 경우에도 바꾸기 전 무게를 먼저 구하므로 무게 합이 맞게 유지된다
+     */
+    protected synchronized void update(final UUID familyId, final UnaryOperator<V> mutation) {
+        markWritten(familyId);
+        Entry<V> entry = values.get(familyId);
+        if (entry == null) return;
+
+        long before = weight(entry.value);
+        entry.value = mutation.apply(entry.value);
+        cachedWeight += weight(entry.value) - before;
+        evictColdFamilies(familyId);
+    }
+
+    /**
+     * 가족 구성이 바뀌었을 때 가족 값 비우기
+     */
+    public void evict(final Family family) {
+        if (family == null) return;
+        UUID familyId = family.getId();
+        afterCommit(() -> remove(familyId));
+    }
+
+    protected synchronized void remove(final UUID familyId) {
+        markWritten(familyId);
+        Entry<V> entry = values.remove(familyId);
+        if (entry != null) cachedWeight -= weight(entry.value);
+    }
+
+    /**
+     * 이 서버에서 커밋한 변경의 순번 반영, 캐시 값이 바로 앞 순번까지 반영했을 때만 올린다
+     * 사이에 다른 서버의 변경이 있었으면 그대로 두어 FamilyCacheSweeper 가 비우게 한다
+     */
+    synchronized void advance(final UUID familyId, final long fromVersion, final long toVersion) {
+        Entry<V> entry = values.get(familyId);
+        if (entry != null && entry.version == fromVersion) entry.version = toVersion;
+    }
+
+    synchronized Set<UUID> getCachedFamilyIds() {
+        return new HashSet<>(values.keySet());
+    }
+
+    /**
+     * 확인한 가족 중 DB 의 가족 변경 순번보다 뒤처졌거나, 없어졌거나, ttl 이 지난 가족 값 비우기
+     * 순번을 읽은 뒤에 올라온 가족은 확인하지 않았으므로 다음 주기로 넘긴다
+     */
+    synchronized void sweep(final Collection<UUID> checkedFamilyIds, final Map<UUID, Long> familyVersions) {
+        long now = System.nanoTime();
+        Set<UUID> checked = new HashSet<>(checkedFamilyIds);
+        Iterator<Map.Entry<UUID, Entry<V>>> iterator = values.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Entry<V>> cached = iterator.next();
+            if (!checked.contains(cached.getKey())) continue;
+            Long familyVersion = familyVersions.get(cached.getKey());
+            if (familyVersion != null && familyVersion <= cached.getValue().version && !isExpired(cached.getValue(), now)) continue;
+            markWritten(cached.getKey());
+            cachedWeight -= weight(cached.getValue().value);
+            iterator.remove();
+        }
+    }
+
+    protected void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    protected boolean isExpired(final long loadedAt, final long now) {
+        return now - loadedAt > ttlSeconds * 1_000_000_000L;
+    }
+
+    private boolean isExpired(final Entry<V> entry, final long now) {
+        return isExpired(entry.loadedAt, now);
+    }
+
+    // 불러오는 중인 가족만 변경 순번을 남긴다
+    private void markWritten(final UUID familyId) {
+        if (loading.containsKey(familyId)) versions.put(familyId, ++writeSequence);
+    }
+
+    private void finishLoading(final UUID familyId) {
+        if (loading.merge(familyId, -1, Integer::sum) > 0) return;
+        loading.remove(familyId);
+        versions.remove(familyId);
+    }
+
+    private void evictColdFamilies(final UUID keepFamilyId) {
+        Iterator<Map.Entry<UUID, Entry<V>>> iterator = values.entrySet().iterator();
+        while (cachedWeight > capacity() && iterator.hasNext()) {
+            Map.Entry<UUID, Entry<V>> eldest = iterator.next();
+            if (eldest.getKey().equals(keepFamilyId)) continue;
+            cachedWeight -= weight(eldest.getValue().value);
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry<V> {
+        private V value;
+        // 값이 반영한 가족 변경 순번
+        private long version;
+        private final long loadedAt;
+
+        private Entry(final V value, final long version, final long loadedAt) {
+            this.value = value;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
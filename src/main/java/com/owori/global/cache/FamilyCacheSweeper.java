@@ -0,0 +1,61 @@
+package com.owori.global.cache;
+
+import com.owori.domain.family.change.FamilyVersion;
+import com.owori.domain.family.repository.FamilyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 서버마다 캐시에 올라온 가족의 변경 순번을 주기적으로 읽어서, 다른 서버의 변경으로 뒤처진 가족 값을 비운다
+ * 이 서버에서 커밋한 변경은 캐시가 바로 반영하므로 커밋 이후 캐시 값의 순번을 함께 올려서 다시 불러오지 않게 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyCacheSweeper {
+    private static final int FAMILY_CHUNK_SIZE = 500;
+
+    private final List<FamilyCache<?>> familyCaches;
+    private final FamilyRepository familyRepository;
+
+    @Scheduled(fixedDelayString = "${app.cache.family.sweep-interval:1000}")
+    public void sweep() {
+        Map<FamilyCache<?>, Set<UUID>> cachedFamilyIds = new HashMap<>();
+        familyCaches.forEach(cache -> cachedFamilyIds.put(cache, cache.getCachedFamilyIds()));
+
+        List<UUID> familyIds = cachedFamilyIds.values().stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .toList();
+        Map<UUID, Long> familyVersions = new HashMap<>();
+        for (int from = 0; from < familyIds.size(); from += FAMILY_CHUNK_SIZE) {
+            List<UUID> chunk = familyIds.subList(from, Math.min(from + FAMILY_CHUNK_SIZE, familyIds.size()));
+            familyVersions.putAll(familyRepository.findActivityVersions(chunk).stream()
+                    .collect(Collectors.toMap(FamilyVersion::familyId, FamilyVersion::version)));
+        }
+
+        cachedFamilyIds.forEach((cache, checked) -> cache.sweep(checked, familyVersions));
+    }
+
+    /**
+     * 현재 트랜잭션이 가족 변경 순번을 fromVersion 에서 toVersion 으로 올렸음을 커밋 이후에 캐시에 알리기
+     */
+    public void advance(final UUID familyId, final long fromVersion, final long toVersion) {
+        Runnable action = () -> familyCaches.forEach(cache -> cache.advance(familyId, fromVersion, toVersion));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.owori.global.event;
+
+import java.util.UUID;
+
+/**
+ * 요청 트랜잭션 안에서 아웃박스에 저장되고, 커밋 이후 디스패처가 핸들러에 전달하는 도메인 이벤트
+ * 같은 aggregateId 의 이벤트는 저장된 순서대로 전달된다
+ */
+public interface DomainEvent {
+    UUID aggregateId();
+}
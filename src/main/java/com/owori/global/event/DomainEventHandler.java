@@ -0,0 +1,11 @@
+package com.owori.global.event;
+
+/**
+ * 빈으로 등록하면 디스패처가 eventType 에 해당하는 이벤트를 전달
+ * 전달은 최소 한 번 보장이므로 같은 이벤트를 두 번 받아도 결과가 같아야 하고, 예외를 던지면 나중에 다시 전달된다
+ */
+public interface DomainEventHandler<E extends DomainEvent> {
+    Class<E> getEventType();
+
+    void handle(E event);
+}
@@ -0,0 +1,24 @@
+package com.owori.global.event;
+
+import com.owori.global.event.outbox.OutboxEvent;
+import com.owori.global.event.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트를 호출한 쪽의 트랜잭션 안에서 아웃박스에 저장
+ * 요청이 롤백되면 이벤트도 함께 사라지고, 커밋되면 디스패처가 따로 꺼내서 전달한다
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventSerializer domainEventSerializer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publish(final DomainEvent event) {
+        outboxEventRepository.save(new OutboxEvent(event.aggregateId(), event.getClass().getName(), domainEventSerializer.serialize(event)));
+        applicationEventPublisher.publishEvent(new OutboxAppended());
+    }
+}
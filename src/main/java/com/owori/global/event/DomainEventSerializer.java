@@ -0,0 +1,37 @@
+package com.owori.global.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+/**
+ * 아웃박스에 저장하는 이벤트의 JSON 변환
+ * 저장된 이벤트는 배포가 바뀐 뒤에도 읽혀야 하므로 API 응답용 ObjectMapper 설정과 분리한다
+ */
+@Component
+public class DomainEventSerializer {
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    public String serialize(final DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public <E extends DomainEvent> E deserialize(final String payload, final Class<E> eventType) {
+        try {
+            return objectMapper.readValue(payload, eventType);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
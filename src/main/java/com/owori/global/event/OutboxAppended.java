@@ -0,0 +1,7 @@
+package com.owori.global.event;
+
+/**
+ * 아웃박스에 이벤트가 저장되었다는 알림, 커밋 이후 디스패처를 깨우는 데 사용
+ */
+public record OutboxAppended() {
+}
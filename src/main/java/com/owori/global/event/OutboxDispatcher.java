@@ -0,0 +1,189 @@
+package com.owori.global.event;
+
+import com.owori.global.event.outbox.OutboxEvent;
+import com.owori.global.event.outbox.OutboxEventRepository;
+import com.owori.global.event.outbox.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스의 이벤트를 묶음 단위로 선점해서 등록된 핸들러에 전달
+ * 같은 대상(aggregateId)의 이벤트는 저장 순서대로 전달하고, 앞선 이벤트가 실패하면 뒤의 이벤트는 재시도가 끝날 때까지 기다린다
+ * 한 서버에서는 한 번에 하나의 스레드만 꺼내고, 한 번 깨어날 때 정해진 묶음 수까지만 처리해서 밀린 이벤트가 많아도 요청 처리와 자원을 나눠 쓴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+    private static final long MAX_BACKOFF_MILLIS = 600_000L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventSerializer domainEventSerializer;
+    private final List<DomainEventHandler<?>> handlers;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-drain:10}")
+    private int maxBatchesPerDrain;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry-base-millis:1000}")
+    private long retryBaseMillis;
+
+    // 선점한 서버가 내려가면 이 시간이 지난 뒤 다른 서버가 다시 가져간다
+    @Value("${app.outbox.claim-seconds:60}")
+    private long claimSeconds;
+
+    @Value("${app.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${app.outbox.drain-on-commit:true}")
+    private boolean drainOnCommit;
+
+    private final ReentrantLock draining = new ReentrantLock();
+    // 커밋마다 깨우지 않고, 아직 시작하지 않은 꺼내기가 있으면 그것으로 합친다
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Optional<Class<? extends DomainEvent>>> eventTypes = new HashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppended(final OutboxAppended appended) {
+        if (!drainOnCommit || !drainRequested.compareAndSet(false, true)) return;
+        try {
+            executor.execute(() -> {
+                drainRequested.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            drainRequested.set(false);
+        }
+    }
+
+    // 다른 서버가 저장한 이벤트와 재시도할 이벤트를 주기적으로 꺼낸다
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1000}")
+    public void poll() {
+        drain();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:3600000}")
+    public void purgeDispatched() {
+        LocalDateTime dispatchedBefore = LocalDateTime.now().minusHours(retentionHours);
+        int deleted;
+        do {
+            deleted = outboxEventRepository.deleteAllDispatchedBefore(dispatchedBefore, batchSize);
+        } while (deleted == batchSize);
+    }
+
+    /**
+     * 전달할 수 있는 이벤트를 묶음 단위로 꺼내서 전달
+     *
+     * @return 전달에 성공한 이벤트 수
+     */
+    public int drain() {
+        if (!draining.tryLock()) return 0;
+        try {
+            int dispatched = 0;
+            for (int batch = 0; batch < maxBatchesPerDrain; batch++) {
+                List<OutboxEvent> events = transactionTemplate.execute(status -> claim());
+                dispatched += dispatchAll(events);
+                if (events.size() < batchSize) break;
+            }
+            return dispatched;
+        } finally {
+            draining.unlock();
+        }
+    }
+
+    private List<OutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> eventIds = outboxEventRepository.findDispatchableIds(now, batchSize);
+        if (eventIds.isEmpty()) return List.of();
+
+        UUID claimToken = UUID.randomUUID();
+        outboxEventRepository.claim(eventIds, claimToken, now, now.plusSeconds(claimSeconds));
+        return outboxEventRepository.findAllByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    private int dispatchAll(final List<OutboxEvent> events) {
+        if (events.isEmpty()) return 0;
+        int dispatched = 0;
+        // 이번 묶음에서 실패한 대상, 같은 대상의 뒤 이벤트는 전달하지 않고 선점만 푼다
+        Set<UUID> failedAggregates = new HashSet<>();
+        for (OutboxEvent event : events) {
+            if (failedAggregates.contains(event.getAggregateId())) {
+                event.release();
+                continue;
+            }
+            Optional<Class<? extends DomainEvent>> eventType = findEventType(event.getEventType());
+            if (eventType.isEmpty()) {
+                // 배포 사이에 사라진 이벤트 타입은 재시도해도 전달할 수 없으므로 바로 포기
+                event.failed("알 수 없는 이벤트 타입", LocalDateTime.now(), 0);
+                log.error("알 수 없는 이벤트 {} {}", event.getEventType(), event.getId());
+                continue;
+            }
+            try {
+                dispatch(event, eventType.get());
+                event.dispatched(LocalDateTime.now());
+                dispatched++;
+            } catch (RuntimeException e) {
+                failedAggregates.add(event.getAggregateId());
+                event.failed(e.toString(), LocalDateTime.now().plus(backoff(event.getAttempts())), maxAttempts);
+                if (event.getStatus() == OutboxStatus.DEAD) log.error("이벤트 전달 포기 {} {}", event.getEventType(), event.getId(), e);
+                else log.warn("이벤트 전달 실패 {} {} ({}회)", event.getEventType(), event.getId(), event.getAttempts(), e);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.saveAll(events));
+        return dispatched;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(final OutboxEvent outboxEvent, final Class<? extends DomainEvent> eventType) {
+        DomainEvent event = domainEventSerializer.deserialize(outboxEvent.getPayload(), eventType);
+        for (DomainEventHandler<?> handler : handlers) {
+            if (handler.getEventType().isInstance(event)) ((DomainEventHandler<DomainEvent>) handler).handle(event);
+        }
+    }
+
+    private synchronized Optional<Class<? extends DomainEvent>> findEventType(final String eventType) {
+        return eventTypes.computeIfAbsent(eventType, name -> {
+            try {
+                return Optional.of(Class.forName(name).asSubclass(DomainEvent.class));
+            } catch (ClassNotFoundException | ClassCastException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    // 1초, 2초, 4초 ... 최대 10분
+    private Duration backoff(final int attempts) {
+        return Duration.ofMillis(Math.min(MAX_BACKOFF_MILLIS, retryBaseMillis << Math.min(attempts, 20)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
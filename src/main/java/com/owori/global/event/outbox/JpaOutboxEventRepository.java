@@ -0,0 +1,18 @@
+package com.owori.global.event.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEvent, UUID>, OutboxEventRepository, OutboxEventRepositoryCustom {
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = "delete from outbox_event where status = 'DONE' and dispatched_at < :dispatchedBefore limit :batchSize", nativeQuery = true)
+    int deleteAllDispatchedBefore(@Param("dispatchedBefore") LocalDateTime dispatchedBefore, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,99 @@
+package com.owori.global.event.outbox;
+
+import com.owori.global.audit.AuditListener;
+import com.owori.global.audit.Auditable;
+import com.owori.global.audit.BaseTime;
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 아직 전달되지 않았거나 전달이 끝난 도메인 이벤트
+ * id 는 시간 순서 UUID 라서 id 순서가 곧 저장 순서이고, 디스패처가 가져갈 때 claimToken 과 claimedUntil 로 선점한다
+ */
+@Getter
+@Entity
+@EntityListeners(AuditListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_pending", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_id, status, id"),
+        @Index(name = "idx_outbox_event_claim_token", columnList = "claim_token"),
+        @Index(name = "idx_outbox_event_dispatched", columnList = "status, dispatched_at")
+})
+public class OutboxEvent implements Auditable {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID aggregateId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID claimToken;
+
+    private LocalDateTime claimedUntil;
+
+    private LocalDateTime dispatchedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Setter
+    @Embedded
+    @Column(nullable = false)
+    private BaseTime baseTime;
+
+    public OutboxEvent(UUID aggregateId, String eventType, String payload) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void dispatched(LocalDateTime dispatchedAt) {
+        this.status = OutboxStatus.DONE;
+        this.dispatchedAt = dispatchedAt;
+        release();
+    }
+
+    /**
+     * 전달 실패, 재시도 횟수를 넘기면 더 이상 전달하지 않는다
+     */
+    public void failed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        this.nextAttemptAt = nextAttemptAt;
+        if (attempts >= maxAttempts) this.status = OutboxStatus.DEAD;
+        release();
+    }
+
+    public void release() {
+        this.claimToken = null;
+        this.claimedUntil = null;
+    }
+}
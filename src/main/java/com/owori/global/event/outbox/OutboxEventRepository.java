@@ -0,0 +1,16 @@
+package com.owori.global.event.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends OutboxEventRepositoryCustom {
+    OutboxEvent save(OutboxEvent outboxEvent);
+
+    <S extends OutboxEvent> List<S> saveAll(Iterable<S> outboxEvents);
+
+    List<OutboxEvent> findAllByClaimTokenOrderByIdAsc(UUID claimToken);
+
+    // 전달이 끝난 이벤트 정리
+    int deleteAllDispatchedBefore(LocalDateTime dispatchedBefore, int batchSize);
+}
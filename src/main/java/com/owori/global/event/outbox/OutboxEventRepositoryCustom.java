@@ -0,0 +1,11 @@
+package com.owori.global.event.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepositoryCustom {
+    List<UUID> findDispatchableIds(LocalDateTime now, int size);
+
+    long claim(List<UUID> eventIds, UUID claimToken, LocalDateTime now, LocalDateTime claimedUntil);
+}
@@ -0,0 +1,56 @@
+package com.owori.global.event.outbox;
+
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.owori.global.event.outbox.QOutboxEvent.outboxEvent;
+
+@RequiredArgsConstructor
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<UUID> findDispatchableIds(LocalDateTime now, int size) {
+        QOutboxEvent earlier = new QOutboxEvent("earlier");
+        return queryFactory
+                .select(outboxEvent.id)
+                .from(outboxEvent)
+                .where(
+                        outboxEvent.status.eq(OutboxStatus.PENDING)
+                                .and(outboxEvent.nextAttemptAt.loe(now))
+                                .and(outboxEvent.claimedUntil.isNull().or(outboxEvent.claimedUntil.lt(now)))
+                                // 같은 대상의 앞선 이벤트가 재시도를 기다리거나 다른 서버가 처리 중이면 순서를 지키기 위해 건너뜀
+                                .and(JPAExpressions.selectOne()
+                                        .from(earlier)
+                                        .where(
+                                                earlier.aggregateId.eq(outboxEvent.aggregateId)
+                                                        .and(earlier.status.eq(OutboxStatus.PENDING))
+                                                        .and(earlier.id.lt(outboxEvent.id))
+                                                        .and(earlier.nextAttemptAt.gt(now).or(earlier.claimedUntil.goe(now)))
+                                        )
+                                        .notExists())
+                )
+                .orderBy(outboxEvent.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public long claim(List<UUID> eventIds, UUID claimToken, LocalDateTime now, LocalDateTime claimedUntil) {
+        return queryFactory
+                .update(outboxEvent)
+                .set(outboxEvent.claimToken, claimToken)
+                .set(outboxEvent.claimedUntil, claimedUntil)
+                .where(
+                        outboxEvent.id.in(eventIds)
+                                .and(outboxEvent.status.eq(OutboxStatus.PENDING))
+                                .and(outboxEvent.claimedUntil.isNull().or(outboxEvent.claimedUntil.lt(now)))
+                )
+                .execute();
+    }
+}
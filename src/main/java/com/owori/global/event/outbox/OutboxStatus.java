@@ -0,0 +1,8 @@
+package com.owori.global.event.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    DONE,
+    // 재시도 횟수를 넘긴 이벤트, 같은 대상의 다음 이벤트를 막지 않는다
+    DEAD
+}
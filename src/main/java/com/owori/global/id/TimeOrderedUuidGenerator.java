@@ -0,0 +1,49 @@
+package com.owori.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 앞 48비트에 밀리초 시각을 담은 버전 7 UUID 를 만드는 식별자 생성기
+ * BINARY(16) 로 저장하면 새 행이 항상 클러스터 인덱스의 끝에 붙어서 무작위 UUID 처럼 중간 페이지가 갈라지지 않는다
+ * 같은 밀리초 안에서는 뒤따르는 12비트를 순번으로 써서 한 서버 안에서는 항상 증가하는 값을 만든다
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+    public static final String NAME = "uuid7";
+    public static final String STRATEGY = "com.owori.global.id.TimeOrderedUuidGenerator";
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    // 마지막으로 사용한 (밀리초 << 12 | 순번)
+    private static final AtomicLong lastState = new AtomicLong();
+
+    @Override
+    public Serializable generate(final SharedSessionContractImplementor session, final Object object) {
+        return next();
+    }
+
+    public static UUID next() {
+        long state = nextState();
+        long mostSigBits = (state >>> COUNTER_BITS) << 16 | VERSION | (state & 0xFFFL);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextState() {
+        while (true) {
+            long previous = lastState.get();
+            long candidate = System.currentTimeMillis() << COUNTER_BITS;
+            // 같은 밀리초이거나 시계가 뒤로 간 경우 순번을 올림, 순번이 넘치면 다음 밀리초로 넘어감
+            if (candidate <= previous) candidate = previous + 1;
+            if (lastState.compareAndSet(previous, candidate)) return candidate;
+        }
+    }
+}
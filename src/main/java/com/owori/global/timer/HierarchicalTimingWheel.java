@@ -0,0 +1,145 @@
+package com.owori.global.timer;
+
+import java.util.*;
+
+/**
+ * 계층형 타이밍 휠
+ * 가장 아래 휠은 tickMillis 단위 버킷을 wheelSize 개 가지고, 범위를 넘는 만료 시각은 한 단계 위(tick = 아래 휠 전체 범위) 휠에 담는다
+ * 시간이 흘러 위쪽 휠 버킷이 만료되면 담긴 항목을 다시 넣어 아래 휠로 내려보낸다 (cascade)
+ * 버킷 만료 시각만 우선순위 큐로 관리하므로 비어 있는 틱을 하나씩 돌지 않고 긴 공백 이후에도 한 번에 따라잡는다
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다
+ *
+ * @param <K> 항목을 식별하는 키, 같은 키로 다시 등록하면 이전 항목은 취소된다
+ */
+public class HierarchicalTimingWheel<K> {
+    private final Map<K, TimerEntry<K>> entries = new HashMap<>();
+    private final PriorityQueue<Bucket<K>> buckets = new PriorityQueue<>(Comparator.comparingLong(bucket -> bucket.expiration));
+    private final List<TimerEntry<K>> expired = new ArrayList<>();
+    private final Wheel root;
+
+    public HierarchicalTimingWheel(final long tickMillis, final int wheelSize, final long startMillis) {
+        this.root = new Wheel(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * 키를 만료 시각에 등록, 이미 지난 시각이면 다음 advance 에서 바로 반환된다
+     */
+    public void schedule(final K key, final long expirationMillis) {
+        cancel(key);
+        TimerEntry<K> entry = new TimerEntry<>(key, expirationMillis);
+        entries.put(key, entry);
+        if (!root.add(entry)) expired.add(entry);
+    }
+
+    public void cancel(final K key) {
+        TimerEntry<K> entry = entries.remove(key);
+        if (entry != null) entry.cancelled = true;
+    }
+
+    public boolean contains(final K key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 시계를 nowMillis 까지 진행시키고 만료된 키를 만료 시각 순서의 버킷 단위로 반환
+     */
+    public List<K> advance(final long nowMillis) {
+        List<K> due = new ArrayList<>();
+        List<TimerEntry<K>> pending = new ArrayList<>(expired);
+        expired.clear();
+        pending.forEach(entry -> collect(entry, nowMillis, due));
+
+        Bucket<K> bucket;
+        while ((bucket = buckets.peek()) != null && bucket.expiration <= nowMillis) {
+            buckets.poll();
+            root.advanceClock(bucket.expiration);
+            for (TimerEntry<K> entry : bucket.flush()) {
+                if (!entry.cancelled && !root.add(entry)) collect(entry, nowMillis, due);
+            }
+        }
+        root.advanceClock(nowMillis);
+        return due;
+    }
+
+    // 같은 틱 안이라도 정확한 만료 시각 전이면 다음 advance 까지 보류
+    private void collect(final TimerEntry<K> entry, final long nowMillis, final List<K> due) {
+        if (entry.cancelled) return;
+        if (entry.expirationMillis > nowMillis) {
+            expired.add(entry);
+            return;
+        }
+        entries.remove(entry.key);
+        due.add(entry.key);
+    }
+
+    private final class Wheel {
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Bucket<K>> slots;
+        private long currentTime;
+        private Wheel overflow;
+
+        private Wheel(final long tickMillis, final int wheelSize, final long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.slots = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) slots.add(new Bucket<>());
+        }
+
+        // 아직 만료되지 않았으면 담고 true, 현재 틱 안에 만료되면 false
+        private boolean add(final TimerEntry<K> entry) {
+            if (entry.expirationMillis < currentTime + tickMillis) return false;
+            if (entry.expirationMillis < currentTime + interval) {
+                long virtualId = entry.expirationMillis / tickMillis;
+                Bucket<K> bucket = slots.get((int) (virtualId % wheelSize));
+                bucket.entries.add(entry);
+                if (bucket.setExpiration(virtualId * tickMillis)) buckets.add(bucket);
+                return true;
+            }
+            if (overflow == null) overflow = new Wheel(interval, wheelSize, currentTime);
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(final long timeMillis) {
+            if (timeMillis < currentTime + tickMillis) return;
+            currentTime = timeMillis - (timeMillis % tickMillis);
+            if (overflow != null) overflow.advanceClock(currentTime);
+        }
+    }
+
+    private static final class Bucket<K> {
+        private final List<TimerEntry<K>> entries = new ArrayList<>();
+        private long expiration = -1L;
+
+        private boolean setExpiration(final long expiration) {
+            if (this.expiration == expiration) return false;
+            this.expiration = expiration;
+            return true;
+        }
+
+        private List<TimerEntry<K>> flush() {
+            List<TimerEntry<K>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1L;
+            return flushed;
+        }
+    }
+
+    private static final class TimerEntry<K> {
+        private final K key;
+        private final long expirationMillis;
+        private boolean cancelled;
+
+        private TimerEntry(final K key, final long expirationMillis) {
+            this.key = key;
+            this.expirationMillis = expirationMillis;
+        }
+    }
+}
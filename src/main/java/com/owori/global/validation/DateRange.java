@@ -0,0 +1,12 @@
+package com.owori.global.validation;
+
+import java.time.LocalDate;
+
+/**
+ * 시작일과 종료일을 가진 요청, {@link ValidDateRange} 로 두 날짜의 순서를 검사한다
+ */
+public interface DateRange {
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
@@ -0,0 +1,22 @@
+package com.owori.global.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시작일이 종료일보다 늦지 않은지 검사, 둘 중 하나라도 비어 있으면 검사하지 않는다
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidDateRangeValidator.class)
+public @interface ValidDateRange {
+    String message() default "startDate는 endDate보다 늦을 수 없습니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,12 @@
+package com.owori.global.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class ValidDateRangeValidator implements ConstraintValidator<ValidDateRange, DateRange> {
+    @Override
+    public boolean isValid(DateRange value, ConstraintValidatorContext context) {
+        if (value == null || value.getStartDate() == null || value.getEndDate() == null) return true;
+        return !value.getStartDate().isAfter(value.getEndDate());
+    }
+}
@@ -3,6 +3,8 @@ package com.owori.utils;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import lombok.RequiredArgsConstructor;
@@ -11,12 +13,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
 public class S3ImageComponent {
+    // S3 는 한 번의 삭제 요청에 최대 1000개의 객체를 지울 수 있다
+    private static final int MAX_DELETE_KEYS = 1000;
+
     private final AmazonS3Client amazonS3Client;
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -65,8 +71,29 @@ public class S3ImageComponent {
      * @param fileUrl
      */
     public void deleteImage(String fileUrl) {
-        String[] deleteUrl = fileUrl.split("/", 4);
-        amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, deleteUrl[3]));
+        amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, toKey(fileUrl)));
+    }
+
+    /**
+     * 여러 이미지를 1000개씩 묶어서 삭제, 이 버킷에 올린 이미지가 아닌 주소는 건너뛴다
+     * @param fileUrls
+     */
+    public void deleteImages(List<String> fileUrls) {
+        String bucketUrl = amazonS3Client.getUrl(bucket, "").toString();
+        List<KeyVersion> keys = fileUrls.stream()
+                .filter(fileUrl -> fileUrl != null && fileUrl.startsWith(bucketUrl))
+                .map(fileUrl -> new KeyVersion(toKey(fileUrl)))
+                .toList();
+
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                    .withKeys(keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size())))
+                    .withQuiet(true));
+        }
+    }
+
+    private String toKey(String fileUrl) {
+        return fileUrl.split("/", 4)[3];
     }
 
 }
@@ -0,0 +1,21 @@
+-- 알림함: 댓글과 좋아요를 이야기별로 묶어서 남기고, 읽지 않은 수는 회원 행에 유지한다
+CREATE TABLE notification
+(
+    id                BINARY(16)   NOT NULL,
+    recipient_id      BINARY(16)   NOT NULL,
+    notification_type VARCHAR(255) NOT NULL,
+    story_id          BINARY(16)   NOT NULL,
+    last_actor_id     BINARY(16)   NOT NULL,
+    actor_count       INTEGER      NOT NULL,
+    occurred_at       DATETIME(6)  NOT NULL,
+    read_at           DATETIME(6),
+    created_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 알림함 최근 활동순 no-offset 조회
+CREATE INDEX idx_notification_inbox ON notification (recipient_id, occurred_at);
+-- 새 활동을 묶을 읽지 않은 알림 조회
+CREATE INDEX idx_notification_coalesce ON notification (recipient_id, story_id, notification_type, read_at);
+
+ALTER TABLE member ADD COLUMN unread_notification_count INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- 인기순 이야기 조회: 좋아요와 댓글에 시간 가중치를 준 점수의 로그 값, 기존 이야기는 인기 점수 재계산 작업이 채운다
+ALTER TABLE story ADD COLUMN popularity_score DOUBLE NOT NULL DEFAULT 0;
+ALTER TABLE story_archive ADD COLUMN popularity_score DOUBLE;
+
+-- 가족의 인기순 no-offset 조회, 점수가 같으면 기본키 순서로 읽는다
+CREATE INDEX idx_story_family_popularity ON story (family_id, deleted_at, popularity_score);
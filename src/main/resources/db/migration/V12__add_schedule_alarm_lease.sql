@@ -0,0 +1,4 @@
+-- 알람 발송 선점 기한, 발송 완료(dispatched_at)는 발송에 성공한 뒤에 채운다
+-- 선점한 서버가 발송 전에 내려가면 기한이 지난 뒤 다른 서버가 다시 선점한다
+ALTER TABLE schedule_alarm ADD COLUMN claimed_until DATETIME(6);
+ALTER TABLE schedule_alarm_archive ADD COLUMN claimed_until DATETIME(6);
@@ -0,0 +1,4 @@
+-- 회원별 이전 서로에게 한마디 조회는 no-offset 페이징 컬럼만 인덱스로 두고 내용은 테이블에서 읽는다
+-- 가족 단위 조회는 작성 당시 가족(family_id) 기준으로 바뀌어 idx_saying_family_created 를 사용한다
+DROP INDEX idx_saying_member_history ON saying;
+CREATE INDEX idx_saying_member_history ON saying (member_id, created_at, id);
@@ -0,0 +1,13 @@
+-- 보관 대상 조회(deleted_at < ? and id > ? order by id)가 지운 행만 범위로 읽도록 (deleted_at, id) 인덱스를 둔다
+-- 살아 있는 행은 deleted_at 이 null 이라 범위에 들지 않는다
+CREATE INDEX idx_saying_tag_member_deleted ON saying_tag_member (deleted_at, id);
+CREATE INDEX idx_saying_deleted ON saying (deleted_at, id);
+CREATE INDEX idx_heart_deleted ON heart (deleted_at, id);
+CREATE INDEX idx_image_deleted ON image (deleted_at, id);
+CREATE INDEX idx_comment_deleted ON comment (deleted_at, id);
+CREATE INDEX idx_story_deleted ON story (deleted_at, id);
+CREATE INDEX idx_keyword_deleted ON keyword (deleted_at, id);
+CREATE INDEX idx_schedule_alarm_deleted ON schedule_alarm (deleted_at, id);
+CREATE INDEX idx_schedule_occurrence_override_deleted ON schedule_occurrence_override (deleted_at, id);
+CREATE INDEX idx_schedule_deleted ON schedule (deleted_at, id);
+CREATE INDEX idx_calendar_feed_deleted ON calendar_feed (deleted_at, id);
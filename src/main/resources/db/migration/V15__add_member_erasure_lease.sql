@@ -0,0 +1,4 @@
+-- 탈퇴 회원 데이터 삭제 작업 선점, 아웃박스와 같이 토큰과 기한으로 한 서버만 처리한다
+ALTER TABLE member_erasure ADD COLUMN claim_token BINARY(16);
+ALTER TABLE member_erasure ADD COLUMN claimed_until DATETIME(6);
+CREATE INDEX idx_member_erasure_claim_token ON member_erasure (claim_token);
@@ -0,0 +1,10 @@
+-- 서버마다 변경 기록을 읽어 가족 스트림으로 보내므로 알림 종류를 함께 남긴다
+-- 기존 기록은 대상 종류와 삭제 여부로 가장 가까운 종류를 채운다
+ALTER TABLE change_log ADD COLUMN change_type VARCHAR(255);
+UPDATE change_log
+SET change_type = CASE
+    WHEN entity_type = 'MEMBER' AND deleted THEN 'MEMBER_LEFT'
+    WHEN entity_type = 'MEMBER' THEN 'MEMBER_UPDATED'
+    WHEN deleted THEN CONCAT(entity_type, '_DELETED')
+    ELSE CONCAT(entity_type, '_UPDATED')
+END;
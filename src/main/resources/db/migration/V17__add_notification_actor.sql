@@ -0,0 +1,11 @@
+-- 알림에 묶인 활동을 한 사람, 같은 사람이 번갈아 활동해도 인원 수를 한 번만 센다
+CREATE TABLE notification_actor
+(
+    notification_id BINARY(16) NOT NULL,
+    actor_id        BINARY(16) NOT NULL,
+    PRIMARY KEY (notification_id, actor_id)
+);
+
+-- 기존 알림은 마지막으로 활동한 사람만 알 수 있다
+INSERT INTO notification_actor (notification_id, actor_id)
+SELECT id, last_actor_id FROM notification;
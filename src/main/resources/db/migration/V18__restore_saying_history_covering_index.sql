@@ -0,0 +1,5 @@
+-- 회원별 이전 서로에게 한마디 조회를 인덱스만으로 처리하도록 커버링 인덱스를 되돌린다
+-- deleted_at 을 created_at 앞에 두어 @Where 조건을 인덱스에서 거르고, 조회하는 modifiable, content 까지 담아서 행마다 테이블을 읽지 않는다
+-- content 는 VARCHAR(50) 이라 인덱스 키 길이 제한 안에 들어간다
+DROP INDEX idx_saying_member_history ON saying;
+CREATE INDEX idx_saying_member_history ON saying (member_id, deleted_at, created_at, id, modifiable, content);
@@ -0,0 +1,20 @@
+-- 일정 알람 발송 대기열: 알람 옵션마다 울릴 시각을 저장하고 발송한 행은 dispatched_at 으로 표시한다
+CREATE TABLE schedule_alarm
+(
+    id             BINARY(16)   NOT NULL,
+    schedule_id    BINARY(16),
+    alarm          VARCHAR(255) NOT NULL,
+    fire_at        DATETIME(6)  NOT NULL,
+    dispatched_at  DATETIME(6),
+    dispatch_token BINARY(16),
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    deleted_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_schedule_alarm_schedule FOREIGN KEY (schedule_id) REFERENCES schedule (id)
+);
+
+-- 울릴 시각이 다가온 발송 대기 알람 조회
+CREATE INDEX idx_schedule_alarm_due ON schedule_alarm (dispatched_at, deleted_at, fire_at);
+-- 선점한 알람 조회
+CREATE INDEX idx_schedule_alarm_dispatch_token ON schedule_alarm (dispatch_token);
@@ -0,0 +1,15 @@
+-- 일정 알람 옵션을 별도 테이블(schedule_alarm_list) 대신 비트마스크 컬럼 하나로 저장
+ALTER TABLE schedule ADD COLUMN alarm_options INT NOT NULL DEFAULT 0;
+
+-- 기존 옵션을 Alarm 의 flag 로 옮긴다, 비트는 서로 겹치지 않으므로 중복을 제거한 합이 곧 비트 OR
+UPDATE schedule
+SET alarm_options = (SELECT COALESCE(SUM(DISTINCT CASE a.alarm_list
+                                                      WHEN 'TODAY' THEN 1
+                                                      WHEN 'A_DAY_AGO' THEN 2
+                                                      WHEN 'A_WEEK_AGO' THEN 4
+                                                      ELSE 0 END), 0)
+                     FROM schedule_alarm_list a
+                     WHERE a.schedule_id = schedule.id)
+WHERE id IN (SELECT schedule_id FROM schedule_alarm_list);
+
+DROP TABLE schedule_alarm_list;
@@ -0,0 +1,21 @@
+-- 반복 일정: 반복 규칙은 일정 행에 두고, 회차별 변경과 취소는 원래 날짜 기준으로 따로 저장한다
+ALTER TABLE schedule ADD COLUMN recurrence_frequency VARCHAR(255);
+ALTER TABLE schedule ADD COLUMN recurrence_until DATE;
+ALTER TABLE schedule ADD COLUMN recurrence_count INT;
+ALTER TABLE schedule ADD COLUMN recurrence_last_end_date DATE;
+
+CREATE TABLE schedule_occurrence_override
+(
+    id            BINARY(16) NOT NULL,
+    schedule_id   BINARY(16),
+    original_date DATE       NOT NULL,
+    canceled      BIT        NOT NULL,
+    title         VARCHAR(255),
+    start_date    DATE,
+    end_date      DATE,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    deleted_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_schedule_occurrence_override_schedule FOREIGN KEY (schedule_id) REFERENCES schedule (id)
+);
@@ -0,0 +1,19 @@
+-- 가족/개인 캘린더를 토큰 주소로 구독하는 ICS 피드
+CREATE TABLE calendar_feed
+(
+    id                 BINARY(16)   NOT NULL,
+    token              VARCHAR(64)  NOT NULL,
+    scope              VARCHAR(255) NOT NULL,
+    family_id          BINARY(16),
+    member_id          BINARY(16),
+    content_hash       VARCHAR(255),
+    content_changed_at DATETIME(6),
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    deleted_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_calendar_feed_family FOREIGN KEY (family_id) REFERENCES family (id),
+    CONSTRAINT fk_calendar_feed_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE UNIQUE INDEX idx_calendar_feed_token ON calendar_feed (token);
@@ -0,0 +1,7 @@
+-- 수정하거나 새로 작성해서 지난 서로에게 한마디도 남기므로 회원당 여러 건을 저장한다
+-- 외래키가 쓸 member_id 인덱스를 먼저 만들고 @OneToOne 매핑이 만든 유니크 제약을 지운다
+CREATE INDEX idx_saying_member_modifiable ON saying (member_id, modifiable);
+ALTER TABLE saying DROP CONSTRAINT UK_m15vsgnyh1qwjdotb6tmafhm8;
+
+-- 이전 서로에게 한마디 조회가 테이블을 읽지 않도록 조회 컬럼까지 포함
+CREATE INDEX idx_saying_member_history ON saying (member_id, created_at, id, deleted_at, modifiable, content);
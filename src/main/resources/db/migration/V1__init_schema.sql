@@ -0,0 +1,179 @@
+-- Flyway 도입 전 ddl-auto 로 만들어져 운영 중인 스키마
+-- 기존 DB 는 baseline 1 로 등록되어 이 파일을 건너뛰므로, 이후 스키마 변경은 모두 V1_1 부터의 마이그레이션에 둔다
+-- 유니크 제약 이름은 Hibernate 가 만든 이름과 같게 둬서 이후 마이그레이션이 기존 DB 와 새 DB 에서 같은 이름을 쓴다
+
+CREATE TABLE family
+(
+    id                BINARY(16) NOT NULL,
+    family_group_name VARCHAR(255),
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    deleted_at        DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE family_images
+(
+    family_id BINARY(16) NOT NULL,
+    images    VARCHAR(255),
+    CONSTRAINT fk_family_images_family FOREIGN KEY (family_id) REFERENCES family (id)
+);
+
+CREATE TABLE member
+(
+    id              BINARY(16)   NOT NULL,
+    nickname        VARCHAR(255),
+    profile_image   VARCHAR(255),
+    birthday        DATE,
+    refresh_token   VARCHAR(255),
+    color           VARCHAR(255),
+    family_id       BINARY(16),
+    client_id       VARCHAR(255) NOT NULL,
+    auth_provider   VARCHAR(255),
+    emotional_badge VARCHAR(255),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    deleted_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_member_family FOREIGN KEY (family_id) REFERENCES family (id)
+);
+
+CREATE TABLE member_role
+(
+    member_id BINARY(16) NOT NULL,
+    role      VARCHAR(255),
+    CONSTRAINT fk_member_role_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE invite
+(
+    id         BINARY(16)   NOT NULL,
+    code       VARCHAR(255) NOT NULL,
+    family_id  BINARY(16),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_hvlae85osrt9vuc9esrm3xxwg UNIQUE (code),
+    CONSTRAINT UK_i0bxct4nrmi2bnojqqnhipyuy UNIQUE (family_id),
+    CONSTRAINT fk_invite_family FOREIGN KEY (family_id) REFERENCES family (id)
+);
+
+CREATE TABLE story
+(
+    id         BINARY(16)   NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    content    LONGTEXT     NOT NULL,
+    start_date DATE         NOT NULL,
+    end_date   DATE         NOT NULL,
+    member_id  BINARY(16),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_story_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE image
+(
+    id         BINARY(16)   NOT NULL,
+    story_id   BINARY(16),
+    order_num  BIGINT,
+    url        VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_image_story FOREIGN KEY (story_id) REFERENCES story (id)
+);
+
+CREATE TABLE comment
+(
+    id         BINARY(16) NOT NULL,
+    member_id  BINARY(16) NOT NULL,
+    story_id   BINARY(16) NOT NULL,
+    parent_id  BINARY(16),
+    content    LONGTEXT   NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_comment_story FOREIGN KEY (story_id) REFERENCES story (id),
+    CONSTRAINT fk_comment_parent FOREIGN KEY (parent_id) REFERENCES comment (id)
+);
+
+CREATE TABLE heart
+(
+    id         BINARY(16) NOT NULL,
+    story_id   BINARY(16),
+    member_id  BINARY(16),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_heart_story FOREIGN KEY (story_id) REFERENCES story (id),
+    CONSTRAINT fk_heart_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE keyword
+(
+    id         BINARY(16) NOT NULL,
+    contents   VARCHAR(255),
+    member_id  BINARY(16),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_keyword_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE saying
+(
+    id         BINARY(16)  NOT NULL,
+    content    VARCHAR(50) NOT NULL,
+    member_id  BINARY(16),
+    modifiable BIT         NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_m15vsgnyh1qwjdotb6tmafhm8 UNIQUE (member_id),
+    CONSTRAINT fk_saying_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE saying_tag_member
+(
+    id         BINARY(16) NOT NULL,
+    saying_id  BINARY(16),
+    member_id  BINARY(16),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_saying_tag_member_saying FOREIGN KEY (saying_id) REFERENCES saying (id),
+    CONSTRAINT fk_saying_tag_member_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE schedule
+(
+    id            BINARY(16)   NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    start_date    DATE         NOT NULL,
+    end_date      DATE         NOT NULL,
+    schedule_type VARCHAR(255),
+    member_id     BINARY(16),
+    d_day_option  BIT,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    deleted_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_schedule_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE schedule_alarm_list
+(
+    schedule_id BINARY(16) NOT NULL,
+    alarm_list  VARCHAR(255),
+    CONSTRAINT fk_schedule_alarm_list_schedule FOREIGN KEY (schedule_id) REFERENCES schedule (id)
+);
@@ -0,0 +1,44 @@
+-- 저장소 조회 조건에 맞춘 복합 인덱스
+-- 같은 값 비교 컬럼을 앞에 두고 @Where 의 deleted_at is null 을 그 다음에 둬서 지운 행을 인덱스에서 거른다
+-- 정렬에 쓰는 컬럼을 마지막에 둬서 파일 정렬 없이 인덱스 순서로 읽는다
+
+-- 가족 구성원 조회(닉네임 순), 이야기/댓글/일정/한마디의 가족 조건 조인
+CREATE INDEX idx_member_family_nickname ON member (family_id, deleted_at, nickname);
+-- 로그인 시 소셜 계정 조회
+CREATE INDEX idx_member_client ON member (client_id, auth_provider);
+
+-- 보관 기간이 지난 초대 코드 정리
+CREATE INDEX idx_invite_created_at ON invite (created_at);
+
+-- 작성자 기준 캘린더 기간 조회와 디데이 조회
+CREATE INDEX idx_schedule_member_period ON schedule (member_id, start_date, end_date);
+CREATE INDEX idx_schedule_member_dday ON schedule (member_id, d_day_option, start_date);
+
+-- 가족/작성자 이야기 목록: member_id 로 찾고 created_at, start_date 역순 no-offset 페이징
+CREATE INDEX idx_story_member_created ON story (member_id, deleted_at, created_at);
+CREATE INDEX idx_story_member_start ON story (member_id, deleted_at, start_date);
+
+-- 좋아요 여부 확인과 좋아요한 이야기 목록
+CREATE INDEX idx_heart_member_story ON heart (member_id, story_id, deleted_at);
+
+-- 이야기의 댓글을 부모 댓글, 작성 순으로 조회
+CREATE INDEX idx_comment_story_parent_created ON comment (story_id, parent_id, created_at);
+
+-- 이야기 이미지 순서대로 조회
+CREATE INDEX idx_image_story_order ON image (story_id, deleted_at, order_num);
+
+-- 최근 검색어 조회와 회원별 개수 제한
+CREATE INDEX idx_keyword_member_created ON keyword (member_id, deleted_at, created_at);
+
+-- 서로에게 한마디 태그 회원 일괄 조회
+CREATE INDEX idx_saying_tag_member_saying ON saying_tag_member (saying_id, deleted_at);
+
+-- 반복 일정 회차 변경 조회
+CREATE INDEX idx_schedule_occurrence_override_schedule ON schedule_occurrence_override (schedule_id, original_date);
+
+-- 가족/개인 캘린더 피드 조회
+CREATE INDEX idx_calendar_feed_family_scope ON calendar_feed (family_id, scope);
+CREATE INDEX idx_calendar_feed_member_scope ON calendar_feed (member_id, scope);
+
+-- 일정의 발송 대기 알람 조회
+CREATE INDEX idx_schedule_alarm_schedule ON schedule_alarm (schedule_id, dispatched_at);
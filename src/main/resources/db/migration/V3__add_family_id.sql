@@ -0,0 +1,29 @@
+-- 이야기, 댓글, 일정, 서로에게 한마디에 작성 당시 가족을 저장해서 가족 단위 조회에서 member 조인을 없앤다
+-- 기존 행은 작성자의 현재 가족으로 채운다
+
+ALTER TABLE story ADD COLUMN family_id BINARY(16);
+ALTER TABLE comment ADD COLUMN family_id BINARY(16);
+ALTER TABLE schedule ADD COLUMN family_id BINARY(16);
+ALTER TABLE saying ADD COLUMN family_id BINARY(16);
+
+UPDATE story SET family_id = (SELECT m.family_id FROM member m WHERE m.id = story.member_id);
+UPDATE comment SET family_id = (SELECT m.family_id FROM member m WHERE m.id = comment.member_id);
+UPDATE schedule SET family_id = (SELECT m.family_id FROM member m WHERE m.id = schedule.member_id);
+UPDATE saying SET family_id = (SELECT m.family_id FROM member m WHERE m.id = saying.member_id);
+
+-- 가족 이야기 목록: created_at, start_date 역순 no-offset 페이징
+CREATE INDEX idx_story_family_created ON story (family_id, deleted_at, created_at);
+CREATE INDEX idx_story_family_start ON story (family_id, deleted_at, start_date);
+
+-- 가족 캘린더 기간 조회와 디데이 조회
+CREATE INDEX idx_schedule_family_period ON schedule (family_id, start_date, end_date);
+CREATE INDEX idx_schedule_family_dday ON schedule (family_id, d_day_option, start_date);
+
+-- 가족의 현재 서로에게 한마디
+CREATE INDEX idx_saying_family_modifiable ON saying (family_id, modifiable, deleted_at);
+
+-- 댓글은 이야기 단위로 읽으므로 idx_comment_story_parent_created 를 그대로 쓰고, family_id 는 외래키 인덱스만 둔다
+ALTER TABLE story ADD CONSTRAINT fk_story_family FOREIGN KEY (family_id) REFERENCES family (id);
+ALTER TABLE comment ADD CONSTRAINT fk_comment_family FOREIGN KEY (family_id) REFERENCES family (id);
+ALTER TABLE schedule ADD CONSTRAINT fk_schedule_family FOREIGN KEY (family_id) REFERENCES family (id);
+ALTER TABLE saying ADD CONSTRAINT fk_saying_family FOREIGN KEY (family_id) REFERENCES family (id);
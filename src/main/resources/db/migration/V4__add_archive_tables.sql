@@ -0,0 +1,175 @@
+-- 지운 지 보관 기간이 지난 행을 옮겨 두는 보관 테이블
+-- 원본과 같은 컬럼에 옮긴 시각(archived_at)을 더하고, 원본 행이 없어도 되도록 외래키는 두지 않는다
+-- 원본 테이블에 컬럼을 더하면 보관 테이블에도 같은 이름으로 더해야 한다
+
+CREATE TABLE saying_tag_member_archive
+(
+    id          BINARY(16) NOT NULL,
+    saying_id   BINARY(16),
+    member_id   BINARY(16),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE saying_archive
+(
+    id          BINARY(16) NOT NULL,
+    content     VARCHAR(50) NOT NULL,
+    member_id   BINARY(16),
+    modifiable  BIT NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    family_id   BINARY(16),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE heart_archive
+(
+    id          BINARY(16) NOT NULL,
+    story_id    BINARY(16),
+    member_id   BINARY(16),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE image_archive
+(
+    id          BINARY(16) NOT NULL,
+    story_id    BINARY(16),
+    order_num   BIGINT,
+    url         VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE comment_archive
+(
+    id          BINARY(16) NOT NULL,
+    member_id   BINARY(16) NOT NULL,
+    story_id    BINARY(16) NOT NULL,
+    parent_id   BINARY(16),
+    content     LONGTEXT NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    family_id   BINARY(16),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE story_archive
+(
+    id          BINARY(16) NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    content     LONGTEXT NOT NULL,
+    start_date  DATE NOT NULL,
+    end_date    DATE NOT NULL,
+    member_id   BINARY(16),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    family_id   BINARY(16),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE keyword_archive
+(
+    id          BINARY(16) NOT NULL,
+    contents    VARCHAR(255),
+    member_id   BINARY(16),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE schedule_alarm_archive
+(
+    id             BINARY(16) NOT NULL,
+    schedule_id    BINARY(16),
+    alarm          VARCHAR(255) NOT NULL,
+    fire_at        DATETIME(6) NOT NULL,
+    dispatched_at  DATETIME(6),
+    dispatch_token BINARY(16),
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    deleted_at     DATETIME(6),
+    archived_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE schedule_occurrence_override_archive
+(
+    id            BINARY(16) NOT NULL,
+    schedule_id   BINARY(16),
+    original_date DATE NOT NULL,
+    canceled      BIT NOT NULL,
+    title         VARCHAR(255),
+    start_date    DATE,
+    end_date      DATE,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    deleted_at    DATETIME(6),
+    archived_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE schedule_archive
+(
+    id                       BINARY(16) NOT NULL,
+    title                    VARCHAR(255) NOT NULL,
+    start_date               DATE NOT NULL,
+    end_date                 DATE NOT NULL,
+    schedule_type            VARCHAR(255),
+    member_id                BINARY(16),
+    d_day_option             BIT,
+    alarm_options            INT NOT NULL,
+    recurrence_frequency     VARCHAR(255),
+    recurrence_until         DATE,
+    recurrence_count         INT,
+    recurrence_last_end_date DATE,
+    created_at               DATETIME(6),
+    updated_at               DATETIME(6),
+    deleted_at               DATETIME(6),
+    family_id                BINARY(16),
+    archived_at              DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE calendar_feed_archive
+(
+    id                 BINARY(16) NOT NULL,
+    token              VARCHAR(64) NOT NULL,
+    scope              VARCHAR(255) NOT NULL,
+    family_id          BINARY(16),
+    member_id          BINARY(16),
+    content_hash       VARCHAR(255),
+    content_changed_at DATETIME(6),
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    deleted_at         DATETIME(6),
+    archived_at        DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 테이블별 보관 진행 위치, 한 바퀴를 다 돌면 last_id 를 비운다
+CREATE TABLE archive_cursor
+(
+    table_name VARCHAR(64) NOT NULL,
+    last_id    BINARY(16),
+    updated_at DATETIME(6),
+    PRIMARY KEY (table_name)
+);
@@ -0,0 +1,17 @@
+-- 탈퇴한 회원의 데이터 삭제 작업과 진행 위치
+CREATE TABLE member_erasure
+(
+    id           BINARY(16)   NOT NULL,
+    member_id    BINARY(16)   NOT NULL,
+    family_id    BINARY(16),
+    step         VARCHAR(255) NOT NULL,
+    last_id      BINARY(16),
+    completed_at DATETIME(6),
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    deleted_at   DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- 끝나지 않은 작업을 요청 순서대로 조회
+CREATE INDEX idx_member_erasure_pending ON member_erasure (completed_at, id);
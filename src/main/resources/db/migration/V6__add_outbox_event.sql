@@ -0,0 +1,28 @@
+-- 요청 트랜잭션에서 저장하고 디스패처가 꺼내서 전달하는 도메인 이벤트
+CREATE TABLE outbox_event
+(
+    id              BINARY(16)   NOT NULL,
+    aggregate_id    BINARY(16)   NOT NULL,
+    event_type      VARCHAR(255) NOT NULL,
+    payload         LONGTEXT     NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    claim_token     BINARY(16),
+    claimed_until   DATETIME(6),
+    dispatched_at   DATETIME(6),
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    deleted_at      DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- 전달할 이벤트 조회
+CREATE INDEX idx_outbox_event_pending ON outbox_event (status, next_attempt_at);
+-- 같은 대상의 앞선 이벤트 확인
+CREATE INDEX idx_outbox_event_aggregate ON outbox_event (aggregate_id, status, id);
+-- 선점한 이벤트 조회
+CREATE INDEX idx_outbox_event_claim_token ON outbox_event (claim_token);
+-- 전달이 끝난 이벤트 정리
+CREATE INDEX idx_outbox_event_dispatched ON outbox_event (status, dispatched_at);
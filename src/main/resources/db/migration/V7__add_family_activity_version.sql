@@ -0,0 +1,2 @@
+-- 가족에게 알린 변경의 마지막 순번, 실시간 스트림의 이벤트 id
+ALTER TABLE family ADD COLUMN activity_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- 가족 데이터 변경 기록, 변경분 동기화에서 마지막으로 받은 순번 이후의 대상을 찾는다
+CREATE TABLE change_log
+(
+    id          BINARY(16)   NOT NULL,
+    family_id   BINARY(16)   NOT NULL,
+    version     BIGINT       NOT NULL,
+    entity_type VARCHAR(255) NOT NULL,
+    entity_id   BINARY(16)   NOT NULL,
+    deleted     BIT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 가족별 순번 이후의 기록 조회, 같은 순번이 두 번 저장되지 않게 한다
+CREATE UNIQUE INDEX idx_change_log_family_version ON change_log (family_id, version);
+-- 보관 기간이 지난 기록 정리
+CREATE INDEX idx_change_log_created ON change_log (created_at);
@@ -0,0 +1,18 @@
+-- 가족 활동 피드: 종류별로 가족의 최신순 no-offset 조회를 인덱스 범위로 읽는다
+
+-- 좋아요에도 누른 당시 가족을 저장해서 이야기 조인 없이 가족 단위로 읽는다
+ALTER TABLE heart ADD COLUMN family_id BINARY(16);
+ALTER TABLE heart_archive ADD COLUMN family_id BINARY(16);
+UPDATE heart SET family_id = (SELECT m.family_id FROM member m WHERE m.id = heart.member_id);
+ALTER TABLE heart ADD CONSTRAINT fk_heart_family FOREIGN KEY (family_id) REFERENCES family (id);
+
+-- 현재 가족에 들어온 시각, 기존 구성원은 가입 시각으로 채운다
+ALTER TABLE member ADD COLUMN joined_at DATETIME(6);
+UPDATE member SET joined_at = created_at WHERE family_id IS NOT NULL;
+
+-- 이야기는 idx_story_family_created 를 그대로 쓴다
+CREATE INDEX idx_comment_family_created ON comment (family_id, deleted_at, created_at);
+CREATE INDEX idx_heart_family_created ON heart (family_id, deleted_at, created_at);
+CREATE INDEX idx_saying_family_created ON saying (family_id, deleted_at, created_at);
+CREATE INDEX idx_schedule_family_created ON schedule (family_id, deleted_at, created_at);
+CREATE INDEX idx_member_family_joined ON member (family_id, deleted_at, joined_at);
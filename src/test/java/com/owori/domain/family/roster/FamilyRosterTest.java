@@ -0,0 +1,52 @@
+package com.owori.domain.family.roster;
+
+import com.owori.domain.member.entity.Color;
+import com.owori.domain.member.entity.EmotionalBadge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FamilyRoster 의")
+class FamilyRosterTest {
+
+    @Test
+    @DisplayName("본인을 제외한 구성원 색상 조회가 수행되는가")
+    void getColorsExcept() {
+        // given
+        RosterMember me = member("오월이", Color.RED);
+        RosterMember sister = member("언니", Color.PINK);
+        FamilyRoster roster = new FamilyRoster(UUID.randomUUID(), List.of(me, sister));
+
+        // when
+        List<Color> result = roster.getColorsExcept(me.getMemberId());
+
+        // then
+        assertThat(result).containsExactly(Color.PINK);
+        assertThat(roster.getColors()).containsExactlyInAnyOrder(Color.RED, Color.PINK);
+    }
+
+    @Test
+    @DisplayName("구성원 교체가 새 목록으로 수행되는가")
+    void with() {
+        // given
+        RosterMember me = member("오월이", Color.RED);
+        FamilyRoster roster = new FamilyRoster(UUID.randomUUID(), List.of(me));
+
+        // when
+        RosterMember updated = new RosterMember(me.getMemberId(), "유월이", Color.BLUE, null, EmotionalBadge.SO_HAPPY);
+        FamilyRoster result = roster.with(updated);
+
+        // then
+        assertThat(result.getMembers()).containsExactly(updated);
+        assertThat(result.contains(me.getMemberId())).isTrue();
+        assertThat(roster.getMembers()).containsExactly(me);
+    }
+
+    private RosterMember member(String nickname, Color color) {
+        return new RosterMember(UUID.randomUUID(), nickname, color, null, EmotionalBadge.NONE);
+    }
+}
@@ -1,5 +1,6 @@
 package com.owori.domain.family.service;
 
+import com.owori.domain.family.change.FamilyChangeType;
 import com.owori.domain.family.dto.request.AddMemberRequest;
 import com.owori.domain.family.dto.request.FamilyRequest;
 import com.owori.domain.family.dto.response.InviteCodeResponse;
@@ -9,15 +10,25 @@ import com.owori.domain.family.repository.FamilyRepository;
 import com.owori.domain.member.entity.AuthProvider;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.entity.OAuth2Info;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.domain.sync.entity.ChangeLog;
+import com.owori.domain.sync.repository.ChangeLogRepository;
 import com.owori.support.database.DatabaseTest;
 import com.owori.support.database.LoginTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +37,9 @@ import static org.mockito.Mockito.when;
 class FamilyServiceTest extends LoginTest {
     @Autowired private FamilyService familyService;
     @Autowired private FamilyRepository familyRepository;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private ChangeLogRepository changeLogRepository;
+    @Autowired private EntityManager em;
 
     @Test
     @DisplayName("가족 생성이 수행되는가")
@@ -61,6 +75,50 @@ class FamilyServiceTest extends LoginTest {
         assertThat(family.getMembers()).hasSize(2).hasSameElementsAs(Set.of(member, loginUser));
     }
 
+    @Test
+    @DisplayName("가족에 들어가면 작성한 이야기가 새 가족으로 옮겨지는가")
+    void addMemberMovesContents() {
+        //given
+        String code = familyService.saveFamily(new FamilyRequest("오월이 가족")).getInviteCode();
+
+        Member member = memberRepository.save(Member.builder().oAuth2Info(new OAuth2Info("123123", AuthProvider.APPLE)).build());
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), member));
+        when(authService.getLoginUser()).thenReturn(member);
+
+        //when
+        familyService.addMember(new AddMemberRequest(code));
+        em.flush();
+        em.clear();
+
+        //then
+        Family family = familyRepository.findByInviteCode(code).orElseThrow();
+        assertThat(storyRepository.findById(story.getId()).orElseThrow().getFamily().getId()).isEqualTo(family.getId());
+    }
+
+    @Test
+    @DisplayName("가족을 옮기면 이전 가족에는 지운 것으로, 새 가족에는 생긴 것으로 변경 기록을 남기는가")
+    void addMemberRecordsMovedContents() {
+        //given
+        String previousCode = familyService.saveFamily(new FamilyRequest("오월이 가족")).getInviteCode();
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+
+        Member member = memberRepository.save(Member.builder().oAuth2Info(new OAuth2Info("123123", AuthProvider.APPLE)).build());
+        when(authService.getLoginUser()).thenReturn(member);
+        String code = familyService.saveFamily(new FamilyRequest("새 가족")).getInviteCode();
+        when(authService.getLoginUser()).thenReturn(loginUser);
+
+        //when
+        familyService.addMember(new AddMemberRequest(code));
+
+        //then
+        UUID previousId = familyRepository.findByInviteCode(previousCode).orElseThrow().getId();
+        UUID familyId = familyRepository.findByInviteCode(code).orElseThrow().getId();
+        assertThat(findChangeLogs(previousId)).extracting(ChangeLog::getChangeType, ChangeLog::getEntityId)
+                .containsExactly(tuple(FamilyChangeType.STORY_DELETED, story.getId()));
+        assertThat(findChangeLogs(familyId)).extracting(ChangeLog::getChangeType, ChangeLog::getEntityId)
+                .contains(tuple(FamilyChangeType.STORY_CREATED, story.getId()));
+    }
+
     @Test
     @DisplayName("id를 통한 조회가 수행되는가")
     void loadEntity() {
@@ -101,4 +159,8 @@ class FamilyServiceTest extends LoginTest {
         //then
 
     }
+
+    private List<ChangeLog> findChangeLogs(UUID familyId) {
+        return changeLogRepository.findAllByFamilyIdAndVersionGreaterThanOrderByVersionAsc(familyId, 0L, PageRequest.of(0, 10));
+    }
 }
@@ -0,0 +1,75 @@
+package com.owori.domain.family.service;
+
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.family.repository.InviteRepository;
+import com.owori.support.database.DatabaseTest;
+import com.owori.support.database.LoginTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DatabaseTest
+@DisplayName("InviteCode 서비스의")
+class InviteCodeServiceTest extends LoginTest {
+    @Autowired private InviteCodeService inviteCodeService;
+    @Autowired private InviteRepository inviteRepository;
+    @Autowired private FamilyRepository familyRepository;
+    @Autowired private EntityManager em;
+
+    @Test
+    @DisplayName("헷갈리는 문자가 없는 겹치지 않는 코드 발급이 수행되는가")
+    void issueCode() {
+        //given
+        Set<String> codes = new HashSet<>();
+
+        //when
+        IntStream.range(0, 1000).forEach(i -> codes.add(inviteCodeService.issueCode()));
+
+        //then
+        assertThat(codes).hasSize(1000)
+                .allMatch(code -> code.matches("[0-9A-HJKMNP-TV-Z]{10}"));
+    }
+
+    @Test
+    @DisplayName("입력한 코드가 발급 형식으로 맞춰지는가")
+    void normalize() {
+        //when
+        String result = inviteCodeService.normalize(" abcde-fgo1l ");
+
+        //then
+        assertThat(result).isEqualTo("ABCDEFG011");
+    }
+
+    @Test
+    @DisplayName("만료된 초대 정리가 수행되는가")
+    void purgeExpired() {
+        //given
+        String expiredCode = inviteCodeService.issueCode();
+        String validCode = inviteCodeService.issueCode();
+        familyRepository.save(Family.builder().code(expiredCode).familyGroupName("오월이가족").member(loginUser).build());
+        familyRepository.save(Family.builder().code(validCode).familyGroupName("우리가족").member(loginUser).build());
+        em.flush();
+        em.createNativeQuery("update invite set created_at = :createdAt where code = :code")
+                .setParameter("createdAt", LocalDateTime.now().minusDays(1))
+                .setParameter("code", expiredCode)
+                .executeUpdate();
+        em.clear();
+
+        //when
+        int purged = inviteCodeService.purgeExpired();
+
+        //then
+        assertThat(purged).isPositive();
+        assertThat(inviteRepository.countAllByCode(expiredCode)).isZero();
+        assertThat(inviteRepository.countAllByCode(validCode)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.owori.domain.family.stream;
+
+import com.owori.domain.family.change.FamilyChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FamilyStreamChannel 의")
+class FamilyStreamChannelTest {
+
+    @Test
+    @DisplayName("다시 연결하면 마지막으로 받은 순번 이후의 변경만 보내는가")
+    void joinReplay() throws IOException {
+        // given
+        FamilyStreamChannel channel = new FamilyStreamChannel(10L, 3);
+        channel.append(event(11L));
+        channel.append(event(12L));
+        channel.append(event(13L));
+        RecordingEmitter emitter = new RecordingEmitter();
+        FamilyStreamSubscriber subscriber = new FamilyStreamSubscriber(emitter, 10, 11L);
+
+        // when
+        boolean resumed = channel.join(subscriber, 11L, this::toSseEvent);
+        subscriber.flush();
+
+        // then
+        assertThat(resumed).isTrue();
+        assertThat(emitter.ids).containsExactly("12", "13");
+    }
+
+    @Test
+    @DisplayName("기록에서 밀려난 순번으로는 이어 받지 못하는가")
+    void joinTooOld() {
+        // given
+        FamilyStreamChannel channel = new FamilyStreamChannel(10L, 2);
+        channel.append(event(11L));
+        channel.append(event(12L));
+        channel.append(event(13L));
+
+        // when
+        boolean resumed = channel.join(new FamilyStreamSubscriber(new RecordingEmitter(), 10, 10L), 10L, this::toSseEvent);
+
+        // then
+        assertThat(resumed).isFalse();
+        assertThat(channel.getLatestVersion()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("사이가 빈 변경은 버리고 다시 시작하면 그 순번부터 이어 받는가")
+    void appendContiguous() {
+        // given
+        FamilyStreamChannel channel = new FamilyStreamChannel(10L, 3);
+        channel.append(event(11L));
+
+        // when
+        channel.append(event(13L));
+        long skipped = channel.getLatestVersion();
+        channel.reset(20L);
+        channel.append(event(21L));
+
+        // then
+        assertThat(skipped).isEqualTo(11L);
+        assertThat(channel.getLatestVersion()).isEqualTo(21L);
+        assertThat(channel.join(new FamilyStreamSubscriber(new RecordingEmitter(), 10, 11L), 11L, this::toSseEvent)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록보다 오래된 순번으로 다시 시작하면 이미 받은 연결에 같은 변경을 다시 보내지 않는가")
+    void rewind() throws IOException {
+        // given
+        FamilyStreamChannel channel = new FamilyStreamChannel(10L, 2);
+        RecordingEmitter emitter = new RecordingEmitter();
+        FamilyStreamSubscriber subscriber = new FamilyStreamSubscriber(emitter, 10, 10L);
+        channel.join(subscriber, 10L, this::toSseEvent);
+        publish(channel, 11L, 13L);
+        subscriber.flush();
+
+        // when
+        channel.rewind(10L);
+        RecordingEmitter resumedEmitter = new RecordingEmitter();
+        FamilyStreamSubscriber resumedSubscriber = new FamilyStreamSubscriber(resumedEmitter, 10, 10L);
+        boolean resumed = channel.join(resumedSubscriber, 10L, this::toSseEvent);
+        publish(channel, 11L, 13L);
+        subscriber.flush();
+        resumedSubscriber.flush();
+
+        // then
+        assertThat(resumed).isTrue();
+        assertThat(emitter.ids).containsExactly("11", "12", "13");
+        assertThat(resumedEmitter.ids).containsExactly("11", "12", "13");
+    }
+
+    @Test
+    @DisplayName("같은 변경을 두 번 넣지 않고 대기열이 가득 차면 거절하는가")
+    void offer() throws IOException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        FamilyStreamSubscriber subscriber = new FamilyStreamSubscriber(emitter, 2, 0L);
+
+        // when
+        subscriber.offer(event(1L), toSseEvent(event(1L)));
+        subscriber.offer(event(1L), toSseEvent(event(1L)));
+        subscriber.offer(event(2L), toSseEvent(event(2L)));
+        boolean overflowed = !subscriber.offer(event(3L), toSseEvent(event(3L)));
+        subscriber.flush();
+
+        // then
+        assertThat(overflowed).isTrue();
+        assertThat(emitter.ids).containsExactly("1", "2");
+    }
+
+    private void publish(FamilyStreamChannel channel, long from, long to) {
+        for (long version = from; version <= to; version++) {
+            FamilyStreamEvent event = event(version);
+            channel.append(event).forEach(subscriber -> subscriber.offer(event, toSseEvent(event)));
+        }
+    }
+
+    private FamilyStreamEvent event(long version) {
+        return new FamilyStreamEvent(version, FamilyChangeType.STORY_CREATED, UUID.randomUUID());
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(FamilyStreamEvent event) {
+        return SseEmitter.event().id(String.valueOf(event.version())).name("change").data(event);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> ids = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            // 첫 부분이 "id:..\nevent:..\ndata:" 형태의 문자열
+            String head = (String) builder.build().iterator().next().getData();
+            ids.add(head.substring(3, head.indexOf('\n')));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.owori.domain.feed.service;
+
+import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.comment.repository.CommentRepository;
+import com.owori.domain.family.dto.request.FamilyRequest;
+import com.owori.domain.family.service.FamilyService;
+import com.owori.domain.feed.dto.response.FeedItemResponse;
+import com.owori.domain.feed.dto.response.FeedResponse;
+import com.owori.domain.feed.source.FeedType;
+import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.repository.SayingRepository;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.support.database.DatabaseTest;
+import com.owori.support.database.LoginTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DatabaseTest
+@DisplayName("Feed 서비스의")
+class FeedServiceTest extends LoginTest {
+    @Autowired private FeedService feedService;
+    @Autowired private FamilyService familyService;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private SayingRepository sayingRepository;
+    @Autowired private EntityManager em;
+
+    @Test
+    @DisplayName("여러 종류의 활동이 최신순으로 합쳐지고 커서로 이어서 조회되는가")
+    void findFeed() {
+        // given
+        familyService.saveFamily(new FamilyRequest("오월이 가족"));
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+        Comment comment = commentRepository.save(new Comment(loginUser, story, null, "댓글"));
+        Saying saying = sayingRepository.save(new Saying("오늘 집에 안 들어가요", loginUser, List.of()));
+        em.flush();
+        em.clear();
+
+        // when
+        FeedResponse first = feedService.findFeed(PageRequest.of(0, 3), null);
+        FeedResponse next = feedService.findFeed(PageRequest.of(0, 3), first.getNextCursor());
+
+        // then
+        assertThat(first.getItems()).hasSize(3);
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(next.getItems()).hasSize(1);
+        assertThat(next.getHasNext()).isFalse();
+
+        List<FeedItemResponse> items = new ArrayList<>(first.getItems());
+        items.addAll(next.getItems());
+        assertThat(items).extracting(FeedItemResponse::getType)
+                .containsExactlyInAnyOrder(FeedType.MEMBER_JOINED, FeedType.STORY, FeedType.COMMENT, FeedType.SAYING);
+        assertThat(items).extracting(FeedItemResponse::getId)
+                .contains(loginUser.getId(), story.getId(), comment.getId(), saying.getId());
+        assertThat(items).extracting(FeedItemResponse::getOccurredAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("끝까지 읽은 뒤의 커서로는 빈 페이지가 조회되는가")
+    void findFeedExhausted() {
+        // given
+        familyService.saveFamily(new FamilyRequest("오월이 가족"));
+        em.flush();
+        em.clear();
+        FeedResponse first = feedService.findFeed(PageRequest.of(0, 20), null);
+
+        // when
+        FeedResponse next = feedService.findFeed(PageRequest.of(0, 20), first.getNextCursor());
+
+        // then
+        assertThat(first.getItems()).extracting(FeedItemResponse::getType).containsExactly(FeedType.MEMBER_JOINED);
+        assertThat(first.getHasNext()).isFalse();
+        assertThat(next.getItems()).isEmpty();
+    }
+}
@@ -4,6 +4,7 @@ import com.owori.domain.family.entity.Family;
 import com.owori.domain.family.repository.FamilyRepository;
 import com.owori.domain.keyword.entity.Keyword;
 import com.owori.domain.keyword.dto.response.FindKeywordsResponse;
+import com.owori.domain.keyword.recorder.KeywordBuffer;
 import com.owori.domain.keyword.repository.KeywordRepository;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.service.AuthService;
@@ -21,7 +22,11 @@ import org.springframework.data.domain.Sort;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -32,6 +37,7 @@ public class KeywordServiceTest extends LoginTest {
 
     @Autowired private KeywordService keywordService;
     @Autowired private KeywordRepository keywordRepository;
+    @Autowired private KeywordBuffer keywordBuffer;
     @Autowired private AuthService authService;
     @Autowired private StoryRepository storyRepository;
     @Autowired private FamilyRepository familyRepository;
@@ -52,9 +58,10 @@ public class KeywordServiceTest extends LoginTest {
         storyRepository.save(story);
 
         //when
-        storyService.findStoryBySearch("기다리", PageRequest.of(0, 4, Sort.by("created_at")), null);
-        storyService.findStoryBySearch("우리집", PageRequest.of(0, 4, Sort.by("created_at")), null);
-        storyService.findStoryBySearch("기다리", PageRequest.of(0, 4, Sort.by("created_at")), null);
+        storyService.findStoryBySearch("기다리", PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
+        storyService.findStoryBySearch("우리집", PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
+        storyService.findStoryBySearch("기다리", PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
+        keywordService.flushKeywords();
 
         List<Keyword> keywords = keywordRepository.findByMember(member);
 
@@ -77,9 +84,10 @@ public class KeywordServiceTest extends LoginTest {
         storyRepository.save(story);
 
         //when
-        storyService.findStoryBySearch("야호", PageRequest.of(0, 4, Sort.by("created_at")), null);
-        storyService.findStoryBySearch("우리집", PageRequest.of(0, 4, Sort.by("created_at")), null);
-        storyService.findStoryBySearch("야호", PageRequest.of(0, 4, Sort.by("created_at")), null);
+        storyService.findStoryBySearch("야호", PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
+        storyService.findStoryBySearch("우리집", PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
+        storyService.findStoryBySearch("야호", PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
+        keywordService.flushKeywords();
 
         List<FindKeywordsResponse> searchWords = keywordService.findSearchWords();
 
@@ -89,6 +97,61 @@ public class KeywordServiceTest extends LoginTest {
         assertThat(searchWords.get(1).getContent()).isEqualTo("우리집");
     }
 
+    @Test
+    @DisplayName("최근 검색어 개수를 넘으면 오래된 검색어가 삭제되는가")
+    void flushKeywordsOverLimit() {
+        //given
+        Member member = authService.getLoginUser();
+        IntStream.range(0, 20).forEach(i -> keywordService.addKeyword("검색어" + i, member));
+        keywordService.flushKeywords();
+
+        //when
+        keywordService.addKeyword("새 검색어", member);
+        keywordService.flushKeywords();
+        em.flush();
+        em.clear();
+
+        //then
+        List<Keyword> keywords = keywordRepository.findByMember(member);
+        assertThat(keywords).hasSize(20)
+                .extracting(Keyword::getContents).contains("새 검색어");
+    }
+
+    @Test
+    @DisplayName("새 검색어가 검색한 시각으로 저장되는가")
+    void flushKeywordsWithSearchedAt() {
+        //given
+        Member member = authService.getLoginUser();
+        LocalDateTime searchedAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+        keywordBuffer.record(member.getId(), "하루", searchedAt);
+
+        //when
+        keywordService.flushKeywords();
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(keywordRepository.findByMember(member)).singleElement()
+                .extracting(keyword -> keyword.getBaseTime().getCreatedAt()).isEqualTo(searchedAt);
+    }
+
+    @Test
+    @DisplayName("저장하지 못한 검색어가 버퍼에 되돌아가는가")
+    void requeueKeywords() {
+        //given
+        Member member = authService.getLoginUser();
+        LocalDateTime searchedAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+        keywordBuffer.record(member.getId(), "하루", searchedAt);
+        Map<UUID, Map<String, LocalDateTime>> drained = keywordBuffer.drain();
+        keywordBuffer.record(member.getId(), "하루", searchedAt.plusMinutes(1));
+
+        //when
+        keywordBuffer.requeue(drained);
+
+        //then
+        assertThat(keywordBuffer.drain()).containsExactly(Map.entry(member.getId(), Map.of("하루", searchedAt.plusMinutes(1))));
+    }
+
     @Test
     @DisplayName("검색어 단일 삭제가 실행되는가")
     void removeStorySearchWord() {
@@ -0,0 +1,93 @@
+package com.owori.domain.keyword.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FamilySuggestions 의")
+class FamilySuggestionsTest {
+
+    @Test
+    @DisplayName("입력 중인 음절로 자동 완성이 수행되는가")
+    void findWithPartialSyllable() {
+        // given
+        FamilySuggestions suggestions = new FamilySuggestions();
+        suggestions.putStory(UUID.randomUUID(), "기다리고 기다리던 하루");
+        suggestions.putStory(UUID.randomUUID(), "가방 사러 간 날");
+        suggestions.putNickname(UUID.randomUUID(), "과일 좋아");
+
+        // when, then
+        assertThat(suggestions.find("기ㄷ", null, 10)).containsExactly("기다리고 기다리던 하루");
+        assertThat(suggestions.find("갑", null, 10)).containsExactly("가방 사러 간 날");
+        assertThat(suggestions.find("고", null, 10)).containsExactly("과일 좋아");
+        assertThat(suggestions.find("하ㄹ", null, 10)).containsExactly("기다리고 기다리던 하루");
+    }
+
+    @Test
+    @DisplayName("최근 검색어가 검색한 회원에게만 먼저 보이는가")
+    void findKeywordsOfViewer() {
+        // given
+        UUID memberId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        FamilySuggestions suggestions = new FamilySuggestions();
+        suggestions.putStory(UUID.randomUUID(), "강화도 여행");
+        suggestions.addKeyword(memberId, "강아지");
+
+        // when
+        List<String> mine = suggestions.find("강", memberId, 10);
+        List<String> others = suggestions.find("강", otherId, 10);
+
+        // then
+        assertThat(mine).containsExactly("강아지", "강화도 여행");
+        assertThat(others).containsExactly("강화도 여행");
+    }
+
+    @Test
+    @DisplayName("제목과 닉네임 변경, 검색어 삭제가 자동 완성에 반영되는가")
+    void updateSuggestions() {
+        // given
+        UUID storyId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+        FamilySuggestions suggestions = new FamilySuggestions();
+        suggestions.putStory(storyId, "바다 여행");
+        suggestions.putNickname(memberId, "바둑왕");
+        suggestions.addKeyword(memberId, "바나나");
+
+        // when
+        suggestions.putStory(storyId, "산 여행");
+        suggestions.putNickname(memberId, "아빠");
+        suggestions.removeKeywords(memberId);
+
+        // then
+        assertThat(suggestions.find("바", memberId, 10)).isEmpty();
+        assertThat(suggestions.find("여", memberId, 10)).containsExactly("산 여행");
+        assertThat(suggestions.find("아", memberId, 10)).containsExactly("아빠");
+    }
+
+    @Test
+    @DisplayName("여러 곳에 나온 검색어가 먼저 보이고, 삭제하면 밀려난 검색어가 다시 보이는가")
+    void findTopSuggestions() {
+        // given
+        FamilySuggestions suggestions = new FamilySuggestions();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        suggestions.putStory(first, "여름 바다");
+        suggestions.putStory(second, "여름 바다");
+        IntStream.range(0, 50).forEach(i -> suggestions.putStory(UUID.randomUUID(), "여행 " + i));
+
+        // when
+        List<String> before = suggestions.find("여", null, 1);
+        suggestions.removeStory(first);
+        suggestions.removeStory(second);
+        List<String> after = suggestions.find("여", null, 3);
+
+        // then
+        assertThat(before).containsExactly("여름 바다");
+        assertThat(after).containsExactly("여행 0", "여행 1", "여행 2");
+    }
+}
@@ -209,9 +209,9 @@ class MemberControllerTest extends RestDocsTest {
                 new SayingByFamilyResponse(UUID.randomUUID(),"오늘 저녁 카레", member2, List.of(), LocalDateTime.now())
         );
         List<ScheduleDDayResponse> dDaySchedules = List.of(
-                new ScheduleDDayResponse(UUID.randomUUID(), "가족 여행", LocalDate.parse("2023-07-20"), LocalDate.parse("2023-07-23"),"D-3", ScheduleType.FAMILY, "벡스", Color.BLUE, true, List.of()),
-                new ScheduleDDayResponse(UUID.randomUUID(), "휴가", LocalDate.parse("2023-07-24"), LocalDate.parse("2023-07-28"),"D-3", ScheduleType.INDIVIDUAL, "오월이", Color.SKYBLUE, true, List.of()),
-                new ScheduleDDayResponse(UUID.randomUUID(), "친구 여행", LocalDate.parse("2023-07-30"), LocalDate.parse("2023-08-03"),"D-3", ScheduleType.INDIVIDUAL, "벡스", Color.GREEN, true, List.of())
+                new ScheduleDDayResponse(UUID.randomUUID(), "가족 여행", LocalDate.parse("2023-07-20"), LocalDate.parse("2023-07-23"),"D-3", ScheduleType.FAMILY, "벡스", Color.BLUE, true, List.of(), null, LocalDate.parse("2023-07-20")),
+                new ScheduleDDayResponse(UUID.randomUUID(), "휴가", LocalDate.parse("2023-07-24"), LocalDate.parse("2023-07-28"),"D-3", ScheduleType.INDIVIDUAL, "오월이", Color.SKYBLUE, true, List.of(), null, LocalDate.parse("2023-07-24")),
+                new ScheduleDDayResponse(UUID.randomUUID(), "친구 여행", LocalDate.parse("2023-07-30"), LocalDate.parse("2023-08-03"),"D-3", ScheduleType.INDIVIDUAL, "벡스", Color.GREEN, true, List.of(), null, LocalDate.parse("2023-07-30"))
                 );
 
         MemberHomeResponse expected = new MemberHomeResponse("오월이 가족",membersProfile,dDaySchedules ,List.of("111111","222222"), sayings);
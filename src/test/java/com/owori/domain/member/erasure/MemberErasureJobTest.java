@@ -0,0 +1,108 @@
+package com.owori.domain.member.erasure;
+
+import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.comment.repository.CommentRepository;
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.image.entity.Image;
+import com.owori.domain.image.repository.ImageRepository;
+import com.owori.domain.keyword.entity.Keyword;
+import com.owori.domain.keyword.repository.KeywordRepository;
+import com.owori.domain.member.entity.AuthProvider;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.entity.MemberErasure;
+import com.owori.domain.member.entity.OAuth2Info;
+import com.owori.domain.member.repository.MemberErasureRepository;
+import com.owori.domain.member.service.MemberService;
+import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.repository.SayingRepository;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.support.database.DatabaseTest;
+import com.owori.support.database.LoginTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DatabaseTest
+@DisplayName("MemberErasure 작업의")
+class MemberErasureJobTest extends LoginTest {
+    @Autowired private MemberErasureJob memberErasureJob;
+    @Autowired private MemberService memberService;
+    @Autowired private MemberErasureRepository memberErasureRepository;
+    @Autowired private FamilyRepository familyRepository;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private ImageRepository imageRepository;
+    @Autowired private KeywordRepository keywordRepository;
+    @Autowired private SayingRepository sayingRepository;
+    @Autowired private EntityManager em;
+
+    @Test
+    @DisplayName("탈퇴한 회원의 데이터 삭제와 익명화가 수행되는가")
+    void erasePending() {
+        //given
+        Member other = memberRepository.save(new Member(new OAuth2Info("456", AuthProvider.APPLE)));
+        Family family = familyRepository.save(Family.builder().familyGroupName("오월이 가족").member(loginUser).build());
+        family.addMember(other);
+        loginUser.updateProfileImage("https://example.com/profile.png");
+
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+        Image image = imageRepository.save(new Image("https://example.com/story.png", 0L));
+        image.updateStory(story);
+        Comment otherComment = commentRepository.save(new Comment(other, story, null, "다른 가족의 댓글"));
+        Story otherStory = storyRepository.save(new Story("제목", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), other));
+        Comment comment = commentRepository.save(new Comment(loginUser, otherStory, null, "댓글"));
+        keywordRepository.save(new Keyword("하루", loginUser));
+        sayingRepository.save(new Saying("오늘 집 감", loginUser, List.of(other)));
+        memberService.deleteMember();
+        em.flush();
+        em.clear();
+
+        //when
+        int completed = memberErasureJob.erasePending();
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(completed).isEqualTo(1);
+        assertThat(storyRepository.findById(story.getId())).isEmpty();
+        assertThat(storyRepository.findById(otherStory.getId())).isPresent();
+        assertThat(commentRepository.findById(otherComment.getId())).isEmpty();
+        assertThat(commentRepository.findById(comment.getId())).isEmpty();
+        assertThat(keywordRepository.findByMember(loginUser)).isEmpty();
+        assertThat(sayingRepository.findByMemberAndModifiable(loginUser, true)).isEmpty();
+
+        Object[] profile = (Object[]) em.createNativeQuery("select nickname, profile_image, client_id from member where id = :id")
+                .setParameter("id", loginUser.getId())
+                .getSingleResult();
+        assertThat(profile[0]).isNull();
+        assertThat(profile[1]).isNull();
+        assertThat(profile[2]).isEqualTo("erased:" + loginUser.getId());
+        assertThat(memberErasureJob.erasePending()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 선점한 삭제 작업은 기한이 지나기 전까지 건너뛰는가")
+    void skipClaimedErasure() {
+        //given
+        MemberErasure erasure = memberErasureRepository.save(new MemberErasure(loginUser.getId(), null));
+        LocalDateTime now = LocalDateTime.now();
+        memberErasureRepository.claim(List.of(erasure.getId()), UUID.randomUUID(), now, now.plusMinutes(5));
+
+        //when
+        int completed = memberErasureJob.erasePending();
+
+        //then
+        assertThat(completed).isZero();
+        assertThat(memberErasureRepository.findById(erasure.getId()).orElseThrow().isCompleted()).isFalse();
+    }
+}
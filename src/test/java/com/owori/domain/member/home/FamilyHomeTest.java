@@ -0,0 +1,80 @@
+package com.owori.domain.member.home;
+
+import com.owori.domain.member.dto.response.MemberProfileResponse;
+import com.owori.domain.member.entity.EmotionalBadge;
+import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FamilyHome 의")
+class FamilyHomeTest {
+
+    @Test
+    @DisplayName("프로필 교체가 닉네임 순서를 유지하며 수행되는가")
+    void withMemberProfile() {
+        // given
+        MemberProfileResponse mom = profile("엄마", EmotionalBadge.NONE);
+        MemberProfileResponse son = profile("아들", EmotionalBadge.NONE);
+        FamilyHome home = home(List.of(son, mom), List.of());
+
+        // when
+        MemberProfileResponse happyMom = new MemberProfileResponse(mom.getId(), "가엄마", null, EmotionalBadge.SO_HAPPY);
+        FamilyHome result = home.withMemberProfile(happyMom);
+
+        // then
+        assertThat(result.getMemberProfiles()).containsExactly(happyMom, son);
+        assertThat(home.getMemberProfiles()).containsExactly(son, mom);
+    }
+
+    @Test
+    @DisplayName("서로에게 한마디 교체와 삭제가 작성자 단위로 수행되는가")
+    void withSaying() {
+        // given
+        UUID memberId = UUID.randomUUID();
+        SayingByFamilyResponse before = saying(memberId, "배고파");
+        SayingByFamilyResponse other = saying(UUID.randomUUID(), "오늘 집 감");
+        FamilyHome home = home(List.of(), List.of(before, other));
+
+        // when
+        SayingByFamilyResponse after = saying(memberId, "밥 먹자");
+        FamilyHome updated = home.withSaying(memberId, after);
+        FamilyHome deleted = updated.withSaying(memberId, null);
+
+        // then
+        assertThat(updated.getFamilySayings()).containsExactlyInAnyOrder(after, other);
+        assertThat(deleted.getFamilySayings()).containsExactly(other);
+    }
+
+    @Test
+    @DisplayName("디데이가 계산한 날짜에만 유효한가")
+    void hasDDaysOf() {
+        // given
+        LocalDate today = LocalDate.parse("2024-03-01");
+        FamilyHome home = home(List.of(), List.of()).withDDays(today, List.of());
+
+        // when, then
+        assertThat(home.hasDDaysOf(today)).isTrue();
+        assertThat(home.hasDDaysOf(today.plusDays(1))).isFalse();
+        assertThat(home.withoutDDays().hasDDaysOf(today)).isFalse();
+        assertThat(home.withFamily("오월이 가족", List.of()).hasDDaysOf(today)).isTrue();
+    }
+
+    private FamilyHome home(List<MemberProfileResponse> profiles, List<SayingByFamilyResponse> sayings) {
+        return new FamilyHome("우리 가족", List.of(), profiles, sayings, null, null);
+    }
+
+    private MemberProfileResponse profile(String nickname, EmotionalBadge emotionalBadge) {
+        return new MemberProfileResponse(UUID.randomUUID(), nickname, null, emotionalBadge);
+    }
+
+    private SayingByFamilyResponse saying(UUID memberId, String content) {
+        return new SayingByFamilyResponse(UUID.randomUUID(), content, memberId, List.of(), LocalDateTime.now());
+    }
+}
@@ -184,6 +184,24 @@ class MemberServiceTest extends LoginTest {
         assertThat(responses.getMemberProfiles().stream().map(MemberProfileResponse::getId).toList()).isEqualTo(List.of(authService.getLoginUser().getId(), saveMember1.getId()));
         assertThat(responses.getFamilySayings().stream().map(SayingByFamilyResponse::getSayingId)).hasSameElementsAs(List.of(saying1.getId(), saying2.getId()));
     }
+
+    @Test
+    @DisplayName("홈 데이터 조회시 본인 프로필은 현재 값으로 반환되는가")
+    void findHomeDataWithCurrentProfile() {
+        // given
+        familyService.saveFamily(new FamilyRequest("오월이 가족"));
+        memberService.findHomeData();
+
+        // when
+        memberService.updateEmotionalBadge(new EmotionalBadgeRequest(EmotionalBadge.SO_HAPPY));
+        MemberHomeResponse response = memberService.findHomeData();
+
+        // then
+        MemberProfileResponse myProfile = response.getMemberProfiles().get(0);
+        assertThat(myProfile.getId()).isEqualTo(loginUser.getId());
+        assertThat(myProfile.getEmotionalBadge()).isEqualTo(EmotionalBadge.SO_HAPPY);
+        assertThat(response.getMemberProfiles()).hasSize(1);
+    }
     @DisplayName("수정 가능한 색상 조회가 수행되는가")
     void getEnableColor() {
         //given
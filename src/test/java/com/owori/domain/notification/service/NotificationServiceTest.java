@@ -0,0 +1,116 @@
+package com.owori.domain.notification.service;
+
+import com.owori.domain.comment.event.CommentAdded;
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.heart.event.HeartToggled;
+import com.owori.domain.member.entity.AuthProvider;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.entity.OAuth2Info;
+import com.owori.domain.notification.dto.response.NotificationGroupResponse;
+import com.owori.domain.notification.dto.response.NotificationResponse;
+import com.owori.domain.notification.entity.NotificationType;
+import com.owori.domain.notification.push.NotificationPush;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.support.database.DatabaseTest;
+import com.owori.support.database.LoginTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DatabaseTest
+@DisplayName("Notification 서비스의")
+class NotificationServiceTest extends LoginTest {
+    @Autowired private NotificationService notificationService;
+    @Autowired private FamilyRepository familyRepository;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private EntityManager em;
+
+    @Test
+    @DisplayName("같은 이야기의 좋아요가 읽기 전까지 한 알림으로 묶이는가")
+    void notifyHeart() {
+        //given
+        Member first = memberRepository.save(new Member(new OAuth2Info("456", AuthProvider.APPLE)));
+        Member second = memberRepository.save(new Member(new OAuth2Info("789", AuthProvider.APPLE)));
+        Family family = familyRepository.save(Family.builder().familyGroupName("오월이 가족").member(loginUser).build());
+        family.addMember(first);
+        family.addMember(second);
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+        em.flush();
+
+        //when
+        notificationService.notifyHeart(new HeartToggled(story.getId(), family.getId(), first.getId(), true, LocalDateTime.now()));
+        // 다시 전달된 이벤트는 인원 수를 늘리지 않는다
+        notificationService.notifyHeart(new HeartToggled(story.getId(), family.getId(), first.getId(), true, LocalDateTime.now()));
+        List<NotificationPush> pushes = notificationService.notifyHeart(new HeartToggled(story.getId(), family.getId(), second.getId(), true, LocalDateTime.now()));
+        NotificationGroupResponse response = notificationService.findNotifications(PageRequest.of(0, 20), null, null);
+
+        //then
+        assertThat(pushes).extracting(NotificationPush::getRecipientId).containsExactly(loginUser.getId());
+        assertThat(response.getUnreadCount()).isEqualTo(1);
+        assertThat(response.getNotifications()).hasSize(1);
+        NotificationResponse notification = response.getNotifications().get(0);
+        assertThat(notification.getType()).isEqualTo(NotificationType.HEART);
+        assertThat(notification.getActorCount()).isEqualTo(2);
+        assertThat(notification.getLastActorId()).isEqualTo(second.getId());
+        assertThat(notification.getStoryTitle()).isEqualTo("기다리고 기다리던 하루");
+    }
+
+    @Test
+    @DisplayName("번갈아 활동한 사람을 한 번씩만 세는가")
+    void notifyHeartAlternately() {
+        //given
+        Member first = memberRepository.save(new Member(new OAuth2Info("456", AuthProvider.APPLE)));
+        Member second = memberRepository.save(new Member(new OAuth2Info("789", AuthProvider.APPLE)));
+        Family family = familyRepository.save(Family.builder().familyGroupName("오월이 가족").member(loginUser).build());
+        family.addMember(first);
+        family.addMember(second);
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+        em.flush();
+
+        //when
+        notificationService.notifyComment(new CommentAdded(UUID.randomUUID(), story.getId(), family.getId(), first.getId(), LocalDateTime.now()));
+        notificationService.notifyComment(new CommentAdded(UUID.randomUUID(), story.getId(), family.getId(), second.getId(), LocalDateTime.now()));
+        notificationService.notifyComment(new CommentAdded(UUID.randomUUID(), story.getId(), family.getId(), first.getId(), LocalDateTime.now()));
+        NotificationGroupResponse response = notificationService.findNotifications(PageRequest.of(0, 20), null, null);
+
+        //then
+        assertThat(response.getNotifications()).hasSize(1);
+        assertThat(response.getNotifications().get(0).getActorCount()).isEqualTo(2);
+        assertThat(response.getNotifications().get(0).getLastActorId()).isEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("모두 읽으면 읽지 않은 수가 0 이 되고 다음 댓글은 새 알림으로 남는가")
+    void readAllNotifications() {
+        //given
+        Member other = memberRepository.save(new Member(new OAuth2Info("456", AuthProvider.APPLE)));
+        Family family = familyRepository.save(Family.builder().familyGroupName("오월이 가족").member(loginUser).build());
+        family.addMember(other);
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+        em.flush();
+        notificationService.notifyComment(new CommentAdded(UUID.randomUUID(), story.getId(), family.getId(), other.getId(), LocalDateTime.now()));
+        notificationService.notifyHeart(new HeartToggled(story.getId(), family.getId(), other.getId(), true, LocalDateTime.now()));
+
+        //when
+        notificationService.readAllNotifications();
+        notificationService.notifyComment(new CommentAdded(UUID.randomUUID(), story.getId(), family.getId(), other.getId(), LocalDateTime.now()));
+        NotificationGroupResponse response = notificationService.findNotifications(PageRequest.of(0, 20), null, null);
+
+        //then
+        assertThat(response.getUnreadCount()).isEqualTo(1);
+        assertThat(response.getNotifications()).hasSize(3);
+        assertThat(response.getNotifications().get(0).getReadAt()).isNull();
+        assertThat(response.getNotifications().subList(1, 3)).allMatch(notification -> notification.getReadAt() != null);
+    }
+}
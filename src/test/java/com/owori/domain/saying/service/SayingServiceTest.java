@@ -11,19 +11,24 @@ import com.owori.domain.member.service.AuthService;
 import com.owori.domain.saying.dto.request.AddSayingRequest;
 import com.owori.domain.saying.dto.request.UpdateSayingRequest;
 import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.saying.dto.response.SayingHistoryGroupResponse;
+import com.owori.domain.saying.dto.response.SayingHistoryResponse;
 import com.owori.domain.saying.dto.response.SayingIdResponse;
 import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.entity.SayingTagMember;
 import com.owori.domain.saying.repository.SayingRepository;
 import com.owori.support.database.DatabaseTest;
 import com.owori.support.database.LoginTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 
 import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -73,6 +78,27 @@ class SayingServiceTest extends LoginTest {
         newSaying.ifPresent(saying -> assertThat(saying.getContent()).isEqualTo(content));
     }
 
+    @Test
+    @DisplayName("서로에게 한마디 수정시 바뀐 태그만 반영되는가")
+    void updateSayingTagMembers() {
+        // given
+        Member kept = memberRepository.save(Member.builder().oAuth2Info(new OAuth2Info("223344", AuthProvider.APPLE)).build());
+        Member removed = memberRepository.save(Member.builder().oAuth2Info(new OAuth2Info("223345", AuthProvider.APPLE)).build());
+        Member added = memberRepository.save(Member.builder().oAuth2Info(new OAuth2Info("223346", AuthProvider.APPLE)).build());
+        Saying saying = sayingRepository.save(new Saying("오늘 집에 안들어가요", authService.getLoginUser(), List.of(kept, removed)));
+        UUID keptTagId = saying.getTagMembers().get(0).getId();
+
+        // when
+        sayingService.updateSaying(new UpdateSayingRequest(saying.getId(), "오늘 집에 일찍 가요", List.of(kept.getId(), added.getId())));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        List<SayingTagMember> tagMembers = sayingRepository.findAllTagMembersBySayings(List.of(sayingRepository.findById(saying.getId()).orElseThrow()));
+        assertThat(tagMembers.stream().map(tagMember -> tagMember.getMember().getId())).containsExactlyInAnyOrder(kept.getId(), added.getId());
+        assertThat(tagMembers.stream().map(SayingTagMember::getId)).contains(keptTagId);
+    }
+
     @Test
     @DisplayName("서로에게 한마디 삭제가 수행되는가")
     void deleteSaying() {
@@ -134,4 +160,53 @@ class SayingServiceTest extends LoginTest {
         // then
         assertThat(saying).isEqualTo(result);
     }
+
+    @Test
+    @DisplayName("이전 서로에게 한마디까지 최신순 페이지 단위 조회가 수행되는가")
+    void findSayingHistoryByMember() {
+        // given
+        UUID first = sayingService.addSaying(new AddSayingRequest("오늘 집에 안 들어가요", List.of())).getSayingId();
+        UUID second = sayingService.addSaying(new AddSayingRequest("오늘 일찍 들어가요", List.of())).getSayingId();
+        UUID third = sayingService.addSaying(new AddSayingRequest("밥 먹고 들어가요", List.of())).getSayingId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        SayingHistoryGroupResponse firstPage = sayingService.findSayingHistoryByMember(loginUser.getId(), PageRequest.of(0, 2), null, null);
+        SayingHistoryResponse last = firstPage.getSayings().get(1);
+        SayingHistoryGroupResponse secondPage = sayingService.findSayingHistoryByMember(loginUser.getId(), PageRequest.of(0, 2), last.getCreatedAt(), last.getSayingId());
+
+        // then
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(secondPage.getHasNext()).isFalse();
+        assertThat(Stream.concat(firstPage.getSayings().stream(), secondPage.getSayings().stream()).map(SayingHistoryResponse::getSayingId))
+                .containsExactlyInAnyOrder(first, second, third);
+        assertThat(sayingRepository.findByMemberAndModifiable(loginUser, Boolean.TRUE).orElseThrow().getId()).isEqualTo(third);
+    }
+
+    @Test
+    @DisplayName("가족의 이전 서로에게 한마디 조회가 작성 당시 가족 기준으로 수행되는가")
+    void findSayingHistoryByFamily() {
+        // given
+        String code = familyService.saveFamily(new FamilyRequest("오월이 가족")).getInviteCode();
+        Family family = familyRepository.findByInviteCode(code).orElseThrow();
+        Member left = memberRepository.save(Member.builder().oAuth2Info(new OAuth2Info("334455", AuthProvider.APPLE)).build());
+        family.addMember(left);
+
+        UUID mine = sayingService.addSaying(new AddSayingRequest("오늘 집에 안 들어가요", List.of())).getSayingId();
+        Saying leftSaying = sayingRepository.save(new Saying("오늘 일찍 들어가요", left, List.of()));
+
+        // 다른 가족으로 옮겨간 구성원이 옮긴 뒤에 작성한 서로에게 한마디
+        familyRepository.save(Family.builder().familyGroupName("다른 가족").member(left).code("ABCDEFGHJK").build());
+        sayingRepository.save(new Saying("밥 먹고 들어가요", left, List.of()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        SayingHistoryGroupResponse response = sayingService.findSayingHistoryByFamily(PageRequest.of(0, 10), null, null);
+
+        // then
+        assertThat(response.getSayings().stream().map(SayingHistoryResponse::getSayingId))
+                .containsExactlyInAnyOrder(mine, leftSaying.getId());
+    }
 }
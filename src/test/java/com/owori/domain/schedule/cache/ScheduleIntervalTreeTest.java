@@ -0,0 +1,92 @@
+package com.owori.domain.schedule.cache;
+
+import com.owori.domain.schedule.entity.ScheduleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScheduleIntervalTree 의")
+class ScheduleIntervalTreeTest {
+
+    @Test
+    @DisplayName("기간과 겹치는 일정 조회가 시작일 순으로 수행되는가")
+    void findOverlapping() {
+        // given
+        ScheduleIntervalTree tree = new ScheduleIntervalTree();
+        ScheduleSummary wholeMonth = summary("2023-06-20", "2023-08-10", false);
+        ScheduleSummary endsInMonth = summary("2023-06-22", "2023-07-01", false);
+        ScheduleSummary inMonth = summary("2023-07-11", "2023-07-11", false);
+        ScheduleSummary startsInMonth = summary("2023-07-31", "2023-08-02", false);
+        List.of(startsInMonth, summary("2023-06-22", "2023-06-30", false), inMonth, wholeMonth,
+                summary("2023-08-01", "2023-08-10", false), endsInMonth).forEach(tree::put);
+
+        // when
+        List<ScheduleSummary> result = tree.findOverlapping(LocalDate.parse("2023-07-01"), LocalDate.parse("2023-07-31"));
+
+        // then
+        assertThat(result).containsExactly(wholeMonth, endsInMonth, inMonth, startsInMonth);
+    }
+
+    @Test
+    @DisplayName("일정 수정과 삭제가 트리에 반영되는가")
+    void putAndRemove() {
+        // given
+        ScheduleIntervalTree tree = new ScheduleIntervalTree();
+        ScheduleSummary schedule = summary("2023-07-10", "2023-07-12", true);
+        ScheduleSummary other = summary("2023-07-20", "2023-07-21", true);
+        tree.put(schedule);
+        tree.put(other);
+
+        // when
+        ScheduleSummary moved = ScheduleSummary.builder()
+                .scheduleId(schedule.getScheduleId())
+                .startDate(LocalDate.parse("2023-08-10"))
+                .endDate(LocalDate.parse("2023-08-12"))
+                .scheduleType(ScheduleType.FAMILY)
+                .dDayOption(true)
+                .createdAt(schedule.getCreatedAt())
+                .build();
+        tree.put(moved);
+        tree.remove(other.getScheduleId());
+
+        // then
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.findOverlapping(LocalDate.parse("2023-07-01"), LocalDate.parse("2023-07-31"))).isEmpty();
+        assertThat(tree.findDDayFrom(LocalDate.parse("2023-07-01"))).containsExactly(moved);
+    }
+
+    @Test
+    @DisplayName("디데이 옵션이 켜진 이후 일정만 조회되는가")
+    void findDDayFrom() {
+        // given
+        ScheduleIntervalTree tree = new ScheduleIntervalTree();
+        ScheduleSummary today = summary("2023-07-15", "2023-07-15", true);
+        ScheduleSummary later = summary("2023-08-01", "2023-08-03", true);
+        List.of(later, summary("2023-07-10", "2023-07-20", true), summary("2023-07-20", "2023-07-21", false), today).forEach(tree::put);
+
+        // when
+        List<ScheduleSummary> result = tree.findDDayFrom(LocalDate.parse("2023-07-15"));
+
+        // then
+        assertThat(result).containsExactly(today, later);
+    }
+
+    private ScheduleSummary summary(String startDate, String endDate, boolean dDayOption) {
+        return ScheduleSummary.builder()
+                .scheduleId(UUID.randomUUID())
+                .title("일정")
+                .startDate(LocalDate.parse(startDate))
+                .endDate(LocalDate.parse(endDate))
+                .scheduleType(ScheduleType.FAMILY)
+                .dDayOption(dDayOption)
+                .alarmList(List.of())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.owori.domain.schedule.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.owori.domain.schedule.entity.Alarm.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AlarmOptionsConverter 의")
+class AlarmOptionsConverterTest {
+    private final AlarmOptionsConverter converter = new AlarmOptionsConverter();
+
+    @Test
+    @DisplayName("알람 옵션이 비트마스크로 변환되고 다시 복원되는가")
+    void convert() {
+        // given
+        EnumSet<Alarm> alarms = EnumSet.of(TODAY, A_WEEK_AGO);
+
+        // when
+        Integer mask = converter.convertToDatabaseColumn(alarms);
+
+        // then
+        assertThat(mask).isEqualTo(0b101);
+        assertThat(converter.convertToEntityAttribute(mask)).containsExactly(TODAY, A_WEEK_AGO);
+    }
+
+    @Test
+    @DisplayName("비어 있거나 중복된 알람 옵션이 처리되는가")
+    void convertEmptyAndDuplicated() {
+        // given
+        List<Alarm> duplicated = List.of(A_DAY_AGO, A_DAY_AGO);
+
+        // when
+        int mask = AlarmOptionsConverter.toMask(duplicated);
+
+        // then
+        assertThat(mask).isEqualTo(0b010);
+        assertThat(AlarmOptionsConverter.toSet(null)).isEmpty();
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+        assertThat(converter.convertToDatabaseColumn(EnumSet.noneOf(Alarm.class))).isZero();
+    }
+}
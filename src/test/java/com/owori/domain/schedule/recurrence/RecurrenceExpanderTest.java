@@ -0,0 +1,108 @@
+package com.owori.domain.schedule.recurrence;
+
+import com.owori.domain.schedule.cache.ScheduleSummary;
+import com.owori.domain.schedule.entity.Recurrence;
+import com.owori.domain.schedule.entity.RecurrenceFrequency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecurrenceExpander 의")
+class RecurrenceExpanderTest {
+
+    @Test
+    @DisplayName("매년 반복하는 일정이 조회 기간 안의 회차로만 펼쳐지는가")
+    void expandYearly() {
+        // given
+        ScheduleSummary birthday = series("2000-07-31", "2000-08-01", RecurrenceFrequency.YEARLY, null, null, List.of());
+
+        // when
+        List<Occurrence> result = RecurrenceExpander.expand(birthday, LocalDate.parse("2023-08-01"), LocalDate.parse("2023-08-31"));
+
+        // then
+        assertThat(result).extracting(Occurrence::getStartDate).containsExactly(LocalDate.parse("2023-07-31"));
+        assertThat(result.get(0).getEndDate()).isEqualTo(LocalDate.parse("2023-08-01"));
+    }
+
+    @Test
+    @DisplayName("매월 반복하는 일정이 월말 날짜를 보정하고 횟수 제한을 지키는가")
+    void expandMonthlyWithCount() {
+        // given
+        ScheduleSummary monthEnd = series("2023-01-31", "2023-01-31", RecurrenceFrequency.MONTHLY, null, 3, List.of());
+
+        // when
+        List<Occurrence> result = RecurrenceExpander.expand(monthEnd, LocalDate.parse("2023-01-01"), LocalDate.parse("2023-12-31"));
+
+        // then
+        assertThat(result).extracting(Occurrence::getStartDate)
+                .containsExactly(LocalDate.parse("2023-01-31"), LocalDate.parse("2023-02-28"), LocalDate.parse("2023-03-31"));
+    }
+
+    @Test
+    @DisplayName("종료일 이후의 회차는 펼쳐지지 않는가")
+    void expandWeeklyUntil() {
+        // given
+        ScheduleSummary weekly = series("2023-07-03", "2023-07-03", RecurrenceFrequency.WEEKLY, LocalDate.parse("2023-07-20"), null, List.of());
+
+        // when
+        List<Occurrence> result = RecurrenceExpander.expand(weekly, LocalDate.parse("2023-07-01"), LocalDate.parse("2023-07-31"));
+
+        // then
+        assertThat(result).extracting(Occurrence::getStartDate)
+                .containsExactly(LocalDate.parse("2023-07-03"), LocalDate.parse("2023-07-10"), LocalDate.parse("2023-07-17"));
+    }
+
+    @Test
+    @DisplayName("취소한 회차는 빠지고 옮긴 회차는 옮긴 날짜로 펼쳐지는가")
+    void expandWithOverrides() {
+        // given
+        List<OccurrenceOverride> overrides = List.of(
+                new OccurrenceOverride(LocalDate.parse("2023-07-10"), true, null, null, null),
+                new OccurrenceOverride(LocalDate.parse("2023-07-17"), false, "장소 변경", LocalDate.parse("2023-07-19"), null));
+        ScheduleSummary weekly = series("2023-07-03", "2023-07-03", RecurrenceFrequency.WEEKLY, null, null, overrides);
+
+        // when
+        List<Occurrence> result = RecurrenceExpander.expand(weekly, LocalDate.parse("2023-07-01"), LocalDate.parse("2023-07-31"));
+
+        // then
+        assertThat(result).extracting(Occurrence::getStartDate).containsExactly(
+                LocalDate.parse("2023-07-03"), LocalDate.parse("2023-07-19"), LocalDate.parse("2023-07-24"), LocalDate.parse("2023-07-31"));
+        assertThat(result.get(1).getTitle()).isEqualTo("장소 변경");
+        assertThat(result.get(1).getOriginalDate()).isEqualTo(LocalDate.parse("2023-07-17"));
+    }
+
+    @Test
+    @DisplayName("기준일 이후 가장 가까운 회차를 찾는가")
+    void findFirstStartingFrom() {
+        // given
+        List<OccurrenceOverride> overrides = List.of(new OccurrenceOverride(LocalDate.parse("2024-07-31"), true, null, null, null));
+        ScheduleSummary anniversary = series("2020-07-31", "2020-07-31", RecurrenceFrequency.YEARLY, null, null, overrides);
+
+        // when
+        Occurrence result = RecurrenceExpander.findFirstStartingFrom(anniversary, LocalDate.parse("2024-01-01")).orElseThrow();
+
+        // then
+        assertThat(result.getStartDate()).isEqualTo(LocalDate.parse("2025-07-31"));
+        assertThat(RecurrenceExpander.isOccurrence(anniversary, LocalDate.parse("2024-07-31"))).isTrue();
+        assertThat(RecurrenceExpander.isOccurrence(anniversary, LocalDate.parse("2024-07-30"))).isFalse();
+    }
+
+    private ScheduleSummary series(String startDate, String endDate, RecurrenceFrequency frequency, LocalDate until, Integer count, List<OccurrenceOverride> overrides) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        return ScheduleSummary.builder()
+                .scheduleId(UUID.randomUUID())
+                .title("반복 일정")
+                .startDate(start)
+                .endDate(end)
+                .dDayOption(true)
+                .recurrence(Recurrence.of(frequency, until, count, start, end))
+                .overrides(overrides)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.owori.domain.schedule.service;
+
+import com.owori.domain.schedule.dto.response.ScheduleImportResponse;
+import com.owori.domain.schedule.dto.response.ScheduleImportResult;
+import com.owori.domain.schedule.entity.RecurrenceFrequency;
+import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.repository.ScheduleRepository;
+import com.owori.support.database.DatabaseTest;
+import com.owori.support.database.LoginTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DatabaseTest
+@DisplayName("ScheduleImport 서비스의")
+class ScheduleImportServiceTest extends LoginTest {
+    @Autowired private ScheduleImportService scheduleImportService;
+    @Autowired private ScheduleRepository scheduleRepository;
+
+    @Test
+    @DisplayName("JSON 배열 가져오기가 잘못된 건만 빼고 수행되는가")
+    void importJson() throws IOException {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        String body = "[" + row("가족 여행", startDate, "FAMILY") + ","
+                + row("", startDate, "FAMILY") + ","
+                + "null,"
+                + row("친구 생일", startDate.plusDays(3), "INDIVIDUAL") + "]";
+
+        // when
+        ScheduleImportResponse response = scheduleImportService.importJson(toStream(body));
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(4);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(ScheduleImportResult::isSuccess).containsExactly(true, false, false, true);
+
+        Schedule saved = scheduleRepository.findById(response.getResults().get(3).getScheduleId()).orElseThrow();
+        assertThat(saved.getTitle()).isEqualTo("친구 생일");
+        assertThat(saved.getMember().getId()).isEqualTo(loginUser.getId());
+    }
+
+    @Test
+    @DisplayName("값을 읽지 못한 건이 나오면 그 건까지만 결과에 담고 가져오기를 멈추는가")
+    void importJsonStopsOnUnreadableRow() throws IOException {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        String body = "[" + row("가족 여행", startDate, "FAMILY") + ","
+                + row("코딩 테스트", startDate, "WRONG_TYPE") + ","
+                + row("친구 생일", startDate.plusDays(3), "INDIVIDUAL") + "]";
+
+        // when
+        ScheduleImportResponse response = scheduleImportService.importJson(toStream(body));
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(ScheduleImportResult::isSuccess).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("가져올 수 있는 건수를 넘으면 제한까지만 세고 멈추는가")
+    void importJsonOverLimit() throws IOException {
+        // given
+        ReflectionTestUtils.setField(scheduleImportService, "maxRows", 2);
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        String body = IntStream.range(0, 3)
+                .mapToObj(i -> row("일정 " + i, startDate.plusDays(i), "FAMILY"))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // when
+        ScheduleImportResponse response;
+        try {
+            response = scheduleImportService.importJson(toStream(body));
+        } finally {
+            ReflectionTestUtils.setField(scheduleImportService, "maxRows", 1000);
+        }
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(ScheduleImportResult::isSuccess).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("여러 묶음으로 나누어 저장해도 모든 건이 저장되는가")
+    void importJsonInChunks() throws IOException {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        String body = IntStream.range(0, 250)
+                .mapToObj(i -> row("일정 " + i, startDate.plusDays(i), "FAMILY"))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // when
+        ScheduleImportResponse response = scheduleImportService.importJson(toStream(body));
+
+        // then
+        assertThat(response.getImportedCount()).isEqualTo(250);
+        assertThat(response.getResults()).extracting(ScheduleImportResult::getRow).isSorted();
+        assertThat(scheduleRepository.findById(response.getResults().get(249).getScheduleId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("ICS 파일 가져오기에서 지난 반복 일정은 다가올 회차부터 저장되는가")
+    void importIcs() throws IOException {
+        // given
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "VERSION:2.0",
+                "BEGIN:VEVENT",
+                "UID:birthday@example.com",
+                "DTSTART;VALUE=DATE:19900515",
+                "DTEND;VALUE=DATE:19900516",
+                "SUMMARY:엄마 생신",
+                "RRULE:FREQ=YEARLY",
+                "BEGIN:VALARM",
+                "TRIGGER:-P1D",
+                "SUMMARY:알람",
+                "END:VALARM",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20300101",
+                "SUMMARY:격주 모임",
+                "RRULE:FREQ=WEEKLY;INTERVAL=2",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        // when
+        ScheduleImportResponse response = scheduleImportService.importIcs(toStream(ics), ScheduleType.FAMILY);
+
+        // then
+        assertThat(response.getResults()).extracting(ScheduleImportResult::isSuccess).containsExactly(true, false);
+
+        Schedule birthday = scheduleRepository.findById(response.getResults().get(0).getScheduleId()).orElseThrow();
+        assertThat(birthday.getTitle()).isEqualTo("엄마 생신");
+        assertThat(birthday.getEndDate()).isEqualTo(birthday.getStartDate());
+        assertThat(birthday.getStartDate()).isAfterOrEqualTo(LocalDate.now());
+        assertThat(birthday.getStartDate().getMonthValue()).isEqualTo(5);
+        assertThat(birthday.getRecurrence().getFrequency()).isEqualTo(RecurrenceFrequency.YEARLY);
+    }
+
+    private String row(String title, LocalDate startDate, String scheduleType) {
+        return "{\"title\":\"" + title + "\",\"start_date\":\"" + startDate + "\",\"end_date\":\"" + startDate
+                + "\",\"schedule_type\":\"" + scheduleType + "\",\"dday_option\":false,\"alarm_options\":[]}";
+    }
+
+    private ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -8,13 +8,16 @@ import com.owori.domain.member.entity.AuthProvider;
 import com.owori.domain.member.entity.Member;
 import com.owori.domain.member.entity.OAuth2Info;
 import com.owori.domain.member.service.AuthService;
+import com.owori.domain.schedule.alarm.AlarmNotification;
 import com.owori.domain.schedule.dto.request.AddScheduleRequest;
 import com.owori.domain.schedule.dto.request.UpdateScheduleRequest;
 import com.owori.domain.schedule.dto.response.ScheduleByMonthResponse;
 import com.owori.domain.schedule.dto.response.ScheduleDDayResponse;
 import com.owori.domain.schedule.dto.response.ScheduleIdResponse;
 import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.entity.ScheduleAlarm;
 import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.repository.ScheduleAlarmRepository;
 import com.owori.domain.schedule.repository.ScheduleRepository;
 import com.owori.support.database.DatabaseTest;
 import com.owori.support.database.LoginTest;
@@ -22,7 +25,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,12 +46,15 @@ public class ScheduleServiceTest extends LoginTest {
     @Autowired private FamilyService familyService;
     @Autowired private FamilyRepository familyRepository;
     @Autowired private AuthService authService;
+    @Autowired private ScheduleAlarmRepository scheduleAlarmRepository;
+    @Autowired private ScheduleAlarmService scheduleAlarmService;
+    @Autowired private EntityManager em;
 
     @Test
     @DisplayName("일정 생성이 수행되는가")
     void addSchedule() {
         // given
-        AddScheduleRequest request = new AddScheduleRequest("가족 여행", LocalDate.parse("2023-07-31"), LocalDate.parse("2023-08-02"), ScheduleType.FAMILY, true, List.of(TODAY, A_DAY_AGO));
+        AddScheduleRequest request = new AddScheduleRequest("가족 여행", LocalDate.parse("2023-07-31"), LocalDate.parse("2023-08-02"), ScheduleType.FAMILY, true, List.of(TODAY, A_DAY_AGO), null);
 
         // when
         UUID uuid = scheduleService.addSchedule(request).getScheduleId();
@@ -64,7 +72,7 @@ public class ScheduleServiceTest extends LoginTest {
         // given
         String title = "가족 여행";
         Schedule oldSchedule = scheduleRepository.save(new Schedule("가족 여", LocalDate.parse("2023-07-30"), LocalDate.parse("2023-08-02"), ScheduleType.FAMILY,false, List.of(TODAY, A_DAY_AGO), authService.getLoginUser()));
-        UpdateScheduleRequest request = new UpdateScheduleRequest(oldSchedule.getId(), title, LocalDate.parse("2023-07-31"), LocalDate.parse("2023-08-02"), true, List.of(TODAY, A_DAY_AGO));
+        UpdateScheduleRequest request = new UpdateScheduleRequest(oldSchedule.getId(), title, LocalDate.parse("2023-07-31"), LocalDate.parse("2023-08-02"), true, List.of(TODAY, A_DAY_AGO), null);
 
         // when
         ScheduleIdResponse response = scheduleService.updateSchedule(request);
@@ -77,6 +85,76 @@ public class ScheduleServiceTest extends LoginTest {
         });
     }
 
+    @Test
+    @DisplayName("일정 생성과 수정 시 알람 발송 시각이 계산되는가")
+    void registerScheduleAlarms() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(10);
+        AddScheduleRequest request = new AddScheduleRequest("가족 여행", startDate, startDate.plusDays(2), ScheduleType.FAMILY, true, List.of(TODAY, A_DAY_AGO, A_WEEK_AGO), null);
+        UUID uuid = scheduleService.addSchedule(request).getScheduleId();
+        Schedule schedule = scheduleRepository.findById(uuid).orElseThrow();
+
+        // when
+        List<ScheduleAlarm> added = scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule);
+        scheduleService.updateSchedule(new UpdateScheduleRequest(uuid, "가족 여행", startDate, startDate.plusDays(2), true, List.of(TODAY), null));
+        List<ScheduleAlarm> updated = scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule);
+
+        // then
+        assertThat(added.stream().map(ScheduleAlarm::getFireAt).map(LocalDateTime::toLocalDate).toList())
+                .containsExactlyInAnyOrder(startDate, startDate.minusDays(1), startDate.minusDays(7));
+        assertThat(updated).hasSize(1);
+        assertThat(updated.get(0).getAlarm()).isEqualTo(TODAY);
+    }
+
+    @Test
+    @DisplayName("선점한 알람은 발송 완료 전까지 대기 상태로 남고 다시 선점되지 않는가")
+    void claimAndCompleteScheduleAlarms() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(10);
+        AddScheduleRequest request = new AddScheduleRequest("가족 여행", startDate, startDate.plusDays(2), ScheduleType.FAMILY, true, List.of(TODAY), null);
+        Schedule schedule = scheduleRepository.findById(scheduleService.addSchedule(request).getScheduleId()).orElseThrow();
+        List<UUID> alarmIds = scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule).stream().map(ScheduleAlarm::getId).toList();
+        UUID dispatchToken = UUID.randomUUID();
+
+        // when
+        int claimed = scheduleAlarmService.claim(alarmIds, dispatchToken).size();
+        int claimedAgain = scheduleAlarmService.claim(alarmIds, UUID.randomUUID()).size();
+        int pendingBeforeComplete = scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule).size();
+        scheduleAlarmService.complete(dispatchToken);
+        int pendingAfterComplete = scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule).size();
+
+        // then
+        assertThat(claimed).isEqualTo(1);
+        assertThat(claimedAgain).isZero();
+        assertThat(pendingBeforeComplete).isEqualTo(1);
+        assertThat(pendingAfterComplete).isZero();
+    }
+
+    @Test
+    @DisplayName("선점한 뒤 취소된 알람은 발송 대상에서 빠지고 발송 완료로 표시되지 않는가")
+    void cancelClaimedScheduleAlarm() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(10);
+        AddScheduleRequest request = new AddScheduleRequest("가족 여행", startDate, startDate.plusDays(2), ScheduleType.FAMILY, true, List.of(TODAY), null);
+        Schedule schedule = scheduleRepository.findById(scheduleService.addSchedule(request).getScheduleId()).orElseThrow();
+        List<UUID> alarmIds = scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule).stream().map(ScheduleAlarm::getId).toList();
+        UUID dispatchToken = UUID.randomUUID();
+        List<AlarmNotification> claimed = scheduleAlarmService.claim(alarmIds, dispatchToken);
+        // 선점과 취소는 서로 다른 트랜잭션에서 일어나므로 선점 결과를 다시 읽게 한다
+        em.flush();
+        em.clear();
+
+        // when
+        scheduleService.deleteSchedule(schedule.getId());
+        List<AlarmNotification> notifications = scheduleAlarmService.excludeCancelled(dispatchToken, claimed);
+        long dispatched = scheduleAlarmRepository.markDispatched(dispatchToken, LocalDateTime.now());
+
+        // then
+        assertThat(claimed).hasSize(1);
+        assertThat(notifications).isEmpty();
+        assertThat(dispatched).isZero();
+    }
+
     @Test
     @DisplayName("일정 삭제가 수행되는가")
     void deleteSchedule() {
@@ -129,6 +207,35 @@ public class ScheduleServiceTest extends LoginTest {
         assertThat(responses.stream().map(ScheduleByMonthResponse::getScheduleId).toList()).isEqualTo(List.of(schedule2.getId(), schedule4.getId(), schedule5.getId()));
     }
 
+    @Test
+    @DisplayName("월 전체에 걸친 일정도 월별 일정 조회에 포함되는가")
+    void findScheduleByMonthSpanningWholeMonth() {
+        // given
+        String month = "2023-07";
+
+        // 가족 생성
+        String code = familyService.saveFamily(new FamilyRequest("오월이 가족")).getInviteCode();
+        Member member1 = memberRepository.save(Member.builder().oAuth2Info(new OAuth2Info("123123", AuthProvider.APPLE)).build());
+
+        // 가족에 멤버 추가
+        Optional<Family> family = familyRepository.findByInviteCode(code);
+        if(family.isPresent()) {
+            family.get().addMember(member1);
+            family.get().addMember(authService.getLoginUser());
+        }
+
+        // 일정 생성
+        Schedule schedule1 = scheduleRepository.save(new Schedule("해외 출장", LocalDate.parse("2023-06-20"), LocalDate.parse("2023-08-10"), ScheduleType.INDIVIDUAL, false, List.of(TODAY), member1));
+        Schedule schedule2 = scheduleRepository.save(new Schedule("여름 방학", LocalDate.parse("2023-06-30"), LocalDate.parse("2023-07-01"), ScheduleType.FAMILY, false, List.of(), authService.getLoginUser()));
+        scheduleRepository.save(new Schedule("가족 모임", LocalDate.parse("2023-08-01"), LocalDate.parse("2023-08-02"), ScheduleType.FAMILY, false, List.of(), authService.getLoginUser()));
+
+        // when
+        List<ScheduleByMonthResponse> responses = scheduleService.findScheduleByMonth(month);
+
+        // then
+        assertThat(responses.stream().map(ScheduleByMonthResponse::getScheduleId).toList()).isEqualTo(List.of(schedule1.getId(), schedule2.getId()));
+    }
+
     @Test
     @DisplayName("가족별 디데이 일정 조회가 수행되는가")
     void findDDayByFamily() {
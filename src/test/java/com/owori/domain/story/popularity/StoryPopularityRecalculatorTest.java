@@ -0,0 +1,60 @@
+package com.owori.domain.story.popularity;
+
+import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.comment.repository.CommentRepository;
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.heart.entity.Heart;
+import com.owori.domain.heart.repository.HeartRepository;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.support.database.DatabaseTest;
+import com.owori.support.database.LoginTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DatabaseTest
+@DisplayName("StoryPopularityRecalculator 의")
+class StoryPopularityRecalculatorTest extends LoginTest {
+    @Autowired private StoryPopularityRecalculator storyPopularityRecalculator;
+    @Autowired private PopularityDecay popularityDecay;
+    @Autowired private FamilyRepository familyRepository;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private HeartRepository heartRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private EntityManager em;
+
+    @Test
+    @DisplayName("남아 있는 좋아요와 댓글로 점수를 다시 계산하는가")
+    void recalculateAll() {
+        //given
+        familyRepository.save(Family.builder().familyGroupName("오월이 가족").member(loginUser).build());
+        Story story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+        Story quiet = storyRepository.save(new Story("제목", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), loginUser));
+        heartRepository.save(new Heart(loginUser, story));
+        commentRepository.save(new Comment(loginUser, story, null, "댓글"));
+        // 취소된 좋아요가 두 번 더해진 상태
+        storyRepository.addPopularityScore(story.getId(), popularityDecay.heart(LocalDateTime.now()));
+        storyRepository.addPopularityScore(story.getId(), popularityDecay.heart(LocalDateTime.now()));
+        em.clear();
+
+        //when
+        int corrected = storyPopularityRecalculator.recalculateAll();
+        em.clear();
+
+        //then
+        LocalDateTime now = LocalDateTime.now();
+        double expected = PopularityDecay.add(PopularityDecay.add(0, popularityDecay.heart(now)), popularityDecay.comment(now));
+        assertThat(corrected).isEqualTo(1);
+        assertThat(storyRepository.findById(story.getId()).orElseThrow().getPopularityScore()).isCloseTo(expected, within(1e-3));
+        assertThat(storyRepository.findById(quiet.getId()).orElseThrow().getPopularityScore()).isZero();
+    }
+}
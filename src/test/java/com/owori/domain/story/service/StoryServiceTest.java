@@ -80,7 +80,7 @@ public class StoryServiceTest extends LoginTest {
         heartRepository.save(new Heart(member, story));
 
         //when
-        FindAllStoryGroupResponse response = storyService.findAllStory(PageRequest.of(0, 4, Sort.by("created_at")), null);
+        FindAllStoryGroupResponse response = storyService.findAllStory(PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
 
         //then
         assertThat(response.getStories().get(0).getTitle()).isEqualTo(title);
@@ -107,7 +107,7 @@ public class StoryServiceTest extends LoginTest {
         image.updateStory(story);
 
         //when
-        FindAllStoryGroupResponse response = storyService.findAllStory(PageRequest.of(0, 4, Sort.by("start_date")), null);
+        FindAllStoryGroupResponse response = storyService.findAllStory(PageRequest.of(0, 4, Sort.by("start_date")), null, null, null);
 
         //then
         assertThat(response.getStories().get(0).getTitle()).isEqualTo("기다리고 기다리던 하루");
@@ -117,6 +117,33 @@ public class StoryServiceTest extends LoginTest {
         assertThat(response.getStories().get(0).getImage()).isEqualTo("a.png");
     }
 
+    @Test
+    @DisplayName("인기순 이야기 전체 조회가 수행되고 마지막 이야기의 점수와 id 로 이어서 조회되는가")
+    void findAllStoryByPopularity() {
+        //given
+        Member member = authService.getLoginUser();
+        Family family = new Family("우리집", member, "code");
+        Story story = new Story("기다리고 기다리던 하루", "내용", LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), member);
+        Story story2 = new Story("제목2", "내용2", LocalDate.parse("2015-12-25"), LocalDate.parse("2015-12-30"), member);
+
+        familyRepository.save(family);
+        storyRepository.save(story);
+        storyRepository.save(story2);
+        storyRepository.addPopularityScore(story2.getId(), 10.0);
+        em.refresh(story2);
+
+        //when
+        FindAllStoryGroupResponse first = storyService.findAllStory(PageRequest.of(0, 1, Sort.by("popular")), null, null, null);
+        FindAllStoryGroupResponse next = storyService.findAllStory(PageRequest.of(0, 1, Sort.by("popular")), null, story2.getId(),
+                first.getStories().get(0).getPopularityScore());
+
+        //then
+        assertThat(first.getStories().get(0).getStoryId()).isEqualTo(story2.getId());
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(next.getStories().get(0).getStoryId()).isEqualTo(story.getId());
+        assertThat(next.getHasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("이야기 상세 조회가 제대로 수행되는가")
     void findStory() {
@@ -204,7 +231,7 @@ public class StoryServiceTest extends LoginTest {
         storyRepository.save(story3);
 
         //when
-        FindAllStoryGroupResponse response = storyService.findStoryBySearch("기다리", PageRequest.of(0, 4, Sort.by("created_at")), null);
+        FindAllStoryGroupResponse response = storyService.findStoryBySearch("기다리", PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
 
         //then
         assertThat(response.getStories()).hasSize(2);
@@ -226,7 +253,7 @@ public class StoryServiceTest extends LoginTest {
         storyRepository.save(story3);
 
         //when
-        FindAllStoryGroupResponse response = storyService.findStoryByWriter( PageRequest.of(0, 4, Sort.by("created_at")), null);
+        FindAllStoryGroupResponse response = storyService.findStoryByWriter( PageRequest.of(0, 4, Sort.by("created_at")), null, null, null);
 
         //then
         assertThat(response.getStories()).hasSize(1);
@@ -250,7 +277,7 @@ public class StoryServiceTest extends LoginTest {
         heartRepository.save(new Heart(member, story2));
 
         //when
-        FindAllStoryGroupResponse response = storyService.findStoryByHeart( PageRequest.of(0, 4, Sort.by("start_date")), null);
+        FindAllStoryGroupResponse response = storyService.findStoryByHeart( PageRequest.of(0, 4, Sort.by("start_date")), null, null, null);
 
         //then
         assertThat(response.getStories()).hasSize(1);
@@ -0,0 +1,88 @@
+package com.owori.domain.sync.service;
+
+import com.owori.domain.family.change.ChangeEntityType;
+import com.owori.domain.family.dto.request.FamilyRequest;
+import com.owori.domain.family.service.FamilyService;
+import com.owori.domain.saying.dto.request.AddSayingRequest;
+import com.owori.domain.saying.dto.response.SayingByFamilyResponse;
+import com.owori.domain.saying.service.SayingService;
+import com.owori.domain.sync.dto.response.SyncResponse;
+import com.owori.domain.sync.dto.response.SyncTombstoneResponse;
+import com.owori.support.database.DatabaseTest;
+import com.owori.support.database.LoginTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DatabaseTest
+@DisplayName("Sync 서비스의")
+class SyncServiceTest extends LoginTest {
+    @Autowired private SyncService syncService;
+    @Autowired private SayingService sayingService;
+    @Autowired private FamilyService familyService;
+
+    @Test
+    @DisplayName("마지막으로 받은 순번 이후의 변경만 대상별 마지막 상태로 조회되는가")
+    void sync() {
+        // given
+        familyService.saveFamily(new FamilyRequest("오월이 가족"));
+        UUID kept = sayingService.addSaying(new AddSayingRequest("오늘 집에 안 들어가요", List.of())).getSayingId();
+        UUID removed = sayingService.addSaying(new AddSayingRequest("오늘 늦어요", List.of())).getSayingId();
+        sayingService.deleteSaying(removed);
+
+        // when
+        SyncResponse response = syncService.sync(0L, 100);
+
+        // then
+        assertThat(response.getReset()).isFalse();
+        assertThat(response.getHasNext()).isFalse();
+        assertThat(response.getVersion()).isEqualTo(3L);
+        assertThat(response.getSayings()).extracting(SayingByFamilyResponse::getSayingId).containsExactly(kept);
+        assertThat(response.getDeleted()).extracting(SyncTombstoneResponse::getType, SyncTombstoneResponse::getId)
+                .containsExactly(tuple(ChangeEntityType.SAYING, removed));
+    }
+
+    @Test
+    @DisplayName("변경 기록을 나눠서 조회하고 다음 순번부터 이어서 조회되는가")
+    void syncPage() {
+        // given
+        familyService.saveFamily(new FamilyRequest("오월이 가족"));
+        sayingService.addSaying(new AddSayingRequest("오늘 집에 안 들어가요", List.of()));
+        UUID removed = sayingService.addSaying(new AddSayingRequest("오늘 늦어요", List.of())).getSayingId();
+        sayingService.deleteSaying(removed);
+
+        // when
+        SyncResponse first = syncService.sync(0L, 2);
+        SyncResponse next = syncService.sync(first.getVersion(), 2);
+
+        // then
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(first.getVersion()).isEqualTo(2L);
+        assertThat(next.getHasNext()).isFalse();
+        assertThat(next.getVersion()).isEqualTo(3L);
+        assertThat(next.getSayings()).isEmpty();
+        assertThat(next.getDeleted()).extracting(SyncTombstoneResponse::getId).containsExactly(removed);
+    }
+
+    @Test
+    @DisplayName("이어 받을 수 없는 순번이면 다시 불러오도록 응답하는가")
+    void syncReset() {
+        // given
+        familyService.saveFamily(new FamilyRequest("오월이 가족"));
+        sayingService.addSaying(new AddSayingRequest("오늘 집에 안 들어가요", List.of()));
+
+        // when
+        SyncResponse response = syncService.sync(5L, 100);
+
+        // then
+        assertThat(response.getReset()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(1L);
+        assertThat(response.getSayings()).isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+package com.owori.global.archive;
+
+import com.owori.global.id.TimeOrderedUuidGenerator;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("SoftDeleteArchiver 의")
+class SoftDeleteArchiverTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private JdbcTemplate jdbcTemplate;
+    private SoftDeleteArchiver archiver;
+    private byte[] memberId;
+
+    @BeforeEach
+    void setup() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:archive_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        archiver = new SoftDeleteArchiver(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        ReflectionTestUtils.setField(archiver, "retentionDays", 30L);
+        ReflectionTestUtils.setField(archiver, "batchSize", 2);
+        ReflectionTestUtils.setField(archiver, "batchPauseMillis", 0L);
+
+        memberId = newId();
+        jdbcTemplate.update("insert into member (id, client_id) values (?, '1234')", memberId);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 지운 행만 보관 테이블로 옮겨지는가")
+    void archiveAll() {
+        // given
+        byte[] old1 = keyword(NOW.minusDays(40));
+        byte[] old2 = keyword(NOW.minusDays(35));
+        byte[] old3 = keyword(NOW.minusDays(31));
+        byte[] recent = keyword(NOW.minusDays(1));
+        byte[] live = keyword(null);
+
+        // when
+        int archived = archiver.archiveAll();
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        assertThat(count("keyword")).isEqualTo(2);
+        assertThat(count("keyword_archive")).isEqualTo(3);
+        assertThat(exists("keyword", recent)).isTrue();
+        assertThat(exists("keyword", live)).isTrue();
+        assertThat(exists("keyword_archive", old1)).isTrue();
+        assertThat(exists("keyword_archive", old2)).isTrue();
+        assertThat(exists("keyword_archive", old3)).isTrue();
+        // 한 바퀴를 다 돌았으므로 진행 위치가 비워짐
+        assertThat(jdbcTemplate.queryForObject("select last_id from archive_cursor where table_name = 'keyword'", byte[].class)).isNull();
+    }
+
+    @Test
+    @DisplayName("남아 있는 행이 참조하는 지운 행은 옮기지 않는가")
+    void archiveReferenced() {
+        // given
+        byte[] storyWithLiveComment = story(NOW.minusDays(40));
+        comment(storyWithLiveComment, null);
+        byte[] storyWithDeletedComment = story(NOW.minusDays(40));
+        byte[] deletedComment = comment(storyWithDeletedComment, NOW.minusDays(40));
+
+        // when
+        archiver.archiveAll();
+
+        // then
+        assertThat(exists("story", storyWithLiveComment)).isTrue();
+        assertThat(exists("story_archive", storyWithDeletedComment)).isTrue();
+        assertThat(exists("comment_archive", deletedComment)).isTrue();
+    }
+
+    @Test
+    @DisplayName("중간에 멈춘 뒤 저장된 위치부터 이어서 옮기는가")
+    void resume() {
+        // given
+        byte[] first = keyword(NOW.minusDays(40));
+        byte[] second = keyword(NOW.minusDays(40));
+        byte[] third = keyword(NOW.minusDays(40));
+        // 앞의 두 행을 옮긴 뒤 멈춘 상태
+        jdbcTemplate.update("insert into archive_cursor (table_name, last_id) values ('keyword', ?)", second);
+
+        // when
+        int archived = archiver.archive(ArchiveTable.KEYWORD, NOW.minusDays(30));
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(exists("keyword_archive", third)).isTrue();
+        assertThat(exists("keyword", first)).isTrue();
+        assertThat(archiver.archive(ArchiveTable.KEYWORD, NOW.minusDays(30))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("원본에 옮길 목록에 없는 컬럼이 생기면 옮기지 않고 실패하는가")
+    void archiveWithUnknownColumn() {
+        // given
+        byte[] old = keyword(NOW.minusDays(40));
+        jdbcTemplate.execute("alter table keyword add column source varchar(20)");
+
+        // when, then
+        assertThrows(IllegalStateException.class, () -> archiver.archive(ArchiveTable.KEYWORD, NOW.minusDays(30)));
+        assertThat(exists("keyword", old)).isTrue();
+        assertThat(count("keyword_archive")).isZero();
+    }
+
+    private byte[] keyword(LocalDateTime deletedAt) {
+        byte[] id = newId();
+        jdbcTemplate.update("insert into keyword (id, contents, member_id, created_at, deleted_at) values (?, '하루', ?, ?, ?)",
+                id, memberId, NOW.minusDays(50), deletedAt);
+        return id;
+    }
+
+    private byte[] story(LocalDateTime deletedAt) {
+        byte[] id = newId();
+        jdbcTemplate.update("insert into story (id, title, content, start_date, end_date, member_id, deleted_at) values (?, '제목', '내용', ?, ?, ?, ?)",
+                id, LocalDate.parse("2017-12-25"), LocalDate.parse("2017-12-30"), memberId, deletedAt);
+        return id;
+    }
+
+    private byte[] comment(byte[] storyId, LocalDateTime deletedAt) {
+        byte[] id = newId();
+        jdbcTemplate.update("insert into comment (id, member_id, story_id, content, deleted_at) values (?, ?, ?, '댓글', ?)",
+                id, memberId, storyId, deletedAt);
+        return id;
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private boolean exists(String table, byte[] id) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where id = ?", Integer.class, id) > 0;
+    }
+
+    private byte[] newId() {
+        UUID id = TimeOrderedUuidGenerator.next();
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+}
@@ -0,0 +1,108 @@
+package com.owori.global.cache;
+
+import com.owori.domain.family.change.FamilyVersion;
+import com.owori.domain.family.repository.FamilyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FamilyCache 의")
+class FamilyCacheTest {
+    private final UUID familyId = UUID.randomUUID();
+    private final FamilyRepository familyRepository = mock(FamilyRepository.class);
+    private final CountingCache cache = new CountingCache();
+    private FamilyCacheSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        cache.setFamilyRepository(familyRepository);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        sweeper = new FamilyCacheSweeper(List.of(cache), familyRepository);
+        when(familyRepository.findActivityVersion(familyId)).thenReturn(Optional.of(3L));
+    }
+
+    @Test
+    @DisplayName("다른 서버의 변경으로 순번이 앞서면 가족 값을 비우고 다시 불러오는가")
+    void sweepStaleFamily() {
+        //given
+        cache.get(familyId);
+        when(familyRepository.findActivityVersions(any())).thenReturn(List.of(new FamilyVersion(familyId, 4L)));
+
+        //when
+        sweeper.sweep();
+
+        //then
+        assertThat(cache.getCachedFamilyIds()).isEmpty();
+        cache.get(familyId);
+        assertThat(cache.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이 서버에서 커밋한 변경은 순번을 올려서 가족 값을 유지하는가")
+    void keepAdvancedFamily() {
+        //given
+        cache.get(familyId);
+        when(familyRepository.findActivityVersions(any())).thenReturn(List.of(new FamilyVersion(familyId, 5L)));
+
+        //when
+        sweeper.advance(familyId, 3L, 5L);
+        sweeper.sweep();
+
+        //then
+        assertThat(cache.getCachedFamilyIds()).containsExactly(familyId);
+        cache.get(familyId);
+        assertThat(cache.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 가족 값을 비우는가")
+    void sweepExpiredFamily() {
+        //given
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.get(familyId);
+        when(familyRepository.findActivityVersions(any())).thenReturn(List.of(new FamilyVersion(familyId, 3L)));
+
+        //when
+        sweeper.sweep();
+
+        //then
+        assertThat(cache.getCachedFamilyIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("불러오는 중이 아닌 가족의 변경 순번을 남기지 않는가")
+    void pruneVersions() {
+        //given
+        cache.get(familyId);
+
+        //when
+        cache.remove(familyId);
+        cache.remove(UUID.randomUUID());
+
+        //then
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "versions")).isEmpty();
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "loading")).isEmpty();
+    }
+
+    private static class CountingCache extends FamilyCache<Integer> {
+        private final AtomicInteger loads = new AtomicInteger();
+
+        Integer get(UUID familyId) {
+            return find(familyId, loads::incrementAndGet);
+        }
+
+        @Override
+        protected long capacity() {
+            return 10L;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.owori.global.event;
+
+import com.owori.domain.image.event.ImagesRemoved;
+import com.owori.global.event.outbox.OutboxEvent;
+import com.owori.global.event.outbox.OutboxStatus;
+import com.owori.support.database.DatabaseTest;
+import com.owori.utils.S3ImageComponent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DatabaseTest
+@DisplayName("OutboxDispatcher 의")
+class OutboxDispatcherTest {
+    @Autowired private DomainEventPublisher domainEventPublisher;
+    @Autowired private OutboxDispatcher outboxDispatcher;
+    @Autowired private EntityManager em;
+    @MockBean private S3ImageComponent s3ImageComponent;
+
+    @AfterEach
+    void resetRetry() {
+        ReflectionTestUtils.setField(outboxDispatcher, "retryBaseMillis", 1000L);
+    }
+
+    @Test
+    @DisplayName("저장된 이벤트가 핸들러에 전달되는가")
+    void drain() {
+        //given
+        domainEventPublisher.publish(new ImagesRemoved(UUID.randomUUID(), List.of("https://example.com/story.png")));
+        clear();
+
+        //when
+        int dispatched = outboxDispatcher.drain();
+
+        //then
+        assertThat(dispatched).isEqualTo(1);
+        verify(s3ImageComponent).deleteImages(List.of("https://example.com/story.png"));
+        assertThat(findAll()).extracting(OutboxEvent::getStatus).containsExactly(OutboxStatus.DONE);
+        assertThat(outboxDispatcher.drain()).isZero();
+    }
+
+    @Test
+    @DisplayName("전달에 실패하면 같은 대상의 다음 이벤트를 기다리게 하고 순서대로 다시 전달하는가")
+    void retryInOrder() {
+        //given
+        ReflectionTestUtils.setField(outboxDispatcher, "retryBaseMillis", 0L);
+        UUID storyId = UUID.randomUUID();
+        domainEventPublisher.publish(new ImagesRemoved(storyId, List.of("first")));
+        domainEventPublisher.publish(new ImagesRemoved(storyId, List.of("second")));
+        doThrow(new IllegalStateException("S3 응답 없음")).doNothing().when(s3ImageComponent).deleteImages(any());
+        clear();
+
+        //when
+        int failed = outboxDispatcher.drain();
+        clear();
+        int retried = outboxDispatcher.drain();
+
+        //then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(2);
+        InOrder inOrder = inOrder(s3ImageComponent);
+        inOrder.verify(s3ImageComponent, times(2)).deleteImages(List.of("first"));
+        inOrder.verify(s3ImageComponent).deleteImages(List.of("second"));
+        assertThat(findAll()).extracting(OutboxEvent::getAttempts).containsExactly(1, 0);
+    }
+
+    // 디스패처는 요청과 다른 트랜잭션에서 돌기 때문에 테스트에서도 영속성 컨텍스트를 비워서 맞춘다
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    private List<OutboxEvent> findAll() {
+        clear();
+        return em.createQuery("select o from OutboxEvent o order by o.id", OutboxEvent.class).getResultList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.owori.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("TimeOrderedUuidGenerator 의")
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    @DisplayName("버전 7 형식의 UUID 가 만들어지는가")
+    void next() {
+        // when
+        UUID uuid = TimeOrderedUuidGenerator.next();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isCloseTo(System.currentTimeMillis(), offset(1000L));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 만든 순서대로 증가하는가")
+    void monotonic() {
+        // given
+        List<UUID> uuids = new ArrayList<>();
+
+        // when
+        IntStream.range(0, 100_000).forEach(i -> uuids.add(TimeOrderedUuidGenerator.next()));
+
+        // then
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(), uuids.get(i).getMostSignificantBits())).isNegative();
+        }
+        assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+    }
+}
@@ -0,0 +1,115 @@
+package com.owori.global.id;
+
+import org.hibernate.id.uuid.StandardRandomStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL 에 같은 모양의 테이블 두 개를 만들고 uuid2(무작위) 와 uuid7(시간순) 키로 각각 rows 개를 나눠 넣어서
+ * 초당 삽입 행 수와 information_schema.TABLES 의 DATA_LENGTH(클러스터 인덱스), INDEX_LENGTH(보조 인덱스) 를 비교한다
+ * 실제 MySQL 이 필요하고 오래 걸리므로 기본 테스트에서는 빠지고, 아래처럼 따로 실행한다
+ * ./gradlew benchmark -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/owori_bench -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@DisplayName("UUID 생성기별 MySQL 삽입 성능")
+class UuidInsertBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 1_000);
+    // 보조 인덱스에 들어가는 외래 키 값 종류, 엔티티의 member_id 처럼 행마다 기본 키가 함께 붙는다
+    private static final int MEMBERS = 10_000;
+
+    @Test
+    @DisplayName("uuid2 와 uuid7 의 삽입 속도와 인덱스 크기 비교")
+    void compare() throws SQLException {
+        try (Connection connection = connect()) {
+            Result random = run(connection, "uuid_benchmark_uuid2", () -> StandardRandomStrategy.INSTANCE.generateUUID(null));
+            Result ordered = run(connection, "uuid_benchmark_uuid7", TimeOrderedUuidGenerator::next);
+
+            System.out.println(random);
+            System.out.println(ordered);
+            assertThat(random.rows()).isEqualTo(ROWS);
+            assertThat(ordered.rows()).isEqualTo(ROWS);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        // 배치를 여러 행 insert 한 문장으로 보내도록 해서 네트워크 왕복이 아닌 인덱스 삽입 비용을 비교한다
+        String url = System.getProperty("benchmark.mysql.url");
+        String separator = url.contains("?") ? "&" : "?";
+        return DriverManager.getConnection(url + separator + "rewriteBatchedStatements=true",
+                System.getProperty("benchmark.mysql.username", "root"), System.getProperty("benchmark.mysql.password", ""));
+    }
+
+    private Result run(final Connection connection, final String table, final Supplier<UUID> generator) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("create table " + table + " (id binary(16) not null, member_id binary(16) not null,"
+                    + " content varchar(64) not null, created_at datetime(6) not null, primary key (id),"
+                    + " key idx_" + table + "_member (member_id)) engine = InnoDB");
+        }
+
+        UUID[] members = new UUID[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) members[i] = UUID.randomUUID();
+
+        long startedAt = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into " + table + " (id, member_id, content, created_at) values (?, ?, ?, ?)")) {
+            for (int row = 1; row <= ROWS; row++) {
+                insert.setBytes(1, toBytes(generator.get()));
+                insert.setBytes(2, toBytes(members[row % MEMBERS]));
+                insert.setString(3, "benchmark row " + row);
+                insert.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                insert.addBatch();
+                if (row % BATCH_SIZE == 0 || row == ROWS) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        try (Statement statement = connection.createStatement()) {
+            // information_schema 의 크기는 통계 갱신 후에 반영된다
+            statement.execute("analyze table " + table);
+            long rows = queryLong(statement, "select count(*) from " + table);
+            try (ResultSet resultSet = statement.executeQuery("select data_length, index_length from information_schema.TABLES"
+                    + " where table_schema = database() and table_name = '" + table + "'")) {
+                resultSet.next();
+                return new Result(table, rows, ROWS / seconds, resultSet.getLong(1), resultSet.getLong(2));
+            }
+        }
+    }
+
+    private long queryLong(final Statement statement, final String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+
+    private record Result(String table, long rows, double rowsPerSecond, long dataLength, long indexLength) {
+        @Override
+        public String toString() {
+            return String.format("%s: %,d rows, %,.0f rows/s, DATA_LENGTH %,d bytes, INDEX_LENGTH %,d bytes",
+                    table, rows, rowsPerSecond, dataLength, indexLength);
+        }
+    }
+}
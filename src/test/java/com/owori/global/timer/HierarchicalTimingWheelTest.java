@@ -0,0 +1,64 @@
+package com.owori.global.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel 의")
+class HierarchicalTimingWheelTest {
+    private static final long START = 1_700_000_000_000L;
+    private static final long SECOND = 1000L;
+    private static final long HOUR = 60 * 60 * SECOND;
+
+    @Test
+    @DisplayName("만료 시각이 된 항목만 만료 순서대로 반환되는가")
+    void advance() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(SECOND, 60, START);
+        wheel.schedule("hour", START + HOUR);
+        wheel.schedule("second", START + 5 * SECOND);
+        wheel.schedule("minute", START + 90 * SECOND);
+
+        // when
+        List<String> first = wheel.advance(START + 60 * SECOND);
+        List<String> second = wheel.advance(START + 2 * HOUR);
+
+        // then
+        assertThat(first).containsExactly("second");
+        assertThat(second).containsExactly("minute", "hour");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소되거나 다시 등록된 항목이 이전 시각에 반환되지 않는가")
+    void cancelAndReschedule() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(SECOND, 60, START);
+        wheel.schedule("cancelled", START + 10 * SECOND);
+        wheel.schedule("moved", START + 10 * SECOND);
+
+        // when
+        wheel.cancel("cancelled");
+        wheel.schedule("moved", START + 30 * SECOND);
+
+        // then
+        assertThat(wheel.advance(START + 20 * SECOND)).isEmpty();
+        assertThat(wheel.advance(START + 30 * SECOND)).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록한 항목은 바로 반환되는가")
+    void scheduleExpired() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(SECOND, 60, START);
+
+        // when
+        wheel.schedule("missed", START - HOUR);
+
+        // then
+        assertThat(wheel.advance(START)).containsExactly("missed");
+    }
+}
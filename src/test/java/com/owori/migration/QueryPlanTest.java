@@ -0,0 +1,324 @@
+package com.owori.migration;
+
+import com.owori.domain.comment.entity.Comment;
+import com.owori.domain.comment.repository.CommentRepository;
+import com.owori.domain.family.entity.Family;
+import com.owori.domain.family.repository.FamilyRepository;
+import com.owori.domain.family.repository.InviteRepository;
+import com.owori.domain.feed.repository.FeedRepository;
+import com.owori.domain.feed.source.FeedPosition;
+import com.owori.domain.feed.source.FeedType;
+import com.owori.domain.heart.repository.HeartRepository;
+import com.owori.domain.image.repository.ImageRepository;
+import com.owori.domain.keyword.repository.KeywordRepository;
+import com.owori.domain.member.entity.AuthProvider;
+import com.owori.domain.member.entity.Member;
+import com.owori.domain.member.entity.OAuth2Info;
+import com.owori.domain.member.repository.MemberErasureRepository;
+import com.owori.domain.member.repository.MemberRepository;
+import com.owori.domain.notification.entity.NotificationType;
+import com.owori.domain.notification.fanout.NotificationFanout;
+import com.owori.domain.notification.repository.NotificationRepository;
+import com.owori.domain.saying.entity.Saying;
+import com.owori.domain.saying.repository.SayingRepository;
+import com.owori.domain.schedule.entity.CalendarFeedScope;
+import com.owori.domain.schedule.entity.Schedule;
+import com.owori.domain.schedule.entity.ScheduleType;
+import com.owori.domain.schedule.repository.CalendarFeedRepository;
+import com.owori.domain.schedule.repository.ScheduleAlarmRepository;
+import com.owori.domain.schedule.repository.ScheduleRepository;
+import com.owori.domain.story.entity.Story;
+import com.owori.domain.story.repository.StoryRepository;
+import com.owori.domain.sync.repository.ChangeLogRepository;
+import com.owori.global.archive.ArchiveTable;
+import com.owori.global.archive.SoftDeleteArchiver;
+import com.owori.global.event.outbox.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 저장소 메서드를 실제로 호출하고, 그동안 DB 로 나간 조회/수정/삭제 문장의 실행 계획에 전체 스캔이 없는지 검사
+ * 데이터소스를 감싸서 JPA, QueryDSL, JdbcTemplate 가 만든 문장을 그대로 모으므로 조회 조건이나 인덱스가 바뀌면 이 검사도 같이 바뀐다
+ * 파라미터는 채우지 않고 EXPLAIN 하므로 값에 따라 달라지지 않는 접근 경로만 확인한다
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles({"test", "migration"})
+@DisplayName("마이그레이션 스키마에서 저장소 조회가")
+class QueryPlanTest {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2024-03-01T00:00:00");
+    private static final LocalDate TODAY = NOW.toLocalDate();
+    private static final UUID TOKEN = UUID.randomUUID();
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    @Autowired private EntityManager em;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private HeartRepository heartRepository;
+    @Autowired private ImageRepository imageRepository;
+    @Autowired private KeywordRepository keywordRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private MemberErasureRepository memberErasureRepository;
+    @Autowired private FamilyRepository familyRepository;
+    @Autowired private InviteRepository inviteRepository;
+    @Autowired private SayingRepository sayingRepository;
+    @Autowired private ScheduleRepository scheduleRepository;
+    @Autowired private ScheduleAlarmRepository scheduleAlarmRepository;
+    @Autowired private CalendarFeedRepository calendarFeedRepository;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private ChangeLogRepository changeLogRepository;
+    @Autowired private FeedRepository feedRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationFanout notificationFanout;
+    @Autowired private SoftDeleteArchiver softDeleteArchiver;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    private Member member;
+    private Family family;
+    private Story story;
+    private Schedule schedule;
+    private Saying saying;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member(new OAuth2Info("123", AuthProvider.KAKAO)));
+        family = familyRepository.save(new Family("우리집", member, "ABCDEFGHJK"));
+        story = storyRepository.save(new Story("기다리고 기다리던 하루", "내용", TODAY, TODAY, member));
+        commentRepository.save(new Comment(member, story, null, "댓글"));
+        schedule = scheduleRepository.save(new Schedule("가족 여행", TODAY, TODAY.plusDays(2), ScheduleType.FAMILY, true, List.of(), member));
+        saying = sayingRepository.save(new Saying("배고파", member, List.of()));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("인덱스를 사용하는가")
+    void explain() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            for (Map.Entry<String, Runnable> query : queries().entrySet()) {
+                SqlRecorder.start();
+                query.getValue().run();
+                em.flush();
+                List<String> statements = SqlRecorder.stop();
+
+                assertThat(statements).as(query.getKey()).isNotEmpty();
+                for (String sql : statements) {
+                    // H2 는 인덱스 없이 읽는 테이블을 /* public.테이블.tableScan */ 으로 표시
+                    assertThat(explain(connection, sql)).as(query.getKey() + ": " + sql).doesNotContain("tableScan");
+                }
+            }
+        }
+    }
+
+    // H2 의 EXPLAIN 은 파라미터를 채우지 않아도 계획을 만든다
+    private String explain(final Connection connection, final String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) plan.append(resultSet.getString(1));
+            return plan.toString();
+        }
+    }
+
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+
+        // StoryRepository, StoryRepositoryCustomImpl
+        queries.put("findAllStory created_at", () -> storyRepository.findAllStory(sorted("created_at"), family, TODAY, story.getId(), null));
+        queries.put("findAllStory start_date", () -> storyRepository.findAllStory(sorted("start_date"), family, TODAY, story.getId(), null));
+        queries.put("findAllStory popular", () -> storyRepository.findAllStory(sorted("popular"), family, null, story.getId(), 3.5));
+        queries.put("findStoryBySearch", () -> storyRepository.findStoryBySearch(sorted("created_at"), "하루", family, null, null, null));
+        queries.put("findStoryByWriter", () -> storyRepository.findStoryByWriter(sorted("created_at"), member, null, null, null));
+        queries.put("findStoryByHeart", () -> storyRepository.findStoryByHeart(sorted("created_at"), member, null, null, null));
+        queries.put("Story.findAllByIdIn", () -> storyRepository.findAllByIdIn(List.of(story.getId())));
+        queries.put("findAllWithCommentsByIdIn", () -> storyRepository.findAllWithCommentsByIdIn(List.of(story.getId())));
+        queries.put("Story.findAllIdsByMember", () -> storyRepository.findAllIdsByMember(member));
+        queries.put("findAllTitlesByFamily", () -> storyRepository.findAllTitlesByFamily(family));
+        queries.put("addPopularityScore", () -> storyRepository.addPopularityScore(story.getId(), 1.0));
+
+        // CommentRepository, CommentRepositoryCustomImpl
+        queries.put("Comment.findAllByIdIn", () -> commentRepository.findAllByIdIn(List.of(story.getId())));
+        queries.put("Comment.findAllIdsByMember", () -> commentRepository.findAllIdsByMember(member));
+        queries.put("findAllComments", () -> commentRepository.findAllComments(story, family));
+
+        // HeartRepository, ImageRepository
+        queries.put("existsByMemberAndStory", () -> heartRepository.existsByMemberAndStory(member, story));
+        queries.put("findByMemberAndStory", () -> heartRepository.findByMemberAndStory(member, story));
+        queries.put("findAllByStory", () -> imageRepository.findAllByStory(story));
+
+        // KeywordRepository
+        queries.put("findByMember", () -> keywordRepository.findByMember(member));
+        queries.put("findAllByMemberIdIn", () -> keywordRepository.findAllByMemberIdIn(List.of(member.getId())));
+        queries.put("findAllByMemberIdInAndContentsIn", () -> keywordRepository.findAllByMemberIdInAndContentsIn(List.of(member.getId()), List.of("하루", "여행")));
+        queries.put("Keyword.deleteAllByMember", () -> keywordRepository.deleteAllByMember(member, NOW));
+
+        // MemberRepository, MemberErasureRepository
+        queries.put("findByClientIdAndAuthProvider", () -> memberRepository.findByClientIdAndAuthProvider("123", AuthProvider.KAKAO));
+        queries.put("Member.findAllByIdIn", () -> memberRepository.findAllByIdIn(List.of(member.getId())));
+        queries.put("findRosterByFamily", () -> memberRepository.findRosterByFamily(family));
+        queries.put("findClaimableIds", () -> memberErasureRepository.findClaimableIds(NOW, PageRequest.of(0, 20)));
+        queries.put("MemberErasure.findAllByClaimTokenOrderByIdAsc", () -> memberErasureRepository.findAllByClaimTokenOrderByIdAsc(TOKEN));
+
+        // FamilyRepository, InviteRepository
+        queries.put("findByInviteCode", () -> familyRepository.findByInviteCode("ABCDEFGHJK"));
+        queries.put("findActivityVersions", () -> familyRepository.findActivityVersions(List.of(family.getId())));
+        queries.put("increaseActivityVersion", () -> familyRepository.increaseActivityVersion(family.getId(), 1));
+        queries.put("countAllByCode", () -> inviteRepository.countAllByCode("ABCDEFGHJK"));
+        queries.put("Invite.deleteAllCreatedBefore", () -> inviteRepository.deleteAllCreatedBefore(NOW, 500));
+
+        // SayingRepository, SayingRepositoryCustomImpl
+        queries.put("Saying.findAllIdsByMember", () -> sayingRepository.findAllIdsByMember(member));
+        queries.put("findByMemberAndModifiable", () -> sayingRepository.findByMemberAndModifiable(member, true));
+        queries.put("findAllModifiableByFamily", () -> sayingRepository.findAllModifiableByFamily(family));
+        queries.put("findAllTagMembersBySayings", () -> sayingRepository.findAllTagMembersBySayings(List.of(saying)));
+        queries.put("findHistoryByMembers", () -> sayingRepository.findHistoryByMembers(List.of(member.getId()), PAGE, NOW, saying.getId()));
+        queries.put("findHistoryByFamily", () -> sayingRepository.findHistoryByFamily(family, PAGE, NOW, saying.getId()));
+
+        // ScheduleRepository, ScheduleRepositoryCustomImpl
+        queries.put("Schedule.findAllIdsByMember", () -> scheduleRepository.findAllIdsByMember(member));
+        queries.put("Schedule.findAllByIdIn", () -> scheduleRepository.findAllByIdIn(List.of(schedule.getId())));
+        queries.put("findAllByFamily", () -> scheduleRepository.findAllByFamily(family));
+        queries.put("findAllByFamilyAndPeriod", () -> scheduleRepository.findAllByFamilyAndPeriod(family, TODAY, TODAY.plusMonths(1)));
+        queries.put("findAllDDayByFamily", () -> scheduleRepository.findAllDDayByFamily(family, TODAY));
+
+        // ScheduleAlarmRepository, ScheduleAlarmRepositoryCustomImpl
+        queries.put("findAllPendingUntil", () -> scheduleAlarmRepository.findAllPendingUntil(NOW, NOW, NOW, TOKEN, 100));
+        queries.put("ScheduleAlarm.claim", () -> scheduleAlarmRepository.claim(List.of(TOKEN), TOKEN, NOW, NOW.plusMinutes(1)));
+        queries.put("findAllByDispatchToken", () -> scheduleAlarmRepository.findAllByDispatchToken(TOKEN));
+        queries.put("markDispatched", () -> scheduleAlarmRepository.markDispatched(TOKEN, NOW));
+        queries.put("ScheduleAlarm.release", () -> scheduleAlarmRepository.release(TOKEN));
+        queries.put("findAllByScheduleAndDispatchedAtIsNull", () -> scheduleAlarmRepository.findAllByScheduleAndDispatchedAtIsNull(schedule));
+        queries.put("findAllByScheduleInAndDispatchedAtIsNull", () -> scheduleAlarmRepository.findAllByScheduleInAndDispatchedAtIsNull(List.of(schedule)));
+
+        // CalendarFeedRepository
+        queries.put("findByToken", () -> calendarFeedRepository.findByToken("token"));
+        queries.put("findByScopeAndFamily", () -> calendarFeedRepository.findByScopeAndFamily(CalendarFeedScope.FAMILY, family));
+        queries.put("findByScopeAndMember", () -> calendarFeedRepository.findByScopeAndMember(CalendarFeedScope.MEMBER, member));
+
+        // OutboxEventRepository, OutboxEventRepositoryCustomImpl
+        queries.put("findDispatchableIds", () -> outboxEventRepository.findDispatchableIds(NOW, 100));
+        queries.put("OutboxEvent.claim", () -> outboxEventRepository.claim(List.of(TOKEN), TOKEN, NOW, NOW.plusMinutes(1)));
+        queries.put("OutboxEvent.findAllByClaimTokenOrderByIdAsc", () -> outboxEventRepository.findAllByClaimTokenOrderByIdAsc(TOKEN));
+        queries.put("deleteAllDispatchedBefore", () -> outboxEventRepository.deleteAllDispatchedBefore(NOW, 100));
+
+        // ChangeLogRepository
+        queries.put("findAllByFamilyIdAndVersionGreaterThanOrderByVersionAsc",
+                () -> changeLogRepository.findAllByFamilyIdAndVersionGreaterThanOrderByVersionAsc(family.getId(), 0L, PageRequest.of(0, 100)));
+        queries.put("ChangeLog.deleteAllCreatedBefore", () -> changeLogRepository.deleteAllCreatedBefore(NOW, 1000));
+
+        // FeedRepositoryImpl
+        for (FeedType type : FeedType.values()) {
+            queries.put("findBefore " + type, () -> feedRepository.findBefore(type, family, new FeedPosition(NOW, story.getId()), 21));
+        }
+
+        // NotificationRepository, NotificationRepositoryCustomImpl, NotificationFanout
+        queries.put("findInbox", () -> notificationRepository.findInbox(member.getId(), PAGE, NOW, story.getId()));
+        queries.put("findRecipients", () -> notificationRepository.findRecipients(story.getId(), family.getId(), member.getId(), true));
+        queries.put("NotificationFanout.fanOut", () -> {
+            notificationFanout.fanOut(NotificationType.HEART, story.getId(), member.getId(), List.of(TOKEN), NOW);
+            notificationFanout.fanOut(NotificationType.HEART, story.getId(), member.getId(), List.of(TOKEN), NOW);
+        });
+        queries.put("markRead", () -> notificationRepository.markRead(TOKEN, member.getId(), NOW));
+        queries.put("markAllRead", () -> notificationRepository.markAllRead(member.getId(), NOW));
+
+        // SoftDeleteArchiver
+        for (ArchiveTable table : ArchiveTable.values()) {
+            queries.put("archive " + table, () -> softDeleteArchiver.archive(table, NOW));
+        }
+        return queries;
+    }
+
+    private Pageable sorted(final String property) {
+        return PageRequest.of(0, 10, Sort.by(property));
+    }
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlRecorder.wrap(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 데이터소스에서 꺼낸 연결과 문장을 감싸서 준비하거나 실행한 SQL 을 모은다
+     * 삽입문과 컬럼만 확인하는 where 1 = 0 조회는 읽는 행이 없으므로 모으지 않는다
+     */
+    static final class SqlRecorder {
+        private static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        private static volatile boolean recording;
+
+        static void start() {
+            statements.clear();
+            recording = true;
+        }
+
+        static List<String> stop() {
+            recording = false;
+            return List.copyOf(statements);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> T wrap(final T target, final Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().equals("equals") && method.getParameterCount() == 1) return proxy == args[0];
+                if (method.getName().equals("hashCode") && method.getParameterCount() == 0) return System.identityHashCode(proxy);
+                if (args != null && args.length > 0 && args[0] instanceof String sql && isStatement(method)) record(sql);
+                Object result = invoke(target, method, args);
+                if (result instanceof Connection connection) return wrap(connection, Connection.class);
+                if (result instanceof Statement statement && !(result instanceof PreparedStatement)) return wrap(statement, Statement.class);
+                return result;
+            });
+        }
+
+        private static boolean isStatement(final Method method) {
+            String name = method.getName();
+            return name.startsWith("prepare") || name.startsWith("execute") || name.equals("addBatch");
+        }
+
+        private static void record(final String sql) {
+            String normalized = sql.trim().toLowerCase(Locale.ROOT);
+            if (!recording || normalized.startsWith("insert") || normalized.contains("where 1 = 0")) return;
+            if (normalized.startsWith("select") || normalized.startsWith("update") || normalized.startsWith("delete")) statements.add(sql);
+        }
+
+        private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
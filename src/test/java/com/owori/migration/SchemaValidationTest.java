@@ -0,0 +1,28 @@
+package com.owori.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빈 DB 에 V1 부터 모든 마이그레이션을 적용한 뒤 ddl-auto: validate 로 컨텍스트를 띄운다
+ * 마이그레이션이 실패하거나 엔티티 매핑과 다른 테이블, 컬럼이 있으면 컨텍스트를 만들지 못해서 실패한다
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "migration"})
+@DisplayName("마이그레이션 스키마가")
+class SchemaValidationTest {
+    @Autowired private Flyway flyway;
+
+    @Test
+    @DisplayName("모두 적용되고 엔티티 매핑과 일치하는가")
+    void validate() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current()).isNotNull();
+    }
+}